@@ -0,0 +1,183 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary Compares the bulk operations of
+ *  {@link AffineMatrix}
+ *  with the transformation of single points.}</p>
+ *  <p>The benchmark runs with the module {@code jdk.incubator.vector};
+ *  for the parameter {@code m_Vectorize} set to {@code false}, the Vector
+ *  API is switched off with the system property
+ *  {@value AffineMatrix#PROPERTY_VECTORIZE},
+ *  so the bulk operations use the scalar code only.
+ *  JMH runs each combination of the parameters in a fork of its own, so
+ *  the property is set before the class
+ *  {@link AffineMatrix}
+ *  is initialised.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AffineMatrixBenchmark.java 1176 2026-10-18 21:04:12Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: AffineMatrixBenchmark.java 1176 2026-10-18 21:04:12Z tquadrat $" )
+@State( Scope.Thread )
+@BenchmarkMode( AverageTime )
+@OutputTimeUnit( MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" } )
+public class AffineMatrixBenchmark
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The number of points.
+     */
+    @Param( { "1000", "1000000" } )
+    public int m_Count;
+
+    /**
+     *  The interleaved coordinates.
+     */
+    private double [] m_Coordinates;
+
+    /**
+     *  The transformation; it is created only after the system property
+     *  for the Vector API was set.
+     */
+    private AffineMatrix m_Matrix;
+
+    /**
+     *  Whether the Vector API should be used; the value is copied to the
+     *  system property
+     *  {@value AffineMatrix#PROPERTY_VECTORIZE}
+     *  before the class
+     *  {@link AffineMatrix}
+     *  is initialised.
+     */
+    @Param( { "true", "false" } )
+    public String m_Vectorize;
+
+    /**
+     *  The x coordinates.
+     */
+    private double [] m_Xs;
+
+    /**
+     *  The y coordinates.
+     */
+    private double [] m_Ys;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Transforms the interleaved coordinates with the bulk operation.
+     *
+     *  @return The coordinates.
+     */
+    @Benchmark
+    public double [] bulkInterleaved()
+    {
+        m_Matrix.applyTo( m_Coordinates );
+        return m_Coordinates;
+    }   //  bulkInterleaved()
+
+    /**
+     *  Transforms the separate coordinates with the bulk operation.
+     *
+     *  @param  blackhole   The sink for the results.
+     */
+    @Benchmark
+    public void bulkSeparate( final Blackhole blackhole )
+    {
+        m_Matrix.applyTo( m_Xs, m_Ys );
+        blackhole.consume( m_Xs );
+        blackhole.consume( m_Ys );
+    }   //  bulkSeparate()
+
+    /**
+     *  Transforms the separate coordinates point by point.
+     *
+     *  @param  blackhole   The sink for the results.
+     */
+    @Benchmark
+    public void singlePoints( final Blackhole blackhole )
+    {
+        final var xs = m_Xs;
+        final var ys = m_Ys;
+        for( var i = 0; i < xs.length; ++i )
+        {
+            final var x = xs [i];
+            final var y = ys [i];
+            xs [i] = m_Matrix.transformX( x, y );
+            ys [i] = m_Matrix.transformY( x, y );
+        }
+        blackhole.consume( xs );
+        blackhole.consume( ys );
+    }   //  singlePoints()
+
+    /**
+     *  Creates the coordinates.
+     */
+    @Setup
+    public void setup()
+    {
+        System.setProperty( AffineMatrix.PROPERTY_VECTORIZE, m_Vectorize );
+        if( AffineMatrix.isVectorized() != Boolean.parseBoolean( m_Vectorize ) )
+        {
+            throw new IllegalStateException( "The Vector API is not available, or it was initialised too early" );
+        }
+        m_Matrix = AffineMatrix.parse( "translate(12.5 -7) rotate(17)" );
+
+        final var random = new Random( 4711 );
+        m_Xs = new double [m_Count];
+        m_Ys = new double [m_Count];
+        m_Coordinates = new double [m_Count * 2];
+        for( var i = 0; i < m_Count; ++i )
+        {
+            m_Xs [i] = m_Coordinates [i * 2] = random.nextDouble() * 10_000;
+            m_Ys [i] = m_Coordinates [i * 2 + 1] = random.nextDouble() * 10_000;
+        }
+    }   //  setup()
+}
+//  class AffineMatrixBenchmark
+
+/*
+ *  End of File
+ */
@@ -26,11 +26,17 @@ module org.tquadrat.foundation.svg
     requires java.base;
     requires transitive jakarta.activation;
 
+    //---* Optional, for the bulk operations of AffineMatrix *-----------------
+    requires static jdk.incubator.vector;
+
     //---* The foundation modules *--------------------------------------------
     requires transitive org.tquadrat.foundation.xml;
 
     //---* The exports *-------------------------------------------------------
     exports org.tquadrat.foundation.svg;
+    exports org.tquadrat.foundation.svg.geometry;
+    exports org.tquadrat.foundation.svg.io;
+    exports org.tquadrat.foundation.svg.optimizer;
     exports org.tquadrat.foundation.svg.type;
 }
 
@@ -40,15 +40,15 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  will implement this interface.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: AllowsConditionalProcessingAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: AllowsConditionalProcessingAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: AllowsConditionalProcessingAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: AllowsConditionalProcessingAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface AllowsConditionalProcessingAttributes
-    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGPath, SVGRectangle, SVGTSpan, SVGText, SVGUse
+    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGPath, SVGPolyShape, SVGRectangle, SVGTSpan, SVGText, SVGUse
 {
         /*------------------------*\
     ====** Static Initialisations **===========================================
@@ -144,16 +144,16 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  will implement this interface.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: AllowsGlobalEventAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: AllowsGlobalEventAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( "ClassWithTooManyMethods" )
-@ClassVersion( sourceVersion = "$Id: AllowsGlobalEventAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: AllowsGlobalEventAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface AllowsGlobalEventAttributes
-    permits SVGGroup, SVGLine, SVGPath, SVGRectangle
+    permits SVGGroup, SVGLine, SVGPath, SVGPolyShape, SVGRectangle
 {
         /*------------------------*\
     ====** Static Initialisations **===========================================
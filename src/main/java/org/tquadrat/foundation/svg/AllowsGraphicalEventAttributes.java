@@ -36,15 +36,15 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  will implement this interface.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: AllowsGraphicalEventAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: AllowsGraphicalEventAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: AllowsGraphicalEventAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: AllowsGraphicalEventAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface AllowsGraphicalEventAttributes
-    permits SVG, SVGGroup, SVGLine, SVGPath, SVGRectangle, SVGSymbol, SVGTSpan, SVGText, SVGUse
+    permits SVG, SVGGroup, SVGLine, SVGPath, SVGPolyShape, SVGRectangle, SVGSymbol, SVGTSpan, SVGText, SVGUse
 {
         /*------------------------*\
     ====** Static Initialisations **===========================================
@@ -90,6 +90,7 @@ import org.tquadrat.foundation.svg.type.SVGColor;
 import org.tquadrat.foundation.svg.type.SVGNumber;
 import org.tquadrat.foundation.svg.type.SVGPaint;
 import org.tquadrat.foundation.svg.type.SVGTransform;
+import org.tquadrat.foundation.svg.type.SVGUnit;
 
 /**
  *  SVG elements that allow the presentation attributes
@@ -158,16 +159,16 @@ import org.tquadrat.foundation.svg.type.SVGTransform;
  *  will implement this interface.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: AllowsPresentationAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: AllowsPresentationAttributes.java 1182 2026-10-19 03:51:09Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( "ClassWithTooManyMethods" )
-@ClassVersion( sourceVersion = "$Id: AllowsPresentationAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: AllowsPresentationAttributes.java 1182 2026-10-19 03:51:09Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface AllowsPresentationAttributes
-    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGMarker, SVGPath, SVGRectangle, SVGSymbol, SVGTSpan, SVGText, SVGUse
+    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGMarker, SVGPath, SVGPolyShape, SVGRectangle, SVGSymbol, SVGTSpan, SVGText, SVGUse
 {
         /*------------------------*\
     ====** Static Initialisations **===========================================
@@ -657,6 +658,30 @@ public sealed interface AllowsPresentationAttributes
      */
     public void setStrokeDashArray( final String value );
 
+    /**
+     *  Sets the presentation attribute {@code stroke-dasharray} for this SVG
+     *  element from the given dash and gap lengths.
+     *
+     *  @param  unit    The unit for the lengths.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     *
+     *  @see SVGUtils#SVGATTRIBUTE_StrokeDashArray
+     */
+    public void setStrokeDashArray( final SVGUnit unit, final double [] values );
+
+    /**
+     *  Sets the presentation attribute {@code stroke-dasharray} for this SVG
+     *  element from the given dash and gap lengths.
+     *
+     *  @param  unit    The unit for the lengths.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     *
+     *  @see SVGUtils#SVGATTRIBUTE_StrokeDashArray
+     */
+    public void setStrokeDashArray( final SVGUnit unit, final long [] values );
+
     /**
      *  Sets the presentation attribute {@code stroke-dashoffset} for this SVG element.
      *
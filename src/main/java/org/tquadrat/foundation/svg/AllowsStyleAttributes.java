@@ -33,15 +33,15 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  will implement this interface.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: AllowsStyleAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: AllowsStyleAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: AllowsStyleAttributes.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: AllowsStyleAttributes.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface AllowsStyleAttributes
-    permits SVG, SVGGroup, SVGLine, SVGPath, SVGRectangle, SVGSymbol, SVGTSpan, SVGText
+    permits SVG, SVGGroup, SVGLine, SVGPath, SVGPolyShape, SVGRectangle, SVGSymbol, SVGTSpan, SVGText
 {
         /*------------------------*\
     ====** Static Initialisations **===========================================
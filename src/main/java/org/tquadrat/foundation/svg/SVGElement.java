@@ -43,12 +43,12 @@ import org.tquadrat.foundation.xml.builder.spi.Element;
  *  The definition of an SVG element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGElement.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGElement.java 1184 2026-10-19 06:27:31Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGElement.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGElement.java 1184 2026-10-19 06:27:31Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface SVGElement extends Element
     permits SVGElementWithChildren, SVGStyle, SVGUse, SVGElementImpl
@@ -81,6 +81,51 @@ public sealed interface SVGElement extends Element
      */
     public XMLElement addComment( final CharSequence comment ) throws IllegalArgumentException;
 
+    /**
+     *  <p>{@summary Freezes this element and its subtree.} A frozen element
+     *  cannot be modified any longer; all attempts to do so will cause an
+     *  {@link IllegalStateException}.
+     *  Adding a frozen element as a child to another element is still
+     *  possible.</p>
+     *  <p>The subtree is serialized once when it is frozen; later calls to
+     *  {@link Element#toString(int, boolean)}
+     *  for the element, or for one of its ancestors, will use that output
+     *  instead of creating it again. The output without pretty printing is
+     *  created immediately, that with pretty printing on the first request
+     *  for each indentation level.</p>
+     *  <p>Plain
+     *  {@link XMLElement}
+     *  instances in the subtree that are not SVG elements cannot be
+     *  protected against modifications; changes to them will not be
+     *  reflected by the output.</p>
+     *  <p>Calling this method for an element that is already frozen has no
+     *  effect.</p>
+     */
+    public void freeze();
+
+    /**
+     *  <p>{@summary Returns a structural hash for this element and its
+     *  subtree.}</p>
+     *  <p>The hash covers the element name, the attributes in the order of
+     *  their names, and the children, including text, CDATA sections and
+     *  comments, in their given order; it does not depend on the formatting
+     *  of the output or on the order in which the attributes were set. Two
+     *  subtrees that produce the same output will have the same hash, and
+     *  different subtrees will have different hashes with a very high
+     *  probability, but not with certainty: when the hashes are equal, the
+     *  subtrees have still to be compared when it matters.</p>
+     *  <p>The value is stable across runs and JVMs, so it can be used as a
+     *  cache key outside of the current process. It is computed on the first
+     *  call and memoized; a modification of the element, or of one of its
+     *  descendants, invalidates the memoized values on the path to the
+     *  root. Modifications of plain
+     *  {@link XMLElement}
+     *  instances in the subtree that are not SVG elements are not noticed.</p>
+     *
+     *  @return The 64-bit hash.
+     */
+    public long getStructuralHash();
+
     /**
      *  Returns the element category.
      *
@@ -91,6 +136,16 @@ public sealed interface SVGElement extends Element
         return retrieveElementCategory( getElementName() );
     }   //  getSVGElementCategory()
 
+    /**
+     *  Returns whether this element was frozen, either by a call to
+     *  {@link #freeze()}
+     *  for itself or for one of its ancestors.
+     *
+     *  @return {@code true} if the element is frozen, {@code false}
+     *      otherwise.
+     */
+    public boolean isFrozen();
+
     /**
      *  Sets the SVG id for the element.<br>
      *  <br>The type will be validated using the method that is provided by a
@@ -30,6 +30,7 @@ import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerUnits;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerWidth;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Orientation;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Position;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ReferenceX;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ReferenceY;
@@ -44,6 +45,9 @@ import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y1;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y2;
 import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.deduplicate;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.minify;
+import static org.tquadrat.foundation.svg.type.SVGUnit.NONE;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 import static org.tquadrat.foundation.util.StringUtils.stream;
 
@@ -55,10 +59,12 @@ import java.util.Optional;
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.MountPoint;
+import org.tquadrat.foundation.svg.geometry.PathWriter;
 import org.tquadrat.foundation.svg.internal.SVGElementImpl;
 import org.tquadrat.foundation.svg.type.SVGMarkerOrientation;
 import org.tquadrat.foundation.svg.type.SVGNumber;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGDegree;
+import org.tquadrat.foundation.svg.type.SVGUnit;
 import org.tquadrat.foundation.svg.type.SVGPathElement;
 
 /**
@@ -84,25 +90,36 @@ import org.tquadrat.foundation.svg.type.SVGPathElement;
  *      will not validate children or attributes!
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGElementAdapter.java 980 2022-01-06 15:29:19Z tquadrat $
+ *  @version $Id: SVGElementAdapter.java 1191 2026-10-19 16:38:51Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( {"AbstractClassExtendsConcreteClass", "OverlyCoupledClass"} )
-@ClassVersion( sourceVersion = "$Id: SVGElementAdapter.java 980 2022-01-06 15:29:19Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGElementAdapter.java 1191 2026-10-19 16:38:51Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
-    implements AllowsDocumentElementEventAttributes, AllowsDocumentEventAttributes, SVGClipPath, SVGGroup, SVGLine, SVGPath, SVGPositionedMarker, SVGRectangle, SVGStyle, SVGSymbol, SVGText, SVGTSpan, SVGUse
+    implements AllowsDocumentElementEventAttributes, AllowsDocumentEventAttributes, SVGClipPath, SVGGroup, SVGLine, SVGPath, SVGPolygon, SVGPolyline, SVGPositionedMarker, SVGRectangle, SVGStyle, SVGSymbol, SVGText, SVGTSpan, SVGUse
 {
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  {@code true} if the style sheet will be minified, {@code false}
+     *  otherwise.
+     */
+    private boolean m_IsMinified = false;
+
     /**
      *  The lines of the CSS style definitions.
      */
     private final List<String> m_StyleDefinitions = new ArrayList<>();
 
+    /**
+     *  The number of decimal places for the coordinates of the points.
+     */
+    private int m_PointPrecision = DEFAULT_PRECISION;
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -121,6 +138,43 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void addPoint( final double x, final double y )
+    {
+        addPoints( new double [] {x, y}, 0, 1 );
+    }   //  addPoint()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The points are formatted immediately and appended to the
+     *  {@value SVGUtils#SVGATTRIBUTE_Points}
+     *  attribute.</p>
+     */
+    @MountPoint
+    @Override
+    public void addPoints( final double [] coordinates, final int offset, final int count ) throws IndexOutOfBoundsException
+    {
+        requireNonNullArgument( coordinates, "coordinates" );
+        if( (count < 0) || (offset < 0) || (offset > coordinates.length - 2L * count) ) throw new IndexOutOfBoundsException( "Invalid range: offset %d, %d points".formatted( offset, count ) );
+
+        if( count > 0 )
+        {
+            final var buffer = new StringBuilder();
+            for( var i = offset; i < offset + count * 2; i += 2 )
+            {
+                if( i > offset ) buffer.append( ' ' );
+                PathWriter.appendNumber( buffer, coordinates [i], m_PointPrecision );
+                buffer.append( ',' );
+                PathWriter.appendNumber( buffer, coordinates [i + 1], m_PointPrecision );
+            }
+            setAttribute( SVGATTRIBUTE_Points, buffer, Optional.of( " " ) );
+        }
+    }   //  addPoints()
+
     /**
      *  {@inheritDoc}
      */
@@ -128,7 +182,9 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
     @Override
     public void addStyle( final CharSequence... styles )
     {
-        for( final var style : requireNonNullArgument( styles, "styles" ) )
+        requireNonNullArgument( styles, "styles" );
+        ensureNotFrozen();
+        for( final var style : styles )
         {
             if( isNotEmptyOrBlank( style ) )
             {
@@ -139,8 +195,19 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
                 m_StyleDefinitions.add( EMPTY_STRING );
             }
         }
+        invalidateCaches();
     }   //  addStyle()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void clearPoints()
+    {
+        setAttribute( SVGATTRIBUTE_Points, (CharSequence) null );
+    }   //  clearPoints()
+
     /**
      *  {@inheritDoc}
      */
@@ -173,6 +240,33 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setPathLength( number( length ) );
     }   //  setPathLength()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public int getPointCount() { return getPoints().length / 2; }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The points are parsed from the
+     *  {@value SVGUtils#SVGATTRIBUTE_Points}
+     *  attribute.</p>
+     */
+    @MountPoint
+    @Override
+    public double [] getPoints()
+    {
+        final var retValue = getAttribute( SVGATTRIBUTE_Points )
+            .map( String::strip )
+            .filter( points -> !points.isEmpty() )
+            .map( points -> Arrays.stream( points.split( "[\\s,]+" ) ).mapToDouble( Double::parseDouble ).toArray() )
+            .orElseGet( () -> new double [0] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getPoints()
+
     /**
      *  {@inheritDoc}
      */
@@ -180,12 +274,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
     @Override
     public String getStyleSheet()
     {
-        final var retValue = join( "\n", m_StyleDefinitions );
+        final var styleSheet = join( "\n", deduplicate( m_StyleDefinitions ) );
+        final var retValue = m_IsMinified ? minify( styleSheet ) : styleSheet;
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  getStyleSheet()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public boolean isMinified() { return m_IsMinified; }
+
     /**
      *  {@inheritDoc}
      */
@@ -222,6 +324,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_dx, value );
     }   //  setDx()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setDx( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_dx, unit, values ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setDx( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_dx, unit, values ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -238,6 +354,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_dy, value );
     }   //  setDy()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setDy( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_dy, unit, values ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setDy( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_dy, unit, values ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -281,6 +411,18 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_MarkerWidth, value );
     }   //  setMarkerWidth()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setMinified( final boolean flag )
+    {
+        ensureNotFrozen();
+        m_IsMinified = flag;
+        invalidateCaches();
+    }   //  setMinified()
+
     /**
      *  {@inheritDoc}
      */
@@ -302,6 +444,16 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_Orientation, nonNull( value ) ? value.toString() : null );
     }   //  setOrientation()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setPathData( final CharSequence pathData )
+    {
+        setAttribute( SVGATTRIBUTE_PathDefinition, pathData, Optional.of( " " ) );
+    }   //  setPathData()
+
     /**
      *  {@inheritDoc}
      */
@@ -324,6 +476,19 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_Position, value );
     }   //  setPosition()
 
+    /**
+     *  {@inheritDoc}
+     *  <p>The precision applies to the points that are added after the
+     *  call.</p>
+     */
+    @MountPoint
+    @Override
+    public void setPrecision( final int precision ) throws IllegalArgumentException
+    {
+        if( precision < 0 || precision > PathWriter.MAX_PRECISION ) throw new IllegalArgumentException( "Invalid precision: %d".formatted( precision ) );
+        m_PointPrecision = precision;
+    }   //  setPrecision()
+
     /**
      *  {@inheritDoc}
      */
@@ -362,6 +527,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_Rotate, value );
     }   //  setRotate()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setRotate( final double [] values ) { setListAttribute( SVGATTRIBUTE_Rotate, NONE, values ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setRotate( final long [] values ) { setListAttribute( SVGATTRIBUTE_Rotate, NONE, values ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -389,6 +568,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_x, value );
     }   //  setX()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setX( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_x, unit, values ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setX( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_x, unit, values ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -427,6 +620,20 @@ public abstract non-sealed class SVGElementAdapter extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_y, value );
     }   //  setY()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setY( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_y, unit, values ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @MountPoint
+    @Override
+    public void setY( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_y, unit, values ); }
+
     /**
      *  {@inheritDoc}
      */
@@ -26,15 +26,15 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  The definition of an SVG element that allows child elements.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGElementWithChildren.java 820 2020-12-29 20:34:22Z tquadrat $
+ *  @version $Id: SVGElementWithChildren.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGElementWithChildren.java 820 2020-12-29 20:34:22Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGElementWithChildren.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface SVGElementWithChildren extends SVGElement
-    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGMarker, SVGPath, SVGRectangle, SVGSymbol, SVGTSpan, SVGText
+    permits SVG, SVGClipPath, SVGGroup, SVGLine, SVGMarker, SVGPath, SVGPolyShape, SVGRectangle, SVGSymbol, SVGTSpan, SVGText
 {
         /*---------*\
     ====** Methods **==========================================================
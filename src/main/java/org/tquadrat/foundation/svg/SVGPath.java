@@ -30,12 +30,12 @@ import org.tquadrat.foundation.svg.type.SVGPathElement;
  *  The definition of the SVG {@code <path>} element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGPath.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGPath.java 1181 2026-10-19 02:44:51Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGPath.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGPath.java 1181 2026-10-19 02:44:51Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface SVGPath extends SVGElementWithChildren, AllowsConditionalProcessingAttributes, AllowsGlobalEventAttributes, AllowsGraphicalEventAttributes, AllowsPresentationAttributes, AllowsStyleAttributes
     permits SVGElementAdapter, SVGPathImpl
@@ -43,6 +43,17 @@ public sealed interface SVGPath extends SVGElementWithChildren, AllowsConditiona
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Sets an already formatted path definition for this SVG
+     *  {@code <path>} element, like it is created by
+     *  {@link org.tquadrat.foundation.svg.geometry.PathWriter};
+     *  it will be appended to an existing one.
+     *
+     *  @param  pathData    The path definition; if {@code null}, the
+     *      current path definition will be removed.
+     */
+    public void setPathData( final CharSequence pathData );
+
     /**
      *  Sets the path definition for this SVG {@code <path>} element.
      *
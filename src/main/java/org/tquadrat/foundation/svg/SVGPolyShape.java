@@ -0,0 +1,172 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.svg;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.internal.SVGPolyShapeBase;
+import org.tquadrat.foundation.svg.type.SVGNumber.SVGUserUnitValue;
+
+/**
+ *  <p>{@summary The common definition of the SVG {@code <polyline>} and
+ *  {@code <polygon>} elements.}</p>
+ *  <p>The points are stored as the pairs of their x and y coordinates in an
+ *  array of {@code double}s; the
+ *  {@value SVGUtils#SVGATTRIBUTE_Points}
+ *  attribute is created from them only when the document is written, with
+ *  the number of decimal places that was set with
+ *  {@link #setPrecision(int)}.
+ *  Points that were added with the methods of this interface take precedence
+ *  over a value that was set directly for the attribute.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGPolyShape.java 1178 2026-10-18 23:52:06Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGPolyShape.java 1178 2026-10-18 23:52:06Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public sealed interface SVGPolyShape extends SVGElementWithChildren, AllowsConditionalProcessingAttributes, AllowsGlobalEventAttributes, AllowsGraphicalEventAttributes, AllowsPresentationAttributes, AllowsStyleAttributes
+    permits SVGPolygon, SVGPolyline, SVGPolyShapeBase
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default number of decimal places for the coordinates of the
+     *  points: {@value}.
+     */
+    public static final int DEFAULT_PRECISION = 3;
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds a point.
+     *
+     *  @param  x   The x coordinate of the point.
+     *  @param  y   The y coordinate of the point.
+     */
+    public void addPoint( final double x, final double y );
+
+    /**
+     *  Adds the given points.
+     *
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    public default void addPoints( final double... coordinates ) throws IllegalArgumentException
+    {
+        if( requireNonNullArgument( coordinates, "coordinates" ).length % 2 != 0 ) throw new IllegalArgumentException( "Odd number of coordinates: %d".formatted( coordinates.length ) );
+        addPoints( coordinates, 0, coordinates.length / 2 );
+    }   //  addPoints()
+
+    /**
+     *  Adds the given number of points from the given array.
+     *
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @param  offset  The index of the x coordinate of the first point in
+     *      the array.
+     *  @param  count   The number of points.
+     *  @throws IndexOutOfBoundsException   The array does not contain the
+     *      given number of points after the offset.
+     */
+    public void addPoints( final double [] coordinates, final int offset, final int count ) throws IndexOutOfBoundsException;
+
+    /**
+     *  Removes all points that were added with
+     *  {@link #addPoint(double, double)}
+     *  or
+     *  {@link #addPoints(double[], int, int)}.
+     */
+    public void clearPoints();
+
+    /**
+     *  Returns the number of points.
+     *
+     *  @return The number of points.
+     */
+    public int getPointCount();
+
+    /**
+     *  Returns the points.
+     *
+     *  @return The coordinates of the points, as pairs of x and y
+     *      coordinates; the array is a copy.
+     */
+    public double [] getPoints();
+
+    /**
+     *  Sets the length of the path represented by this element.
+     *
+     *  @param  length  The author's computation of the total length of the
+     *      path, in user units. This type is used to calibrate the user
+     *      agent's own distance-along-a-path calculations with that of the
+     *      author. The user agent will scale all distance-along-a-path
+     *      computations by the ratio of this type to the user agent's own
+     *      computed type for total path length.<br>
+     *      <br>A type of zero is valid, but a negative type is an error.
+     *
+     *  @throws IllegalArgumentException    The type is less than 0.
+     */
+    public void setPathLength( @SuppressWarnings( "UseOfConcreteClass" ) final SVGUserUnitValue length );
+
+    /**
+     *  Sets the length of the path represented by this element.
+     *
+     *  @param  length  The author's computation of the total length of the
+     *      path, in user units.
+     *
+     *  @throws IllegalArgumentException    The type is less than 0.
+     */
+    public default void setPathLength( final double length ) { setPathLength( number( length ) ); }
+
+    /**
+     *  Sets the length of the path represented by this element.
+     *
+     *  @param  length  The author's computation of the total length of the
+     *      path, in user units.
+     *
+     *  @throws IllegalArgumentException    The type is less than 0.
+     */
+    public default void setPathLength( final long length ) { setPathLength( number( length ) ); }
+
+    /**
+     *  Sets the number of decimal places for the coordinates of the points
+     *  when the document is written; the default is
+     *  {@value #DEFAULT_PRECISION}.
+     *  Trailing zeros are omitted.
+     *
+     *  @param  precision   The number of decimal places, between 0 and
+     *      {@value org.tquadrat.foundation.svg.geometry.PathWriter#MAX_PRECISION}.
+     *  @throws IllegalArgumentException    The precision is invalid.
+     */
+    public void setPrecision( final int precision ) throws IllegalArgumentException;
+}
+//  interface SVGPolyShape
+
+/*
+ *  End of File
+ */
@@ -27,12 +27,12 @@ import static org.apiguardian.api.API.Status.STABLE;
  *  The definition for the SVG {@code <style>} element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGStyle.java 1158 2026-03-14 16:23:29Z tquadrat $
+ *  @version $Id: SVGStyle.java 1191 2026-10-19 16:38:51Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGStyle.java 1158 2026-03-14 16:23:29Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGStyle.java 1191 2026-10-19 16:38:51Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface SVGStyle extends SVGElement
     permits SVGElementAdapter, SVGStyleImpl
@@ -54,6 +54,14 @@ public sealed interface SVGStyle extends SVGElement
      */
     public String getStyleSheet();
 
+    /**
+     *  Returns whether the style sheet will be minified.
+     *
+     *  @return {@code true} if the style sheet will be minified,
+     *      {@code false} otherwise.
+     */
+    public boolean isMinified();
+
     /**
      *  Merges the given SVG {@code <style>} element into this one.<br>
      *  <br>Only the CSS style definitions are taken from the other element,
@@ -63,6 +71,15 @@ public sealed interface SVGStyle extends SVGElement
      */
     public void merge( final SVGStyle other );
 
+    /**
+     *  Sets whether the style sheet will be minified: comments and the
+     *  whitespace that is not needed are removed then.
+     *
+     *  @param  flag    {@code true} if the style sheet should be minified,
+     *      {@code false} otherwise.
+     */
+    public void setMinified( final boolean flag );
+
     /**
      *  Returns a String representation for this element instance.
      *
@@ -24,18 +24,19 @@ import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.svg.internal.SVGTextImpl;
 import org.tquadrat.foundation.svg.type.SVGNumber;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGDegree;
+import org.tquadrat.foundation.svg.type.SVGUnit;
 import org.tquadrat.foundation.xml.builder.XMLElement;
 
 /**
  *  The definition of the SVG {@code <text>} element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGText.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGText.java 1182 2026-10-19 03:51:09Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGText.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGText.java 1182 2026-10-19 03:51:09Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public sealed interface SVGText extends SVGElementWithChildren, AllowsConditionalProcessingAttributes, AllowsGraphicalEventAttributes, AllowsPresentationAttributes, AllowsStyleAttributes
     permits SVGElementAdapter, SVGTextImpl
@@ -72,6 +73,36 @@ public sealed interface SVGText extends SVGElementWithChildren, AllowsConditiona
      */
     public void setDx( @SuppressWarnings( "UseOfConcreteClass" ) final SVGNumber... values );
 
+    /**
+     *  Sets a list of lengths which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDx(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public void setDx( final SVGUnit unit, final double [] values );
+
+    /**
+     *  Sets a list of lengths which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDx(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public void setDx( final SVGUnit unit, final long [] values );
+
     /**
      *  Sets a list of heights which move the characters relative to the
      *  absolute position of the last glyph drawn. The n<sup>th</sup> height is
@@ -83,6 +114,36 @@ public sealed interface SVGText extends SVGElementWithChildren, AllowsConditiona
      */
     public void setDy( @SuppressWarnings( "UseOfConcreteClass" ) final SVGNumber... values );
 
+    /**
+     *  Sets a list of heights which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDy(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The heights; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public void setDy( final SVGUnit unit, final double [] values );
+
+    /**
+     *  Sets a list of heights which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDy(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The heights; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public void setDy( final SVGUnit unit, final long [] values );
+
     /**
      *  Sets the way the text length will be adjusted in order to meet the
      *  target length set by
@@ -104,6 +165,32 @@ public sealed interface SVGText extends SVGElementWithChildren, AllowsConditiona
      */
     public void setRotate( @SuppressWarnings( "UseOfConcreteClass" ) final SVGDegree... values );
 
+    /**
+     *  Sets a list of rotations for the glyphs, in degrees; this is the same
+     *  as
+     *  {@link #setRotate(SVGDegree...)},
+     *  but without the need to create an
+     *  {@link SVGDegree}
+     *  instance for each value.
+     *
+     *  @param  values  The rotations; if {@code null} or empty, the
+     *      attribute will be removed.
+     */
+    public void setRotate( final double [] values );
+
+    /**
+     *  Sets a list of rotations for the glyphs, in degrees; this is the same
+     *  as
+     *  {@link #setRotate(SVGDegree...)},
+     *  but without the need to create an
+     *  {@link SVGDegree}
+     *  instance for each value.
+     *
+     *  @param  values  The rotations; if {@code null} or empty, the
+     *      attribute will be removed.
+     */
+    public void setRotate( final long [] values );
+
     /**
      *  Sets the target length for the text that an SVG viewer will attempt to
      *  display the text between by adjusting the spacing and/or the glyphs.
@@ -122,6 +209,34 @@ public sealed interface SVGText extends SVGElementWithChildren, AllowsConditiona
      */
     public void setX( @SuppressWarnings( "UseOfConcreteClass" ) final SVGNumber... values );
 
+    /**
+     *  Sets a list of x-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setX(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The x-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public void setX( final SVGUnit unit, final double [] values );
+
+    /**
+     *  Sets a list of x-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setX(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The x-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public void setX( final SVGUnit unit, final long [] values );
+
     /**
      *  Sets a list of y-axis position. The n<sup>th</sup> y-axis position is
      *  given to n<sup>th</sup> character in the text. If there are additional
@@ -131,6 +246,34 @@ public sealed interface SVGText extends SVGElementWithChildren, AllowsConditiona
      *  @param  values  The y-axis positions.
      */
     public void setY( @SuppressWarnings( "UseOfConcreteClass" ) final SVGNumber... values );
+
+    /**
+     *  Sets a list of y-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setY(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The y-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public void setY( final SVGUnit unit, final double [] values );
+
+    /**
+     *  Sets a list of y-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setY(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The y-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public void setY( final SVGUnit unit, final long [] values );
 }
 //  text SVGText
 
@@ -52,6 +52,8 @@ import org.tquadrat.foundation.svg.internal.SVGImpl;
 import org.tquadrat.foundation.svg.internal.SVGLineImpl;
 import org.tquadrat.foundation.svg.internal.SVGMarkerImpl;
 import org.tquadrat.foundation.svg.internal.SVGPathImpl;
+import org.tquadrat.foundation.svg.internal.SVGPolygonImpl;
+import org.tquadrat.foundation.svg.internal.SVGPolylineImpl;
 import org.tquadrat.foundation.svg.internal.SVGPositionedMarkerImpl;
 import org.tquadrat.foundation.svg.internal.SVGRectangleImpl;
 import org.tquadrat.foundation.svg.internal.SVGStyleImpl;
@@ -92,14 +94,14 @@ import org.tquadrat.foundation.xml.builder.spi.XMLElementAdapter;
  *  elements.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGUtils.java 1086 2024-01-05 23:18:33Z tquadrat $
+ *  @version $Id: SVGUtils.java 1178 2026-10-18 23:52:06Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( {"ClassWithTooManyMethods", "OverlyComplexClass", "OverlyCoupledClass"} )
 @UtilityClass
-@ClassVersion( sourceVersion = "$Id: SVGUtils.java 1086 2024-01-05 23:18:33Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGUtils.java 1178 2026-10-18 23:52:06Z tquadrat $" )
 public final class SVGUtils
 {
         /*-----------*\
@@ -204,6 +206,18 @@ public final class SVGUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final String SVGATTRIBUTE_Cursor = "cursor";
 
+    /**
+     *  The name for the SVG {@code cx} attribute: {@value}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final String SVGATTRIBUTE_cx = "cx";
+
+    /**
+     *  The name for the SVG {@code cy} attribute: {@value}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final String SVGATTRIBUTE_cy = "cy";
+
     /**
      *  The name for the SVG presentation attribute {@code direction}: {@value}.
      */
@@ -856,6 +870,12 @@ public final class SVGUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final String SVGATTRIBUTE_PointerEvents = "pointer-events";
 
+    /**
+     *  The name for the SVG {@code points} attribute: {@value}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final String SVGATTRIBUTE_Points = "points";
+
     /**
      *  The name for the SVG marker attribute {@code position}: {@value}.
      */
@@ -907,6 +927,12 @@ public final class SVGUtils
     @API( status = STABLE, since = "0.0.5" )
     public static final String SVGATTRIBUTE_Rotate = "rotate";
 
+    /**
+     *  The name for the SVG {@code r} attribute: {@value}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final String SVGATTRIBUTE_r = "r";
+
     /**
      *  The name for the SVG {@code rx} attribute: {@value}.
      */
@@ -2382,6 +2408,134 @@ public final class SVGUtils
         return retValue;
     }   //  createPath()
 
+    /**
+     *  Creates an SVG {@code <polygon>} element instance.
+     *
+     *  @return The new {@code <polygon>} element.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolygon createPolygon() { return new SVGPolygonImpl(); }
+
+    /**
+     *  Creates an SVG {@code <polygon>} element instance and adds it to the
+     *  given parent element.
+     *
+     *  @param  parent  The parent element.
+     *  @return The new {@code <polygon>} element.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolygon createPolygon( final SVGElementWithChildren parent )
+    {
+        final var retValue = createPolygon();
+        requireNonNullArgument( parent, "parent" ).addChild( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolygon()
+
+    /**
+     *  Creates an SVG {@code <polygon>} element instance with the given
+     *  points.
+     *
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @return The new {@code <polygon>} element.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolygon createPolygon( final double... coordinates ) throws IllegalArgumentException
+    {
+        final var retValue = createPolygon();
+        retValue.addPoints( coordinates );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolygon()
+
+    /**
+     *  Creates an SVG {@code <polygon>} element instance with the given
+     *  points and adds it to the given parent element.
+     *
+     *  @param  parent  The parent element.
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @return The new {@code <polygon>} element.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolygon createPolygon( final SVGElementWithChildren parent, final double... coordinates ) throws IllegalArgumentException
+    {
+        final var retValue = createPolygon( coordinates );
+        requireNonNullArgument( parent, "parent" ).addChild( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolygon()
+
+    /**
+     *  Creates an SVG {@code <polyline>} element instance.
+     *
+     *  @return The new {@code <polyline>} element.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolyline createPolyline() { return new SVGPolylineImpl(); }
+
+    /**
+     *  Creates an SVG {@code <polyline>} element instance and adds it to the
+     *  given parent element.
+     *
+     *  @param  parent  The parent element.
+     *  @return The new {@code <polyline>} element.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolyline createPolyline( final SVGElementWithChildren parent )
+    {
+        final var retValue = createPolyline();
+        requireNonNullArgument( parent, "parent" ).addChild( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolyline()
+
+    /**
+     *  Creates an SVG {@code <polyline>} element instance with the given
+     *  points.
+     *
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @return The new {@code <polyline>} element.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolyline createPolyline( final double... coordinates ) throws IllegalArgumentException
+    {
+        final var retValue = createPolyline();
+        retValue.addPoints( coordinates );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolyline()
+
+    /**
+     *  Creates an SVG {@code <polyline>} element instance with the given
+     *  points and adds it to the given parent element.
+     *
+     *  @param  parent  The parent element.
+     *  @param  coordinates The coordinates of the points, as pairs of x and y
+     *      coordinates.
+     *  @return The new {@code <polyline>} element.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGPolyline createPolyline( final SVGElementWithChildren parent, final double... coordinates ) throws IllegalArgumentException
+    {
+        final var retValue = createPolyline( coordinates );
+        requireNonNullArgument( parent, "parent" ).addChild( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPolyline()
+
     /**
      *  Creates an SVG {@code <marker>} element instance that is used as a
      *  <i>positioned</i> marker.
@@ -0,0 +1,647 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sin;
+import static java.lang.Math.tan;
+import static java.lang.Math.toRadians;
+import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.hash;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_Matrix;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_Rotate;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_Scale;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_SkewX;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_SkewY;
+import static org.tquadrat.foundation.svg.type.SVGTransform.SVGTRANSFORM_Translate;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.type.SVGTransform;
+
+/**
+ *  <p>{@summary An immutable affine transformation matrix} as used by the
+ *  SVG attribute
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Transform}.
+ *  The six coefficients have the same meaning as the parameters of the
+ *  transformation
+ *  {@code matrix(a b c d e f)}:</p>
+ *  <pre><code>  x' = a * x + c * y + e
+ *  y' = b * x + d * y + f</code></pre>
+ *  <p>Besides the methods for single points, there are bulk operations
+ *  that transform large numbers of points in place, either with the
+ *  coordinates in separate arrays, or interleaved in a single array. When
+ *  the module {@code jdk.incubator.vector} is present in the module graph
+ *  (for example with {@code --add-modules jdk.incubator.vector}), these
+ *  operations use the Vector API, otherwise they fall back to scalar code;
+ *  the results are the same. The use of the Vector API can be switched off
+ *  with the system property
+ *  {@value #PROPERTY_VECTORIZE}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: AffineMatrix.java 1176 2026-10-18 21:04:12Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: AffineMatrix.java 1176 2026-10-18 21:04:12Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class AffineMatrix
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The identity matrix.
+     */
+    public static final AffineMatrix IDENTITY = new AffineMatrix( 1, 0, 0, 1, 0, 0 );
+
+    /**
+     *  The name of the system property that switches the use of the Vector
+     *  API for the bulk operations off, when set to {@code false}: {@value}.
+     */
+    public static final String PROPERTY_VECTORIZE = "org.tquadrat.foundation.svg.vectorize";
+
+    /**
+     *  The name of the module with the Vector API: {@value}.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     *  {@code true} if the bulk operations use the Vector API, {@code false}
+     *  if they use scalar code only.
+     */
+    private static final boolean IS_VECTORIZED;
+
+    static
+    {
+        var isVectorized = false;
+        if( Boolean.parseBoolean( System.getProperty( PROPERTY_VECTORIZE, "true" ) ) )
+        {
+            final var module = ModuleLayer.boot().findModule( VECTOR_MODULE );
+            if( module.isPresent() && AffineMatrix.class.getModule().canRead( module.get() ) )
+            {
+                try
+                {
+                    isVectorized = VectorAffineKernel.isSupported();
+                }
+                catch( final LinkageError ignored )
+                {
+                    /*
+                     * The Vector API cannot be used on this platform.
+                     */
+                }
+            }
+        }
+        IS_VECTORIZED = isVectorized;
+    }
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The coefficient {@code a}.
+     */
+    private final double m_A;
+
+    /**
+     *  The coefficient {@code b}.
+     */
+    private final double m_B;
+
+    /**
+     *  The coefficient {@code c}.
+     */
+    private final double m_C;
+
+    /**
+     *  The coefficient {@code d}.
+     */
+    private final double m_D;
+
+    /**
+     *  The coefficient {@code e}.
+     */
+    private final double m_E;
+
+    /**
+     *  The coefficient {@code f}.
+     */
+    private final double m_F;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code AffineMatrix} instance.
+     *
+     *  @param  a   The coefficient {@code a}.
+     *  @param  b   The coefficient {@code b}.
+     *  @param  c   The coefficient {@code c}.
+     *  @param  d   The coefficient {@code d}.
+     *  @param  e   The coefficient {@code e}.
+     *  @param  f   The coefficient {@code f}.
+     */
+    @SuppressWarnings( "ConstructorWithTooManyParameters" )
+    public AffineMatrix( final double a, final double b, final double c, final double d, final double e, final double f )
+    {
+        m_A = a;
+        m_B = b;
+        m_C = c;
+        m_D = d;
+        m_E = e;
+        m_F = f;
+    }   //  AffineMatrix()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Transforms the points with the given coordinates in place.
+     *
+     *  @param  coordinates The coordinates of the points, x and y
+     *      alternating.
+     *  @throws IllegalArgumentException    The number of coordinates is
+     *      odd.
+     */
+    public final void applyTo( final double [] coordinates ) throws IllegalArgumentException
+    {
+        if( (requireNonNullArgument( coordinates, "coordinates" ).length & 1) != 0 ) throw new IllegalArgumentException( "The number of coordinates is odd" );
+        applyTo( coordinates, 0, coordinates.length / 2 );
+    }   //  applyTo()
+
+    /**
+     *  Transforms the points with the given coordinates in place.
+     *
+     *  @param  coordinates The coordinates of the points, x and y
+     *      alternating.
+     *  @param  offset  The index of the x coordinate of the first point.
+     *  @param  count   The number of points.
+     *  @throws IndexOutOfBoundsException   The range is not inside the
+     *      array.
+     */
+    public final void applyTo( final double [] coordinates, final int offset, final int count ) throws IndexOutOfBoundsException
+    {
+        requireNonNullArgument( coordinates, "coordinates" );
+        if( (count < 0) || (offset < 0) || (offset > coordinates.length - 2L * count) ) throw new IndexOutOfBoundsException( "Invalid range: offset %d, %d points".formatted( offset, count ) );
+
+        final var a = m_A;
+        final var b = m_B;
+        final var c = m_C;
+        final var d = m_D;
+        final var e = m_E;
+        final var f = m_F;
+        var i = IS_VECTORIZED ? VectorAffineKernel.applyInterleaved( this, coordinates, offset, count ) : offset;
+        for( final var end = offset + 2 * count; i < end; i += 2 )
+        {
+            final var x = coordinates [i];
+            final var y = coordinates [i + 1];
+            coordinates [i] = a * x + c * y + e;
+            coordinates [i + 1] = b * x + d * y + f;
+        }
+    }   //  applyTo()
+
+    /**
+     *  Transforms the points with the given coordinates in place.
+     *
+     *  @param  xs  The x coordinates of the points.
+     *  @param  ys  The y coordinates of the points.
+     *  @throws IllegalArgumentException    The arrays have different
+     *      lengths.
+     */
+    public final void applyTo( final double [] xs, final double [] ys ) throws IllegalArgumentException
+    {
+        if( requireNonNullArgument( xs, "xs" ).length != requireNonNullArgument( ys, "ys" ).length ) throw new IllegalArgumentException( "xs and ys have different lengths" );
+        applyTo( xs, ys, 0, xs.length );
+    }   //  applyTo()
+
+    /**
+     *  Transforms the points with the given coordinates in place.
+     *
+     *  @param  xs  The x coordinates of the points.
+     *  @param  ys  The y coordinates of the points.
+     *  @param  offset  The index of the first point.
+     *  @param  count   The number of points.
+     *  @throws IndexOutOfBoundsException   The range is not inside both
+     *      arrays.
+     */
+    public final void applyTo( final double [] xs, final double [] ys, final int offset, final int count ) throws IndexOutOfBoundsException
+    {
+        requireNonNullArgument( xs, "xs" );
+        requireNonNullArgument( ys, "ys" );
+        if( (count < 0) || (offset < 0) || (offset > xs.length - count) || (offset > ys.length - count) ) throw new IndexOutOfBoundsException( "Invalid range: offset %d, %d points".formatted( offset, count ) );
+
+        final var a = m_A;
+        final var b = m_B;
+        final var c = m_C;
+        final var d = m_D;
+        final var e = m_E;
+        final var f = m_F;
+        var i = IS_VECTORIZED ? VectorAffineKernel.apply( this, xs, ys, offset, count ) : offset;
+        for( final var end = offset + count; i < end; ++i )
+        {
+            final var x = xs [i];
+            final var y = ys [i];
+            xs [i] = a * x + c * y + e;
+            ys [i] = b * x + d * y + f;
+        }
+    }   //  applyTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean equals( final Object obj )
+    {
+        var retValue = this == obj;
+        if( !retValue && (obj instanceof final AffineMatrix other) )
+        {
+            retValue = Double.compare( m_A, other.m_A ) == 0
+                && Double.compare( m_B, other.m_B ) == 0
+                && Double.compare( m_C, other.m_C ) == 0
+                && Double.compare( m_D, other.m_D ) == 0
+                && Double.compare( m_E, other.m_E ) == 0
+                && Double.compare( m_F, other.m_F ) == 0;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  equals()
+
+    /**
+     *  Returns the coefficient {@code a}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getA() { return m_A; }
+
+    /**
+     *  Returns the coefficient {@code b}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getB() { return m_B; }
+
+    /**
+     *  Returns the coefficient {@code c}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getC() { return m_C; }
+
+    /**
+     *  Returns the coefficient {@code d}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getD() { return m_D; }
+
+    /**
+     *  Returns the coefficient {@code e}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getE() { return m_E; }
+
+    /**
+     *  Returns the coefficient {@code f}.
+     *
+     *  @return The coefficient.
+     */
+    public final double getF() { return m_F; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() { return hash( m_A, m_B, m_C, m_D, m_E, m_F ); }
+
+    /**
+     *  Returns the inverse of this matrix.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the inverse; empty if this matrix cannot be inverted,
+     *      because it maps everything to a line or a point.
+     */
+    public final Optional<AffineMatrix> inverse()
+    {
+        Optional<AffineMatrix> retValue = Optional.empty();
+        if( isIdentity() )
+        {
+            retValue = Optional.of( this );
+        }
+        else
+        {
+            final var determinant = m_A * m_D - m_B * m_C;
+            if( determinant != 0 && Double.isFinite( determinant ) )
+            {
+                retValue = Optional.of( new AffineMatrix(
+                    m_D / determinant,
+                    -m_B / determinant,
+                    -m_C / determinant,
+                    m_A / determinant,
+                    (m_C * m_F - m_D * m_E) / determinant,
+                    (m_B * m_E - m_A * m_F) / determinant ) );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  inverse()
+
+    /**
+     *  Checks whether this matrix is the identity matrix.
+     *
+     *  @return {@code true} if this matrix does not change any coordinates,
+     *      {@code false} otherwise.
+     */
+    public final boolean isIdentity() { return m_A == 1 && m_B == 0 && m_C == 0 && m_D == 1 && m_E == 0 && m_F == 0; }
+
+    /**
+     *  Returns whether the bulk operations use the Vector API.
+     *
+     *  @return {@code true} if the Vector API is used, {@code false} if the
+     *      bulk operations use scalar code only.
+     */
+    public static final boolean isVectorized() { return IS_VECTORIZED; }
+
+    /**
+     *  Returns the product of this matrix and the given one; the resulting
+     *  matrix applies the given transformation first, and then this one.
+     *  This corresponds to the transformation list
+     *  {@code "this other"}.
+     *
+     *  @param  other   The other matrix.
+     *  @return The product.
+     */
+    public final AffineMatrix multiply( final AffineMatrix other )
+    {
+        requireNonNullArgument( other, "other" );
+        final AffineMatrix retValue;
+        if( other.isIdentity() )
+        {
+            retValue = this;
+        }
+        else if( isIdentity() )
+        {
+            retValue = other;
+        }
+        else
+        {
+            retValue = new AffineMatrix(
+                m_A * other.m_A + m_C * other.m_B,
+                m_B * other.m_A + m_D * other.m_B,
+                m_A * other.m_C + m_C * other.m_D,
+                m_B * other.m_C + m_D * other.m_D,
+                m_A * other.m_E + m_C * other.m_F + m_E,
+                m_B * other.m_E + m_D * other.m_F + m_F );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  multiply()
+
+    /**
+     *  Returns the matrix for the given transformations, as they would be
+     *  listed in a
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Transform}
+     *  attribute.
+     *
+     *  @param  transformations The transformations.
+     *  @return The resulting matrix.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final AffineMatrix of( final SVGTransform... transformations )
+    {
+        final var transformList = new StringJoiner( " " );
+        for( final var transformation : requireNonNullArgument( transformations, "transformations" ) ) transformList.add( requireNonNullArgument( transformation, "transformation" ).toString() );
+        final var retValue = parse( transformList.toString() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  of()
+
+    /**
+     *  Parses the value of a
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Transform}
+     *  attribute into a single matrix.
+     *
+     *  @param  transformList   The list of transformations.
+     *  @return The resulting matrix.
+     *  @throws IllegalArgumentException    The transformation list is
+     *      invalid.
+     */
+    @SuppressWarnings( "SwitchStatementWithTooManyBranches" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static final AffineMatrix parse( final CharSequence transformList )
+    {
+        final var scanner = new DataScanner( requireNonNullArgument( transformList, "transformList" ) );
+        final var values = new double [6];
+        var retValue = IDENTITY;
+        while( !scanner.atEnd() )
+        {
+            final var name = scanner.nextIdentifier();
+            scanner.expect( '(' );
+            var count = 0;
+            while( scanner.hasNumber() )
+            {
+                if( count == values.length ) throw scanner.error();
+                values [count++] = scanner.nextNumber();
+            }
+            scanner.expect( ')' );
+
+            final var matrix = switch( name )
+            {
+                case SVGTRANSFORM_Matrix -> count == 6 ? new AffineMatrix( values [0], values [1], values [2], values [3], values [4], values [5] ) : null;
+                case SVGTRANSFORM_Rotate -> switch( count )
+                {
+                    case 1 -> rotate( values [0] );
+                    case 3 -> rotate( values [0], values [1], values [2] );
+                    default -> null;
+                };
+                case SVGTRANSFORM_Scale -> switch( count )
+                {
+                    case 1 -> scale( values [0], values [0] );
+                    case 2 -> scale( values [0], values [1] );
+                    default -> null;
+                };
+                case SVGTRANSFORM_SkewX -> count == 1 ? skewX( values [0] ) : null;
+                case SVGTRANSFORM_SkewY -> count == 1 ? skewY( values [0] ) : null;
+                case SVGTRANSFORM_Translate -> switch( count )
+                {
+                    case 1 -> translate( values [0], 0 );
+                    case 2 -> translate( values [0], values [1] );
+                    default -> null;
+                };
+                default -> null;
+            };
+            if( matrix == null ) throw new IllegalArgumentException( "Invalid transformation: %s".formatted( transformList ) );
+            retValue = retValue.multiply( matrix );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parse()
+
+    /**
+     *  Returns a matrix for a rotation around the origin.
+     *
+     *  @param  angle   The angle in degrees.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix rotate( final double angle )
+    {
+        final var radians = toRadians( angle );
+        final var cos = cos( radians );
+        final var sin = sin( radians );
+        final var retValue = new AffineMatrix( cos, sin, -sin, cos, 0, 0 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rotate()
+
+    /**
+     *  Returns a matrix for a rotation around the given point.
+     *
+     *  @param  angle   The angle in degrees.
+     *  @param  cx  The x coordinate of the centre of the rotation.
+     *  @param  cy  The y coordinate of the centre of the rotation.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix rotate( final double angle, final double cx, final double cy )
+    {
+        final var retValue = translate( cx, cy ).multiply( rotate( angle ) ).multiply( translate( -cx, -cy ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rotate()
+
+    /**
+     *  Returns a matrix for scaling.
+     *
+     *  @param  sx  The scale factor for the x axis.
+     *  @param  sy  The scale factor for the y axis.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix scale( final double sx, final double sy ) { return new AffineMatrix( sx, 0, 0, sy, 0, 0 ); }
+
+    /**
+     *  Returns a matrix for skewing along the x axis.
+     *
+     *  @param  angle   The angle in degrees.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix skewX( final double angle ) { return new AffineMatrix( 1, 0, tan( toRadians( angle ) ), 1, 0, 0 ); }
+
+    /**
+     *  Returns a matrix for skewing along the y axis.
+     *
+     *  @param  angle   The angle in degrees.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix skewY( final double angle ) { return new AffineMatrix( 1, tan( toRadians( angle ) ), 0, 1, 0, 0 ); }
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The result can be used as value for the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Transform}
+     *  attribute.</p>
+     */
+    @Override
+    public final String toString() { return String.format( ROOT, "matrix(%s %s %s %s %s %s)", m_A, m_B, m_C, m_D, m_E, m_F ); }
+
+    /**
+     *  Transforms the given bounding box. The result is the bounding box of
+     *  the transformed corners.
+     *
+     *  @param  box The bounding box.
+     *  @return The transformed bounding box.
+     */
+    public final BoundingBox transform( final BoundingBox box )
+    {
+        requireNonNullArgument( box, "box" );
+        final BoundingBox retValue;
+        if( isIdentity() )
+        {
+            retValue = box;
+        }
+        else
+        {
+            final var x0 = box.getMinX();
+            final var y0 = box.getMinY();
+            final var x1 = box.getMaxX();
+            final var y1 = box.getMaxY();
+            final var ax0 = m_A * x0;
+            final var ax1 = m_A * x1;
+            final var bx0 = m_B * x0;
+            final var bx1 = m_B * x1;
+            final var cy0 = m_C * y0;
+            final var cy1 = m_C * y1;
+            final var dy0 = m_D * y0;
+            final var dy1 = m_D * y1;
+            retValue = new BoundingBox(
+                min( ax0, ax1 ) + min( cy0, cy1 ) + m_E,
+                min( bx0, bx1 ) + min( dy0, dy1 ) + m_F,
+                max( ax0, ax1 ) + max( cy0, cy1 ) + m_E,
+                max( bx0, bx1 ) + max( dy0, dy1 ) + m_F );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  transform()
+
+    /**
+     *  Returns the transformed x coordinate for the given point.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     *  @return The transformed x coordinate.
+     */
+    public final double transformX( final double x, final double y ) { return m_A * x + m_C * y + m_E; }
+
+    /**
+     *  Returns the transformed y coordinate for the given point.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     *  @return The transformed y coordinate.
+     */
+    public final double transformY( final double x, final double y ) { return m_B * x + m_D * y + m_F; }
+
+    /**
+     *  Returns a matrix for a translation.
+     *
+     *  @param  tx  The translation along the x axis.
+     *  @param  ty  The translation along the y axis.
+     *  @return The matrix.
+     */
+    public static final AffineMatrix translate( final double tx, final double ty ) { return new AffineMatrix( 1, 0, 0, 1, tx, ty ); }
+}
+//  class AffineMatrix
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,271 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.hash;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary An immutable, axis aligned rectangle} that describes the
+ *  extent of an SVG element or of a region in a drawing.</p>
+ *  <p>The coordinate system is that of SVG: the y axis points down. A
+ *  bounding box may have a width or height of 0, for example for a
+ *  horizontal line.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: BoundingBox.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: BoundingBox.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class BoundingBox
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The largest x coordinate.
+     */
+    private final double m_MaxX;
+
+    /**
+     *  The largest y coordinate.
+     */
+    private final double m_MaxY;
+
+    /**
+     *  The smallest x coordinate.
+     */
+    private final double m_MinX;
+
+    /**
+     *  The smallest y coordinate.
+     */
+    private final double m_MinY;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code BoundingBox} instance.
+     *
+     *  @param  minX    The smallest x coordinate.
+     *  @param  minY    The smallest y coordinate.
+     *  @param  maxX    The largest x coordinate.
+     *  @param  maxY    The largest y coordinate.
+     *  @throws IllegalArgumentException    The minimum is greater than the
+     *      maximum, or one of the coordinates is not a number.
+     */
+    public BoundingBox( final double minX, final double minY, final double maxX, final double maxY )
+    {
+        if( !(minX <= maxX) || !(minY <= maxY) ) throw new IllegalArgumentException( "Invalid bounds: %f,%f,%f,%f".formatted( minX, minY, maxX, maxY ) );
+        m_MinX = minX;
+        m_MinY = minY;
+        m_MaxX = maxX;
+        m_MaxY = maxY;
+    }   //  BoundingBox()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether this bounding box contains the given point; points on
+     *  the border are contained.
+     *
+     *  @param  x   The x coordinate of the point.
+     *  @param  y   The y coordinate of the point.
+     *  @return {@code true} if the point is inside of this bounding box,
+     *      {@code false} otherwise.
+     */
+    public final boolean contains( final double x, final double y )
+    {
+        return x >= m_MinX && x <= m_MaxX && y >= m_MinY && y <= m_MaxY;
+    }   //  contains()
+
+    /**
+     *  Checks whether this bounding box contains the given one completely.
+     *
+     *  @param  other   The other bounding box.
+     *  @return {@code true} if the other bounding box is inside of this one,
+     *      {@code false} otherwise.
+     */
+    public final boolean contains( final BoundingBox other )
+    {
+        requireNonNullArgument( other, "other" );
+
+        //---* Done *----------------------------------------------------------
+        return other.m_MinX >= m_MinX && other.m_MaxX <= m_MaxX && other.m_MinY >= m_MinY && other.m_MaxY <= m_MaxY;
+    }   //  contains()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean equals( final Object obj )
+    {
+        var retValue = this == obj;
+        if( !retValue && (obj instanceof final BoundingBox other) )
+        {
+            retValue = Double.compare( m_MinX, other.m_MinX ) == 0
+                && Double.compare( m_MinY, other.m_MinY ) == 0
+                && Double.compare( m_MaxX, other.m_MaxX ) == 0
+                && Double.compare( m_MaxY, other.m_MaxY ) == 0;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  equals()
+
+    /**
+     *  Returns a new bounding box that is larger than this one by the given
+     *  amount on each side.
+     *
+     *  @param  amount  The amount; a negative value shrinks the bounding box,
+     *      but not below a size of 0.
+     *  @return The new bounding box.
+     */
+    public final BoundingBox expand( final double amount )
+    {
+        final var dx = max( amount, -getWidth() / 2 );
+        final var dy = max( amount, -getHeight() / 2 );
+        final var retValue = new BoundingBox( m_MinX - dx, m_MinY - dy, m_MaxX + dx, m_MaxY + dy );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  expand()
+
+    /**
+     *  Returns the height of this bounding box.
+     *
+     *  @return The height.
+     */
+    public final double getHeight() { return m_MaxY - m_MinY; }
+
+    /**
+     *  Returns the largest x coordinate.
+     *
+     *  @return The largest x coordinate.
+     */
+    public final double getMaxX() { return m_MaxX; }
+
+    /**
+     *  Returns the largest y coordinate.
+     *
+     *  @return The largest y coordinate.
+     */
+    public final double getMaxY() { return m_MaxY; }
+
+    /**
+     *  Returns the smallest x coordinate.
+     *
+     *  @return The smallest x coordinate.
+     */
+    public final double getMinX() { return m_MinX; }
+
+    /**
+     *  Returns the smallest y coordinate.
+     *
+     *  @return The smallest y coordinate.
+     */
+    public final double getMinY() { return m_MinY; }
+
+    /**
+     *  Returns the width of this bounding box.
+     *
+     *  @return The width.
+     */
+    public final double getWidth() { return m_MaxX - m_MinX; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int hashCode() { return hash( m_MinX, m_MinY, m_MaxX, m_MaxY ); }
+
+    /**
+     *  Checks whether this bounding box intersects with the given rectangle;
+     *  rectangles that only touch each other intersect.
+     *
+     *  @param  minX    The smallest x coordinate of the rectangle.
+     *  @param  minY    The smallest y coordinate of the rectangle.
+     *  @param  maxX    The largest x coordinate of the rectangle.
+     *  @param  maxY    The largest y coordinate of the rectangle.
+     *  @return {@code true} if the rectangle and this bounding box
+     *      intersect, {@code false} otherwise.
+     */
+    public final boolean intersects( final double minX, final double minY, final double maxX, final double maxY )
+    {
+        return minX <= m_MaxX && maxX >= m_MinX && minY <= m_MaxY && maxY >= m_MinY;
+    }   //  intersects()
+
+    /**
+     *  Checks whether this bounding box intersects with the given one;
+     *  bounding boxes that only touch each other intersect.
+     *
+     *  @param  other   The other bounding box.
+     *  @return {@code true} if the bounding boxes intersect, {@code false}
+     *      otherwise.
+     */
+    public final boolean intersects( final BoundingBox other )
+    {
+        requireNonNullArgument( other, "other" );
+
+        //---* Done *----------------------------------------------------------
+        return intersects( other.m_MinX, other.m_MinY, other.m_MaxX, other.m_MaxY );
+    }   //  intersects()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The result has the same format as the value for the attribute
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}.</p>
+     */
+    @Override
+    public final String toString() { return String.format( ROOT, "%s %s %s %s", m_MinX, m_MinY, getWidth(), getHeight() ); }
+
+    /**
+     *  Returns the smallest bounding box that contains this bounding box and
+     *  the given one.
+     *
+     *  @param  other   The other bounding box.
+     *  @return The union.
+     */
+    public final BoundingBox union( final BoundingBox other )
+    {
+        requireNonNullArgument( other, "other" );
+        final var retValue = contains( other )
+            ? this
+            : new BoundingBox( min( m_MinX, other.m_MinX ), min( m_MinY, other.m_MinY ), max( m_MaxX, other.m_MaxX ), max( m_MaxY, other.m_MaxY ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  union()
+}
+//  class BoundingBox
+
+/*
+ *  End of File
+ */
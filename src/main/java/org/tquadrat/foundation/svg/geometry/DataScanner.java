@@ -0,0 +1,347 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A scanner for the numerical data in SVG attributes} like
+ *  path definitions, point lists or transformations. Numbers are parsed
+ *  without creating any objects.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: DataScanner.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: DataScanner.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+final class DataScanner
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum number of significant digits that are taken into account
+     *  for a number: {@value}.
+     */
+    private static final int MAX_SIGNIFICANT_DIGITS = 17;
+
+    /**
+     *  The powers of ten that can be represented exactly as a {@code double}.
+     */
+    private static final double [] POWERS_OF_TEN =
+    {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+        1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The data.
+     */
+    private final CharSequence m_Data;
+
+    /**
+     *  The length of the data.
+     */
+    private final int m_Length;
+
+    /**
+     *  The current position.
+     */
+    private int m_Position = 0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code DataScanner} instance.
+     *
+     *  @param  data    The data to scan.
+     */
+    public DataScanner( final CharSequence data )
+    {
+        m_Data = data;
+        m_Length = data.length();
+    }   //  DataScanner()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the end of the data was reached; whitespace and commas
+     *  will be skipped.
+     *
+     *  @return {@code true} if there is no more data, {@code false}
+     *      otherwise.
+     */
+    public final boolean atEnd()
+    {
+        skipSeparators();
+
+        //---* Done *----------------------------------------------------------
+        return m_Position >= m_Length;
+    }   //  atEnd()
+
+    /**
+     *  Creates the exception for invalid data at the current position.
+     *
+     *  @return The exception.
+     */
+    public final IllegalArgumentException error()
+    {
+        return new IllegalArgumentException( "Invalid data at position %d".formatted( m_Position ) );
+    }   //  error()
+
+    /**
+     *  Skips whitespace and commas, and then expects the given character.
+     *
+     *  @param  c   The expected character.
+     *  @throws IllegalArgumentException    The next character is not the
+     *      expected one.
+     */
+    public final void expect( final char c )
+    {
+        skipSeparators();
+        if( m_Position >= m_Length || m_Data.charAt( m_Position ) != c ) throw error();
+        ++m_Position;
+    }   //  expect()
+
+    /**
+     *  Checks whether the next token is a number.
+     *
+     *  @return {@code true} if the next token is a number, {@code false}
+     *      if it is a command or the end of the data was reached.
+     */
+    public final boolean hasNumber()
+    {
+        skipSeparators();
+        var retValue = false;
+        if( m_Position < m_Length )
+        {
+            final var c = m_Data.charAt( m_Position );
+            retValue = (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hasNumber()
+
+    /**
+     *  Returns the next command letter, or the NUL character if the end
+     *  of the data was reached.
+     *
+     *  @return The command.
+     */
+    public final char nextCommand()
+    {
+        skipSeparators();
+        var retValue = '\u0000';
+        if( m_Position < m_Length )
+        {
+            retValue = m_Data.charAt( m_Position );
+            if( !Character.isLetter( retValue ) ) throw error();
+            ++m_Position;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextCommand()
+
+    /**
+     *  Reads a flag for an arc segment; flags may be written without a
+     *  separator to the next value.
+     *
+     *  @return The flag.
+     */
+    public final boolean nextFlag()
+    {
+        skipSeparators();
+        if( m_Position >= m_Length ) throw error();
+        final var retValue = switch( m_Data.charAt( m_Position ) )
+        {
+            case '0' -> false;
+            case '1' -> true;
+            default -> throw error();
+        };
+        ++m_Position;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextFlag()
+
+    /**
+     *  Reads the next identifier; an identifier consists of letters only.
+     *
+     *  @return The identifier.
+     *  @throws IllegalArgumentException    There is no identifier at the
+     *      current position.
+     */
+    public final String nextIdentifier()
+    {
+        skipSeparators();
+        final var start = m_Position;
+        while( m_Position < m_Length && Character.isLetter( m_Data.charAt( m_Position ) ) ) ++m_Position;
+        if( start == m_Position ) throw error();
+        final var retValue = m_Data.subSequence( start, m_Position ).toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextIdentifier()
+
+    /**
+     *  Reads the next number.
+     *
+     *  @return The number.
+     */
+    @SuppressWarnings( "OverlyComplexMethod" )
+    public final double nextNumber()
+    {
+        skipSeparators();
+        final var start = m_Position;
+        var negative = false;
+        if( m_Position < m_Length )
+        {
+            final var c = m_Data.charAt( m_Position );
+            if( c == '-' || c == '+' )
+            {
+                negative = c == '-';
+                ++m_Position;
+            }
+        }
+
+        long mantissa = 0;
+        var exponent = 0;
+        var digits = 0;
+        var significant = 0;
+        char c;
+
+        //---* The integer part *------------------------------------------
+        while( m_Position < m_Length && (c = m_Data.charAt( m_Position )) >= '0' && c <= '9' )
+        {
+            if( significant < MAX_SIGNIFICANT_DIGITS )
+            {
+                mantissa = mantissa * 10 + (c - '0');
+                if( mantissa > 0 ) ++significant;
+            }
+            else
+            {
+                ++exponent;
+            }
+            ++digits;
+            ++m_Position;
+        }
+
+        //---* The fraction *----------------------------------------------
+        if( m_Position < m_Length && m_Data.charAt( m_Position ) == '.' )
+        {
+            ++m_Position;
+            while( m_Position < m_Length && (c = m_Data.charAt( m_Position )) >= '0' && c <= '9' )
+            {
+                if( significant < MAX_SIGNIFICANT_DIGITS )
+                {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if( mantissa > 0 ) ++significant;
+                    --exponent;
+                }
+                ++digits;
+                ++m_Position;
+            }
+        }
+        if( digits == 0 )
+        {
+            m_Position = start;
+            throw error();
+        }
+
+        //---* The exponent *----------------------------------------------
+        if( m_Position < m_Length && ((c = m_Data.charAt( m_Position )) == 'e' || c == 'E') )
+        {
+            var pos = m_Position + 1;
+            var expNegative = false;
+            if( pos < m_Length && ((c = m_Data.charAt( pos )) == '-' || c == '+') )
+            {
+                expNegative = c == '-';
+                ++pos;
+            }
+            if( pos < m_Length && (c = m_Data.charAt( pos )) >= '0' && c <= '9' )
+            {
+                var exp = 0;
+                while( pos < m_Length && (c = m_Data.charAt( pos )) >= '0' && c <= '9' )
+                {
+                    if( exp < 10_000 ) exp = exp * 10 + (c - '0');
+                    ++pos;
+                }
+                exponent += expNegative ? -exp : exp;
+                m_Position = pos;
+            }
+        }
+
+        var retValue = (double) mantissa;
+        if( exponent < 0 )
+        {
+            retValue = -exponent < POWERS_OF_TEN.length ? retValue / POWERS_OF_TEN [-exponent] : retValue / Math.pow( 10, -exponent );
+        }
+        else if( exponent > 0 )
+        {
+            retValue = exponent < POWERS_OF_TEN.length ? retValue * POWERS_OF_TEN [exponent] : retValue * Math.pow( 10, exponent );
+        }
+        if( negative ) retValue = -retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  nextNumber()
+
+    /**
+     *  Returns the remaining data, without leading and trailing whitespace.
+     *
+     *  @return The remaining data; empty if the end of the data was reached.
+     */
+    public final String remainder()
+    {
+        final var retValue = m_Data.subSequence( m_Position, m_Length ).toString().strip();
+        m_Position = m_Length;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  remainder()
+
+    /**
+     *  Skips whitespace and commas.
+     */
+    private final void skipSeparators()
+    {
+        char c;
+        while( m_Position < m_Length && ((c = m_Data.charAt( m_Position )) == ' ' || c == ',' || c == '\t' || c == '\n' || c == '\r' || c == '\f') )
+        {
+            ++m_Position;
+        }
+    }   //  skipSeparators()
+}
+//  class DataScanner
+
+/*
+ *  End of File
+ */
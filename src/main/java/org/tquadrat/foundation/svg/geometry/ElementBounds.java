@@ -0,0 +1,700 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Height;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Transform;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Width;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cy;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_r;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_rx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ry;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Circle;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Ellipse;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_ForeignObject;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Image;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Line;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_PolyLine;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Polygon;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Rectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Root;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Switch;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Use;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.type.SVGUnit;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Calculates the bounding boxes of SVG elements} from their
+ *  geometry attributes.</p>
+ *  <p>The bounding boxes describe the geometry only, like
+ *  {@code getBBox()}
+ *  in the SVG DOM; the width of the stroke, markers, filters and clipping
+ *  are not taken into account. Only elements that are drawn directly are
+ *  considered: {@code <rect>}, {@code <circle>}, {@code <ellipse>},
+ *  {@code <line>}, {@code <polyline>}, {@code <polygon>}, {@code <path>},
+ *  {@code <image>}, {@code <foreignObject>}, and {@code <use>} elements that
+ *  define their width and height. The extent of text cannot be determined
+ *  without font metrics, so text elements do not have a bounding box.
+ *  Containers ({@code <svg>}, {@code <g>}, {@code <a>} and
+ *  {@code <switch>}) get the union of the bounding boxes of their
+ *  children.</p>
+ *  <p>Lengths with the units {@code px}, {@code mm}, {@code cm},
+ *  {@code in}, {@code pt} and {@code pc} will be converted to user units
+ *  (with 96 pixels per inch); lengths that depend on the context, like
+ *  percentages or {@code em}, cannot be resolved, and the elements that use
+ *  them do not have a bounding box.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ElementBounds.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ElementBounds.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@UtilityClass
+public final class ElementBounds
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A
+     *  {@link PathHandler}
+     *  that calculates the bounds of a path.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ElementBounds.java 1171 2026-10-18 11:37:05Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ElementBounds.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    private static final class PathBounds implements PathHandler
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The buffer for flattened arcs.
+         */
+        private PolylineBuffer m_ArcBuffer;
+
+        /**
+         *  The flattener for arcs.
+         */
+        private PathFlattener m_ArcFlattener;
+
+        /**
+         *  The x coordinate of the current point.
+         */
+        private double m_CurrentX = 0;
+
+        /**
+         *  The y coordinate of the current point.
+         */
+        private double m_CurrentY = 0;
+
+        /**
+         *  {@code true} if at least one point was added.
+         */
+        private boolean m_HasPoints = false;
+
+        /**
+         *  The largest x coordinate.
+         */
+        private double m_MaxX = Double.NEGATIVE_INFINITY;
+
+        /**
+         *  The largest y coordinate.
+         */
+        private double m_MaxY = Double.NEGATIVE_INFINITY;
+
+        /**
+         *  The smallest x coordinate.
+         */
+        private double m_MinX = Double.POSITIVE_INFINITY;
+
+        /**
+         *  The smallest y coordinate.
+         */
+        private double m_MinY = Double.POSITIVE_INFINITY;
+
+        /**
+         *  The x coordinate of the start point of the current sub path.
+         */
+        private double m_StartX = 0;
+
+        /**
+         *  The y coordinate of the start point of the current sub path.
+         */
+        private double m_StartY = 0;
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds a point.
+         *
+         *  @param  x   The x coordinate.
+         *  @param  y   The y coordinate.
+         */
+        private final void addPoint( final double x, final double y )
+        {
+            m_MinX = min( m_MinX, x );
+            m_MinY = min( m_MinY, y );
+            m_MaxX = max( m_MaxX, x );
+            m_MaxY = max( m_MaxY, y );
+            m_HasPoints = true;
+        }   //  addPoint()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @SuppressWarnings( "MethodWithTooManyParameters" )
+        @Override
+        public final void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+        {
+            if( m_ArcFlattener == null )
+            {
+                m_ArcBuffer = new PolylineBuffer();
+                m_ArcFlattener = new PathFlattener( ARC_TOLERANCE, m_ArcBuffer );
+            }
+            m_ArcBuffer.clear();
+            m_ArcFlattener.moveTo( m_CurrentX, m_CurrentY );
+            m_ArcFlattener.arcTo( rx, ry, rotation, largeArc, sweep, x, y );
+            for( var i = 0; i < m_ArcBuffer.getPointCount(); ++i ) addPoint( m_ArcBuffer.getX( i ), m_ArcBuffer.getY( i ) );
+            lineTo( x, y );
+        }   //  arcTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void closePath()
+        {
+            m_CurrentX = m_StartX;
+            m_CurrentY = m_StartY;
+        }   //  closePath()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @SuppressWarnings( "MethodWithTooManyParameters" )
+        @Override
+        public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+        {
+            addCubicExtrema( m_CurrentX, m_CurrentY, x1, y1, x2, y2, x, y );
+            lineTo( x, y );
+        }   //  cubicTo()
+
+        /**
+         *  Adds the extrema of a cubic curve.
+         *
+         *  @param  p0x The x coordinate of the start point.
+         *  @param  p0y The y coordinate of the start point.
+         *  @param  p1x The x coordinate of the first control point.
+         *  @param  p1y The y coordinate of the first control point.
+         *  @param  p2x The x coordinate of the second control point.
+         *  @param  p2y The y coordinate of the second control point.
+         *  @param  p3x The x coordinate of the end point.
+         *  @param  p3y The y coordinate of the end point.
+         */
+        @SuppressWarnings( "MethodWithTooManyParameters" )
+        private final void addCubicExtrema( final double p0x, final double p0y, final double p1x, final double p1y, final double p2x, final double p2y, final double p3x, final double p3y )
+        {
+            for( var axis = 0; axis < 2; ++axis )
+            {
+                final var p0 = axis == 0 ? p0x : p0y;
+                final var p1 = axis == 0 ? p1x : p1y;
+                final var p2 = axis == 0 ? p2x : p2y;
+                final var p3 = axis == 0 ? p3x : p3y;
+
+                //---* The derivative, divided by 3: a*t^2 + b*t + c *--------
+                final var a = -p0 + 3 * p1 - 3 * p2 + p3;
+                final var b = 2 * (p0 - 2 * p1 + p2);
+                final var c = p1 - p0;
+                if( abs( a ) < 1.0e-12 )
+                {
+                    if( abs( b ) > 1.0e-12 ) addCubicPoint( -c / b, p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y );
+                }
+                else
+                {
+                    final var discriminant = b * b - 4 * a * c;
+                    if( discriminant >= 0 )
+                    {
+                        final var root = Math.sqrt( discriminant );
+                        addCubicPoint( (-b + root) / (2 * a), p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y );
+                        addCubicPoint( (-b - root) / (2 * a), p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y );
+                    }
+                }
+            }
+        }   //  addCubicExtrema()
+
+        /**
+         *  Adds the point of a cubic curve at the given parameter, if the
+         *  parameter is in the range {@code (0, 1)}.
+         *
+         *  @param  t   The parameter.
+         *  @param  p0x The x coordinate of the start point.
+         *  @param  p0y The y coordinate of the start point.
+         *  @param  p1x The x coordinate of the first control point.
+         *  @param  p1y The y coordinate of the first control point.
+         *  @param  p2x The x coordinate of the second control point.
+         *  @param  p2y The y coordinate of the second control point.
+         *  @param  p3x The x coordinate of the end point.
+         *  @param  p3y The y coordinate of the end point.
+         */
+        @SuppressWarnings( "MethodWithTooManyParameters" )
+        private final void addCubicPoint( final double t, final double p0x, final double p0y, final double p1x, final double p1y, final double p2x, final double p2y, final double p3x, final double p3y )
+        {
+            if( t > 0 && t < 1 )
+            {
+                final var s = 1 - t;
+                final var w0 = s * s * s;
+                final var w1 = 3 * s * s * t;
+                final var w2 = 3 * s * t * t;
+                final var w3 = t * t * t;
+                addPoint( w0 * p0x + w1 * p1x + w2 * p2x + w3 * p3x, w0 * p0y + w1 * p1y + w2 * p2y + w3 * p3y );
+            }
+        }   //  addCubicPoint()
+
+        /**
+         *  Returns the bounding box.
+         *
+         *  @return An instance of
+         *      {@link Optional}
+         *      that holds the bounding box.
+         */
+        public final Optional<BoundingBox> getBoundingBox()
+        {
+            return m_HasPoints ? Optional.of( new BoundingBox( m_MinX, m_MinY, m_MaxX, m_MaxY ) ) : Optional.empty();
+        }   //  getBoundingBox()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void lineTo( final double x, final double y )
+        {
+            addPoint( x, y );
+            m_CurrentX = x;
+            m_CurrentY = y;
+        }   //  lineTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void moveTo( final double x, final double y )
+        {
+            lineTo( x, y );
+            m_StartX = x;
+            m_StartY = y;
+        }   //  moveTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void quadTo( final double x1, final double y1, final double x, final double y )
+        {
+            cubicTo( m_CurrentX + 2.0 / 3.0 * (x1 - m_CurrentX), m_CurrentY + 2.0 / 3.0 * (y1 - m_CurrentY), x + 2.0 / 3.0 * (x1 - x), y + 2.0 / 3.0 * (y1 - y), x, y );
+        }   //  quadTo()
+    }
+    //  class PathBounds
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The tolerance that is used to determine the bounds of an arc:
+     *  {@value}.
+     */
+    private static final double ARC_TOLERANCE = 0.01;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private ElementBounds() { throw new PrivateConstructorForStaticClassCalledError( ElementBounds.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the bounding box of the given element in the coordinate
+     *  system of its parent; this means that the element's own
+     *  transformation is applied.
+     *
+     *  @param  element The element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the element has no geometry,
+     *      or its geometry cannot be determined.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<BoundingBox> getBoundingBox( final Element element )
+    {
+        final var retValue = getGeometryBounds( element ).map( getTransformation( element )::transform );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBoundingBox()
+
+    /**
+     *  Returns the bounding box of the given element in its own coordinate
+     *  system; this means that the element's own transformation is
+     *  <i>not</i> applied. For a container, this is the union of the
+     *  bounding boxes of its children.
+     *
+     *  @param  element The element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the element has no geometry,
+     *      or its geometry cannot be determined.
+     */
+    @SuppressWarnings( "SwitchStatementWithTooManyBranches" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<BoundingBox> getGeometryBounds( final Element element )
+    {
+        requireNonNullArgument( element, "element" );
+
+        Optional<BoundingBox> retValue = Optional.empty();
+        try
+        {
+            retValue = switch( element.getElementName() )
+            {
+                case SVGELEMENT_Rectangle, SVGELEMENT_Image, SVGELEMENT_ForeignObject, SVGELEMENT_Use -> rectangle( element );
+                case SVGELEMENT_Circle -> ellipse( element, SVGATTRIBUTE_r, SVGATTRIBUTE_r );
+                case SVGELEMENT_Ellipse -> ellipse( element, SVGATTRIBUTE_rx, SVGATTRIBUTE_ry );
+                case SVGELEMENT_Line ->
+                {
+                    final var x1 = getLength( element, SVGATTRIBUTE_x1, 0 );
+                    final var y1 = getLength( element, SVGATTRIBUTE_y1, 0 );
+                    final var x2 = getLength( element, SVGATTRIBUTE_x2, 0 );
+                    final var y2 = getLength( element, SVGATTRIBUTE_y2, 0 );
+                    yield toBoundingBox( min( x1, x2 ), min( y1, y2 ), max( x1, x2 ), max( y1, y2 ) );
+                }
+                case SVGELEMENT_PolyLine, SVGELEMENT_Polygon -> element.getAttribute( SVGATTRIBUTE_Points ).flatMap( ElementBounds::getPointsBounds );
+                case SVGELEMENT_Path -> element.getAttribute( SVGATTRIBUTE_PathDefinition ).flatMap( ElementBounds::getPathBounds );
+                default ->
+                {
+                    Optional<BoundingBox> union = Optional.empty();
+                    if( isContainer( element ) )
+                    {
+                        for( final var child : element.getChildren() )
+                        {
+                            final var childBounds = getBoundingBox( child );
+                            if( childBounds.isPresent() )
+                            {
+                                union = union.isPresent() ? Optional.of( union.get().union( childBounds.get() ) ) : childBounds;
+                            }
+                        }
+                    }
+                    yield union;
+                }
+            };
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            /*
+             * The geometry attributes contain values that cannot be resolved;
+             * therefore the element does not have a bounding box.
+             */
+            retValue = Optional.empty();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getGeometryBounds()
+
+    /**
+     *  Returns the value of the given length attribute in user units.
+     *
+     *  @param  element The element.
+     *  @param  attribute   The name of the attribute.
+     *  @param  defaultValue    The value that is returned if the element does
+     *      not have the attribute.
+     *  @return The value.
+     *  @throws IllegalArgumentException    The value cannot be converted into
+     *      user units.
+     */
+    private static double getLength( final Element element, final String attribute, final double defaultValue )
+    {
+        final var value = element.getAttribute( attribute );
+        final var retValue = value.isPresent() ? parseLength( value.get() ) : defaultValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getLength()
+
+    /**
+     *  Returns the bounds for the given path definition.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the path is empty.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<BoundingBox> getPathBounds( final CharSequence pathDefinition )
+    {
+        final var handler = new PathBounds();
+        PathDataParser.parse( pathDefinition, handler );
+        final var retValue = handler.getBoundingBox();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getPathBounds()
+
+    /**
+     *  Returns the bounds for the given list of points, as used for the
+     *  attribute
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Points}.
+     *
+     *  @param  points  The list of points.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the list is empty.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<BoundingBox> getPointsBounds( final CharSequence points )
+    {
+        final var scanner = new DataScanner( requireNonNullArgument( points, "points" ) );
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        while( scanner.hasNumber() )
+        {
+            final var x = scanner.nextNumber();
+            final var y = scanner.nextNumber();
+            minX = min( minX, x );
+            minY = min( minY, y );
+            maxX = max( maxX, x );
+            maxY = max( maxY, y );
+        }
+        if( !scanner.atEnd() ) throw scanner.error();
+        final var retValue = minX <= maxX ? Optional.of( new BoundingBox( minX, minY, maxX, maxY ) ) : Optional.<BoundingBox>empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getPointsBounds()
+
+    /**
+     *  Returns the transformation that the given element applies to its
+     *  contents; this is given by the attribute
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Transform},
+     *  or, for an {@code <svg>} element, by its position. Note that the
+     *  position of the outermost {@code <svg>} element has no meaning.
+     *
+     *  @param  element The element.
+     *  @return The transformation.
+     *  @throws IllegalArgumentException    The transformation is invalid.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final AffineMatrix getTransformation( final Element element )
+    {
+        requireNonNullArgument( element, "element" );
+        var retValue = element.getAttribute( SVGATTRIBUTE_Transform )
+            .map( AffineMatrix::parse )
+            .orElse( AffineMatrix.IDENTITY );
+        if( SVGELEMENT_Root.equals( element.getElementName() ) )
+        {
+            final var x = getLength( element, SVGATTRIBUTE_x, 0 );
+            final var y = getLength( element, SVGATTRIBUTE_y, 0 );
+            if( x != 0 || y != 0 ) retValue = retValue.multiply( AffineMatrix.translate( x, y ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTransformation()
+
+    /**
+     *  Checks whether the given element is a container whose children are
+     *  rendered.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element is a container, {@code false}
+     *      otherwise.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final boolean isContainer( final Element element )
+    {
+        final var retValue = switch( requireNonNullArgument( element, "element" ).getElementName() )
+        {
+            case SVGELEMENT_Root, SVGELEMENT_Group, SVGELEMENT_Anchor, SVGELEMENT_Switch -> true;
+            default -> false;
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isContainer()
+
+    /**
+     *  Checks whether the given element is a shape, or another element that
+     *  is rendered directly and can have a bounding box.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element is a shape, {@code false}
+     *      otherwise.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final boolean isShape( final Element element )
+    {
+        final var retValue = switch( requireNonNullArgument( element, "element" ).getElementName() )
+        {
+            case SVGELEMENT_Rectangle, SVGELEMENT_Circle, SVGELEMENT_Ellipse, SVGELEMENT_Line,
+                SVGELEMENT_PolyLine, SVGELEMENT_Polygon, SVGELEMENT_Path, SVGELEMENT_Image,
+                SVGELEMENT_ForeignObject, SVGELEMENT_Use -> true;
+            default -> false;
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isShape()
+
+    /**
+     *  Parses the given length and converts it to user units.
+     *
+     *  @param  length  The length, with an optional unit.
+     *  @return The length in user units.
+     *  @throws IllegalArgumentException    The length is invalid or cannot be
+     *      converted into user units.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final double parseLength( final CharSequence length )
+    {
+        final var scanner = new DataScanner( requireNonNullArgument( length, "length" ) );
+        final var value = scanner.nextNumber();
+        final var retValue = switch( SVGUnit.valueForUnit( scanner.remainder() ) )
+        {
+            case NONE, PIXEL -> value;
+            case MILLIMETER -> value * 96.0 / 25.4;
+            case CENTIMETER -> value * 96.0 / 2.54;
+            case INCH -> value * 96.0;
+            case POINT -> value * 96.0 / 72.0;
+            case PICA -> value * 16.0;
+            default -> throw new IllegalArgumentException( "Cannot convert to user units: %s".formatted( length ) );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parseLength()
+
+    /**
+     *  Returns the bounds for an element that is defined by the attributes
+     *  {@code x}, {@code y}, {@code width} and {@code height}.
+     *
+     *  @param  element The element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the width or the height is
+     *      missing.
+     */
+    private static Optional<BoundingBox> rectangle( final Element element )
+    {
+        Optional<BoundingBox> retValue = Optional.empty();
+        if( element.getAttribute( SVGATTRIBUTE_Width ).isPresent() && element.getAttribute( SVGATTRIBUTE_Height ).isPresent() )
+        {
+            final var x = getLength( element, SVGATTRIBUTE_x, 0 );
+            final var y = getLength( element, SVGATTRIBUTE_y, 0 );
+            retValue = toBoundingBox( x, y, x + getLength( element, SVGATTRIBUTE_Width, 0 ), y + getLength( element, SVGATTRIBUTE_Height, 0 ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rectangle()
+
+    /**
+     *  Returns the bounds for a circle or an ellipse.
+     *
+     *  @param  element The element.
+     *  @param  radiusX The name of the attribute for the x radius.
+     *  @param  radiusY The name of the attribute for the y radius.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if a radius is missing.
+     */
+    private static Optional<BoundingBox> ellipse( final Element element, final String radiusX, final String radiusY )
+    {
+        Optional<BoundingBox> retValue = Optional.empty();
+        if( element.getAttribute( radiusX ).isPresent() && element.getAttribute( radiusY ).isPresent() )
+        {
+            final var cx = getLength( element, SVGATTRIBUTE_cx, 0 );
+            final var cy = getLength( element, SVGATTRIBUTE_cy, 0 );
+            final var rx = getLength( element, radiusX, 0 );
+            final var ry = getLength( element, radiusY, 0 );
+            retValue = toBoundingBox( cx - rx, cy - ry, cx + rx, cy + ry );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  ellipse()
+
+    /**
+     *  Creates a bounding box from the given coordinates; negative sizes are
+     *  invalid and result in no bounding box at all.
+     *
+     *  @param  minX    The smallest x coordinate.
+     *  @param  minY    The smallest y coordinate.
+     *  @param  maxX    The largest x coordinate.
+     *  @param  maxY    The largest y coordinate.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box.
+     */
+    private static Optional<BoundingBox> toBoundingBox( final double minX, final double minY, final double maxX, final double maxY )
+    {
+        final var retValue = (minX <= maxX) && (minY <= maxY) ? Optional.of( new BoundingBox( minX, minY, maxX, maxY ) ) : Optional.<BoundingBox>empty();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toBoundingBox()
+}
+//  class ElementBounds
+
+/*
+ *  End of File
+ */
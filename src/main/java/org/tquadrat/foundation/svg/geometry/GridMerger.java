@@ -0,0 +1,528 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Double.isFinite;
+import static java.lang.Math.pow;
+import static java.lang.Math.rint;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.fill;
+import static java.util.Arrays.sort;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.svg.SVGPath;
+import org.tquadrat.foundation.svg.type.SVGPaint;
+
+/**
+ *  <p>{@summary Merges the equally coloured, adjacent cells of a grid into
+ *  rectilinear polygons, and emits one path per colour.}</p>
+ *  <p>Heatmaps, matrix codes or calendar charts are usually drawn with one
+ *  {@code <rect>} element per cell; for large grids, this results in huge
+ *  documents. The methods of this class take the grid as a two-dimensional
+ *  array of colour indexes instead, and determine the outlines of the areas
+ *  with the same colour; all outlines for a colour are written into a
+ *  single path definition.</p>
+ *  <p>The outer boundaries of an area run clockwise, and the boundaries of
+ *  its holes run counter-clockwise, so the paths are drawn correctly with
+ *  the default fill rule {@code nonzero}. Cells that touch only at a corner
+ *  are not merged. Adjacent areas share their edges exactly; anti-aliasing
+ *  may still cause thin seams between them, these can be avoided by setting
+ *  {@code shape-rendering="crispEdges"} on the paths or on their
+ *  container.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: GridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: GridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@UtilityClass
+public final class GridMerger
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  Traces the outlines of the areas for a single colour; the instance
+     *  can be reused for all colours of a grid.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: GridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: GridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Tracer
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The buffer for the path definition.
+         */
+        private final StringBuilder m_Buffer = new StringBuilder();
+
+        /**
+         *  The grid.
+         */
+        private final int [][] m_Cells;
+
+        /**
+         *  The number of columns.
+         */
+        private final int m_Columns;
+
+        /**
+         *  The targets of the first outgoing edges of the grid points; -1
+         *  if there is no edge.
+         */
+        private final int [] m_FirstEdges;
+
+        /**
+         *  The factor for the conversion of the coordinates into units of
+         *  the precision.
+         */
+        private final double m_Factor;
+
+        /**
+         *  The precision.
+         */
+        private final int m_Precision;
+
+        /**
+         *  The number of rows.
+         */
+        private final int m_Rows;
+
+        /**
+         *  The targets of the second outgoing edges of the grid points; a
+         *  grid point has two outgoing edges when two cells of the same
+         *  colour touch it only diagonally.
+         */
+        private final int [] m_SecondEdges;
+
+        /**
+         *  The grid points with outgoing edges.
+         */
+        private int [] m_Touched = new int [64];
+
+        /**
+         *  The number of grid points in
+         *  {@link #m_Touched}.
+         */
+        private int m_TouchedCount = 0;
+
+        /**
+         *  The x coordinates of the grid lines, in units of the precision.
+         */
+        private final long [] m_X;
+
+        /**
+         *  The y coordinates of the grid lines, in units of the precision.
+         */
+        private final long [] m_Y;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Tracer} instance.
+         *
+         *  @param  cells   The grid.
+         *  @param  rows    The number of rows.
+         *  @param  columns The number of columns.
+         *  @param  x   The x coordinate of the upper left corner of the grid.
+         *  @param  y   The y coordinate of the upper left corner of the grid.
+         *  @param  cellWidth   The width of a cell.
+         *  @param  cellHeight  The height of a cell.
+         *  @param  precision   The number of decimal places for the
+         *      coordinates.
+         */
+        public Tracer( final int [][] cells, final int rows, final int columns, final double x, final double y, final double cellWidth, final double cellHeight, final int precision )
+        {
+            m_Cells = cells;
+            m_Rows = rows;
+            m_Columns = columns;
+            m_Precision = precision;
+
+            m_FirstEdges = new int [(rows + 1) * (columns + 1)];
+            fill( m_FirstEdges, -1 );
+            m_SecondEdges = new int [m_FirstEdges.length];
+            fill( m_SecondEdges, -1 );
+
+            //---* Rounding the grid lines once avoids any drift *-------------
+            m_Factor = pow( 10, precision );
+            m_X = new long [columns + 1];
+            for( var i = 0; i <= columns; ++i ) m_X [i] = (long) rint( (x + i * cellWidth) * m_Factor );
+            m_Y = new long [rows + 1];
+            for( var i = 0; i <= rows; ++i ) m_Y [i] = (long) rint( (y + i * cellHeight) * m_Factor );
+        }   //  Tracer()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds an edge.
+         *
+         *  @param  from    The start point.
+         *  @param  to  The end point.
+         */
+        private final void addEdge( final int from, final int to )
+        {
+            if( m_FirstEdges [from] == -1 )
+            {
+                m_FirstEdges [from] = to;
+                if( m_TouchedCount == m_Touched.length ) m_Touched = copyOf( m_Touched, m_TouchedCount * 2 );
+                m_Touched [m_TouchedCount++] = from;
+            }
+            else
+            {
+                m_SecondEdges [from] = to;
+            }
+        }   //  addEdge()
+
+        /**
+         *  Appends a number, given in units of the precision.
+         *
+         *  @param  value   The number.
+         */
+        private final void appendNumber( final long value )
+        {
+            PathWriter.appendNumber( m_Buffer, value / m_Factor, m_Precision );
+        }   //  appendNumber()
+
+        /**
+         *  Checks whether the path from the first to the third grid point
+         *  turns right at the second one; as the y axis points down, this is
+         *  a clockwise turn.
+         *
+         *  @param  from    The first grid point.
+         *  @param  via The second grid point.
+         *  @param  to  The third grid point.
+         *  @param  stride  The number of grid points per row.
+         *  @return {@code true} if the path turns right, {@code false}
+         *      otherwise.
+         */
+        private static final boolean isRightTurn( final int from, final int via, final int to, final int stride )
+        {
+            final var dx1 = via % stride - from % stride;
+            final var dy1 = via / stride - from / stride;
+            final var dx2 = to % stride - via % stride;
+            final var dy2 = to / stride - via / stride;
+            final var retValue = dx1 * dy2 - dy1 * dx2 > 0;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isRightTurn()
+
+        /**
+         *  Removes an outgoing edge from the given grid point and returns its
+         *  end point. When there are two edges, the one that turns right is
+         *  taken, so the outline stays with the cell it came from, and cells
+         *  that touch only at a corner get separate outlines.
+         *
+         *  @param  previous    The grid point before the given one; -1 for
+         *      the start of an outline.
+         *  @param  point   The grid point.
+         *  @param  stride  The number of grid points per row.
+         *  @return The end point of the edge.
+         */
+        private final int removeEdge( final int previous, final int point, final int stride )
+        {
+            final int retValue;
+            if( m_SecondEdges [point] == -1 )
+            {
+                retValue = m_FirstEdges [point];
+                m_FirstEdges [point] = -1;
+            }
+            else if( (previous == -1) || !isRightTurn( previous, point, m_FirstEdges [point], stride ) )
+            {
+                retValue = m_SecondEdges [point];
+                m_SecondEdges [point] = -1;
+            }
+            else
+            {
+                retValue = m_FirstEdges [point];
+                m_FirstEdges [point] = m_SecondEdges [point];
+                m_SecondEdges [point] = -1;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  removeEdge()
+
+        /**
+         *  Traces the outlines of the areas with the given colour.
+         *
+         *  @param  keys    The sorted keys of the cells; the colour is in
+         *      the upper 32 bits, the index of the cell in the lower ones.
+         *  @param  from    The index of the first key for the colour.
+         *  @param  to  The index after the last key for the colour.
+         *  @param  color   The colour.
+         *  @return The path definition.
+         */
+        public final String trace( final long [] keys, final int from, final int to, final int color )
+        {
+            //---* Collect the edges between this colour and the others *------
+            final var stride = m_Columns + 1;
+            m_TouchedCount = 0;
+            for( var i = from; i < to; ++i )
+            {
+                final var index = (int) keys [i];
+                final var row = index / m_Columns;
+                final var column = index % m_Columns;
+                final var upperLeft = row * stride + column;
+                final var lowerLeft = upperLeft + stride;
+                if( (row == 0) || (m_Cells [row - 1] [column] != color) ) addEdge( upperLeft, upperLeft + 1 );
+                if( (column == m_Columns - 1) || (m_Cells [row] [column + 1] != color) ) addEdge( upperLeft + 1, lowerLeft + 1 );
+                if( (row == m_Rows - 1) || (m_Cells [row + 1] [column] != color) ) addEdge( lowerLeft + 1, lowerLeft );
+                if( (column == 0) || (m_Cells [row] [column - 1] != color) ) addEdge( lowerLeft, upperLeft );
+            }
+
+            //---* Link the edges to closed outlines *-------------------------
+            /*
+             * Each grid point has as many incoming edges as outgoing ones, so
+             * a walk along the edges always returns to its start. When all
+             * edges are consumed, the arrays are ready for the next colour.
+             */
+            m_Buffer.setLength( 0 );
+            for( var i = 0; i < m_TouchedCount; ++i )
+            {
+                final var start = m_Touched [i];
+                while( m_FirstEdges [start] != -1 ) traceOutline( start, stride );
+            }
+            final var retValue = m_Buffer.toString();
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  trace()
+
+        /**
+         *  Traces a single outline; collinear edges are merged into one
+         *  line.
+         *
+         *  @param  start   The start point.
+         *  @param  stride  The number of grid points per row.
+         */
+        private final void traceOutline( final int start, final int stride )
+        {
+            m_Buffer.append( 'M' );
+            appendNumber( m_X [start % stride] );
+            m_Buffer.append( ',' );
+            appendNumber( m_Y [start / stride] );
+
+            var previous = -1;
+            var current = start;
+            var lineStart = start;
+            var isHorizontal = false;
+            var isFirst = true;
+            do
+            {
+                final var next = removeEdge( previous, current, stride );
+                final var horizontal = next / stride == current / stride;
+                if( !isFirst && (horizontal != isHorizontal) )
+                {
+                    writeLine( lineStart, current, stride, isHorizontal );
+                    lineStart = current;
+                }
+                isHorizontal = horizontal;
+                isFirst = false;
+                previous = current;
+                current = next;
+            }
+            while( current != start );
+
+            //---* The last line is drawn by the close command *---------------
+            m_Buffer.append( 'Z' );
+        }   //  traceOutline()
+
+        /**
+         *  Writes a horizontal or vertical line with relative coordinates.
+         *
+         *  @param  from    The start point.
+         *  @param  to  The end point.
+         *  @param  stride  The number of grid points per row.
+         *  @param  isHorizontal    {@code true} for a horizontal line,
+         *      {@code false} for a vertical one.
+         */
+        private final void writeLine( final int from, final int to, final int stride, final boolean isHorizontal )
+        {
+            if( isHorizontal )
+            {
+                m_Buffer.append( 'h' );
+                appendNumber( m_X [to % stride] - m_X [from % stride] );
+            }
+            else
+            {
+                m_Buffer.append( 'v' );
+                appendNumber( m_Y [to / stride] - m_Y [from / stride] );
+            }
+        }   //  writeLine()
+    }
+    //  class Tracer
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default number of decimal places for the coordinates: {@value}.
+     */
+    public static final int DEFAULT_PRECISION = 3;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private GridMerger() { throw new PrivateConstructorForStaticClassCalledError( GridMerger.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates one
+     *  {@link SVGPath}
+     *  for each colour in the given grid, with the coordinates written with
+     *  the
+     *  {@linkplain #DEFAULT_PRECISION default precision}.
+     *
+     *  @param  parent  The parent for the new paths.
+     *  @param  cells   The grid, as an array of rows; each cell holds the
+     *      index of its colour, a negative value marks an empty cell. All
+     *      rows must have the same length.
+     *  @param  x   The x coordinate of the upper left corner of the grid.
+     *  @param  y   The y coordinate of the upper left corner of the grid.
+     *  @param  cellWidth   The width of a cell.
+     *  @param  cellHeight  The height of a cell.
+     *  @param  palette The function that returns the fill for a colour
+     *      index.
+     *  @return The new paths, in the order of their colour indexes.
+     *  @throws IllegalArgumentException    The grid is not rectangular, or
+     *      a cell size is not positive.
+     */
+    public static final List<SVGPath> createPaths( final SVGElementWithChildren parent, final int [][] cells, final double x, final double y, final double cellWidth, final double cellHeight, final IntFunction<? extends SVGPaint> palette ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( parent, "parent" );
+        requireNonNullArgument( palette, "palette" );
+
+        final var outlines = outline( cells, x, y, cellWidth, cellHeight, DEFAULT_PRECISION );
+        final List<SVGPath> retValue = new ArrayList<>( outlines.size() );
+        for( final var entry : outlines.entrySet() )
+        {
+            final var path = createPath( parent );
+            path.setFill( palette.apply( entry.getKey().intValue() ) );
+            path.setPathData( entry.getValue() );
+            retValue.add( path );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPaths()
+
+    /**
+     *  Determines the outlines of the areas for each colour in the given
+     *  grid.
+     *
+     *  @param  cells   The grid, as an array of rows; each cell holds the
+     *      index of its colour, a negative value marks an empty cell. All
+     *      rows must have the same length.
+     *  @param  x   The x coordinate of the upper left corner of the grid.
+     *  @param  y   The y coordinate of the upper left corner of the grid.
+     *  @param  cellWidth   The width of a cell.
+     *  @param  cellHeight  The height of a cell.
+     *  @param  precision   The number of decimal places for the
+     *      coordinates, between 0 and
+     *      {@value PathWriter#MAX_PRECISION}.
+     *  @return The path definitions, by colour index, in ascending order
+     *      of the colour indexes.
+     *  @throws IllegalArgumentException    The grid is not rectangular or
+     *      too large, or a cell size is not positive, or the precision is
+     *      out of range.
+     */
+    public static final Map<Integer,String> outline( final int [][] cells, final double x, final double y, final double cellWidth, final double cellHeight, final int precision ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( cells, "cells" );
+        if( !(cellWidth > 0) || !isFinite( cellWidth ) ) throw new IllegalArgumentException( "Invalid cell width: %f".formatted( cellWidth ) );
+        if( !(cellHeight > 0) || !isFinite( cellHeight ) ) throw new IllegalArgumentException( "Invalid cell height: %f".formatted( cellHeight ) );
+        if( (precision < 0) || (precision > PathWriter.MAX_PRECISION) ) throw new IllegalArgumentException( "Invalid precision: %d".formatted( precision ) );
+
+        final var rows = cells.length;
+        final var columns = rows == 0 ? 0 : requireNonNullArgument( cells [0], "cells[0]" ).length;
+        for( final var row : cells )
+        {
+            if( requireNonNullArgument( row, "row" ).length != columns ) throw new IllegalArgumentException( "The grid is not rectangular" );
+        }
+        if( (long) (rows + 1) * (columns + 1) > Integer.MAX_VALUE - 8 ) throw new IllegalArgumentException( "The grid is too large" );
+
+        final Map<Integer,String> retValue = new LinkedHashMap<>();
+        if( columns > 0 )
+        {
+            //---* Sort the cells by colour *----------------------------------
+            final var keys = new long [rows * columns];
+            var count = 0;
+            for( var row = 0; row < rows; ++row )
+            {
+                for( var column = 0; column < columns; ++column )
+                {
+                    final var color = cells [row] [column];
+                    if( color >= 0 ) keys [count++] = ((long) color << 32) | (row * columns + column);
+                }
+            }
+            sort( keys, 0, count );
+
+            //---* Trace the outlines for each colour *------------------------
+            final var tracer = new Tracer( cells, rows, columns, x, y, cellWidth, cellHeight, precision );
+            var from = 0;
+            while( from < count )
+            {
+                final var color = (int) (keys [from] >>> 32);
+                var to = from + 1;
+                while( (to < count) && ((int) (keys [to] >>> 32) == color) ) ++to;
+                retValue.put( Integer.valueOf( color ), tracer.trace( keys, from, to, color ) );
+                from = to;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  outline()
+}
+//  class GridMerger
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,515 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.scalb;
+import static java.lang.Math.sqrt;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Height;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerEnd;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerMid;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerStart;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Width;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cy;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_r;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_rx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ry;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_PolyLine;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Polygon;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Creates simplified output for an SVG document that will be
+ *  rendered at a given scale}, for example as a thumbnail.</p>
+ *  <p>The scale is given in pixels per user unit of the root element; for
+ *  a document with a
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+ *  of 10000 units width that is shown as a thumbnail of 200 pixels, the
+ *  scale is 0.02. For that scale,</p>
+ *  <ul>
+ *  <li>shapes whose bounding box is smaller than
+ *  {@value #MINIMUM_SIZE} pixels in both directions are removed, as are
+ *  groups that become empty by this,</li>
+ *  <li>the curves of paths are replaced by polylines and these are
+ *  simplified so that they do not deviate more than
+ *  {@value #TOLERANCE} pixels from the original, if that makes the path
+ *  definition shorter; the same is done for the points of polylines and
+ *  polygons,</li>
+ *  <li>and the coordinates in path definitions, point lists and the
+ *  geometry attributes of the shapes are rounded to the number of decimal
+ *  places that is required for a precision of {@value #PRECISION}
+ *  pixels.</li>
+ *  </ul>
+ *  <p>Transformations are taken into account. Only the children of the root
+ *  element and of groups ({@code <g>} and {@code <a>}) are simplified;
+ *  definitions, symbols, markers, the children of {@code <switch>} elements
+ *  and the like are written unchanged, as are paths with markers, as the
+ *  markers depend on the vertices of the path. Elements with an id are
+ *  written unchanged, too, with all their children, as a {@code <use>}
+ *  element may show them at another scale.</p>
+ *  <p>The scales are rounded up to the next power of two, the
+ *  <i>level</i>, and the output for each level is cached by
+ *  {@link #toString(double, boolean)}.
+ *  The document itself is not modified; if it will be modified after the
+ *  output was created,
+ *  {@link #invalidate()}
+ *  has to be called.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: LevelOfDetail.java 1206 2026-10-20 11:24:09Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: LevelOfDetail.java 1206 2026-10-20 11:24:09Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class LevelOfDetail
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The geometry attributes that will be rounded.
+     */
+    private static final Set<String> GEOMETRY_ATTRIBUTES = Set.of( SVGATTRIBUTE_x, SVGATTRIBUTE_y, SVGATTRIBUTE_Width, SVGATTRIBUTE_Height, SVGATTRIBUTE_cx, SVGATTRIBUTE_cy, SVGATTRIBUTE_r, SVGATTRIBUTE_rx, SVGATTRIBUTE_ry, SVGATTRIBUTE_x1, SVGATTRIBUTE_y1, SVGATTRIBUTE_x2, SVGATTRIBUTE_y2 );
+
+    /**
+     *  The minimum size of a shape, in pixels: {@value}.
+     */
+    public static final double MINIMUM_SIZE = 0.5;
+
+    /**
+     *  The precision for the coordinates, in pixels: {@value}.
+     */
+    public static final double PRECISION = 0.1;
+
+    /**
+     *  The tolerance for the simplification of curves and polylines, in
+     *  pixels: {@value}.
+     */
+    public static final double TOLERANCE = 0.25;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The cache for the output; the key is the level, shifted left by one,
+     *  with the lowest bit set for pretty printed output.
+     */
+    private final Map<Integer,String> m_Cache = new ConcurrentHashMap<>();
+
+    /**
+     *  The root element of the document.
+     */
+    private final SVGElementWithChildren m_Root;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code LevelOfDetail} instance.
+     *
+     *  @param  root    The root element of the document.
+     */
+    public LevelOfDetail( final SVGElementWithChildren root )
+    {
+        m_Root = requireNonNullArgument( root, "root" );
+    }   //  LevelOfDetail()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the given scale is valid.
+     *
+     *  @param  scale   The scale.
+     *  @throws IllegalArgumentException    The scale is not a positive,
+     *      finite number.
+     */
+    private static void checkScale( final double scale ) throws IllegalArgumentException
+    {
+        if( !(scale > 0) || Double.isInfinite( scale ) ) throw new IllegalArgumentException( "Invalid scale: %f".formatted( scale ) );
+    }   //  checkScale()
+
+    /**
+     *  Returns the level for the given scale; this is the exponent of the
+     *  next power of two that is equal to or greater than the scale.
+     *
+     *  @param  scale   The scale, in pixels per user unit.
+     *  @return The level.
+     */
+    public static final int getLevel( final double scale )
+    {
+        checkScale( scale );
+        var retValue = Math.getExponent( scale );
+        if( scalb( 1.0, retValue ) < scale ) ++retValue;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getLevel()
+
+    /**
+     *  Returns the root element of the document.
+     *
+     *  @return The root element.
+     */
+    public final SVGElementWithChildren getRoot() { return m_Root; }
+
+    /**
+     *  Returns the scale for the given level.
+     *
+     *  @param  level   The level.
+     *  @return The scale, in pixels per user unit.
+     */
+    public static final double getScale( final int level ) { return scalb( 1.0, level ); }
+
+    /**
+     *  Returns the scale for a document that will be shown with the given
+     *  width; the width of the document is taken from its
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox},
+     *  or, if it does not have one, from its attribute
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Width}.
+     *
+     *  @param  root    The root element of the document.
+     *  @param  pixels  The width of the output, in pixels.
+     *  @return The scale, in pixels per user unit.
+     *  @throws IllegalArgumentException    The width of the document cannot
+     *      be determined.
+     */
+    public static final double getScaleForWidth( final SVGElementWithChildren root, final double pixels ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( root, "root" );
+        final var width = ViewportCuller.getViewBox( root )
+            .map( BoundingBox::getWidth )
+            .orElseGet( () -> root.getAttribute( SVGATTRIBUTE_Width )
+                .map( ElementBounds::parseLength )
+                .orElseThrow( () -> new IllegalArgumentException( "The document has no width" ) ) );
+        if( !(width > 0) ) throw new IllegalArgumentException( "The document has no width" );
+        final var retValue = pixels / width;
+        checkScale( retValue );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getScaleForWidth()
+
+    /**
+     *  Discards the cached output; this has to be called after the document
+     *  was modified.
+     */
+    public final void invalidate() { m_Cache.clear(); }
+
+    /**
+     *  Simplifies the given element.
+     *
+     *  @param  element The element.
+     *  @param  parentTransformation    The transformation from the parent's
+     *      coordinate system to that of the root element.
+     *  @param  scale   The scale, in pixels per user unit of the root
+     *      element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the given element, or a simplified copy of it; empty
+     *      if the element is too small.
+     */
+    private static Optional<Element> simplify( final Element element, final AffineMatrix parentTransformation, final double scale )
+    {
+        Optional<Element> retValue = Optional.of( element );
+        try
+        {
+            if( element.getAttribute( SVGATTRIBUTE_Id ).isPresent() )
+            {
+                /*
+                 * The element may be referenced, and shown at another
+                 * scale; we keep it as it is.
+                 */
+            }
+            else if( ElementBounds.isShape( element ) )
+            {
+                final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                final var isTooSmall = ElementBounds.getGeometryBounds( element )
+                    .map( transformation::transform )
+                    .map( box -> max( box.getWidth(), box.getHeight() ) * scale < MINIMUM_SIZE )
+                    .orElse( false );
+                if( isTooSmall )
+                {
+                    retValue = Optional.empty();
+                }
+                else if( canCopy( element.getChildren() ) )
+                {
+                    final var localScale = scale * sqrt( abs( transformation.getA() * transformation.getD() - transformation.getB() * transformation.getC() ) );
+                    if( localScale > 0 ) retValue = Optional.of( simplifyShape( element, localScale ) );
+                }
+            }
+            else if( SVGELEMENT_Group.equals( element.getElementName() ) || SVGELEMENT_Anchor.equals( element.getElementName() ) )
+            {
+                final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                retValue = simplifyChildren( element, transformation, scale ).map( Element.class::cast );
+            }
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            /*
+             * The element has invalid data; we keep it as it is.
+             */
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplify()
+
+    /**
+     *  Returns a simplified copy of the document for the given scale; the
+     *  result is not cached.
+     *
+     *  @param  scale   The scale, in pixels per user unit of the root
+     *      element.
+     *  @return The root element of the simplified document; this is the
+     *      root element itself if nothing could be simplified.
+     */
+    public final XMLElement simplify( final double scale )
+    {
+        checkScale( scale );
+        final var retValue = simplifyChildren( m_Root, AffineMatrix.IDENTITY, scale ).orElseGet( () -> copy( m_Root, List.of() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplify()
+
+    /**
+     *  Simplifies the children of the given element.
+     *
+     *  @param  parent  The parent element.
+     *  @param  transformation  The transformation from the parent's
+     *      coordinate system to that of the root element, including the
+     *      transformation of the parent itself.
+     *  @param  scale   The scale, in pixels per user unit of the root
+     *      element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the given element if no child was changed, or a copy
+     *      of the given element with the simplified children; empty if no
+     *      child is left.
+     */
+    private static Optional<XMLElement> simplifyChildren( final Element parent, final AffineMatrix transformation, final double scale )
+    {
+        final var children = parent.getChildren();
+        Optional<XMLElement> retValue = Optional.of( (XMLElement) parent );
+        if( canCopy( children ) )
+        {
+            final List<Element> remaining = new ArrayList<>( children.size() );
+            var isChanged = false;
+            for( final var child : children )
+            {
+                final var simplified = simplify( child, transformation, scale );
+                simplified.ifPresent( remaining::add );
+                isChanged |= simplified.isEmpty() || simplified.get() != child;
+            }
+            if( remaining.isEmpty() && !children.isEmpty() )
+            {
+                retValue = Optional.empty();
+            }
+            else if( isChanged )
+            {
+                retValue = Optional.of( copy( parent, remaining ) );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplifyChildren()
+
+    /**
+     *  Simplifies the given path definition.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @param  keepVertices    {@code true} if the vertices of the path have
+     *      to be kept, {@code false} if the path may be replaced by a
+     *      simplified polyline.
+     *  @param  scale   The scale, in pixels per user unit of the path.
+     *  @return The simplified path definition.
+     */
+    private static String simplifyPath( final String pathDefinition, final boolean keepVertices, final double scale )
+    {
+        final var precision = PathWriter.precisionFor( scale, PRECISION );
+        final var rounded = new PathWriter( precision );
+        PathDataParser.parse( pathDefinition, rounded );
+        var retValue = rounded.toString();
+
+        if( !keepVertices )
+        {
+            final var tolerance = TOLERANCE / scale;
+            final var polyline = new PolylineBuffer();
+            PathDataParser.parse( pathDefinition, new PathFlattener( tolerance, polyline ) );
+            final var simplified = new PathWriter( precision );
+            simplified.writePolyline( polyline.simplify( tolerance ) );
+            if( simplified.toString().length() < retValue.length() ) retValue = simplified.toString();
+        }
+        if( retValue.length() >= pathDefinition.length() ) retValue = pathDefinition;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplifyPath()
+
+    /**
+     *  Simplifies the given list of points.
+     *
+     *  @param  points  The list of points.
+     *  @param  isClosed    {@code true} if the points describe a polygon,
+     *      {@code false} for a polyline.
+     *  @param  scale   The scale, in pixels per user unit of the element.
+     *  @return The simplified list of points.
+     */
+    private static String simplifyPoints( final String points, final boolean isClosed, final double scale )
+    {
+        final var polyline = new PolylineBuffer();
+        final var scanner = new DataScanner( points );
+        while( scanner.hasNumber() )
+        {
+            final var x = scanner.nextNumber();
+            polyline.lineTo( x, scanner.nextNumber() );
+        }
+        if( !scanner.atEnd() ) throw scanner.error();
+
+        //---* A polygon is simplified as a closed polyline *------------------
+        if( isClosed && !polyline.isEmpty() ) polyline.lineTo( polyline.getX( 0 ), polyline.getY( 0 ) );
+        final var simplified = polyline.simplify( TOLERANCE / scale );
+        final var count = simplified.getPointCount() - (isClosed && simplified.getPointCount() > 1 ? 1 : 0);
+
+        final var precision = PathWriter.precisionFor( scale, PRECISION );
+        final var buffer = new StringBuilder( points.length() );
+        for( var i = 0; i < count; ++i )
+        {
+            if( i > 0 ) buffer.append( ' ' );
+            PathWriter.appendNumber( buffer, simplified.getX( i ), precision );
+            buffer.append( ',' );
+            PathWriter.appendNumber( buffer, simplified.getY( i ), precision );
+        }
+        final var retValue = buffer.length() < points.length() ? buffer.toString() : points;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplifyPoints()
+
+    /**
+     *  Simplifies the given shape.
+     *
+     *  @param  element The shape.
+     *  @param  scale   The scale, in pixels per user unit of the shape.
+     *  @return The given element if nothing was changed, otherwise a
+     *      simplified copy.
+     */
+    private static Element simplifyShape( final Element element, final double scale )
+    {
+        final Map<String,String> attributes = new LinkedHashMap<>( element.getAttributes() );
+        var isChanged = false;
+        for( final var attribute : attributes.entrySet() )
+        {
+            final var name = attribute.getKey();
+            final var value = attribute.getValue();
+            String simplified = value;
+            if( SVGATTRIBUTE_PathDefinition.equals( name ) && SVGELEMENT_Path.equals( element.getElementName() ) )
+            {
+                final var keepVertices = attributes.containsKey( SVGATTRIBUTE_MarkerStart ) || attributes.containsKey( SVGATTRIBUTE_MarkerMid ) || attributes.containsKey( SVGATTRIBUTE_MarkerEnd );
+                simplified = simplifyPath( value, keepVertices, scale );
+            }
+            else if( SVGATTRIBUTE_Points.equals( name ) && (SVGELEMENT_PolyLine.equals( element.getElementName() ) || SVGELEMENT_Polygon.equals( element.getElementName() )) )
+            {
+                simplified = simplifyPoints( value, SVGELEMENT_Polygon.equals( element.getElementName() ), scale );
+            }
+            else if( GEOMETRY_ATTRIBUTES.contains( name ) )
+            {
+                final var scanner = new DataScanner( value );
+                if( scanner.hasNumber() )
+                {
+                    final var number = scanner.nextNumber();
+                    if( scanner.atEnd() )
+                    {
+                        final var buffer = new StringBuilder();
+                        PathWriter.appendNumber( buffer, number, PathWriter.precisionFor( scale, PRECISION ) );
+                        if( buffer.length() < value.length() ) simplified = buffer.toString();
+                    }
+                }
+            }
+            if( !simplified.equals( value ) )
+            {
+                attribute.setValue( simplified );
+                isChanged = true;
+            }
+        }
+        final var retValue = isChanged ? copy( element, attributes, element.getChildren() ) : element;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplifyShape()
+
+    /**
+     *  <p>{@summary Returns the simplified output for the given scale.} The
+     *  scale is rounded up to the next power of two, and the result is
+     *  cached for that level.</p>
+     *
+     *  @param  scale   The scale, in pixels per user unit of the root
+     *      element.
+     *  @param  prettyPrint {@code true} for a formatted output,
+     *      {@code false} for output without line breaks and indentation.
+     *  @return The output.
+     */
+    public final String toString( final double scale, final boolean prettyPrint )
+    {
+        final var level = getLevel( scale );
+        final var retValue = m_Cache.computeIfAbsent( (level << 1) | (prettyPrint ? 1 : 0), key -> simplify( getScale( level ) ).toString( 0, prettyPrint ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class LevelOfDetail
+
+/*
+ *  End of File
+ */
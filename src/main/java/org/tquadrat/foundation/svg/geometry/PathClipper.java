@@ -0,0 +1,1047 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.ceil;
+import static java.lang.Math.cos;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.tan;
+import static java.util.Arrays.copyOf;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary Clips a path against an axis aligned rectangle, without
+ *  flattening its curves.} The clipped path is passed to another
+ *  {@link PathHandler},
+ *  for example a
+ *  {@link PathWriter}.</p>
+ *  <p>The B&eacute;zier curves are split exactly at the points where they
+ *  cross the borders of the rectangle, so the visible parts of the curves
+ *  are kept unchanged. Quadratic curves are passed on as the equivalent
+ *  cubic curves, and elliptical arcs are converted into cubic curves
+ *  before the clipping, one curve for each quarter of the ellipse or less;
+ *  the deviation of these curves from the arc is less than 0.03% of the
+ *  radius.</p>
+ *  <p>How a sub path is clipped depends on whether the path is filled:</p>
+ *  <ul>
+ *  <li>For a filled path, each sub path is treated as a polygon with curved
+ *  edges and clipped with a variant of the Sutherland-Hodgman algorithm,
+ *  one border after the other; the parts of the sub path that are outside
+ *  are replaced by lines on the border. The result is a closed sub path,
+ *  even when the original was open, as the fill of an open sub path is
+ *  determined as if it were closed.</li>
+ *  <li>For a path that is not filled, only the outline is visible, so each
+ *  sub path is cut into its visible parts, as the Liang-Barsky algorithm
+ *  does for lines; each part becomes an open sub path of its own.</li>
+ *  </ul>
+ *  <p>A filled path that is also stroked cannot be clipped exactly when it
+ *  has open sub paths, because the clipping would add a stroked closing
+ *  segment to them; use
+ *  {@link #hasOpenSubpaths()}
+ *  to check for this after the path was processed. Sub paths that are
+ *  completely inside the rectangle are passed on unchanged; only the
+ *  quadratic curves and the arcs are converted.</p>
+ *  <p>An instance of this class is not thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class PathClipper implements PathHandler
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A single sub path, consisting of lines and cubic curves.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: PathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: PathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Contour
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The coordinates of the segments, six per segment: the two control
+         *  points and the end point for a curve, only the end point, at the
+         *  offsets 4 and 5, for a line.
+         */
+        private double [] m_Coordinates = new double [6 * 16];
+
+        /**
+         *  The number of segments.
+         */
+        private int m_Count = 0;
+
+        /**
+         *  The flags for the segments: {@code true} for a cubic curve,
+         *  {@code false} for a line.
+         */
+        private boolean [] m_IsCurve = new boolean [16];
+
+        /**
+         *  The x coordinate of the start point.
+         */
+        private double m_StartX = 0;
+
+        /**
+         *  The y coordinate of the start point.
+         */
+        private double m_StartY = 0;
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Appends all segments of the given contour; its start point must
+         *  be the end point of this contour.
+         *
+         *  @param  other   The other contour.
+         */
+        public final void append( final Contour other )
+        {
+            ensureCapacity( m_Count + other.m_Count );
+            System.arraycopy( other.m_Coordinates, 0, m_Coordinates, m_Count * 6, other.m_Count * 6 );
+            System.arraycopy( other.m_IsCurve, 0, m_IsCurve, m_Count, other.m_Count );
+            m_Count += other.m_Count;
+        }   //  append()
+
+        /**
+         *  Replaces the contents of this contour by that of the given one.
+         *
+         *  @param  other   The other contour.
+         */
+        public final void copyFrom( final Contour other )
+        {
+            reset( other.m_StartX, other.m_StartY );
+            append( other );
+        }   //  copyFrom()
+
+        /**
+         *  Adds a cubic curve.
+         *
+         *  @param  x1  The x coordinate of the first control point.
+         *  @param  y1  The y coordinate of the first control point.
+         *  @param  x2  The x coordinate of the second control point.
+         *  @param  y2  The y coordinate of the second control point.
+         *  @param  x   The x coordinate of the end point.
+         *  @param  y   The y coordinate of the end point.
+         */
+        @SuppressWarnings( "MethodWithTooManyParameters" )
+        public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+        {
+            ensureCapacity( m_Count + 1 );
+            final var offset = m_Count * 6;
+            m_Coordinates [offset] = x1;
+            m_Coordinates [offset + 1] = y1;
+            m_Coordinates [offset + 2] = x2;
+            m_Coordinates [offset + 3] = y2;
+            m_Coordinates [offset + 4] = x;
+            m_Coordinates [offset + 5] = y;
+            m_IsCurve [m_Count++] = true;
+        }   //  cubicTo()
+
+        /**
+         *  Ensures the capacity for the given number of segments.
+         *
+         *  @param  segments    The number of segments.
+         */
+        private final void ensureCapacity( final int segments )
+        {
+            if( segments > m_IsCurve.length )
+            {
+                final var capacity = max( segments, m_IsCurve.length * 2 );
+                m_IsCurve = copyOf( m_IsCurve, capacity );
+                m_Coordinates = copyOf( m_Coordinates, capacity * 6 );
+            }
+        }   //  ensureCapacity()
+
+        /**
+         *  Returns the x coordinate of the end point.
+         *
+         *  @return The x coordinate.
+         */
+        public final double getEndX() { return m_Count == 0 ? m_StartX : m_Coordinates [m_Count * 6 - 2]; }
+
+        /**
+         *  Returns the y coordinate of the end point.
+         *
+         *  @return The y coordinate.
+         */
+        public final double getEndY() { return m_Count == 0 ? m_StartY : m_Coordinates [m_Count * 6 - 1]; }
+
+        /**
+         *  Adds a line.
+         *
+         *  @param  x   The x coordinate of the end point.
+         *  @param  y   The y coordinate of the end point.
+         */
+        public final void lineTo( final double x, final double y )
+        {
+            ensureCapacity( m_Count + 1 );
+            final var offset = m_Count * 6;
+            m_Coordinates [offset + 4] = x;
+            m_Coordinates [offset + 5] = y;
+            m_IsCurve [m_Count++] = false;
+        }   //  lineTo()
+
+        /**
+         *  Removes all segments and sets a new start point.
+         *
+         *  @param  x   The x coordinate of the start point.
+         *  @param  y   The y coordinate of the start point.
+         */
+        public final void reset( final double x, final double y )
+        {
+            m_StartX = x;
+            m_StartY = y;
+            m_Count = 0;
+        }   //  reset()
+    }
+    //  class Contour
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of iterations for the bisection that determines the
+     *  intersection of a curve with a border: {@value}.
+     */
+    private static final int BISECTION_STEPS = 60;
+
+    /**
+     *  The maximum number of intersections of a single segment with the
+     *  borders: {@value}.
+     */
+    private static final int MAX_ROOTS = 12;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The current sub path.
+     */
+    private final Contour m_Contour = new Contour();
+
+    /**
+     *  The x coordinate of the current point.
+     */
+    private double m_CurrentX = 0;
+
+    /**
+     *  The y coordinate of the current point.
+     */
+    private double m_CurrentY = 0;
+
+    /**
+     *  {@code true} if the path had at least one open sub path,
+     *  {@code false} if all sub paths were closed.
+     */
+    private boolean m_HasOpenSubpaths = false;
+
+    /**
+     *  {@code true} if the current sub path was closed and the next segment
+     *  has to start a new sub path.
+     */
+    private boolean m_IsClosed = false;
+
+    /**
+     *  {@code true} if the path is filled, {@code false} if only its outline
+     *  is visible.
+     */
+    private final boolean m_IsFilled;
+
+    /**
+     *  The buffer for the limits of the monotone parts of a curve.
+     */
+    private final double [] m_Limits = new double [4];
+
+    /**
+     *  The pieces of a segment after the split at the borders, eight values
+     *  per piece: the start point, the two control points and the end point.
+     */
+    private final double [] m_Pieces = new double [(MAX_ROOTS + 1) * 8];
+
+    /**
+     *  The buffer for the parameters of the intersections of a segment with
+     *  the borders.
+     */
+    private final double [] m_Roots = new double [MAX_ROOTS];
+
+    /**
+     *  The x coordinate of the start point of the current sub path.
+     */
+    private double m_StartX = 0;
+
+    /**
+     *  The y coordinate of the start point of the current sub path.
+     */
+    private double m_StartY = 0;
+
+    /**
+     *  The target for the clipped path.
+     */
+    private final PathHandler m_Target;
+
+    /**
+     *  The clipping window.
+     */
+    private final BoundingBox m_Window;
+
+    /**
+     *  The first working buffer.
+     */
+    private final Contour m_Work1 = new Contour();
+
+    /**
+     *  The second working buffer.
+     */
+    private final Contour m_Work2 = new Contour();
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PathClipper} instance.
+     *
+     *  @param  window  The clipping window.
+     *  @param  isFilled    {@code true} if the path is filled,
+     *      {@code false} if only its outline is visible.
+     *  @param  target  The target for the clipped path.
+     */
+    public PathClipper( final BoundingBox window, final boolean isFilled, final PathHandler target )
+    {
+        m_Window = requireNonNullArgument( window, "window" );
+        m_IsFilled = isFilled;
+        m_Target = requireNonNullArgument( target, "target" );
+    }   //  PathClipper()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds a limit for a monotone part of a curve.
+     *
+     *  @param  limits  The limits.
+     *  @param  count   The number of limits.
+     *  @param  t   The new limit.
+     *  @return The new number of limits.
+     */
+    private static int addLimit( final double [] limits, final int count, final double t )
+    {
+        var retValue = count;
+        if( t > limits [count - 1] && t < 1 ) limits [retValue++] = t;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addLimit()
+
+    /**
+     *  Adds the intersections of a segment with a border to the buffer for
+     *  the roots.
+     *
+     *  @param  p0  The start value of the segment, on the axis of the
+     *      border.
+     *  @param  p1  The value of the first control point.
+     *  @param  p2  The value of the second control point.
+     *  @param  p3  The end value of the segment.
+     *  @param  isCurve {@code true} for a cubic curve, {@code false} for a
+     *      line.
+     *  @param  border  The value of the border.
+     *  @param  count   The number of roots that are already in the buffer.
+     *  @return The new number of roots in the buffer.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final int addRoots( final double p0, final double p1, final double p2, final double p3, final boolean isCurve, final double border, final int count )
+    {
+        var retValue = count;
+        final var f0 = p0 - border;
+        final var f3 = p3 - border;
+        if( isCurve )
+        {
+            if( min( min( p0, p1 ), min( p2, p3 ) ) < border && max( max( p0, p1 ), max( p2, p3 ) ) > border )
+            {
+                //---* Split the curve into monotone parts *-------------------
+                final var d0 = p1 - p0;
+                final var d1 = p2 - p1;
+                final var d2 = p3 - p2;
+                final var a = d0 - 2 * d1 + d2;
+                final var b = 2 * (d1 - d0);
+                final var limits = m_Limits;
+                limits [0] = 0;
+                var limitCount = 1;
+                if( abs( a ) < 1.0e-12 * (abs( d0 ) + abs( d1 ) + abs( d2 )) )
+                {
+                    if( b != 0 ) limitCount = addLimit( limits, limitCount, -d0 / b );
+                }
+                else
+                {
+                    final var discriminant = b * b - 4 * a * d0;
+                    if( discriminant >= 0 )
+                    {
+                        final var root = sqrt( discriminant );
+                        limitCount = addLimit( limits, limitCount, (-b - root) / (2 * a) );
+                        limitCount = addLimit( limits, limitCount, (-b + root) / (2 * a) );
+                    }
+                }
+                limits [limitCount++] = 1;
+
+                //---* Find the root in each monotone part *-------------------
+                for( var i = 1; i < limitCount; ++i )
+                {
+                    var low = limits [i - 1];
+                    var high = limits [i];
+                    var fLow = evaluate( p0, p1, p2, p3, low ) - border;
+                    final var fHigh = evaluate( p0, p1, p2, p3, high ) - border;
+                    if( (fLow < 0 && fHigh > 0) || (fLow > 0 && fHigh < 0) )
+                    {
+                        for( var step = 0; (step < BISECTION_STEPS) && (high - low > 1.0e-15); ++step )
+                        {
+                            final var middle = (low + high) / 2;
+                            final var fMiddle = evaluate( p0, p1, p2, p3, middle ) - border;
+                            if( (fMiddle < 0) == (fLow < 0) )
+                            {
+                                low = middle;
+                                fLow = fMiddle;
+                            }
+                            else
+                            {
+                                high = middle;
+                            }
+                        }
+                        retValue = insertRoot( (low + high) / 2, retValue );
+                    }
+                }
+            }
+        }
+        else if( (f0 < 0 && f3 > 0) || (f0 > 0 && f3 < 0) )
+        {
+            retValue = insertRoot( f0 / (f0 - f3), retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addRoots()
+
+    /**
+     *  Appends a piece from the buffer to the given contour.
+     *
+     *  @param  target  The contour.
+     *  @param  isCurve {@code true} if the piece is a cubic curve,
+     *      {@code false} if it is a line.
+     *  @param  offset  The offset of the piece in the buffer.
+     */
+    private final void appendPiece( final Contour target, final boolean isCurve, final int offset )
+    {
+        if( isCurve )
+        {
+            target.cubicTo( m_Pieces [offset + 2], m_Pieces [offset + 3], m_Pieces [offset + 4], m_Pieces [offset + 5], m_Pieces [offset + 6], m_Pieces [offset + 7] );
+        }
+        else
+        {
+            target.lineTo( m_Pieces [offset + 6], m_Pieces [offset + 7] );
+        }
+    }   //  appendPiece()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The arc is converted into cubic curves, as specified in the SVG
+     *  standard: if one of the radii is 0, a straight line is drawn, and if
+     *  the radii are too small to reach the end point, they will be scaled
+     *  up.</p>
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    @Override
+    public final void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+    {
+        if( (m_CurrentX == x) && (m_CurrentY == y) ) return;
+
+        final var parameters = PathFlattener.toCenterParameterisation( m_CurrentX, m_CurrentY, rx, ry, rotation, largeArc, sweep, x, y );
+        if( parameters == null )
+        {
+            lineTo( x, y );
+            return;
+        }
+        final var cx = parameters [0];
+        final var cy = parameters [1];
+        final var radiusX = parameters [2];
+        final var radiusY = parameters [3];
+        final var cosPhi = parameters [4];
+        final var sinPhi = parameters [5];
+        final var theta1 = parameters [6];
+        final var deltaTheta = parameters [7];
+
+        final var segments = max( 1, (int) ceil( abs( deltaTheta ) / (PI / 2) - 1.0e-9 ) );
+        final var step = deltaTheta / segments;
+        final var k = 4.0 / 3.0 * tan( step / 4 );
+        var theta = theta1;
+        var cosTheta = cos( theta );
+        var sinTheta = sin( theta );
+        for( var i = 1; i <= segments; ++i )
+        {
+            final var x0 = m_CurrentX;
+            final var y0 = m_CurrentY;
+            final var dx0 = -radiusX * sinTheta * cosPhi - radiusY * cosTheta * sinPhi;
+            final var dy0 = -radiusX * sinTheta * sinPhi + radiusY * cosTheta * cosPhi;
+            theta = theta1 + step * i;
+            cosTheta = cos( theta );
+            sinTheta = sin( theta );
+            final var x3 = i == segments ? x : cx + radiusX * cosTheta * cosPhi - radiusY * sinTheta * sinPhi;
+            final var y3 = i == segments ? y : cy + radiusX * cosTheta * sinPhi + radiusY * sinTheta * cosPhi;
+            final var dx3 = -radiusX * sinTheta * cosPhi - radiusY * cosTheta * sinPhi;
+            final var dy3 = -radiusX * sinTheta * sinPhi + radiusY * cosTheta * cosPhi;
+            cubicTo( x0 + k * dx0, y0 + k * dy0, x3 - k * dx3, y3 - k * dy3, x3, y3 );
+        }
+    }   //  arcTo()
+
+    /**
+     *  Clips the current sub path as the outline of a filled area.
+     */
+    private final void clipFilled()
+    {
+        var input = m_Contour;
+        if( input.getEndX() != input.m_StartX || input.getEndY() != input.m_StartY ) input.lineTo( input.m_StartX, input.m_StartY );
+        for( var edge = 0; (edge < 4) && (input.m_Count > 0); ++edge )
+        {
+            final var output = input == m_Work1 ? m_Work2 : m_Work1;
+            final var isVertical = edge < 2;
+            final var isMinimum = (edge & 1) == 0;
+            final var border = isVertical
+                ? isMinimum ? m_Window.getMinX() : m_Window.getMaxX()
+                : isMinimum ? m_Window.getMinY() : m_Window.getMaxY();
+            output.m_Count = 0;
+            var hasStarted = false;
+            var x0 = input.m_StartX;
+            var y0 = input.m_StartY;
+            for( var segment = 0; segment < input.m_Count; ++segment )
+            {
+                final var pieceCount = split( input, segment, x0, y0, isVertical ? 0 : 1, border, border );
+                for( var piece = 0; piece < pieceCount; ++piece )
+                {
+                    final var offset = piece * 8;
+                    final var isCurve = input.m_IsCurve [segment];
+                    final var value = isCurve
+                        ? evaluate( m_Pieces [offset + (isVertical ? 0 : 1)], m_Pieces [offset + (isVertical ? 2 : 3)], m_Pieces [offset + (isVertical ? 4 : 5)], m_Pieces [offset + (isVertical ? 6 : 7)], 0.5 )
+                        : (m_Pieces [offset + (isVertical ? 0 : 1)] + m_Pieces [offset + (isVertical ? 6 : 7)]) / 2;
+                    if( isMinimum ? value >= border : value <= border )
+                    {
+                        if( !hasStarted )
+                        {
+                            output.reset( m_Pieces [offset], m_Pieces [offset + 1] );
+                            hasStarted = true;
+                        }
+                        else if( output.getEndX() != m_Pieces [offset] || output.getEndY() != m_Pieces [offset + 1] )
+                        {
+                            //---* Connect along the border *------------------
+                            output.lineTo( m_Pieces [offset], m_Pieces [offset + 1] );
+                        }
+                        appendPiece( output, isCurve, offset );
+                    }
+                }
+                x0 = input.m_Coordinates [segment * 6 + 4];
+                y0 = input.m_Coordinates [segment * 6 + 5];
+            }
+
+            //---* The closing line may be clipped by the next border *--------
+            if( output.m_Count > 0 && (output.getEndX() != output.m_StartX || output.getEndY() != output.m_StartY) ) output.lineTo( output.m_StartX, output.m_StartY );
+            input = output;
+        }
+        if( input.m_Count > 0 )
+        {
+            //---* The closing line is implied by the closepath command *------
+            if( !input.m_IsCurve [input.m_Count - 1] ) --input.m_Count;
+            if( input.m_Count > 0 ) emit( input, true );
+        }
+    }   //  clipFilled()
+
+    /**
+     *  Clips the current sub path as an outline.
+     *
+     *  @param  isClosed    {@code true} if the sub path is closed,
+     *      {@code false} otherwise.
+     */
+    private final void clipOutline( final boolean isClosed )
+    {
+        final var input = m_Contour;
+        if( isClosed && (input.getEndX() != input.m_StartX || input.getEndY() != input.m_StartY) ) input.lineTo( input.m_StartX, input.m_StartY );
+        final var run = m_Work1;
+        final var first = m_Work2;
+        var hasFirst = false;
+        var isAtStart = true;
+        var isInRun = false;
+        var isRunAtStart = false;
+        var x0 = input.m_StartX;
+        var y0 = input.m_StartY;
+        for( var segment = 0; segment < input.m_Count; ++segment )
+        {
+            final var isCurve = input.m_IsCurve [segment];
+            final var pieceCount = split( input, segment, x0, y0, 2, m_Window.getMinX(), m_Window.getMaxX() );
+            for( var piece = 0; piece < pieceCount; ++piece )
+            {
+                final var offset = piece * 8;
+
+                /*
+                 * A piece without length lies between two intersections at
+                 * the same point, where the sub path only touches the
+                 * window; it would add a duplicate point to a run, or a run
+                 * that draws nothing.
+                 */
+                if( isDegenerate( isCurve, offset ) ) continue;
+
+                final double x;
+                final double y;
+                if( isCurve )
+                {
+                    x = evaluate( m_Pieces [offset], m_Pieces [offset + 2], m_Pieces [offset + 4], m_Pieces [offset + 6], 0.5 );
+                    y = evaluate( m_Pieces [offset + 1], m_Pieces [offset + 3], m_Pieces [offset + 5], m_Pieces [offset + 7], 0.5 );
+                }
+                else
+                {
+                    x = (m_Pieces [offset] + m_Pieces [offset + 6]) / 2;
+                    y = (m_Pieces [offset + 1] + m_Pieces [offset + 7]) / 2;
+                }
+                if( m_Window.contains( x, y ) )
+                {
+                    if( !isInRun )
+                    {
+                        run.reset( m_Pieces [offset], m_Pieces [offset + 1] );
+                        isInRun = true;
+                        isRunAtStart = isAtStart;
+                    }
+                    appendPiece( run, isCurve, offset );
+                }
+                else if( isInRun )
+                {
+                    //---* The run ends; the first one may continue the last *---
+                    if( isClosed && isRunAtStart )
+                    {
+                        first.copyFrom( run );
+                        hasFirst = true;
+                    }
+                    else
+                    {
+                        emit( run, false );
+                    }
+                    isInRun = false;
+                }
+                isAtStart = false;
+            }
+            x0 = input.m_Coordinates [segment * 6 + 4];
+            y0 = input.m_Coordinates [segment * 6 + 5];
+        }
+
+        if( isInRun )
+        {
+            if( isRunAtStart )
+            {
+                emit( run, isClosed );
+            }
+            else
+            {
+                if( hasFirst )
+                {
+                    run.append( first );
+                    hasFirst = false;
+                }
+                emit( run, false );
+            }
+        }
+        if( hasFirst ) emit( first, false );
+    }   //  clipOutline()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void closePath()
+    {
+        finishSubpath( true );
+        m_CurrentX = m_StartX;
+        m_CurrentY = m_StartY;
+        m_IsClosed = true;
+    }   //  closePath()
+
+    /**
+     *  Starts a new sub path at the current point if the previous sub path
+     *  was closed; according to the SVG standard, a segment that follows a
+     *  {@code closepath} command starts at the initial point of the closed
+     *  sub path.
+     */
+    private final void continueSubpath()
+    {
+        if( m_IsClosed )
+        {
+            m_Contour.reset( m_CurrentX, m_CurrentY );
+            m_IsClosed = false;
+        }
+    }   //  continueSubpath()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    @Override
+    public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+    {
+        continueSubpath();
+        m_Contour.cubicTo( x1, y1, x2, y2, x, y );
+        m_CurrentX = x;
+        m_CurrentY = y;
+    }   //  cubicTo()
+
+    /**
+     *  Passes a contour to the target.
+     *
+     *  @param  contour The contour.
+     *  @param  isClosed    {@code true} if the sub path is closed,
+     *      {@code false} otherwise.
+     */
+    private final void emit( final Contour contour, final boolean isClosed )
+    {
+        m_Target.moveTo( contour.m_StartX, contour.m_StartY );
+        for( var segment = 0; segment < contour.m_Count; ++segment )
+        {
+            final var offset = segment * 6;
+            final var coordinates = contour.m_Coordinates;
+            if( contour.m_IsCurve [segment] )
+            {
+                m_Target.cubicTo( coordinates [offset], coordinates [offset + 1], coordinates [offset + 2], coordinates [offset + 3], coordinates [offset + 4], coordinates [offset + 5] );
+            }
+            else
+            {
+                m_Target.lineTo( coordinates [offset + 4], coordinates [offset + 5] );
+            }
+        }
+        if( isClosed ) m_Target.closePath();
+    }   //  emit()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void endPath()
+    {
+        finishSubpath( false );
+        m_Target.endPath();
+    }   //  endPath()
+
+    /**
+     *  Evaluates a coordinate of a cubic B&eacute;zier curve.
+     *
+     *  @param  p0  The value for the start point.
+     *  @param  p1  The value for the first control point.
+     *  @param  p2  The value for the second control point.
+     *  @param  p3  The value for the end point.
+     *  @param  t   The curve parameter.
+     *  @return The value at the given parameter.
+     */
+    private static double evaluate( final double p0, final double p1, final double p2, final double p3, final double t )
+    {
+        final var s = 1 - t;
+        final var retValue = s * s * s * p0 + 3 * s * s * t * p1 + 3 * s * t * t * p2 + t * t * t * p3;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  evaluate()
+
+    /**
+     *  Clips the current sub path and passes the result to the target.
+     *
+     *  @param  isClosed    {@code true} if the sub path was closed,
+     *      {@code false} otherwise.
+     */
+    private final void finishSubpath( final boolean isClosed )
+    {
+        final var contour = m_Contour;
+        if( contour.m_Count > 0 )
+        {
+            if( !isClosed ) m_HasOpenSubpaths = true;
+
+            //---* Check the bounds of the control points *--------------------
+            var minX = contour.m_StartX;
+            var minY = contour.m_StartY;
+            var maxX = minX;
+            var maxY = minY;
+            for( var segment = 0; segment < contour.m_Count; ++segment )
+            {
+                for( var i = contour.m_IsCurve [segment] ? 0 : 4; i < 6; i += 2 )
+                {
+                    final var x = contour.m_Coordinates [segment * 6 + i];
+                    final var y = contour.m_Coordinates [segment * 6 + i + 1];
+                    minX = min( minX, x );
+                    minY = min( minY, y );
+                    maxX = max( maxX, x );
+                    maxY = max( maxY, y );
+                }
+            }
+            if( m_Window.contains( minX, minY ) && m_Window.contains( maxX, maxY ) )
+            {
+                emit( contour, isClosed );
+            }
+            else if( m_Window.intersects( minX, minY, maxX, maxY ) )
+            {
+                if( m_IsFilled )
+                {
+                    clipFilled();
+                }
+                else
+                {
+                    clipOutline( isClosed );
+                }
+            }
+            contour.m_Count = 0;
+        }
+    }   //  finishSubpath()
+
+    /**
+     *  Returns whether the path had at least one open sub path; in that case,
+     *  the result is not correct for a path that is filled and stroked.
+     *
+     *  @return {@code true} if there was an open sub path, {@code false} if
+     *      all sub paths were closed.
+     */
+    public final boolean hasOpenSubpaths() { return m_HasOpenSubpaths; }
+
+    /**
+     *  Inserts a root into the sorted buffer for the roots; a root that is
+     *  already in the buffer, because the segment crosses two borders at a
+     *  corner of the window, is not added again.
+     *
+     *  @param  t   The root.
+     *  @param  count   The number of roots that are already in the buffer.
+     *  @return The new number of roots in the buffer.
+     */
+    private final int insertRoot( final double t, final int count )
+    {
+        var retValue = count;
+        var isDuplicate = false;
+        for( var i = 0; (i < count) && !isDuplicate; ++i ) isDuplicate = abs( m_Roots [i] - t ) < 1.0e-12;
+        if( t > 0 && t < 1 && count < MAX_ROOTS && !isDuplicate )
+        {
+            var index = count;
+            while( index > 0 && m_Roots [index - 1] > t )
+            {
+                m_Roots [index] = m_Roots [index - 1];
+                --index;
+            }
+            m_Roots [index] = t;
+            ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  insertRoot()
+
+    /**
+     *  Checks whether a piece in the buffer has no length, as all its points
+     *  are the same.
+     *
+     *  @param  isCurve {@code true} if the piece is a cubic curve,
+     *      {@code false} if it is a line.
+     *  @param  offset  The offset of the piece in the buffer.
+     *  @return {@code true} if the piece has no length, {@code false}
+     *      otherwise.
+     */
+    private final boolean isDegenerate( final boolean isCurve, final int offset )
+    {
+        final var pieces = m_Pieces;
+        var retValue = (pieces [offset] == pieces [offset + 6]) && (pieces [offset + 1] == pieces [offset + 7]);
+        if( retValue && isCurve )
+        {
+            retValue = (pieces [offset] == pieces [offset + 2]) && (pieces [offset + 1] == pieces [offset + 3])
+                && (pieces [offset] == pieces [offset + 4]) && (pieces [offset + 1] == pieces [offset + 5]);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isDegenerate()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void lineTo( final double x, final double y )
+    {
+        continueSubpath();
+        m_Contour.lineTo( x, y );
+        m_CurrentX = x;
+        m_CurrentY = y;
+    }   //  lineTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void moveTo( final double x, final double y )
+    {
+        finishSubpath( false );
+        m_Contour.reset( x, y );
+        m_IsClosed = false;
+        m_CurrentX = m_StartX = x;
+        m_CurrentY = m_StartY = y;
+    }   //  moveTo()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The quadratic curve is converted into the equivalent cubic
+     *  curve.</p>
+     */
+    @Override
+    public final void quadTo( final double x1, final double y1, final double x, final double y )
+    {
+        cubicTo( m_CurrentX + 2.0 / 3.0 * (x1 - m_CurrentX), m_CurrentY + 2.0 / 3.0 * (y1 - m_CurrentY), x + 2.0 / 3.0 * (x1 - x), y + 2.0 / 3.0 * (y1 - y), x, y );
+    }   //  quadTo()
+
+    /**
+     *  Splits a segment at its intersections with the given borders; the
+     *  pieces are written to the buffer for the pieces.
+     *
+     *  @param  contour The contour with the segment.
+     *  @param  segment The index of the segment.
+     *  @param  x0  The x coordinate of the start point of the segment.
+     *  @param  y0  The y coordinate of the start point of the segment.
+     *  @param  axis    0 for vertical borders, 1 for horizontal borders, 2
+     *      for all four borders of the window.
+     *  @param  border1 The first border on the axis; ignored for all
+     *      borders.
+     *  @param  border2 The second border on the axis; ignored for all
+     *      borders.
+     *  @return The number of pieces.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final int split( final Contour contour, final int segment, final double x0, final double y0, final int axis, final double border1, final double border2 )
+    {
+        final var offset = segment * 6;
+        final var c = contour.m_Coordinates;
+        final var isCurve = contour.m_IsCurve [segment];
+        final var x1 = isCurve ? c [offset] : x0;
+        final var y1 = isCurve ? c [offset + 1] : y0;
+        final var x2 = isCurve ? c [offset + 2] : c [offset + 4];
+        final var y2 = isCurve ? c [offset + 3] : c [offset + 5];
+        final var x3 = c [offset + 4];
+        final var y3 = c [offset + 5];
+
+        //---* Find the intersections *----------------------------------------
+        var rootCount = 0;
+        if( axis != 1 )
+        {
+            rootCount = addRoots( x0, x1, x2, x3, isCurve, axis == 2 ? m_Window.getMinX() : border1, rootCount );
+            if( axis == 2 || border2 != border1 ) rootCount = addRoots( x0, x1, x2, x3, isCurve, axis == 2 ? m_Window.getMaxX() : border2, rootCount );
+        }
+        if( axis != 0 )
+        {
+            rootCount = addRoots( y0, y1, y2, y3, isCurve, axis == 2 ? m_Window.getMinY() : border1, rootCount );
+            if( axis == 2 || border2 != border1 ) rootCount = addRoots( y0, y1, y2, y3, isCurve, axis == 2 ? m_Window.getMaxY() : border2, rootCount );
+        }
+
+        //---* Split the segment *---------------------------------------------
+        final var pieces = m_Pieces;
+        var p0x = x0;
+        var p0y = y0;
+        var p1x = x1;
+        var p1y = y1;
+        var p2x = x2;
+        var p2y = y2;
+        var previous = 0.0;
+        var retValue = 0;
+        for( var i = 0; i <= rootCount; ++i )
+        {
+            final var target = retValue * 8;
+            pieces [target] = p0x;
+            pieces [target + 1] = p0y;
+            if( i == rootCount )
+            {
+                pieces [target + 2] = p1x;
+                pieces [target + 3] = p1y;
+                pieces [target + 4] = p2x;
+                pieces [target + 5] = p2y;
+                pieces [target + 6] = x3;
+                pieces [target + 7] = y3;
+            }
+            else if( isCurve )
+            {
+                //---* Split the rest of the curve (de Casteljau) *------------
+                final var t = (m_Roots [i] - previous) / (1 - previous);
+                final var ax = p0x + t * (p1x - p0x);
+                final var ay = p0y + t * (p1y - p0y);
+                final var bx = p1x + t * (p2x - p1x);
+                final var by = p1y + t * (p2y - p1y);
+                final var cx = p2x + t * (x3 - p2x);
+                final var cy = p2y + t * (y3 - p2y);
+                final var abx = ax + t * (bx - ax);
+                final var aby = ay + t * (by - ay);
+                final var bcx = bx + t * (cx - bx);
+                final var bcy = by + t * (cy - by);
+                final var mx = abx + t * (bcx - abx);
+                final var my = aby + t * (bcy - aby);
+                pieces [target + 2] = ax;
+                pieces [target + 3] = ay;
+                pieces [target + 4] = abx;
+                pieces [target + 5] = aby;
+                pieces [target + 6] = mx;
+                pieces [target + 7] = my;
+                p0x = mx;
+                p0y = my;
+                p1x = bcx;
+                p1y = bcy;
+                p2x = cx;
+                p2y = cy;
+            }
+            else
+            {
+                final var mx = x0 + m_Roots [i] * (x3 - x0);
+                final var my = y0 + m_Roots [i] * (y3 - y0);
+                pieces [target + 6] = mx;
+                pieces [target + 7] = my;
+                p0x = mx;
+                p0y = my;
+            }
+            if( i < rootCount ) previous = m_Roots [i];
+            ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  split()
+}
+//  class PathClipper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,243 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.type.SVGPathElement;
+
+/**
+ *  <p>{@summary A parser for the contents of the SVG attribute
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_PathDefinition}.}
+ *  The segments are reported to a
+ *  {@link PathHandler}
+ *  with absolute coordinates.</p>
+ *  <p>The parser does not create any objects for the single segments or the
+ *  numbers, so it can be used for very large path definitions.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PathDataParser.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PathDataParser.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@UtilityClass
+public final class PathDataParser
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The type of the previous segment: neither a cubic nor a quadratic
+     *  curve.
+     */
+    private static final int SEGMENT_OTHER = 0;
+
+    /**
+     *  The type of the previous segment: a cubic curve.
+     */
+    private static final int SEGMENT_CUBIC = 1;
+
+    /**
+     *  The type of the previous segment: a quadratic curve.
+     */
+    private static final int SEGMENT_QUADRATIC = 2;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private PathDataParser() { throw new PrivateConstructorForStaticClassCalledError( PathDataParser.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Parses the given path definition and reports the segments to the
+     *  given handler.
+     *
+     *  @param  pathDefinition  The path definition, as it would be used for
+     *      the attribute
+     *      {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_PathDefinition}.
+     *  @param  handler The handler that receives the segments.
+     *  @throws IllegalArgumentException    The path definition is invalid.
+     */
+    @SuppressWarnings( {"OverlyComplexMethod", "OverlyLongMethod", "SwitchStatementWithTooManyBranches"} )
+    @API( status = STABLE, since = "0.5.0" )
+    public static final void parse( final CharSequence pathDefinition, final PathHandler handler )
+    {
+        final var scanner = new DataScanner( requireNonNullArgument( pathDefinition, "pathDefinition" ) );
+        requireNonNullArgument( handler, "handler" );
+
+        double currentX = 0, currentY = 0;
+        double startX = 0, startY = 0;
+        double controlX = 0, controlY = 0;
+        var previousSegment = SEGMENT_OTHER;
+        var hasCurrentPoint = false;
+
+        char command;
+        while( (command = scanner.nextCommand()) != '\u0000' )
+        {
+            final var isRelative = Character.isLowerCase( command );
+            final var upperCommand = Character.toUpperCase( command );
+            if( !hasCurrentPoint && upperCommand != 'M' ) throw scanner.error();
+
+            if( upperCommand == 'Z' )
+            {
+                handler.closePath();
+                currentX = startX;
+                currentY = startY;
+                previousSegment = SEGMENT_OTHER;
+                continue;
+            }
+
+            var isFirst = true;
+            do
+            {
+                final var offsetX = isRelative ? currentX : 0.0;
+                final var offsetY = isRelative ? currentY : 0.0;
+                switch( upperCommand )
+                {
+                    case 'M' ->
+                    {
+                        currentX = offsetX + scanner.nextNumber();
+                        currentY = offsetY + scanner.nextNumber();
+                        if( isFirst )
+                        {
+                            handler.moveTo( currentX, currentY );
+                            startX = currentX;
+                            startY = currentY;
+                            hasCurrentPoint = true;
+                        }
+                        else
+                        {
+                            handler.lineTo( currentX, currentY );
+                        }
+                        previousSegment = SEGMENT_OTHER;
+                    }
+
+                    case 'L' ->
+                    {
+                        currentX = offsetX + scanner.nextNumber();
+                        currentY = offsetY + scanner.nextNumber();
+                        handler.lineTo( currentX, currentY );
+                        previousSegment = SEGMENT_OTHER;
+                    }
+
+                    case 'H' ->
+                    {
+                        currentX = offsetX + scanner.nextNumber();
+                        handler.lineTo( currentX, currentY );
+                        previousSegment = SEGMENT_OTHER;
+                    }
+
+                    case 'V' ->
+                    {
+                        currentY = offsetY + scanner.nextNumber();
+                        handler.lineTo( currentX, currentY );
+                        previousSegment = SEGMENT_OTHER;
+                    }
+
+                    case 'C', 'S' ->
+                    {
+                        final double x1, y1;
+                        if( upperCommand == 'C' )
+                        {
+                            x1 = offsetX + scanner.nextNumber();
+                            y1 = offsetY + scanner.nextNumber();
+                        }
+                        else
+                        {
+                            x1 = previousSegment == SEGMENT_CUBIC ? 2 * currentX - controlX : currentX;
+                            y1 = previousSegment == SEGMENT_CUBIC ? 2 * currentY - controlY : currentY;
+                        }
+                        controlX = offsetX + scanner.nextNumber();
+                        controlY = offsetY + scanner.nextNumber();
+                        currentX = offsetX + scanner.nextNumber();
+                        currentY = offsetY + scanner.nextNumber();
+                        handler.cubicTo( x1, y1, controlX, controlY, currentX, currentY );
+                        previousSegment = SEGMENT_CUBIC;
+                    }
+
+                    case 'Q', 'T' ->
+                    {
+                        if( upperCommand == 'Q' )
+                        {
+                            controlX = offsetX + scanner.nextNumber();
+                            controlY = offsetY + scanner.nextNumber();
+                        }
+                        else
+                        {
+                            controlX = previousSegment == SEGMENT_QUADRATIC ? 2 * currentX - controlX : currentX;
+                            controlY = previousSegment == SEGMENT_QUADRATIC ? 2 * currentY - controlY : currentY;
+                        }
+                        currentX = offsetX + scanner.nextNumber();
+                        currentY = offsetY + scanner.nextNumber();
+                        handler.quadTo( controlX, controlY, currentX, currentY );
+                        previousSegment = SEGMENT_QUADRATIC;
+                    }
+
+                    case 'A' ->
+                    {
+                        final var rx = scanner.nextNumber();
+                        final var ry = scanner.nextNumber();
+                        final var rotation = scanner.nextNumber();
+                        final var largeArc = scanner.nextFlag();
+                        final var sweep = scanner.nextFlag();
+                        currentX = offsetX + scanner.nextNumber();
+                        currentY = offsetY + scanner.nextNumber();
+                        handler.arcTo( rx, ry, rotation, largeArc, sweep, currentX, currentY );
+                        previousSegment = SEGMENT_OTHER;
+                    }
+
+                    default -> throw scanner.error();
+                }
+                isFirst = false;
+            }
+            while( scanner.hasNumber() );
+        }
+        handler.endPath();
+    }   //  parse()
+
+    /**
+     *  Parses the given path elements and reports the segments to the given
+     *  handler.
+     *
+     *  @param  handler The handler that receives the segments.
+     *  @param  elements    The path elements.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final void parse( final PathHandler handler, final SVGPathElement... elements )
+    {
+        parse( SVGPathElement.toString( requireNonNullArgument( elements, "elements" ) ), handler );
+    }   //  parse()
+}
+//  class PathDataParser
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,503 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.abs;
+import static java.lang.Math.acos;
+import static java.lang.Math.atan2;
+import static java.lang.Math.ceil;
+import static java.lang.Math.cos;
+import static java.lang.Math.max;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toRadians;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.type.SVGPathElement;
+
+/**
+ *  <p>{@summary Converts a path into a polyline, consisting of straight
+ *  segments only.} Cubic and quadratic B&eacute;zier curves and elliptical
+ *  arcs are replaced by line segments; the distance between the original
+ *  curve and the resulting polyline will never exceed the given
+ *  tolerance.</p>
+ *  <p>The curves are subdivided adaptively: a B&eacute;zier curve is split
+ *  only as long as it is not flat enough, so straight or nearly straight
+ *  curves result in few points, while sharp bends get more. For arcs, the
+ *  number of segments is calculated directly from the radius and the
+ *  tolerance.</p>
+ *  <p>The result is written to a
+ *  {@link PolylineBuffer};
+ *  no objects are created for the single segments, so the flattener can
+ *  be used for paths with millions of segments. An instance of this class
+ *  is not thread-safe, but it can be reused for several paths.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PathFlattener.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PathFlattener.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class PathFlattener implements PathHandler
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The maximum depth for the subdivision of a B&eacute;zier curve: {@value}.
+     *  This limits the number of line segments for a single curve to
+     *  2<sup>16</sup>.
+     */
+    public static final int MAX_DEPTH = 16;
+
+    /**
+     *  The number of values that are stored on the stack for a single curve:
+     *  {@value}.
+     */
+    private static final int STACK_FRAME = 8;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The x coordinate of the current point.
+     */
+    private double m_CurrentX = 0;
+
+    /**
+     *  The y coordinate of the current point.
+     */
+    private double m_CurrentY = 0;
+
+    /**
+     *  The subdivision depths for the curves on the stack.
+     */
+    private final int [] m_Depths = new int [MAX_DEPTH + 1];
+
+    /**
+     *  {@code true} if the current sub path was closed and the next segment
+     *  has to start a new sub path.
+     */
+    private boolean m_IsClosed = false;
+
+    /**
+     *  The stack for the subdivision of the B&eacute;zier curves.
+     */
+    private final double [] m_Stack = new double [(MAX_DEPTH + 1) * STACK_FRAME];
+
+    /**
+     *  The x coordinate of the start point of the current sub path.
+     */
+    private double m_StartX = 0;
+
+    /**
+     *  The y coordinate of the start point of the current sub path.
+     */
+    private double m_StartY = 0;
+
+    /**
+     *  The target buffer.
+     */
+    private final PolylineBuffer m_Target;
+
+    /**
+     *  The tolerance.
+     */
+    private final double m_Tolerance;
+
+    /**
+     *  The squared tolerance, multiplied by 16; used for the flatness test.
+     */
+    private final double m_ToleranceLimit;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PathFlattener} instance.
+     *
+     *  @param  tolerance   The maximum distance between the original curve and
+     *      the resulting line segments; must be greater than 0.
+     *  @param  target  The buffer that receives the points.
+     */
+    public PathFlattener( final double tolerance, final PolylineBuffer target )
+    {
+        if( !(tolerance > 0) || Double.isInfinite( tolerance ) ) throw new IllegalArgumentException( "Invalid tolerance: %f".formatted( tolerance ) );
+        m_Tolerance = tolerance;
+        m_ToleranceLimit = 16 * tolerance * tolerance;
+        m_Target = requireNonNullArgument( target, "target" );
+    }   //  PathFlattener()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     *  <p>The arc is treated as specified in the SVG standard: if one of the
+     *  radii is 0, a straight line is drawn, and if the radii are too small
+     *  to reach the end point, they will be scaled up.</p>
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    @Override
+    public final void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+    {
+        if( (m_CurrentX == x) && (m_CurrentY == y) ) return;
+
+        final var parameters = toCenterParameterisation( m_CurrentX, m_CurrentY, rx, ry, rotation, largeArc, sweep, x, y );
+        if( parameters == null )
+        {
+            lineTo( x, y );
+            return;
+        }
+        final var cx = parameters [0];
+        final var cy = parameters [1];
+        final var radiusX = parameters [2];
+        final var radiusY = parameters [3];
+        final var cosPhi = parameters [4];
+        final var sinPhi = parameters [5];
+        final var theta1 = parameters [6];
+        final var deltaTheta = parameters [7];
+
+        //---* Determine the number of segments *------------------------------
+        final var radius = max( radiusX, radiusY );
+        final var step = m_Tolerance < radius ? 2 * acos( 1 - m_Tolerance / radius ) : PI;
+        final var segments = max( 1, (int) ceil( abs( deltaTheta ) / step ) );
+
+        continueSubpath();
+        m_Target.ensureCapacity( segments );
+        for( var i = 1; i < segments; ++i )
+        {
+            final var theta = theta1 + deltaTheta * i / segments;
+            final var cosTheta = cos( theta );
+            final var sinTheta = sin( theta );
+            m_Target.lineTo( cx + radiusX * cosTheta * cosPhi - radiusY * sinTheta * sinPhi, cy + radiusX * cosTheta * sinPhi + radiusY * sinTheta * cosPhi );
+        }
+        lineTo( x, y );
+    }   //  arcTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void closePath()
+    {
+        m_Target.closeSubpath();
+        m_CurrentX = m_StartX;
+        m_CurrentY = m_StartY;
+        m_IsClosed = true;
+    }   //  closePath()
+
+    /**
+     *  Starts a new sub path at the current point if the previous sub path
+     *  was closed; according to the SVG standard, a segment that follows a
+     *  {@code closepath} command starts at the initial point of the closed
+     *  sub path.
+     */
+    private final void continueSubpath()
+    {
+        if( m_IsClosed )
+        {
+            m_Target.moveTo( m_CurrentX, m_CurrentY );
+            m_IsClosed = false;
+        }
+    }   //  continueSubpath()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    @Override
+    public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+    {
+        continueSubpath();
+        final var stack = m_Stack;
+        var top = 0;
+        stack [0] = m_CurrentX;
+        stack [1] = m_CurrentY;
+        stack [2] = x1;
+        stack [3] = y1;
+        stack [4] = x2;
+        stack [5] = y2;
+        stack [6] = x;
+        stack [7] = y;
+        m_Depths [0] = 0;
+        ++top;
+
+        while( top > 0 )
+        {
+            --top;
+            final var offset = top * STACK_FRAME;
+            final var p0x = stack [offset];
+            final var p0y = stack [offset + 1];
+            final var p1x = stack [offset + 2];
+            final var p1y = stack [offset + 3];
+            final var p2x = stack [offset + 4];
+            final var p2y = stack [offset + 5];
+            final var p3x = stack [offset + 6];
+            final var p3y = stack [offset + 7];
+            final var depth = m_Depths [top];
+
+            if( (depth >= MAX_DEPTH) || isFlat( p0x, p0y, p1x, p1y, p2x, p2y, p3x, p3y ) )
+            {
+                m_Target.lineTo( p3x, p3y );
+            }
+            else
+            {
+                //---* Subdivide at t = 0.5 (de Casteljau) *-------------------
+                final var ax = (p0x + p1x) / 2;
+                final var ay = (p0y + p1y) / 2;
+                final var bx = (p1x + p2x) / 2;
+                final var by = (p1y + p2y) / 2;
+                final var cx = (p2x + p3x) / 2;
+                final var cy = (p2y + p3y) / 2;
+                final var abx = (ax + bx) / 2;
+                final var aby = (ay + by) / 2;
+                final var bcx = (bx + cx) / 2;
+                final var bcy = (by + cy) / 2;
+                final var mx = (abx + bcx) / 2;
+                final var my = (aby + bcy) / 2;
+
+                //---* Push the right half first, it is processed last *-------
+                stack [offset] = mx;
+                stack [offset + 1] = my;
+                stack [offset + 2] = bcx;
+                stack [offset + 3] = bcy;
+                stack [offset + 4] = cx;
+                stack [offset + 5] = cy;
+                stack [offset + 6] = p3x;
+                stack [offset + 7] = p3y;
+                m_Depths [top] = depth + 1;
+                ++top;
+
+                final var next = top * STACK_FRAME;
+                stack [next] = p0x;
+                stack [next + 1] = p0y;
+                stack [next + 2] = ax;
+                stack [next + 3] = ay;
+                stack [next + 4] = abx;
+                stack [next + 5] = aby;
+                stack [next + 6] = mx;
+                stack [next + 7] = my;
+                m_Depths [top] = depth + 1;
+                ++top;
+            }
+        }
+        m_CurrentX = x;
+        m_CurrentY = y;
+    }   //  cubicTo()
+
+    /**
+     *  Flattens the given path definition.
+     *
+     *  @param  pathDefinition  The path definition, as it would be used for
+     *      the attribute
+     *      {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_PathDefinition}.
+     *  @param  tolerance   The maximum distance between the original curve and
+     *      the resulting line segments; must be greater than 0.
+     *  @return The buffer with the resulting polyline.
+     *  @throws IllegalArgumentException    The path definition is invalid.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final PolylineBuffer flatten( final CharSequence pathDefinition, final double tolerance )
+    {
+        final var retValue = new PolylineBuffer();
+        PathDataParser.parse( pathDefinition, new PathFlattener( tolerance, retValue ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  flatten()
+
+    /**
+     *  Flattens the path that is given by the path elements.
+     *
+     *  @param  tolerance   The maximum distance between the original curve and
+     *      the resulting line segments; must be greater than 0.
+     *  @param  elements    The path elements.
+     *  @return The buffer with the resulting polyline.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final PolylineBuffer flatten( final double tolerance, final SVGPathElement... elements )
+    {
+        final var retValue = new PolylineBuffer();
+        PathDataParser.parse( new PathFlattener( tolerance, retValue ), elements );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  flatten()
+
+    /**
+     *  Returns the target buffer.
+     *
+     *  @return The buffer that receives the points.
+     */
+    public final PolylineBuffer getTarget() { return m_Target; }
+
+    /**
+     *  Returns the tolerance.
+     *
+     *  @return The maximum distance between the original curve and the
+     *      resulting line segments.
+     */
+    public final double getTolerance() { return m_Tolerance; }
+
+    /**
+     *  Checks whether the given cubic B&eacute;zier curve is flat enough to
+     *  be replaced by its chord. The test is conservative: the maximum
+     *  distance between curve and chord is less than a quarter of the square
+     *  root of the calculated value.
+     *
+     *  @param  p0x The x coordinate of the start point.
+     *  @param  p0y The y coordinate of the start point.
+     *  @param  p1x The x coordinate of the first control point.
+     *  @param  p1y The y coordinate of the first control point.
+     *  @param  p2x The x coordinate of the second control point.
+     *  @param  p2y The y coordinate of the second control point.
+     *  @param  p3x The x coordinate of the end point.
+     *  @param  p3y The y coordinate of the end point.
+     *  @return {@code true} if the curve is flat enough, {@code false}
+     *      otherwise.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private final boolean isFlat( final double p0x, final double p0y, final double p1x, final double p1y, final double p2x, final double p2y, final double p3x, final double p3y )
+    {
+        var ux = 3 * p1x - 2 * p0x - p3x;
+        var uy = 3 * p1y - 2 * p0y - p3y;
+        var vx = 3 * p2x - p0x - 2 * p3x;
+        var vy = 3 * p2y - p0y - 2 * p3y;
+        ux *= ux;
+        uy *= uy;
+        vx *= vx;
+        vy *= vy;
+        final var retValue = max( ux, vx ) + max( uy, vy ) <= m_ToleranceLimit;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isFlat()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void lineTo( final double x, final double y )
+    {
+        continueSubpath();
+        m_Target.lineTo( x, y );
+        m_CurrentX = x;
+        m_CurrentY = y;
+    }   //  lineTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void moveTo( final double x, final double y )
+    {
+        m_Target.moveTo( x, y );
+        m_IsClosed = false;
+        m_CurrentX = m_StartX = x;
+        m_CurrentY = m_StartY = y;
+    }   //  moveTo()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The quadratic curve is converted into the equivalent cubic curve
+     *  before it is flattened.</p>
+     */
+    @Override
+    public final void quadTo( final double x1, final double y1, final double x, final double y )
+    {
+        cubicTo( m_CurrentX + 2.0 / 3.0 * (x1 - m_CurrentX), m_CurrentY + 2.0 / 3.0 * (y1 - m_CurrentY), x + 2.0 / 3.0 * (x1 - x), y + 2.0 / 3.0 * (y1 - y), x, y );
+    }   //  quadTo()
+
+    /**
+     *  <p>{@summary Converts an elliptical arc from the end point
+     *  parameterisation that is used by the SVG path data to the centre
+     *  parameterisation}, as described in the appendix B.2.4 of the SVG 1.1
+     *  specification. If the radii are too small to reach the end point,
+     *  they will be scaled up.</p>
+     *
+     *  @param  x0  The x coordinate of the start point.
+     *  @param  y0  The y coordinate of the start point.
+     *  @param  rx  The x radius of the ellipse.
+     *  @param  ry  The y radius of the ellipse.
+     *  @param  rotation    The rotation of the ellipse's x axis, in degrees.
+     *  @param  largeArc    The large arc flag.
+     *  @param  sweep   The sweep flag.
+     *  @param  x   The x coordinate of the end point.
+     *  @param  y   The y coordinate of the end point.
+     *  @return The centre x and y, the radii x and y, the cosine and the sine
+     *      of the rotation, the start angle and the sweep angle, in this
+     *      order; {@code null} if one of the radii is 0, so that the arc is a
+     *      straight line.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    static final double [] toCenterParameterisation( final double x0, final double y0, final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+    {
+        double [] retValue = null;
+        var radiusX = abs( rx );
+        var radiusY = abs( ry );
+        if( (radiusX != 0) && (radiusY != 0) )
+        {
+            final var phi = toRadians( rotation );
+            final var cosPhi = cos( phi );
+            final var sinPhi = sin( phi );
+            final var dx = (x0 - x) / 2;
+            final var dy = (y0 - y) / 2;
+            final var x1 = cosPhi * dx + sinPhi * dy;
+            final var y1 = -sinPhi * dx + cosPhi * dy;
+
+            final var lambda = (x1 * x1) / (radiusX * radiusX) + (y1 * y1) / (radiusY * radiusY);
+            if( lambda > 1 )
+            {
+                final var scale = sqrt( lambda );
+                radiusX *= scale;
+                radiusY *= scale;
+            }
+            final var rxSquare = radiusX * radiusX;
+            final var rySquare = radiusY * radiusY;
+            final var denominator = rxSquare * y1 * y1 + rySquare * x1 * x1;
+            var coefficient = sqrt( max( 0, (rxSquare * rySquare - denominator) / denominator ) );
+            if( largeArc == sweep ) coefficient = -coefficient;
+            final var cx1 = coefficient * radiusX * y1 / radiusY;
+            final var cy1 = -coefficient * radiusY * x1 / radiusX;
+            final var cx = cosPhi * cx1 - sinPhi * cy1 + (x0 + x) / 2;
+            final var cy = sinPhi * cx1 + cosPhi * cy1 + (y0 + y) / 2;
+
+            final var theta1 = atan2( (y1 - cy1) / radiusY, (x1 - cx1) / radiusX );
+            var deltaTheta = atan2( (-y1 - cy1) / radiusY, (-x1 - cx1) / radiusX ) - theta1;
+            if( sweep && deltaTheta < 0 ) deltaTheta += 2 * PI;
+            else if( !sweep && deltaTheta > 0 ) deltaTheta -= 2 * PI;
+
+            retValue = new double [] { cx, cy, radiusX, radiusY, cosPhi, sinPhi, theta1, deltaTheta };
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toCenterParameterisation()
+}
+//  class PathFlattener
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,120 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary The callback that receives the segments of a path definition
+ *  from
+ *  {@link PathDataParser}.}</p>
+ *  <p>All coordinates are already absolute: relative commands are resolved
+ *  against the current point, the horizontal and vertical line commands are
+ *  reported as regular
+ *  {@link #lineTo(double, double) lineTo()}
+ *  calls, and the control points for the smooth ('shorthand') curves are
+ *  already reflected. No objects will be created for the single segments;
+ *  this allows to process paths with millions of segments.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PathHandler.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PathHandler.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public interface PathHandler
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds an elliptical arc from the current point to the given end point.
+     *
+     *  @param  rx  The x radius of the ellipse.
+     *  @param  ry  The y radius of the ellipse.
+     *  @param  rotation    The rotation of the ellipse's x axis, in degrees.
+     *  @param  largeArc    The large arc flag.
+     *  @param  sweep   The sweep flag.
+     *  @param  x   The x coordinate of the end point.
+     *  @param  y   The y coordinate of the end point.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    public void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y );
+
+    /**
+     *  Closes the current sub path.
+     */
+    public void closePath();
+
+    /**
+     *  Adds a cubic B&eacute;zier curve from the current point to the given
+     *  end point.
+     *
+     *  @param  x1  The x coordinate of the first control point.
+     *  @param  y1  The y coordinate of the first control point.
+     *  @param  x2  The x coordinate of the second control point.
+     *  @param  y2  The y coordinate of the second control point.
+     *  @param  x   The x coordinate of the end point.
+     *  @param  y   The y coordinate of the end point.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    public void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y );
+
+    /**
+     *  Called after the last segment of the path definition was reported.
+     *  The default implementation does nothing.
+     */
+    public default void endPath() { /* Does nothing */ }
+
+    /**
+     *  Adds a straight line from the current point to the given point.
+     *
+     *  @param  x   The x coordinate of the end point.
+     *  @param  y   The y coordinate of the end point.
+     */
+    public void lineTo( final double x, final double y );
+
+    /**
+     *  Starts a new sub path at the given point.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     */
+    public void moveTo( final double x, final double y );
+
+    /**
+     *  Adds a quadratic B&eacute;zier curve from the current point to the
+     *  given end point.
+     *
+     *  @param  x1  The x coordinate of the control point.
+     *  @param  y1  The y coordinate of the control point.
+     *  @param  x   The x coordinate of the end point.
+     *  @param  y   The y coordinate of the end point.
+     */
+    public void quadTo( final double x1, final double y1, final double x, final double y );
+}
+//  interface PathHandler
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,470 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.ceil;
+import static java.lang.Math.log10;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.round;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.stream.IntStream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A
+ *  {@link PathHandler}
+ *  that writes the path back to a path definition}, with a fixed number of
+ *  decimal places for the coordinates.</p>
+ *  <p>All commands are written in their absolute form; the parameters of a
+ *  command are separated by commas, and a command letter is omitted when
+ *  it is the same as that of the previous command. This is the same format
+ *  as that of
+ *  {@link org.tquadrat.foundation.svg.type.SVGPathElement#toString(org.tquadrat.foundation.svg.type.SVGPathElement...)},
+ *  except for the number format: trailing zeros are omitted, so a
+ *  coordinate that is an integer after rounding does not have any decimal
+ *  places.</p>
+ *  <p>Instances of this class are not thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PathWriter.java 1177 2026-10-18 22:41:37Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PathWriter.java 1177 2026-10-18 22:41:37Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class PathWriter implements PathHandler
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of points per chunk when a polyline is written in
+     *  parallel.
+     */
+    private static final int CHUNK_SIZE = 16_384;
+
+    /**
+     *  The maximum number of decimal places: {@value}.
+     */
+    public static final int MAX_PRECISION = 15;
+
+    /**
+     *  The number of points above which
+     *  {@link #writePolyline(PolylineBuffer)}
+     *  formats the polyline in parallel: {@value}.
+     */
+    public static final int PARALLEL_THRESHOLD = 65_536;
+
+    /**
+     *  The powers of ten for the supported numbers of decimal places.
+     */
+    private static final long [] POWERS_OF_TEN =
+    {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+        100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L,
+        1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L
+    };
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The buffer for the path definition.
+     */
+    private final StringBuilder m_Buffer;
+
+    /**
+     *  The last command letter that was written; 0 if none was written yet.
+     */
+    private char m_LastCommand = 0;
+
+    /**
+     *  The number of decimal places.
+     */
+    private final int m_Precision;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PathWriter} instance.
+     *
+     *  @param  precision   The number of decimal places, between 0 and
+     *      {@value #MAX_PRECISION}.
+     */
+    public PathWriter( final int precision )
+    {
+        this( precision, new StringBuilder() );
+    }   //  PathWriter()
+
+    /**
+     *  Creates a new {@code PathWriter} instance that appends to the given
+     *  buffer.
+     *
+     *  @param  precision   The number of decimal places, between 0 and
+     *      {@value #MAX_PRECISION}.
+     *  @param  buffer  The buffer that receives the path definition.
+     */
+    public PathWriter( final int precision, final StringBuilder buffer )
+    {
+        if( precision < 0 || precision > MAX_PRECISION ) throw new IllegalArgumentException( "Invalid precision: %d".formatted( precision ) );
+        m_Precision = precision;
+        m_Buffer = requireNonNullArgument( buffer, "buffer" );
+    }   //  PathWriter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Appends the given number with the given number of decimal places to
+     *  the given buffer. Trailing zeros are omitted, as is the decimal point
+     *  when no decimal places are left.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  value   The number.
+     *  @param  precision   The number of decimal places, between 0 and
+     *      {@value #MAX_PRECISION}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final void appendNumber( final StringBuilder buffer, final double value, final int precision )
+    {
+        final var factor = POWERS_OF_TEN [precision];
+        final var scaled = value * factor;
+        if( abs( scaled ) < 9.0e15 )
+        {
+            var number = round( scaled );
+            if( number < 0 )
+            {
+                buffer.append( '-' );
+                number = -number;
+            }
+            buffer.append( number / factor );
+            var fraction = number % factor;
+            if( fraction != 0 )
+            {
+                var digits = precision;
+                while( fraction % 10 == 0 )
+                {
+                    fraction /= 10;
+                    --digits;
+                }
+                buffer.append( '.' );
+                for( var limit = POWERS_OF_TEN [digits - 1]; fraction < limit; limit /= 10 ) buffer.append( '0' );
+                buffer.append( fraction );
+            }
+        }
+        else
+        {
+            //---* Too large for the scaled representation *-------------------
+            buffer.append( value );
+        }
+    }   //  appendNumber()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+    {
+        command( 'A' );
+        appendNumber( m_Buffer, rx, m_Precision );
+        m_Buffer.append( ',' );
+        appendNumber( m_Buffer, ry, m_Precision );
+        m_Buffer.append( ',' );
+        appendNumber( m_Buffer, rotation, m_Precision );
+        m_Buffer.append( largeArc ? ",1" : ",0" )
+            .append( sweep ? ",1," : ",0," );
+        point( x, y );
+    }   //  arcTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void closePath()
+    {
+        command( 'Z' );
+    }   //  closePath()
+
+    /**
+     *  Writes the given command letter, if it differs from the previous
+     *  one, and the separator from the previous command.
+     *
+     *  @param  command The command letter.
+     */
+    private final void command( final char command )
+    {
+        if( !m_Buffer.isEmpty() ) m_Buffer.append( ' ' );
+        if( command != m_LastCommand || command == 'M' || command == 'Z' ) m_Buffer.append( command );
+        m_LastCommand = command;
+    }   //  command()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+    {
+        command( 'C' );
+        point( x1, y1 );
+        m_Buffer.append( ',' );
+        point( x2, y2 );
+        m_Buffer.append( ',' );
+        point( x, y );
+    }   //  cubicTo()
+
+    /**
+     *  Returns the number of decimal places.
+     *
+     *  @return The precision.
+     */
+    public final int getPrecision() { return m_Precision; }
+
+    /**
+     *  Returns the last command that was written before the point with the
+     *  given index of a polyline.
+     *
+     *  @param  polyline    The polyline.
+     *  @param  index   The index of the point; it must be greater than 0.
+     *  @return The command letter.
+     */
+    private static final char lastCommandBefore( final PolylineBuffer polyline, final int index )
+    {
+        final var subpath = subpathOf( polyline, index - 1 );
+        final char retValue;
+        if( (polyline.getSubpathEnd( subpath ) == index) && polyline.isClosed( subpath ) )
+        {
+            retValue = 'Z';
+        }
+        else
+        {
+            retValue = polyline.getSubpathStart( subpath ) == index - 1 ? 'M' : 'L';
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lastCommandBefore()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void lineTo( final double x, final double y )
+    {
+        command( 'L' );
+        point( x, y );
+    }   //  lineTo()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void moveTo( final double x, final double y )
+    {
+        command( 'M' );
+        point( x, y );
+    }   //  moveTo()
+
+    /**
+     *  Writes the given point.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     */
+    private final void point( final double x, final double y )
+    {
+        appendNumber( m_Buffer, x, m_Precision );
+        m_Buffer.append( ',' );
+        appendNumber( m_Buffer, y, m_Precision );
+    }   //  point()
+
+    /**
+     *  Returns the number of decimal places that are required for the given
+     *  precision when the coordinates are shown at the given scale.
+     *
+     *  @param  scale   The scale, in pixels per user unit.
+     *  @param  precision   The required precision, in pixels.
+     *  @return The number of decimal places, between 0 and
+     *      {@value #MAX_PRECISION}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final int precisionFor( final double scale, final double precision )
+    {
+        final var retValue = (int) max( 0, min( MAX_PRECISION, ceil( log10( scale / precision ) ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  precisionFor()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void quadTo( final double x1, final double y1, final double x, final double y )
+    {
+        command( 'Q' );
+        point( x1, y1 );
+        m_Buffer.append( ',' );
+        point( x, y );
+    }   //  quadTo()
+
+    /**
+     *  Returns the index of the sub path of a polyline that contains the
+     *  point with the given index.
+     *
+     *  @param  polyline    The polyline.
+     *  @param  index   The index of the point.
+     *  @return The index of the sub path.
+     */
+    private static final int subpathOf( final PolylineBuffer polyline, final int index )
+    {
+        var low = 0;
+        var high = polyline.getSubpathCount() - 1;
+        while( low < high )
+        {
+            final var middle = (low + high + 1) >>> 1;
+            if( polyline.getSubpathStart( middle ) <= index )
+            {
+                low = middle;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return low;
+    }   //  subpathOf()
+
+    /**
+     *  Returns the path definition that was written so far.
+     *
+     *  @return The path definition.
+     */
+    @Override
+    public final String toString() { return m_Buffer.toString(); }
+
+    /**
+     *  Writes the given range of points of a polyline.
+     *
+     *  @param  polyline    The polyline.
+     *  @param  from    The index of the first point.
+     *  @param  to  The index after the last point.
+     */
+    private final void writePoints( final PolylineBuffer polyline, final int from, final int to )
+    {
+        if( from < to )
+        {
+            var subpath = subpathOf( polyline, from );
+            var start = polyline.getSubpathStart( subpath );
+            var end = polyline.getSubpathEnd( subpath );
+            for( var i = from; i < to; ++i )
+            {
+                if( i == end )
+                {
+                    ++subpath;
+                    start = i;
+                    end = polyline.getSubpathEnd( subpath );
+                }
+                if( i == start )
+                {
+                    moveTo( polyline.getX( i ), polyline.getY( i ) );
+                }
+                else
+                {
+                    lineTo( polyline.getX( i ), polyline.getY( i ) );
+                }
+                if( (i == end - 1) && polyline.isClosed( subpath ) ) closePath();
+            }
+        }
+    }   //  writePoints()
+
+    /**
+     *  <p>{@summary Writes the given polyline as a path.}</p>
+     *  <p>When the polyline has more than
+     *  {@value #PARALLEL_THRESHOLD}
+     *  points, the coordinates are formatted in chunks, in parallel on the
+     *  {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool};
+     *  the result is the same as for the sequential formatting.</p>
+     *
+     *  @param  polyline    The polyline.
+     */
+    public final void writePolyline( final PolylineBuffer polyline )
+    {
+        writePolyline( requireNonNullArgument( polyline, "polyline" ), polyline.getPointCount() > PARALLEL_THRESHOLD ? CHUNK_SIZE : polyline.getPointCount() );
+    }   //  writePolyline()
+
+    /**
+     *  Writes the given polyline as a path, formatting chunks of the given
+     *  size in parallel.
+     *
+     *  @param  polyline    The polyline.
+     *  @param  chunkSize   The number of points per chunk.
+     */
+    final void writePolyline( final PolylineBuffer polyline, final int chunkSize )
+    {
+        final var pointCount = polyline.getPointCount();
+        if( pointCount <= chunkSize )
+        {
+            writePoints( polyline, 0, pointCount );
+        }
+        else
+        {
+            /*
+             * The command before a point, and therefore the state of the
+             * writer for a chunk, is determined by the previous point alone;
+             * only an 'L' can be omitted.
+             */
+            final var writers = IntStream.range( 0, (pointCount + chunkSize - 1) / chunkSize )
+                .parallel()
+                .mapToObj( chunk ->
+                {
+                    final var from = chunk * chunkSize;
+                    final var writer = new PathWriter( m_Precision, new StringBuilder( chunkSize * 16 ) );
+                    writer.m_LastCommand = from == 0 ? m_LastCommand : lastCommandBefore( polyline, from );
+                    writer.writePoints( polyline, from, min( pointCount, from + chunkSize ) );
+                    return writer;
+                } )
+                .toArray( PathWriter []::new );
+
+            var length = m_Buffer.length() + writers.length;
+            for( final var writer : writers ) length += writer.m_Buffer.length();
+            m_Buffer.ensureCapacity( length );
+            for( final var writer : writers )
+            {
+                if( !m_Buffer.isEmpty() ) m_Buffer.append( ' ' );
+                m_Buffer.append( writer.m_Buffer );
+            }
+            m_LastCommand = writers [writers.length - 1].m_LastCommand;
+        }
+    }   //  writePolyline()
+}
+//  class PathWriter
+
+/*
+ *  End of File
+ */
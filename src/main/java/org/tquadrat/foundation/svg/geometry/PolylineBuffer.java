@@ -0,0 +1,447 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary A growable buffer for polylines that consist of one or more
+ *  sub paths.} The coordinates are stored interleaved ({@code x0, y0, x1,
+ *  y1, …}) in a single array of primitive {@code double} values; for each
+ *  sub path, the index of its first point and a flag whether it is closed
+ *  are recorded.</p>
+ *  <p>Instances of this class are not thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PolylineBuffer.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PolylineBuffer.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class PolylineBuffer
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default initial capacity, in points: {@value}.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The flags for the closed sub paths.
+     */
+    private boolean [] m_Closed;
+
+    /**
+     *  The coordinates.
+     */
+    private double [] m_Coordinates;
+
+    /**
+     *  The number of points in this buffer.
+     */
+    private int m_PointCount = 0;
+
+    /**
+     *  The number of sub paths in this buffer.
+     */
+    private int m_SubpathCount = 0;
+
+    /**
+     *  The indexes of the first points of the sub paths.
+     */
+    private int [] m_SubpathStarts;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PolylineBuffer} instance with the
+     *  {@linkplain #DEFAULT_CAPACITY default capacity}.
+     */
+    public PolylineBuffer() { this( DEFAULT_CAPACITY ); }
+
+    /**
+     *  Creates a new {@code PolylineBuffer} instance.
+     *
+     *  @param  capacity    The initial capacity, in points.
+     */
+    public PolylineBuffer( final int capacity )
+    {
+        if( capacity < 0 ) throw new IllegalArgumentException( "capacity is negative" );
+        m_Coordinates = new double [max( 2, capacity * 2 )];
+        m_SubpathStarts = new int [8];
+        m_Closed = new boolean [8];
+    }   //  PolylineBuffer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Removes all points from this buffer; the allocated memory is kept.
+     */
+    public final void clear()
+    {
+        m_PointCount = 0;
+        m_SubpathCount = 0;
+    }   //  clear()
+
+    /**
+     *  Marks the current sub path as closed.
+     */
+    public final void closeSubpath()
+    {
+        if( m_SubpathCount > 0 ) m_Closed [m_SubpathCount - 1] = true;
+    }   //  closeSubpath()
+
+    /**
+     *  Makes sure that the buffer can hold the given number of additional
+     *  points.
+     *
+     *  @param  points  The number of additional points.
+     */
+    public final void ensureCapacity( final int points )
+    {
+        final var required = (m_PointCount + points) * 2;
+        if( required > m_Coordinates.length )
+        {
+            m_Coordinates = copyOf( m_Coordinates, max( required, m_Coordinates.length * 2 ) );
+        }
+    }   //  ensureCapacity()
+
+    /**
+     *  Returns the number of points in this buffer.
+     *
+     *  @return The number of points.
+     */
+    public final int getPointCount() { return m_PointCount; }
+
+    /**
+     *  Returns the number of sub paths in this buffer.
+     *
+     *  @return The number of sub paths.
+     */
+    public final int getSubpathCount() { return m_SubpathCount; }
+
+    /**
+     *  Returns the index of the point after the last point of the given sub
+     *  path.
+     *
+     *  @param  subpath The index of the sub path.
+     *  @return The index of the point after the last point of the sub path.
+     */
+    public final int getSubpathEnd( final int subpath )
+    {
+        checkSubpath( subpath );
+        final var retValue = subpath + 1 < m_SubpathCount ? m_SubpathStarts [subpath + 1] : m_PointCount;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getSubpathEnd()
+
+    /**
+     *  Returns the index of the first point of the given sub path.
+     *
+     *  @param  subpath The index of the sub path.
+     *  @return The index of the first point of the sub path.
+     */
+    public final int getSubpathStart( final int subpath )
+    {
+        checkSubpath( subpath );
+
+        //---* Done *----------------------------------------------------------
+        return m_SubpathStarts [subpath];
+    }   //  getSubpathStart()
+
+    /**
+     *  Returns the x coordinate of the point with the given index.
+     *
+     *  @param  index   The index of the point.
+     *  @return The x coordinate.
+     */
+    public final double getX( final int index )
+    {
+        checkPoint( index );
+
+        //---* Done *----------------------------------------------------------
+        return m_Coordinates [index * 2];
+    }   //  getX()
+
+    /**
+     *  Returns the y coordinate of the point with the given index.
+     *
+     *  @param  index   The index of the point.
+     *  @return The y coordinate.
+     */
+    public final double getY( final int index )
+    {
+        checkPoint( index );
+
+        //---* Done *----------------------------------------------------------
+        return m_Coordinates [index * 2 + 1];
+    }   //  getY()
+
+    /**
+     *  Checks whether the given sub path is closed.
+     *
+     *  @param  subpath The index of the sub path.
+     *  @return {@code true} if the sub path is closed, {@code false}
+     *      otherwise.
+     */
+    public final boolean isClosed( final int subpath )
+    {
+        checkSubpath( subpath );
+
+        //---* Done *----------------------------------------------------------
+        return m_Closed [subpath];
+    }   //  isClosed()
+
+    /**
+     *  Checks whether this buffer is empty.
+     *
+     *  @return {@code true} if the buffer does not contain any point,
+     *      {@code false} otherwise.
+     */
+    public final boolean isEmpty() { return m_PointCount == 0; }
+
+    /**
+     *  Adds a point to the current sub path. If there is no current sub path,
+     *  a new one will be started. A point that is identical to the previous
+     *  point of the same sub path will be ignored.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     */
+    public final void lineTo( final double x, final double y )
+    {
+        if( m_SubpathCount == 0 )
+        {
+            moveTo( x, y );
+        }
+        else
+        {
+            final var offset = m_PointCount * 2;
+            if( (m_PointCount == m_SubpathStarts [m_SubpathCount - 1]) || (m_Coordinates [offset - 2] != x) || (m_Coordinates [offset - 1] != y) )
+            {
+                append( x, y );
+            }
+        }
+    }   //  lineTo()
+
+    /**
+     *  Starts a new sub path with the given point.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     */
+    public final void moveTo( final double x, final double y )
+    {
+        if( m_SubpathCount == m_SubpathStarts.length )
+        {
+            m_SubpathStarts = copyOf( m_SubpathStarts, m_SubpathCount * 2 );
+            m_Closed = copyOf( m_Closed, m_SubpathCount * 2 );
+        }
+        m_SubpathStarts [m_SubpathCount] = m_PointCount;
+        m_Closed [m_SubpathCount] = false;
+        ++m_SubpathCount;
+        append( x, y );
+    }   //  moveTo()
+
+    /**
+     *  <p>{@summary Returns a simplified copy of this buffer}, with the
+     *  Douglas-Peucker algorithm: for each sub path, only those points will
+     *  be kept that are necessary to keep the deviation from the original
+     *  polyline below the given tolerance. The first and the last point of
+     *  each sub path are always kept.</p>
+     *
+     *  @param  tolerance   The maximum distance of a removed point from the
+     *      simplified polyline; must be 0 or greater.
+     *  @return The simplified copy.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public final PolylineBuffer simplify( final double tolerance )
+    {
+        if( !(tolerance >= 0) ) throw new IllegalArgumentException( "tolerance must be 0 or greater" );
+        final var squaredTolerance = tolerance * tolerance;
+
+        final var keep = new boolean [m_PointCount];
+        var stack = new int [64];
+        for( var subpath = 0; subpath < m_SubpathCount; ++subpath )
+        {
+            final var start = m_SubpathStarts [subpath];
+            final var end = getSubpathEnd( subpath ) - 1;
+            keep [start] = true;
+            keep [end] = true;
+
+            //---* Process the ranges without recursion *----------------------
+            var stackPointer = 0;
+            var from = start;
+            var to = end;
+            while( true )
+            {
+                var maxDistance = -1.0;
+                var index = -1;
+                for( var i = from + 1; i < to; ++i )
+                {
+                    final var distance = squaredDistance( i, from, to );
+                    if( distance > maxDistance )
+                    {
+                        maxDistance = distance;
+                        index = i;
+                    }
+                }
+                if( index >= 0 && maxDistance > squaredTolerance )
+                {
+                    keep [index] = true;
+                    if( stackPointer + 2 > stack.length ) stack = copyOf( stack, stack.length * 2 );
+                    stack [stackPointer++] = index;
+                    stack [stackPointer++] = to;
+                    to = index;
+                }
+                else
+                {
+                    if( stackPointer == 0 ) break;
+                    to = stack [--stackPointer];
+                    from = stack [--stackPointer];
+                }
+            }
+        }
+
+        //---* Copy the remaining points *-------------------------------------
+        final var retValue = new PolylineBuffer( m_PointCount );
+        for( var subpath = 0; subpath < m_SubpathCount; ++subpath )
+        {
+            final var start = m_SubpathStarts [subpath];
+            final var end = getSubpathEnd( subpath );
+            retValue.moveTo( m_Coordinates [start * 2], m_Coordinates [start * 2 + 1] );
+            for( var i = start + 1; i < end; ++i )
+            {
+                if( keep [i] ) retValue.append( m_Coordinates [i * 2], m_Coordinates [i * 2 + 1] );
+            }
+            if( m_Closed [subpath] ) retValue.closeSubpath();
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  simplify()
+
+    /**
+     *  Returns the coordinates of all points in this buffer, interleaved as
+     *  {@code x0, y0, x1, y1, …}.
+     *
+     *  @return A copy of the coordinates.
+     */
+    public final double [] toArray() { return copyOf( m_Coordinates, m_PointCount * 2 ); }
+
+    /**
+     *  Returns the coordinates of the points of the given sub path,
+     *  interleaved as {@code x0, y0, x1, y1, …}.
+     *
+     *  @param  subpath The index of the sub path.
+     *  @return A copy of the coordinates.
+     */
+    public final double [] toArray( final int subpath )
+    {
+        final var retValue = copyOfRange( m_Coordinates, getSubpathStart( subpath ) * 2, getSubpathEnd( subpath ) * 2 );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toArray()
+
+    /**
+     *  Appends the given point to the coordinates.
+     *
+     *  @param  x   The x coordinate.
+     *  @param  y   The y coordinate.
+     */
+    private final void append( final double x, final double y )
+    {
+        ensureCapacity( 1 );
+        final var offset = m_PointCount * 2;
+        m_Coordinates [offset] = x;
+        m_Coordinates [offset + 1] = y;
+        ++m_PointCount;
+    }   //  append()
+
+    /**
+     *  Checks the given point index.
+     *
+     *  @param  index   The index of a point.
+     *  @throws IndexOutOfBoundsException   The index is invalid.
+     */
+    private final void checkPoint( final int index )
+    {
+        if( index < 0 || index >= m_PointCount ) throw new IndexOutOfBoundsException( index );
+    }   //  checkPoint()
+
+    /**
+     *  Checks the given sub path index.
+     *
+     *  @param  subpath The index of a sub path.
+     *  @throws IndexOutOfBoundsException   The index is invalid.
+     */
+    private final void checkSubpath( final int subpath )
+    {
+        if( subpath < 0 || subpath >= m_SubpathCount ) throw new IndexOutOfBoundsException( subpath );
+    }   //  checkSubpath()
+
+    /**
+     *  Returns the square of the distance of the given point from the line
+     *  segment between the two other given points.
+     *
+     *  @param  index   The index of the point.
+     *  @param  from    The index of the first point of the line segment.
+     *  @param  to  The index of the last point of the line segment.
+     *  @return The square of the distance.
+     */
+    private final double squaredDistance( final int index, final int from, final int to )
+    {
+        final var x = m_Coordinates [index * 2];
+        final var y = m_Coordinates [index * 2 + 1];
+        final var x1 = m_Coordinates [from * 2];
+        final var y1 = m_Coordinates [from * 2 + 1];
+        final var dx = m_Coordinates [to * 2] - x1;
+        final var dy = m_Coordinates [to * 2 + 1] - y1;
+        final var length = dx * dx + dy * dy;
+        var t = length > 0 ? ((x - x1) * dx + (y - y1) * dy) / length : 0.0;
+        t = t < 0 ? 0 : (t > 1 ? 1 : t);
+        final var ex = x1 + t * dx - x;
+        final var ey = y1 + t * dy - y;
+        final var retValue = ex * ex + ey * ey;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  squaredDistance()
+}
+//  class PolylineBuffer
+
+/*
+ *  End of File
+ */
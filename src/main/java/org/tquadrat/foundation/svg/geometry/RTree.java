@@ -0,0 +1,697 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  <p>{@summary An R-tree} that stores values together with their
+ *  bounding boxes, and allows to find all values whose bounding boxes
+ *  intersect a given window or contain a given point.</p>
+ *  <p>A tree for a known set of values should be created with
+ *  {@link #bulkLoad(double[], List, int)};
+ *  this uses the <i>Sort-Tile-Recursive</i> (STR) algorithm that produces
+ *  nearly optimal, fully packed nodes. Values can be added later with
+ *  {@link #insert(double, double, double, double, Object)}.</p>
+ *  <p>The bounding boxes are stored in primitive arrays; no
+ *  {@link BoundingBox}
+ *  instances are created for the entries.</p>
+ *  <p>Instances of this class are not thread-safe; concurrent queries are
+ *  possible as long as no values are added.</p>
+ *
+ *  @param  <T> The type of the values.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: RTree.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: RTree.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class RTree<T>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A node of the tree.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: RTree.java 1171 2026-10-18 11:37:05Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: RTree.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    private static final class Node
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The bounding boxes of the entries, four values per entry.
+         */
+        final double [] m_Boxes;
+
+        /**
+         *  The number of entries.
+         */
+        int m_Count = 0;
+
+        /**
+         *  The entries; either the values (for a leaf) or the child nodes.
+         */
+        final Object [] m_Entries;
+
+        /**
+         *  {@code true} if this node is a leaf, {@code false} otherwise.
+         */
+        final boolean m_IsLeaf;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Node} instance.
+         *
+         *  @param  isLeaf  {@code true} if the node is a leaf, {@code false}
+         *      otherwise.
+         *  @param  capacity    The capacity of the node; one more than the
+         *      maximum number of entries, to allow an overflow before the
+         *      split.
+         */
+        Node( final boolean isLeaf, final int capacity )
+        {
+            m_IsLeaf = isLeaf;
+            m_Boxes = new double [capacity * 4];
+            m_Entries = new Object [capacity];
+        }   //  Node()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds an entry.
+         *
+         *  @param  minX    The smallest x coordinate of the entry.
+         *  @param  minY    The smallest y coordinate of the entry.
+         *  @param  maxX    The largest x coordinate of the entry.
+         *  @param  maxY    The largest y coordinate of the entry.
+         *  @param  entry   The entry.
+         */
+        final void add( final double minX, final double minY, final double maxX, final double maxY, final Object entry )
+        {
+            final var offset = m_Count * 4;
+            m_Boxes [offset] = minX;
+            m_Boxes [offset + 1] = minY;
+            m_Boxes [offset + 2] = maxX;
+            m_Boxes [offset + 3] = maxY;
+            m_Entries [m_Count++] = entry;
+        }   //  add()
+
+        /**
+         *  Adds a child node as an entry.
+         *
+         *  @param  child   The child node.
+         */
+        final void add( final Node child )
+        {
+            final var bounds = child.bounds();
+            add( bounds [0], bounds [1], bounds [2], bounds [3], child );
+        }   //  add()
+
+        /**
+         *  Calculates the bounds of this node.
+         *
+         *  @return The bounds as an array of four values.
+         */
+        final double [] bounds()
+        {
+            final var retValue = new double [] {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            for( var i = 0; i < m_Count; ++i )
+            {
+                final var offset = i * 4;
+                retValue [0] = min( retValue [0], m_Boxes [offset] );
+                retValue [1] = min( retValue [1], m_Boxes [offset + 1] );
+                retValue [2] = max( retValue [2], m_Boxes [offset + 2] );
+                retValue [3] = max( retValue [3], m_Boxes [offset + 3] );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  bounds()
+    }
+    //  class Node
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default maximum number of entries per node: {@value}.
+     */
+    public static final int DEFAULT_NODE_CAPACITY = 16;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The maximum number of entries per node.
+     */
+    private final int m_NodeCapacity;
+
+    /**
+     *  The root node.
+     */
+    private Node m_Root;
+
+    /**
+     *  The number of values in this tree.
+     */
+    private int m_Size = 0;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new, empty {@code RTree} instance with the
+     *  {@linkplain #DEFAULT_NODE_CAPACITY default node capacity}.
+     */
+    public RTree() { this( DEFAULT_NODE_CAPACITY ); }
+
+    /**
+     *  Creates a new, empty {@code RTree} instance.
+     *
+     *  @param  nodeCapacity    The maximum number of entries per node; must
+     *      be at least 4.
+     */
+    public RTree( final int nodeCapacity )
+    {
+        if( nodeCapacity < 4 ) throw new IllegalArgumentException( "nodeCapacity must be at least 4" );
+        m_NodeCapacity = nodeCapacity;
+        m_Root = new Node( true, nodeCapacity + 1 );
+    }   //  RTree()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a new tree from the given values, using the
+     *  <i>Sort-Tile-Recursive</i> algorithm.
+     *
+     *  @param  <V> The type of the values.
+     *  @param  boxes   The bounding boxes for the values, four values
+     *      ({@code minX, minY, maxX, maxY}) for each value.
+     *  @param  values  The values.
+     *  @param  nodeCapacity    The maximum number of entries per node; must
+     *      be at least 4.
+     *  @return The new tree.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final <V> RTree<V> bulkLoad( final double [] boxes, final List<? extends V> values, final int nodeCapacity )
+    {
+        requireNonNullArgument( boxes, "boxes" );
+        requireNonNullArgument( values, "values" );
+        final var count = values.size();
+        if( boxes.length != count * 4 ) throw new IllegalArgumentException( "The number of bounding boxes does not match the number of values" );
+
+        final var retValue = new RTree<V>( nodeCapacity );
+        if( count > 0 )
+        {
+            //---* Pack the values into leaves *-------------------------------
+            final var entries = values.toArray();
+            var level = pack( boxes, entries, count, true, nodeCapacity );
+
+            //---* Pack the nodes until only the root is left *----------------
+            while( level.length > 1 )
+            {
+                final var levelBoxes = new double [level.length * 4];
+                for( var i = 0; i < level.length; ++i )
+                {
+                    System.arraycopy( ((Node) level [i]).bounds(), 0, levelBoxes, i * 4, 4 );
+                }
+                level = pack( levelBoxes, level, level.length, false, nodeCapacity );
+            }
+            retValue.m_Root = (Node) level [0];
+            retValue.m_Size = count;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  bulkLoad()
+
+    /**
+     *  Chooses the entry of the given node whose bounding box needs the least
+     *  enlargement to include the given box; ties are resolved by the
+     *  smallest area.
+     *
+     *  @param  node    The node.
+     *  @param  minX    The smallest x coordinate of the new box.
+     *  @param  minY    The smallest y coordinate of the new box.
+     *  @param  maxX    The largest x coordinate of the new box.
+     *  @param  maxY    The largest y coordinate of the new box.
+     *  @return The index of the chosen entry.
+     */
+    private static int chooseSubtree( final Node node, final double minX, final double minY, final double maxX, final double maxY )
+    {
+        var retValue = 0;
+        var bestEnlargement = Double.POSITIVE_INFINITY;
+        var bestArea = Double.POSITIVE_INFINITY;
+        final var boxes = node.m_Boxes;
+        for( var i = 0; i < node.m_Count; ++i )
+        {
+            final var offset = i * 4;
+            final var area = (boxes [offset + 2] - boxes [offset]) * (boxes [offset + 3] - boxes [offset + 1]);
+            final var enlarged = (max( boxes [offset + 2], maxX ) - min( boxes [offset], minX )) * (max( boxes [offset + 3], maxY ) - min( boxes [offset + 1], minY ));
+            final var enlargement = enlarged - area;
+            if( enlargement < bestEnlargement || (enlargement == bestEnlargement && area < bestArea) )
+            {
+                retValue = i;
+                bestEnlargement = enlargement;
+                bestArea = area;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  chooseSubtree()
+
+    /**
+     *  Removes all values from this tree.
+     */
+    public final void clear()
+    {
+        m_Root = new Node( true, m_NodeCapacity + 1 );
+        m_Size = 0;
+    }   //  clear()
+
+    /**
+     *  Returns the bounding box of all values in this tree.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the tree is empty.
+     */
+    public final Optional<BoundingBox> getBounds()
+    {
+        final var bounds = m_Root.bounds();
+        final var retValue = m_Size == 0 ? Optional.<BoundingBox>empty() : Optional.of( new BoundingBox( bounds [0], bounds [1], bounds [2], bounds [3] ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBounds()
+
+    /**
+     *  Returns the height of this tree; a tree that consists only of the
+     *  root has the height 1.
+     *
+     *  @return The height.
+     */
+    public final int getHeight()
+    {
+        var retValue = 1;
+        var node = m_Root;
+        while( !node.m_IsLeaf )
+        {
+            node = (Node) node.m_Entries [0];
+            ++retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getHeight()
+
+    /**
+     *  Adds a value to this tree.
+     *
+     *  @param  minX    The smallest x coordinate of the value's bounding box.
+     *  @param  minY    The smallest y coordinate of the value's bounding box.
+     *  @param  maxX    The largest x coordinate of the value's bounding box.
+     *  @param  maxY    The largest y coordinate of the value's bounding box.
+     *  @param  value   The value.
+     */
+    public final void insert( final double minX, final double minY, final double maxX, final double maxY, final T value )
+    {
+        if( !(minX <= maxX) || !(minY <= maxY) ) throw new IllegalArgumentException( "Invalid bounds" );
+        final var sibling = insert( m_Root, minX, minY, maxX, maxY, value );
+        if( sibling != null )
+        {
+            final var newRoot = new Node( false, m_NodeCapacity + 1 );
+            newRoot.add( m_Root );
+            newRoot.add( sibling );
+            m_Root = newRoot;
+        }
+        ++m_Size;
+    }   //  insert()
+
+    /**
+     *  Adds a value to this tree.
+     *
+     *  @param  box The bounding box of the value.
+     *  @param  value   The value.
+     */
+    public final void insert( final BoundingBox box, final T value )
+    {
+        requireNonNullArgument( box, "box" );
+        insert( box.getMinX(), box.getMinY(), box.getMaxX(), box.getMaxY(), value );
+    }   //  insert()
+
+    /**
+     *  Adds a value to the given subtree.
+     *
+     *  @param  node    The root of the subtree.
+     *  @param  minX    The smallest x coordinate of the value's bounding box.
+     *  @param  minY    The smallest y coordinate of the value's bounding box.
+     *  @param  maxX    The largest x coordinate of the value's bounding box.
+     *  @param  maxY    The largest y coordinate of the value's bounding box.
+     *  @param  value   The value.
+     *  @return The new sibling if the node was split, {@code null}
+     *      otherwise.
+     */
+    private final Node insert( final Node node, final double minX, final double minY, final double maxX, final double maxY, final Object value )
+    {
+        Node retValue = null;
+        if( node.m_IsLeaf )
+        {
+            node.add( minX, minY, maxX, maxY, value );
+        }
+        else
+        {
+            final var index = chooseSubtree( node, minX, minY, maxX, maxY );
+            final var child = (Node) node.m_Entries [index];
+            final var sibling = insert( child, minX, minY, maxX, maxY, value );
+            final var offset = index * 4;
+            if( sibling == null )
+            {
+                node.m_Boxes [offset] = min( node.m_Boxes [offset], minX );
+                node.m_Boxes [offset + 1] = min( node.m_Boxes [offset + 1], minY );
+                node.m_Boxes [offset + 2] = max( node.m_Boxes [offset + 2], maxX );
+                node.m_Boxes [offset + 3] = max( node.m_Boxes [offset + 3], maxY );
+            }
+            else
+            {
+                System.arraycopy( child.bounds(), 0, node.m_Boxes, offset, 4 );
+                node.add( sibling );
+            }
+        }
+        if( node.m_Count > m_NodeCapacity ) retValue = split( node );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  insert()
+
+    /**
+     *  Checks whether this tree is empty.
+     *
+     *  @return {@code true} if the tree is empty, {@code false} otherwise.
+     */
+    public final boolean isEmpty() { return m_Size == 0; }
+
+    /**
+     *  Packs the given entries into nodes, using the
+     *  <i>Sort-Tile-Recursive</i> algorithm.
+     *
+     *  @param  boxes   The bounding boxes of the entries.
+     *  @param  entries The entries.
+     *  @param  count   The number of entries.
+     *  @param  isLeaf  {@code true} if leaves should be created,
+     *      {@code false} for inner nodes.
+     *  @param  nodeCapacity    The maximum number of entries per node.
+     *  @return The new nodes.
+     */
+    private static Object [] pack( final double [] boxes, final Object [] entries, final int count, final boolean isLeaf, final int nodeCapacity )
+    {
+        final var nodeCount = (count + nodeCapacity - 1) / nodeCapacity;
+        final var sliceCount = (int) ceil( sqrt( nodeCount ) );
+        final var sliceSize = sliceCount * nodeCapacity;
+
+        //---* Sort by the centre on the x axis *------------------------------
+        final var indexes = new int [count];
+        final var keys = new double [count];
+        for( var i = 0; i < count; ++i )
+        {
+            indexes [i] = i;
+            keys [i] = boxes [i * 4] + boxes [i * 4 + 2];
+        }
+        sort( indexes, keys, 0, count - 1 );
+
+        //---* Sort each slice by the centre on the y axis *-------------------
+        for( var i = 0; i < count; ++i ) keys [i] = boxes [i * 4 + 1] + boxes [i * 4 + 3];
+        for( var start = 0; start < count; start += sliceSize )
+        {
+            sort( indexes, keys, start, min( start + sliceSize, count ) - 1 );
+        }
+
+        //---* Create the nodes *----------------------------------------------
+        final var retValue = new Object [nodeCount];
+        for( var n = 0; n < nodeCount; ++n )
+        {
+            final var node = new Node( isLeaf, nodeCapacity + 1 );
+            final var end = min( (n + 1) * nodeCapacity, count );
+            for( var i = n * nodeCapacity; i < end; ++i )
+            {
+                final var offset = indexes [i] * 4;
+                node.add( boxes [offset], boxes [offset + 1], boxes [offset + 2], boxes [offset + 3], entries [indexes [i]] );
+            }
+            retValue [n] = node;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  pack()
+
+    /**
+     *  Returns all values whose bounding boxes contain the given point.
+     *
+     *  @param  x   The x coordinate of the point.
+     *  @param  y   The y coordinate of the point.
+     *  @return The values.
+     */
+    public final List<T> search( final double x, final double y ) { return search( x, y, x, y ); }
+
+    /**
+     *  Returns all values whose bounding boxes intersect with the given
+     *  window.
+     *
+     *  @param  minX    The smallest x coordinate of the window.
+     *  @param  minY    The smallest y coordinate of the window.
+     *  @param  maxX    The largest x coordinate of the window.
+     *  @param  maxY    The largest y coordinate of the window.
+     *  @return The values.
+     */
+    public final List<T> search( final double minX, final double minY, final double maxX, final double maxY )
+    {
+        final List<T> retValue = new ArrayList<>();
+        search( minX, minY, maxX, maxY, retValue::add );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  search()
+
+    /**
+     *  Calls the given action for all values whose bounding boxes intersect
+     *  with the given window.
+     *
+     *  @param  minX    The smallest x coordinate of the window.
+     *  @param  minY    The smallest y coordinate of the window.
+     *  @param  maxX    The largest x coordinate of the window.
+     *  @param  maxY    The largest y coordinate of the window.
+     *  @param  action  The action.
+     *  @return The number of values that were found.
+     */
+    public final int search( final double minX, final double minY, final double maxX, final double maxY, final Consumer<? super T> action )
+    {
+        requireNonNullArgument( action, "action" );
+        final var retValue = m_Size == 0 ? 0 : search( m_Root, minX, minY, maxX, maxY, action );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  search()
+
+    /**
+     *  Returns all values whose bounding boxes intersect with the given
+     *  window.
+     *
+     *  @param  window  The window.
+     *  @return The values.
+     */
+    public final List<T> search( final BoundingBox window )
+    {
+        requireNonNullArgument( window, "window" );
+
+        //---* Done *----------------------------------------------------------
+        return search( window.getMinX(), window.getMinY(), window.getMaxX(), window.getMaxY() );
+    }   //  search()
+
+    /**
+     *  Searches the given subtree.
+     *
+     *  @param  node    The root of the subtree.
+     *  @param  minX    The smallest x coordinate of the window.
+     *  @param  minY    The smallest y coordinate of the window.
+     *  @param  maxX    The largest x coordinate of the window.
+     *  @param  maxY    The largest y coordinate of the window.
+     *  @param  action  The action.
+     *  @return The number of values that were found.
+     */
+    @SuppressWarnings( "unchecked" )
+    private static <V> int search( final Node node, final double minX, final double minY, final double maxX, final double maxY, final Consumer<? super V> action )
+    {
+        var retValue = 0;
+        final var boxes = node.m_Boxes;
+        for( var i = 0; i < node.m_Count; ++i )
+        {
+            final var offset = i * 4;
+            if( minX <= boxes [offset + 2] && maxX >= boxes [offset] && minY <= boxes [offset + 3] && maxY >= boxes [offset + 1] )
+            {
+                if( node.m_IsLeaf )
+                {
+                    action.accept( (V) node.m_Entries [i] );
+                    ++retValue;
+                }
+                else
+                {
+                    retValue += search( (Node) node.m_Entries [i], minX, minY, maxX, maxY, action );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  search()
+
+    /**
+     *  Returns the number of values in this tree.
+     *
+     *  @return The number of values.
+     */
+    public final int size() { return m_Size; }
+
+    /**
+     *  Sorts the given indexes by the given keys (quicksort).
+     *
+     *  @param  indexes The indexes.
+     *  @param  keys    The keys, addressed by the indexes.
+     *  @param  low The first position to sort.
+     *  @param  high    The last position to sort.
+     */
+    private static void sort( final int [] indexes, final double [] keys, final int low, final int high )
+    {
+        var lo = low;
+        var hi = high;
+        while( lo < hi )
+        {
+            final var pivot = keys [indexes [(lo + hi) >>> 1]];
+            var i = lo;
+            var j = hi;
+            while( i <= j )
+            {
+                while( keys [indexes [i]] < pivot ) ++i;
+                while( keys [indexes [j]] > pivot ) --j;
+                if( i <= j )
+                {
+                    final var swap = indexes [i];
+                    indexes [i++] = indexes [j];
+                    indexes [j--] = swap;
+                }
+            }
+
+            //---* Recurse into the smaller part, loop for the larger one *-----
+            if( j - lo < hi - i )
+            {
+                sort( indexes, keys, lo, j );
+                lo = i;
+            }
+            else
+            {
+                sort( indexes, keys, i, hi );
+                hi = j;
+            }
+        }
+    }   //  sort()
+
+    /**
+     *  Splits the given node that overflowed; the entries are sorted along
+     *  the axis in which their centres are spread most, and the upper half
+     *  is moved to a new node.
+     *
+     *  @param  node    The node.
+     *  @return The new node.
+     */
+    private final Node split( final Node node )
+    {
+        final var count = node.m_Count;
+        final var boxes = node.m_Boxes;
+        double minCX = Double.POSITIVE_INFINITY, maxCX = Double.NEGATIVE_INFINITY;
+        double minCY = Double.POSITIVE_INFINITY, maxCY = Double.NEGATIVE_INFINITY;
+        for( var i = 0; i < count; ++i )
+        {
+            final var cx = boxes [i * 4] + boxes [i * 4 + 2];
+            final var cy = boxes [i * 4 + 1] + boxes [i * 4 + 3];
+            minCX = min( minCX, cx );
+            maxCX = max( maxCX, cx );
+            minCY = min( minCY, cy );
+            maxCY = max( maxCY, cy );
+        }
+        final var axis = (maxCX - minCX) >= (maxCY - minCY) ? 0 : 1;
+
+        final var indexes = new int [count];
+        final var keys = new double [count];
+        for( var i = 0; i < count; ++i )
+        {
+            indexes [i] = i;
+            keys [i] = boxes [i * 4 + axis] + boxes [i * 4 + 2 + axis];
+        }
+        sort( indexes, keys, 0, count - 1 );
+
+        final var oldBoxes = boxes.clone();
+        final var oldEntries = node.m_Entries.clone();
+        final var half = count / 2;
+        final var retValue = new Node( node.m_IsLeaf, m_NodeCapacity + 1 );
+        node.m_Count = 0;
+        for( var i = 0; i < count; ++i )
+        {
+            final var offset = indexes [i] * 4;
+            final var target = i < half ? node : retValue;
+            target.add( oldBoxes [offset], oldBoxes [offset + 1], oldBoxes [offset + 2], oldBoxes [offset + 3], oldEntries [indexes [i]] );
+        }
+        for( var i = node.m_Count; i < node.m_Entries.length; ++i ) node.m_Entries [i] = null;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  split()
+}
+//  class RTree
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,554 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Class;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Fill;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerEnd;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerMid;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_MarkerStart;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Stroke;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Style;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Line;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_PolyLine;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Polygon;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Clips polylines, polygons, path definitions and shapes
+ *  against an axis aligned rectangle.}</p>
+ *  <p>When only the part of a shape inside a rectangle should be visible,
+ *  the methods of this class can be used instead of a
+ *  {@link org.tquadrat.foundation.svg.SVGClipPath}
+ *  with a rectangle: the geometry outside the rectangle is removed from
+ *  the document, instead of being clipped by the renderer over and over
+ *  again. Path definitions are clipped by a
+ *  {@link PathClipper},
+ *  without flattening the curves.</p>
+ *  <p>Closed sub paths are treated as polygons and clipped with the
+ *  Sutherland-Hodgman algorithm; the result is again a closed sub path,
+ *  that may have edges on the border of the rectangle. Open sub paths are
+ *  clipped segment by segment with the Liang-Barsky algorithm; each part
+ *  of an open sub path that is inside the rectangle becomes a sub path of
+ *  its own.</p>
+ *  <p>For a
+ *  {@link PolylineBuffer},
+ *  this means that the result is correct for filled shapes when all its
+ *  sub paths are closed, and for shapes that are not filled. For a filled
+ *  shape with open sub paths, the fill of the result would differ from that
+ *  of the original, because SVG closes these sub paths implicitly for the
+ *  fill. The methods for path definitions and shapes take the fill into
+ *  account.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: RectangleClipper.java 1198 2026-10-19 21:46:12Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: RectangleClipper.java 1198 2026-10-19 21:46:12Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@UtilityClass
+public final class RectangleClipper
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private RectangleClipper() { throw new PrivateConstructorForStaticClassCalledError( RectangleClipper.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Clips the given polyline against the given window.
+     *
+     *  @param  polyline    The polyline.
+     *  @param  window  The window.
+     *  @return The clipped polyline; it is empty if nothing of the polyline
+     *      is inside the window.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final PolylineBuffer clip( final PolylineBuffer polyline, final BoundingBox window )
+    {
+        requireNonNullArgument( polyline, "polyline" );
+        requireNonNullArgument( window, "window" );
+
+        final var retValue = new PolylineBuffer( polyline.getPointCount() );
+        for( var subpath = 0; subpath < polyline.getSubpathCount(); ++subpath )
+        {
+            if( polyline.isClosed( subpath ) )
+            {
+                clipPolygon( polyline, polyline.getSubpathStart( subpath ), polyline.getSubpathEnd( subpath ), window, retValue );
+            }
+            else
+            {
+                clipPolyline( polyline, polyline.getSubpathStart( subpath ), polyline.getSubpathEnd( subpath ), window, retValue );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clip()
+
+    /**
+     *  Clips the given path definition against the given window.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @param  window  The window.
+     *  @param  isFilled    {@code true} if the path is filled, {@code false}
+     *      if only its outline is visible.
+     *  @param  precision   The number of fractional digits for the
+     *      coordinates of the result.
+     *  @return The clipped path definition; it is empty if nothing of the
+     *      path is inside the window.
+     *  @throws IllegalArgumentException    The path definition is invalid.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final String clip( final CharSequence pathDefinition, final BoundingBox window, final boolean isFilled, final int precision ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( pathDefinition, "pathDefinition" );
+        requireNonNullArgument( window, "window" );
+
+        final var writer = new PathWriter( precision );
+        PathDataParser.parse( pathDefinition, new PathClipper( window, isFilled, writer ) );
+        final var retValue = writer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clip()
+
+    /**
+     *  <p>{@summary Clips the given shape against the given window}; the
+     *  shape will not be modified. Whether the shape is filled or stroked
+     *  is determined from its own attributes only, with the defaults of the
+     *  SVG specification: shapes are filled, but not stroked. A shape with
+     *  a {@code style} or {@code class} attribute is treated as filled and
+     *  stroked.</p>
+     *
+     *  @param  shape   The shape.
+     *  @param  window  The window, in the coordinate system of the shape's
+     *      geometry, that is, after its own transformation is applied.
+     *  @param  precision   The number of fractional digits for the
+     *      coordinates of the result.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the clipped shape, or the shape itself if it cannot be
+     *      clipped; empty if nothing of the shape is inside the window.
+     *  @throws IllegalArgumentException    The geometry of the shape is
+     *      invalid.
+     *
+     *  @see #clip(Element, BoundingBox, boolean, boolean, int)
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<Element> clip( final Element shape, final BoundingBox window, final int precision ) throws IllegalArgumentException
+    {
+        final var retValue = clip( shape, window, isFilled( requireNonNullArgument( shape, "shape" ), true ), isStroked( shape, false ), precision );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clip()
+
+    /**
+     *  <p>{@summary Clips the given shape against the given window}; the
+     *  shape will not be modified.</p>
+     *  <p>Paths, polylines, polygons and lines can be clipped; the result
+     *  of a polygon is a polygon again if the polygon is filled, otherwise
+     *  it is a path, as is the result of a polyline or a line. The
+     *  attributes of the shape are kept, with the exception of those for the
+     *  geometry. All other shapes are returned unchanged, as are shapes with
+     *  markers, and shapes that are filled and stroked while they have open
+     *  sub paths, as the clipping would add a stroked edge to them.</p>
+     *
+     *  @param  shape   The shape.
+     *  @param  window  The window, in the coordinate system of the shape's
+     *      geometry, that is, after its own transformation is applied.
+     *  @param  isFilled    {@code true} if the shape is filled, or may be
+     *      filled, {@code false} if it is definitely not filled.
+     *  @param  isStroked   {@code true} if the shape is stroked, or may be
+     *      stroked, {@code false} if it is definitely not stroked.
+     *  @param  precision   The number of fractional digits for the
+     *      coordinates of the result.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the clipped shape, or the shape itself if it cannot be
+     *      clipped; empty if nothing of the shape is inside the window.
+     *  @throws IllegalArgumentException    The geometry of the shape is
+     *      invalid.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<Element> clip( final Element shape, final BoundingBox window, final boolean isFilled, final boolean isStroked, final int precision ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( shape, "shape" );
+        requireNonNullArgument( window, "window" );
+
+        Optional<Element> retValue = Optional.of( shape );
+        final var name = shape.getElementName();
+        final var attributes = shape.getAttributes();
+        final var hasMarkers = attributes.containsKey( SVGATTRIBUTE_MarkerStart ) || attributes.containsKey( SVGATTRIBUTE_MarkerMid ) || attributes.containsKey( SVGATTRIBUTE_MarkerEnd );
+        final var isClippable = switch( name )
+        {
+            case SVGELEMENT_Path, SVGELEMENT_PolyLine, SVGELEMENT_Polygon, SVGELEMENT_Line -> true;
+            default -> false;
+        };
+        if( isClippable && !hasMarkers && canCopy( shape.getChildren() ) )
+        {
+            //---* A line has no fill *----------------------------------------
+            final var isFillRelevant = isFilled && !SVGELEMENT_Line.equals( name );
+
+            //---* A filled polygon remains a polygon *------------------------
+            final var isPolygon = isFillRelevant && SVGELEMENT_Polygon.equals( name );
+            final var polygon = new PolylineBuffer();
+            final var writer = new PathWriter( precision );
+            final var clipper = new PathClipper( window, isFillRelevant, isPolygon ? new PathFlattener( 1.0, polygon ) : writer );
+
+            //---* Clip the geometry *-----------------------------------------
+            switch( name )
+            {
+                case SVGELEMENT_Path -> PathDataParser.parse( attributes.getOrDefault( SVGATTRIBUTE_PathDefinition, "" ), clipper );
+                case SVGELEMENT_PolyLine, SVGELEMENT_Polygon ->
+                {
+                    final var scanner = new DataScanner( attributes.getOrDefault( SVGATTRIBUTE_Points, "" ) );
+                    var isFirst = true;
+                    while( scanner.hasNumber() )
+                    {
+                        final var x = scanner.nextNumber();
+                        final var y = scanner.nextNumber();
+                        if( isFirst )
+                        {
+                            clipper.moveTo( x, y );
+                            isFirst = false;
+                        }
+                        else
+                        {
+                            clipper.lineTo( x, y );
+                        }
+                    }
+                    if( !scanner.atEnd() ) throw scanner.error();
+                    if( !isFirst && SVGELEMENT_Polygon.equals( name ) ) clipper.closePath();
+                    clipper.endPath();
+                }
+                default ->
+                {
+                    clipper.moveTo( ElementBounds.parseLength( attributes.getOrDefault( SVGATTRIBUTE_x1, "0" ) ), ElementBounds.parseLength( attributes.getOrDefault( SVGATTRIBUTE_y1, "0" ) ) );
+                    clipper.lineTo( ElementBounds.parseLength( attributes.getOrDefault( SVGATTRIBUTE_x2, "0" ) ), ElementBounds.parseLength( attributes.getOrDefault( SVGATTRIBUTE_y2, "0" ) ) );
+                    clipper.endPath();
+                }
+            }
+
+            //---* Create the result *-----------------------------------------
+            if( !(isFillRelevant && isStroked && clipper.hasOpenSubpaths()) )
+            {
+                final Map<String,String> newAttributes = new LinkedHashMap<>( attributes );
+                newAttributes.remove( SVGATTRIBUTE_Points );
+                newAttributes.remove( SVGATTRIBUTE_x1 );
+                newAttributes.remove( SVGATTRIBUTE_y1 );
+                newAttributes.remove( SVGATTRIBUTE_x2 );
+                newAttributes.remove( SVGATTRIBUTE_y2 );
+                if( isPolygon )
+                {
+                    if( polygon.isEmpty() )
+                    {
+                        retValue = Optional.empty();
+                    }
+                    else
+                    {
+                        final var points = new StringBuilder();
+                        for( var i = 0; i < polygon.getPointCount(); ++i )
+                        {
+                            if( i > 0 ) points.append( ' ' );
+                            PathWriter.appendNumber( points, polygon.getX( i ), precision );
+                            points.append( ',' );
+                            PathWriter.appendNumber( points, polygon.getY( i ), precision );
+                        }
+                        newAttributes.put( SVGATTRIBUTE_Points, points.toString() );
+                        retValue = Optional.of( copy( shape, SVGELEMENT_Polygon, newAttributes, shape.getChildren() ) );
+                    }
+                }
+                else
+                {
+                    final var pathDefinition = writer.toString();
+                    if( pathDefinition.isEmpty() )
+                    {
+                        retValue = Optional.empty();
+                    }
+                    else
+                    {
+                        newAttributes.put( SVGATTRIBUTE_PathDefinition, pathDefinition );
+                        retValue = Optional.of( copy( shape, SVGELEMENT_Path, newAttributes, shape.getChildren() ) );
+                    }
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clip()
+
+    /**
+     *  Clips a closed sub path with the Sutherland-Hodgman algorithm.
+     *
+     *  @param  source  The buffer with the sub path.
+     *  @param  start   The index of the first point of the sub path.
+     *  @param  end The index after the last point of the sub path.
+     *  @param  window  The window.
+     *  @param  target  The buffer that receives the result.
+     */
+    private static void clipPolygon( final PolylineBuffer source, final int start, final int end, final BoundingBox window, final PolylineBuffer target )
+    {
+        var count = end - start;
+        var xs = new double [count];
+        var ys = new double [count];
+        for( var i = 0; i < count; ++i )
+        {
+            xs [i] = source.getX( start + i );
+            ys [i] = source.getY( start + i );
+        }
+
+        //---* Clip against the four edges, one after the other *--------------
+        for( var edge = 0; (edge < 4) && (count > 0); ++edge )
+        {
+            final var border = switch( edge )
+            {
+                case 0 -> window.getMinX();
+                case 1 -> window.getMaxX();
+                case 2 -> window.getMinY();
+                default -> window.getMaxY();
+            };
+            final var isVertical = edge < 2;
+            final var isMinimum = (edge & 1) == 0;
+            final var outXs = new double [count * 2];
+            final var outYs = new double [count * 2];
+            var outCount = 0;
+            var previousX = xs [count - 1];
+            var previousY = ys [count - 1];
+            var previousInside = isInside( isVertical ? previousX : previousY, border, isMinimum );
+            for( var i = 0; i < count; ++i )
+            {
+                final var x = xs [i];
+                final var y = ys [i];
+                final var inside = isInside( isVertical ? x : y, border, isMinimum );
+                if( inside != previousInside )
+                {
+                    //---* The edge crosses the border *-----------------------
+                    if( isVertical )
+                    {
+                        outXs [outCount] = border;
+                        outYs [outCount] = previousY + (border - previousX) / (x - previousX) * (y - previousY);
+                    }
+                    else
+                    {
+                        outXs [outCount] = previousX + (border - previousY) / (y - previousY) * (x - previousX);
+                        outYs [outCount] = border;
+                    }
+                    ++outCount;
+                }
+                if( inside )
+                {
+                    outXs [outCount] = x;
+                    outYs [outCount] = y;
+                    ++outCount;
+                }
+                previousX = x;
+                previousY = y;
+                previousInside = inside;
+            }
+            xs = outXs;
+            ys = outYs;
+            count = outCount;
+        }
+
+        //---* Write the result *----------------------------------------------
+        if( count > 0 )
+        {
+            target.moveTo( xs [0], ys [0] );
+            for( var i = 1; i < count; ++i ) target.lineTo( xs [i], ys [i] );
+            target.closeSubpath();
+        }
+    }   //  clipPolygon()
+
+    /**
+     *  Clips an open sub path with the Liang-Barsky algorithm.
+     *
+     *  @param  source  The buffer with the sub path.
+     *  @param  start   The index of the first point of the sub path.
+     *  @param  end The index after the last point of the sub path.
+     *  @param  window  The window.
+     *  @param  target  The buffer that receives the result.
+     */
+    private static void clipPolyline( final PolylineBuffer source, final int start, final int end, final BoundingBox window, final PolylineBuffer target )
+    {
+        if( end - start == 1 )
+        {
+            //---* A single point *--------------------------------------------
+            if( window.contains( source.getX( start ), source.getY( start ) ) ) target.moveTo( source.getX( start ), source.getY( start ) );
+        }
+        else
+        {
+            var isConnected = false;
+            for( var i = start + 1; i < end; ++i )
+            {
+                final var x0 = source.getX( i - 1 );
+                final var y0 = source.getY( i - 1 );
+                final var dx = source.getX( i ) - x0;
+                final var dy = source.getY( i ) - y0;
+
+                //---* Determine the visible part of the segment *-------------
+                var t0 = 0.0;
+                var t1 = 1.0;
+                final double [] p = { -dx, dx, -dy, dy };
+                final double [] q = { x0 - window.getMinX(), window.getMaxX() - x0, y0 - window.getMinY(), window.getMaxY() - y0 };
+                var isVisible = true;
+                for( var edge = 0; isVisible && (edge < 4); ++edge )
+                {
+                    if( p [edge] == 0 )
+                    {
+                        isVisible = q [edge] >= 0;
+                    }
+                    else
+                    {
+                        final var r = q [edge] / p [edge];
+                        if( p [edge] < 0 )
+                        {
+                            t0 = max( t0, r );
+                        }
+                        else
+                        {
+                            t1 = min( t1, r );
+                        }
+                        isVisible = t0 <= t1;
+                    }
+                }
+
+                //---* Write the visible part *--------------------------------
+                if( isVisible )
+                {
+                    if( !isConnected || t0 > 0 ) target.moveTo( x0 + t0 * dx, y0 + t0 * dy );
+                    target.lineTo( x0 + t1 * dx, y0 + t1 * dy );
+                    isConnected = t1 >= 1;
+                }
+                else
+                {
+                    isConnected = false;
+                }
+            }
+        }
+    }   //  clipPolyline()
+
+    /**
+     *  Determines whether the given element is filled, according to its
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Fill}
+     *  attribute.
+     *
+     *  @param  element The element.
+     *  @param  inherited   {@code true} if the parent of the element is
+     *      filled, {@code false} otherwise.
+     *  @return {@code true} if the element is filled, or if it may get a
+     *      fill from a style sheet, {@code false} if it is definitely not
+     *      filled.
+     */
+    @API( status = INTERNAL, since = "0.5.0" )
+    static final boolean isFilled( final Element element, final boolean inherited )
+    {
+        return isPainted( element, SVGATTRIBUTE_Fill, inherited );
+    }   //  isFilled()
+
+    /**
+     *  Checks whether the given coordinate is on the inner side of a border.
+     *
+     *  @param  value   The coordinate.
+     *  @param  border  The coordinate of the border.
+     *  @param  isMinimum   {@code true} if the border is the minimum,
+     *      {@code false} if it is the maximum.
+     *  @return {@code true} if the coordinate is inside, {@code false}
+     *      otherwise.
+     */
+    private static boolean isInside( final double value, final double border, final boolean isMinimum )
+    {
+        return isMinimum ? value >= border : value <= border;
+    }   //  isInside()
+    /**
+     *  Determines whether the given paint attribute of an element is set to
+     *  a value other than {@code none}.
+     *
+     *  @param  element The element.
+     *  @param  attribute   The name of the paint attribute.
+     *  @param  inherited   The value for the parent of the element.
+     *  @return {@code true} if the element is painted, or if it may get a
+     *      paint from a style sheet, {@code false} if it is definitely not
+     *      painted.
+     */
+    private static boolean isPainted( final Element element, final String attribute, final boolean inherited )
+    {
+        final var attributes = element.getAttributes();
+        var retValue = inherited;
+        if( attributes.containsKey( attribute ) ) retValue = !"none".equals( attributes.get( attribute ).strip() );
+        if( attributes.containsKey( SVGATTRIBUTE_Style ) || attributes.containsKey( SVGATTRIBUTE_Class ) ) retValue = true;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isPainted()
+
+    /**
+     *  Determines whether the given element is stroked, according to its
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Stroke}
+     *  attribute.
+     *
+     *  @param  element The element.
+     *  @param  inherited   {@code true} if the parent of the element is
+     *      stroked, {@code false} otherwise.
+     *  @return {@code true} if the element is stroked, or if it may get a
+     *      stroke from a style sheet, {@code false} if it is definitely not
+     *      stroked.
+     */
+    @API( status = INTERNAL, since = "0.5.0" )
+    static final boolean isStroked( final Element element, final boolean inherited )
+    {
+        return isPainted( element, SVGATTRIBUTE_Stroke, inherited );
+    }   //  isStroked()
+}
+//  class RectangleClipper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,296 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary A spatial index for the elements of an SVG document} that
+ *  answers the questions &quot;which elements intersect this
+ *  rectangle?&quot; and &quot;what is under this point?&quot;.</p>
+ *  <p>The index is an
+ *  {@link RTree}
+ *  over the bounding boxes of the shapes in the document, as determined by
+ *  {@link ElementBounds};
+ *  the bounding boxes are in the coordinate system of the root element, so
+ *  all transformations of the elements and their containers are applied.
+ *  Containers themselves are not part of the index, and neither are
+ *  elements without a bounding box. The queries work on the bounding boxes;
+ *  an element is found by a point query if its bounding box contains the
+ *  point, even when its actual shape does not.</p>
+ *  <p>The index is created with
+ *  {@link #build(SVGElementWithChildren)}.
+ *  Elements that are added to the document later can be added to the index
+ *  with
+ *  {@link #add(SVGElementWithChildren, SVGElement)};
+ *  the index is not updated automatically.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGSpatialIndex
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The callback for the shapes that were found in a subtree.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id: SVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static interface ShapeConsumer
+    {
+        /**
+         *  Receives a shape.
+         *
+         *  @param  box The bounding box of the shape, in the coordinate
+         *      system of the root element.
+         *  @param  shape   The shape.
+         */
+        public void accept( final BoundingBox box, final SVGElement shape );
+    }
+    //  interface ShapeConsumer
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The transformations from the coordinate systems of the known
+     *  containers to that of the root element.
+     */
+    private final Map<Element,AffineMatrix> m_Transformations = new IdentityHashMap<>();
+
+    /**
+     *  The R-tree.
+     */
+    private final RTree<SVGElement> m_Tree;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGSpatialIndex} instance.
+     *
+     *  @param  tree    The R-tree.
+     */
+    private SVGSpatialIndex( final RTree<SVGElement> tree )
+    {
+        m_Tree = tree;
+    }   //  SVGSpatialIndex()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Adds an element to the index. The element should have been added to
+     *  the given parent before, or will be added to it; the parent has to be
+     *  either the root of the index, or a container that is already known to
+     *  the index.
+     *
+     *  @param  parent  The parent of the new element.
+     *  @param  element The new element; if it is a container, all its shapes
+     *      will be added.
+     *  @throws IllegalArgumentException    The parent is not known to this
+     *      index.
+     */
+    public final void add( final SVGElementWithChildren parent, final SVGElement element )
+    {
+        requireNonNullArgument( parent, "parent" );
+        requireNonNullArgument( element, "element" );
+        final var transformation = m_Transformations.get( parent );
+        if( transformation == null ) throw new IllegalArgumentException( "The parent is not part of the index" );
+        collect( element, transformation, ( box, shape ) -> m_Tree.insert( box, shape ) );
+    }   //  add()
+
+    /**
+     *  Creates an index for the given document or subtree, with the
+     *  {@linkplain RTree#DEFAULT_NODE_CAPACITY default node capacity}.
+     *
+     *  @param  root    The root element.
+     *  @return The new index.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGSpatialIndex build( final SVGElementWithChildren root ) { return build( root, RTree.DEFAULT_NODE_CAPACITY ); }
+
+    /**
+     *  Creates an index for the given document or subtree.
+     *
+     *  @param  root    The root element; its own transformation or position
+     *      is not applied.
+     *  @param  nodeCapacity    The maximum number of entries per node of the
+     *      R-tree.
+     *  @return The new index.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGSpatialIndex build( final SVGElementWithChildren root, final int nodeCapacity )
+    {
+        requireNonNullArgument( root, "root" );
+
+        //---* Collect the bounding boxes *------------------------------------
+        final List<SVGElement> shapes = new ArrayList<>();
+        final List<BoundingBox> boxes = new ArrayList<>();
+        final var collector = new SVGSpatialIndex( new RTree<>( nodeCapacity ) );
+        collector.m_Transformations.put( root, AffineMatrix.IDENTITY );
+        for( final var child : root.getChildren() )
+        {
+            collector.collect( child, AffineMatrix.IDENTITY, ( box, shape ) ->
+            {
+                boxes.add( box );
+                shapes.add( shape );
+            } );
+        }
+
+        //---* Create the tree *-----------------------------------------------
+        final var coordinates = new double [boxes.size() * 4];
+        var offset = 0;
+        for( final var box : boxes )
+        {
+            coordinates [offset++] = box.getMinX();
+            coordinates [offset++] = box.getMinY();
+            coordinates [offset++] = box.getMaxX();
+            coordinates [offset++] = box.getMaxY();
+        }
+        final var retValue = new SVGSpatialIndex( RTree.bulkLoad( coordinates, shapes, nodeCapacity ) );
+        retValue.m_Transformations.putAll( collector.m_Transformations );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  build()
+
+    /**
+     *  Determines the bounding boxes of the shapes in the given subtree.
+     *
+     *  @param  element The root of the subtree.
+     *  @param  parentTransformation    The transformation from the parent's
+     *      coordinate system to that of the root element of the index.
+     *  @param  action  The action that receives the shapes with their
+     *      bounding boxes.
+     */
+    private final void collect( final Element element, final AffineMatrix parentTransformation, final ShapeConsumer action )
+    {
+        if( ElementBounds.isShape( element ) )
+        {
+            if( element instanceof final SVGElement shape )
+            {
+                ElementBounds.getGeometryBounds( element )
+                    .map( parentTransformation.multiply( ElementBounds.getTransformation( element ) )::transform )
+                    .ifPresent( box -> action.accept( box, shape ) );
+            }
+        }
+        else if( ElementBounds.isContainer( element ) )
+        {
+            final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+            m_Transformations.put( element, transformation );
+            for( final var child : element.getChildren() ) collect( child, transformation, action );
+        }
+    }   //  collect()
+
+    /**
+     *  Returns all elements whose bounding boxes contain the given point.
+     *
+     *  @param  x   The x coordinate of the point.
+     *  @param  y   The y coordinate of the point.
+     *  @return The elements.
+     */
+    public final List<SVGElement> findAt( final double x, final double y ) { return m_Tree.search( x, y ); }
+
+    /**
+     *  Returns all elements whose bounding boxes intersect with the given
+     *  window.
+     *
+     *  @param  window  The window.
+     *  @return The elements.
+     */
+    public final List<SVGElement> findIntersecting( final BoundingBox window ) { return m_Tree.search( window ); }
+
+    /**
+     *  Returns all elements whose bounding boxes intersect with the given
+     *  window.
+     *
+     *  @param  minX    The smallest x coordinate of the window.
+     *  @param  minY    The smallest y coordinate of the window.
+     *  @param  maxX    The largest x coordinate of the window.
+     *  @param  maxY    The largest y coordinate of the window.
+     *  @return The elements.
+     */
+    public final List<SVGElement> findIntersecting( final double minX, final double minY, final double maxX, final double maxY ) { return m_Tree.search( minX, minY, maxX, maxY ); }
+
+    /**
+     *  Calls the given action for all elements whose bounding boxes intersect
+     *  with the given window.
+     *
+     *  @param  minX    The smallest x coordinate of the window.
+     *  @param  minY    The smallest y coordinate of the window.
+     *  @param  maxX    The largest x coordinate of the window.
+     *  @param  maxY    The largest y coordinate of the window.
+     *  @param  action  The action.
+     *  @return The number of elements that were found.
+     */
+    public final int findIntersecting( final double minX, final double minY, final double maxX, final double maxY, final Consumer<? super SVGElement> action )
+    {
+        return m_Tree.search( minX, minY, maxX, maxY, action );
+    }   //  findIntersecting()
+
+    /**
+     *  Returns the bounding box of all elements in the index.
+     *
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the bounding box; empty if the index is empty.
+     */
+    public final Optional<BoundingBox> getBounds() { return m_Tree.getBounds(); }
+
+    /**
+     *  Returns the number of elements in the index.
+     *
+     *  @return The number of elements.
+     */
+    public final int size() { return m_Tree.size(); }
+}
+//  class SVGSpatialIndex
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,646 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.scalb;
+import static java.lang.Math.sqrt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Fill;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Height;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ViewBox;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Width;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.geometry.RectangleClipper.isFilled;
+import static org.tquadrat.foundation.svg.geometry.RectangleClipper.isStroked;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLDocument;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Cuts an SVG document into a pyramid of square tiles}, as
+ *  used by zoomable viewers: on zoom level {@code z}, the longer side of
+ *  the scene is divided into 2<sup>z</sup> tiles, and the tile with the
+ *  column {@code x} and the row {@code y} is a document of its own, with a
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+ *  that shows only the area of the tile, and a width and height of the
+ *  given tile size.</p>
+ *  <p>Each tile contains only the shapes that intersect with it; paths,
+ *  polylines, polygons and lines that cross the border of a tile are
+ *  clipped with
+ *  {@link RectangleClipper#clip(Element, BoundingBox, boolean, boolean, int)},
+ *  without flattening their curves. The clipping window is larger than the
+ *  tile by a
+ *  {@linkplain #setMargin(double) margin},
+ *  so that the new edges that the clipping adds to the shapes, and the
+ *  ends of cut lines, are outside of the visible area. Other shapes are
+ *  kept as they are, as are shapes with markers, and filled and stroked
+ *  shapes with open sub paths; for the latter, fill and stroke are
+ *  determined from the
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Fill}
+ *  and
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Stroke}
+ *  attributes only, and shapes that may get them from a style sheet are
+ *  treated as filled and stroked. Everything that is not a shape or a
+ *  group, like definitions or styles, is copied to each tile, and so are
+ *  the elements with an id, unchanged and with all their children, as a
+ *  {@code <use>} element in the tile may refer to them.</p>
+ *  <p>The tiles are created in parallel on a
+ *  {@link ForkJoinPool},
+ *  and they are passed to a
+ *  {@link TileSink}
+ *  or written to a directory, as {@code z/x/y.svg}. The document itself is
+ *  not modified, but it must not be modified while the tiles are
+ *  created.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGTiler
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The receiver for the tiles that were created by an instance of
+     *  {@link SVGTiler};
+     *  it will be called concurrently for different tiles.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @FunctionalInterface
+    @ClassVersion( sourceVersion = "$Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static interface TileSink
+    {
+        /**
+         *  Receives a tile.
+         *
+         *  @param  zoom    The zoom level.
+         *  @param  x   The column of the tile.
+         *  @param  y   The row of the tile.
+         *  @param  document    The SVG document for the tile.
+         *  @throws IOException The tile could not be stored.
+         */
+        public void accept( final int zoom, final int x, final int y, final String document ) throws IOException;
+    }
+    //  interface TileSink
+
+    /**
+     *  The task that creates a range of the tiles of a zoom level.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private final class TileTask extends RecursiveAction
+    {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  The serial version UID for objects of this class: {@value}.
+         */
+        private static final long serialVersionUID = 1L;
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The index of the first tile.
+         */
+        private final int m_From;
+
+        /**
+         *  The sink for the tiles.
+         */
+        @SuppressWarnings( "serial" )
+        private final TileSink m_Sink;
+
+        /**
+         *  The index after the last tile.
+         */
+        private final int m_To;
+
+        /**
+         *  The zoom level.
+         */
+        private final int m_Zoom;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code TileTask} instance.
+         *
+         *  @param  zoom    The zoom level.
+         *  @param  from    The index of the first tile; the index is
+         *      {@code y * columns + x}.
+         *  @param  to  The index after the last tile.
+         *  @param  sink    The sink for the tiles.
+         */
+        public TileTask( final int zoom, final int from, final int to, final TileSink sink )
+        {
+            m_Zoom = zoom;
+            m_From = from;
+            m_To = to;
+            m_Sink = sink;
+        }   //  TileTask()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final void compute()
+        {
+            if( m_To - m_From > 1 )
+            {
+                final var middle = (m_From + m_To) >>> 1;
+                invokeAll( new TileTask( m_Zoom, m_From, middle, m_Sink ), new TileTask( m_Zoom, middle, m_To, m_Sink ) );
+            }
+            else if( m_To > m_From )
+            {
+                final var columns = getColumns( m_Zoom );
+                final var x = m_From % columns;
+                final var y = m_From / columns;
+                final var document = createXMLDocument( createTile( m_Zoom, x, y ), false ).toString();
+                try
+                {
+                    m_Sink.accept( m_Zoom, x, y, document );
+                }
+                catch( final IOException e )
+                {
+                    throw new UncheckedIOException( e );
+                }
+            }
+        }   //  compute()
+    }
+    //  class TileTask
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default margin around the clipping window, in pixels: {@value}.
+     */
+    public static final double DEFAULT_MARGIN = 8.0;
+
+    /**
+     *  The highest supported zoom level: {@value}.
+     */
+    public static final int MAX_ZOOM = 24;
+
+    /**
+     *  The precision for the coordinates of clipped shapes, in pixels:
+     *  {@value}.
+     */
+    public static final double PRECISION = 0.1;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The bounds of the scene.
+     */
+    private final BoundingBox m_Bounds;
+
+    /**
+     *  The margin around the clipping window, in pixels.
+     */
+    private double m_Margin = DEFAULT_MARGIN;
+
+    /**
+     *  The root element of the document.
+     */
+    private final SVGElementWithChildren m_Root;
+
+    /**
+     *  The size of the tiles, in pixels.
+     */
+    private final int m_TileSize;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGTiler} instance for the area of the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+     *  of the given document.
+     *
+     *  @param  root    The root element of the document.
+     *  @param  tileSize    The size of the tiles, in pixels.
+     *  @throws IllegalArgumentException    The document does not have a
+     *      valid view box.
+     */
+    public SVGTiler( final SVGElementWithChildren root, final int tileSize ) throws IllegalArgumentException
+    {
+        this( root, ViewportCuller.getViewBox( requireNonNullArgument( root, "root" ) ).orElseThrow( () -> new IllegalArgumentException( "The document does not have a valid view box" ) ), tileSize );
+    }   //  SVGTiler()
+
+    /**
+     *  Creates a new {@code SVGTiler} instance.
+     *
+     *  @param  root    The root element of the document.
+     *  @param  bounds  The area of the scene, in the user units of the root
+     *      element.
+     *  @param  tileSize    The size of the tiles, in pixels.
+     *  @throws IllegalArgumentException    The area is empty, the tile size
+     *      is not positive, or the root element contains text.
+     */
+    public SVGTiler( final SVGElementWithChildren root, final BoundingBox bounds, final int tileSize ) throws IllegalArgumentException
+    {
+        m_Root = requireNonNullArgument( root, "root" );
+        m_Bounds = requireNonNullArgument( bounds, "bounds" );
+        if( !(bounds.getWidth() > 0) || !(bounds.getHeight() > 0) ) throw new IllegalArgumentException( "The area of the scene is empty" );
+        if( tileSize <= 0 ) throw new IllegalArgumentException( "tileSize must be positive" );
+        if( !canCopy( root.getChildren() ) ) throw new IllegalArgumentException( "The root element contains text" );
+        m_TileSize = tileSize;
+    }   //  SVGTiler()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks the given zoom level.
+     *
+     *  @param  zoom    The zoom level.
+     *  @throws IllegalArgumentException    The zoom level is invalid.
+     */
+    private static void checkZoom( final int zoom ) throws IllegalArgumentException
+    {
+        if( zoom < 0 || zoom > MAX_ZOOM ) throw new IllegalArgumentException( "Invalid zoom level: %d".formatted( zoom ) );
+    }   //  checkZoom()
+
+    /**
+     *  Clips the given shape.
+     *
+     *  @param  element The shape.
+     *  @param  transformation  The transformation from the coordinate system
+     *      of the shape to that of the root element.
+     *  @param  isFilled    {@code true} if the shape is filled, or may be
+     *      filled, {@code false} if it is definitely not filled.
+     *  @param  isStroked   {@code true} if the shape is stroked, or may be
+     *      stroked, {@code false} if it is definitely not stroked.
+     *  @param  window  The clipping window, in the coordinate system of the
+     *      root element.
+     *  @param  scale   The scale of the tile, in pixels per user unit of the
+     *      root element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the shape itself if it cannot be clipped, or the
+     *      clipped shape; empty if nothing of the shape is left.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private static Optional<Element> clipShape( final Element element, final AffineMatrix transformation, final boolean isFilled, final boolean isStroked, final BoundingBox window, final double scale )
+    {
+        Optional<Element> retValue = Optional.of( element );
+        final var inverse = transformation.inverse();
+        if( inverse.isPresent() )
+        {
+            final var localScale = scale * sqrt( abs( transformation.getA() * transformation.getD() - transformation.getB() * transformation.getC() ) );
+            retValue = RectangleClipper.clip( element, inverse.get().transform( window ), isFilled, isStroked, PathWriter.precisionFor( localScale, PRECISION ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clipShape()
+
+    /**
+     *  Creates the document for the given tile.
+     *
+     *  @param  zoom    The zoom level.
+     *  @param  x   The column of the tile.
+     *  @param  y   The row of the tile.
+     *  @return The root element of the document for the tile.
+     */
+    public final XMLElement createTile( final int zoom, final int x, final int y )
+    {
+        final var tileBounds = getTileBounds( zoom, x, y );
+        final var scale = m_TileSize / tileBounds.getWidth();
+        final var window = tileBounds.expand( m_Margin / scale );
+
+        final List<Element> children = new ArrayList<>();
+        for( final var child : m_Root.getChildren() )
+        {
+            tileElement( child, AffineMatrix.IDENTITY, isFilled( m_Root, true ), isStroked( m_Root, false ), window, scale ).ifPresent( children::add );
+        }
+        final Map<String,String> attributes = new LinkedHashMap<>( m_Root.getAttributes() );
+        attributes.put( SVGATTRIBUTE_ViewBox, tileBounds.toString() );
+        attributes.put( SVGATTRIBUTE_Width, Integer.toString( m_TileSize ) );
+        attributes.put( SVGATTRIBUTE_Height, Integer.toString( m_TileSize ) );
+        final var retValue = copy( m_Root, attributes, children );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createTile()
+
+    /**
+     *  Returns the number of columns on the given zoom level.
+     *
+     *  @param  zoom    The zoom level.
+     *  @return The number of columns.
+     */
+    public final int getColumns( final int zoom )
+    {
+        checkZoom( zoom );
+        final var retValue = max( 1, (int) ceil( m_Bounds.getWidth() / getTileWidth( zoom ) - 1.0e-9 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getColumns()
+
+    /**
+     *  Returns the margin around the clipping window.
+     *
+     *  @return The margin, in pixels.
+     */
+    public final double getMargin() { return m_Margin; }
+
+    /**
+     *  Returns the number of rows on the given zoom level.
+     *
+     *  @param  zoom    The zoom level.
+     *  @return The number of rows.
+     */
+    public final int getRows( final int zoom )
+    {
+        checkZoom( zoom );
+        final var retValue = max( 1, (int) ceil( m_Bounds.getHeight() / getTileWidth( zoom ) - 1.0e-9 ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getRows()
+
+    /**
+     *  Returns the area of the given tile, in the user units of the root
+     *  element.
+     *
+     *  @param  zoom    The zoom level.
+     *  @param  x   The column of the tile.
+     *  @param  y   The row of the tile.
+     *  @return The area of the tile.
+     */
+    public final BoundingBox getTileBounds( final int zoom, final int x, final int y )
+    {
+        if( x < 0 || x >= getColumns( zoom ) || y < 0 || y >= getRows( zoom ) ) throw new IllegalArgumentException( "Invalid tile: %d/%d/%d".formatted( zoom, x, y ) );
+        final var width = getTileWidth( zoom );
+        final var minX = m_Bounds.getMinX() + x * width;
+        final var minY = m_Bounds.getMinY() + y * width;
+        final var retValue = new BoundingBox( minX, minY, minX + width, minY + width );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getTileBounds()
+
+    /**
+     *  Returns the size of the tiles.
+     *
+     *  @return The size of the tiles, in pixels.
+     */
+    public final int getTileSize() { return m_TileSize; }
+
+    /**
+     *  Returns the width and height of a tile on the given zoom level, in
+     *  user units.
+     *
+     *  @param  zoom    The zoom level.
+     *  @return The width of a tile.
+     */
+    private final double getTileWidth( final int zoom )
+    {
+        return scalb( max( m_Bounds.getWidth(), m_Bounds.getHeight() ), -zoom );
+    }   //  getTileWidth()
+
+    /**
+     *  Sets the margin around the clipping window; it should be at least
+     *  half of the widest stroke, in pixels, plus the size of the line caps
+     *  and joins.
+     *
+     *  @param  margin  The margin, in pixels.
+     */
+    public final void setMargin( final double margin )
+    {
+        if( !(margin >= 0) || Double.isInfinite( margin ) ) throw new IllegalArgumentException( "Invalid margin: %f".formatted( margin ) );
+        m_Margin = margin;
+    }   //  setMargin()
+
+    /**
+     *  Creates the tiles for the given zoom levels on the
+     *  {@linkplain ForkJoinPool#commonPool() common pool}
+     *  and writes them to the given directory, as {@code z/x/y.svg}.
+     *
+     *  @param  minZoom The lowest zoom level.
+     *  @param  maxZoom The highest zoom level.
+     *  @param  directory   The target directory.
+     *  @throws IOException A tile could not be written.
+     */
+    public final void tile( final int minZoom, final int maxZoom, final Path directory ) throws IOException
+    {
+        requireNonNullArgument( directory, "directory" );
+        tile( minZoom, maxZoom, ForkJoinPool.commonPool(), ( zoom, x, y, document ) ->
+        {
+            final var folder = directory.resolve( Integer.toString( zoom ) ).resolve( Integer.toString( x ) );
+            Files.createDirectories( folder );
+            Files.writeString( folder.resolve( "%d.svg".formatted( y ) ), document, UTF_8 );
+        } );
+    }   //  tile()
+
+    /**
+     *  Creates the tiles for the given zoom levels on the
+     *  {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     *  @param  minZoom The lowest zoom level.
+     *  @param  maxZoom The highest zoom level.
+     *  @param  sink    The receiver for the tiles.
+     *  @throws IOException The sink failed to store a tile.
+     */
+    public final void tile( final int minZoom, final int maxZoom, final TileSink sink ) throws IOException
+    {
+        tile( minZoom, maxZoom, ForkJoinPool.commonPool(), sink );
+    }   //  tile()
+
+    /**
+     *  Creates the tiles for the given zoom levels on the given pool.
+     *
+     *  @param  minZoom The lowest zoom level.
+     *  @param  maxZoom The highest zoom level.
+     *  @param  pool    The pool that executes the tasks.
+     *  @param  sink    The receiver for the tiles.
+     *  @throws IOException The sink failed to store a tile.
+     */
+    public final void tile( final int minZoom, final int maxZoom, final ForkJoinPool pool, final TileSink sink ) throws IOException
+    {
+        checkZoom( minZoom );
+        checkZoom( maxZoom );
+        if( minZoom > maxZoom ) throw new IllegalArgumentException( "minZoom is greater than maxZoom" );
+        requireNonNullArgument( pool, "pool" );
+        requireNonNullArgument( sink, "sink" );
+
+        final List<TileTask> tasks = new ArrayList<>();
+        for( var zoom = minZoom; zoom <= maxZoom; ++zoom )
+        {
+            tasks.add( new TileTask( zoom, 0, getColumns( zoom ) * getRows( zoom ), sink ) );
+        }
+        try
+        {
+            pool.invoke( new RecursiveAction()
+            {
+                /**
+                 *  The serial version UID for objects of this class: {@value}.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 *  {@inheritDoc}
+                 */
+                @Override
+                protected final void compute() { invokeAll( tasks ); }
+            } );
+        }
+        catch( final UncheckedIOException e )
+        {
+            throw e.getCause();
+        }
+    }   //  tile()
+
+    /**
+     *  Culls and clips the given element for a tile.
+     *
+     *  @param  element The element.
+     *  @param  parentTransformation    The transformation from the parent's
+     *      coordinate system to that of the root element.
+     *  @param  isParentFilled  {@code true} if the parent is filled,
+     *      {@code false} otherwise.
+     *  @param  isParentStroked {@code true} if the parent is stroked,
+     *      {@code false} otherwise.
+     *  @param  window  The clipping window.
+     *  @param  scale   The scale of the tile, in pixels per user unit of the
+     *      root element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the element, or the clipped element; empty if nothing
+     *      of it is left.
+     */
+    @SuppressWarnings( "MethodWithTooManyParameters" )
+    private static Optional<Element> tileElement( final Element element, final AffineMatrix parentTransformation, final boolean isParentFilled, final boolean isParentStroked, final BoundingBox window, final double scale )
+    {
+        Optional<Element> retValue = Optional.of( element );
+        try
+        {
+            if( element.getAttribute( SVGATTRIBUTE_Id ).isPresent() )
+            {
+                /*
+                 * The element may be referenced from inside the tile; we
+                 * keep it as it is.
+                 */
+            }
+            else if( ElementBounds.isShape( element ) )
+            {
+                final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                final var box = ElementBounds.getGeometryBounds( element ).map( transformation::transform );
+                if( box.isPresent() && !window.contains( box.get() ) )
+                {
+                    retValue = box.get().intersects( window )
+                        ? clipShape( element, transformation, isFilled( element, isParentFilled ), isStroked( element, isParentStroked ), window, scale )
+                        : Optional.empty();
+                }
+            }
+            else if( SVGELEMENT_Group.equals( element.getElementName() ) || SVGELEMENT_Anchor.equals( element.getElementName() ) )
+            {
+                final var children = element.getChildren();
+                if( canCopy( children ) )
+                {
+                    final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                    final var isFilled = isFilled( element, isParentFilled );
+                    final var isStroked = isStroked( element, isParentStroked );
+                    final List<Element> remaining = new ArrayList<>( children.size() );
+                    var isChanged = false;
+                    for( final var child : children )
+                    {
+                        final var tiled = tileElement( child, transformation, isFilled, isStroked, window, scale );
+                        tiled.ifPresent( remaining::add );
+                        isChanged |= tiled.isEmpty() || tiled.get() != child;
+                    }
+                    if( remaining.isEmpty() && !children.isEmpty() )
+                    {
+                        retValue = Optional.empty();
+                    }
+                    else if( isChanged )
+                    {
+                        retValue = Optional.of( copy( element, remaining ) );
+                    }
+                }
+            }
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            /*
+             * The element has invalid data; we keep it as it is.
+             */
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tileElement()
+}
+//  class SVGTiler
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,864 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Double.isFinite;
+import static java.lang.Math.pow;
+import static java.lang.Math.rint;
+import static java.util.Arrays.sort;
+import static java.util.Locale.ROOT;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Height;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Overflow;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Width;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_cy;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_r;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Circle;
+import static org.tquadrat.foundation.svg.SVGUtils.createGenericElement;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createPolygon;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSymbol;
+import static org.tquadrat.foundation.svg.SVGUtils.createUse;
+
+import java.net.URI;
+import java.util.function.IntFunction;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.svg.SVGPolyShape;
+import org.tquadrat.foundation.svg.type.SVGPaint;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+
+/**
+ *  <p>{@summary Emits large numbers of scatter points with the most
+ *  compact representation.}</p>
+ *  <p>A scatter point is drawn as a marker of a given shape and size,
+ *  centred at the point. There are three ways to write the markers to an
+ *  SVG document, and which one is the most compact depends on the shape,
+ *  the size, the coordinates and their precision:</p>
+ *  <dl>
+ *  <dt>{@link Encoding#PATH PATH}</dt>
+ *  <dd>One {@code <path>} element per style, with one subpath per point;
+ *  the subpaths are written with relative coordinates.</dd>
+ *  <dt>{@link Encoding#USE USE}</dt>
+ *  <dd>One {@code <symbol>} for the marker, and one {@code <use>} element
+ *  per point that refers to it.</dd>
+ *  <dt>{@link Encoding#ELEMENTS ELEMENTS}</dt>
+ *  <dd>One element per point: a {@code <circle>}, a {@code <rect>}, or a
+ *  {@code <polygon>}.</dd>
+ *  </dl>
+ *  <p>The emitter estimates the size of the output for each encoding from a
+ *  sample of the points, and uses the smallest one, unless an encoding is
+ *  requested explicitly. The result of
+ *  {@link #emit(SVGElementWithChildren, double[], int[], IntFunction)}
+ *  reports the choice and the estimated sizes. Only the {@code ELEMENTS}
+ *  and {@code USE} encodings keep a single point addressable, for example
+ *  for event handlers.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class ScatterEmitter
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The result of an emission, or an estimation.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static final class Emission
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The encoding that was chosen.
+         */
+        private final Encoding m_Encoding;
+
+        /**
+         *  The estimated sizes of the output for the encodings, indexed by
+         *  their ordinals.
+         */
+        private final long [] m_EstimatedSizes;
+
+        /**
+         *  The number of points.
+         */
+        private final int m_PointCount;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Emission} instance.
+         *
+         *  @param  encoding    The encoding that was chosen.
+         *  @param  estimatedSizes  The estimated sizes for the encodings.
+         *  @param  pointCount  The number of points.
+         */
+        Emission( final Encoding encoding, final long [] estimatedSizes, final int pointCount )
+        {
+            m_Encoding = encoding;
+            m_EstimatedSizes = estimatedSizes;
+            m_PointCount = pointCount;
+        }   //  Emission()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Returns the encoding that was chosen.
+         *
+         *  @return The encoding.
+         */
+        public final Encoding getEncoding() { return m_Encoding; }
+
+        /**
+         *  Returns the estimated size of the output for the chosen
+         *  encoding.
+         *
+         *  @return The estimated number of characters, without pretty
+         *      printing.
+         */
+        public final long getEstimatedSize() { return getEstimatedSize( m_Encoding ); }
+
+        /**
+         *  Returns the estimated size of the output for the given encoding.
+         *
+         *  @param  encoding    The encoding.
+         *  @return The estimated number of characters, without pretty
+         *      printing.
+         */
+        public final long getEstimatedSize( final Encoding encoding )
+        {
+            return m_EstimatedSizes [requireNonNullArgument( encoding, "encoding" ).ordinal()];
+        }   //  getEstimatedSize()
+
+        /**
+         *  Returns the number of points that were emitted.
+         *
+         *  @return The number of points.
+         */
+        public final int getPointCount() { return m_PointCount; }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString()
+        {
+            return "%s: %d points, about %d characters".formatted( m_Encoding, m_PointCount, getEstimatedSize() );
+        }   //  toString()
+    }
+    //  class Emission
+
+    /**
+     *  The representations for the scatter points.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static enum Encoding
+    {
+        /**
+         *  One element per point.
+         */
+        ELEMENTS,
+
+        /**
+         *  One path per style, with one subpath per point.
+         */
+        PATH,
+
+        /**
+         *  One reference to a shared symbol per point.
+         */
+        USE
+    }
+    //  enum Encoding
+
+    /**
+     *  The shapes of the markers.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static enum Marker
+    {
+        /**
+         *  A circle; the size is its diameter.
+         */
+        CIRCLE,
+
+        /**
+         *  A square standing on one of its corners; the size is its width
+         *  and height.
+         */
+        DIAMOND,
+
+        /**
+         *  An axis aligned square; the size is the length of its sides.
+         */
+        SQUARE,
+
+        /**
+         *  A triangle pointing upwards; the size is its width and height.
+         */
+        TRIANGLE
+    }
+    //  enum Marker
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default number of decimal places for the coordinates: {@value}.
+     */
+    public static final int DEFAULT_PRECISION = 2;
+
+    /**
+     *  The maximum number of points that are used for the estimation of the
+     *  output size: {@value}.
+     */
+    public static final int SAMPLE_SIZE = 256;
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The factor for the conversion of coordinates into units of the
+     *  precision.
+     */
+    private double m_Factor;
+
+    /**
+     *  The shape of the markers.
+     */
+    private final Marker m_Marker;
+
+    /**
+     *  The precision.
+     */
+    private int m_Precision;
+
+    /**
+     *  The size of the markers.
+     */
+    private final double m_Size;
+
+    /**
+     *  The id for the symbol of the {@code USE} encoding.
+     */
+    private String m_SymbolId;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ScatterEmitter} instance.
+     *
+     *  @param  marker  The shape of the markers.
+     *  @param  size    The size of the markers.
+     *  @throws IllegalArgumentException    The size is not positive.
+     */
+    public ScatterEmitter( final Marker marker, final double size ) throws IllegalArgumentException
+    {
+        m_Marker = requireNonNullArgument( marker, "marker" );
+        if( !(size > 0) || !isFinite( size ) ) throw new IllegalArgumentException( "Invalid marker size: %f".formatted( size ) );
+        m_Size = size;
+        m_SymbolId = "scatter-%s".formatted( marker.name().toLowerCase( ROOT ) );
+        setPrecision( DEFAULT_PRECISION );
+    }   //  ScatterEmitter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Appends a number, given in units of the precision, to the given
+     *  buffer.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  value   The number.
+     *  @return The buffer.
+     */
+    private final StringBuilder appendNumber( final StringBuilder buffer, final long value )
+    {
+        PathWriter.appendNumber( buffer, value / m_Factor, m_Precision );
+
+        //---* Done *----------------------------------------------------------
+        return buffer;
+    }   //  appendNumber()
+
+    /**
+     *  Appends the subpath for the marker at the point with the given index
+     *  to the given buffer.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  coordinates The coordinates.
+     *  @param  index   The index of the point.
+     *  @param  previous    The index of the point before; -1 if the point
+     *      is the first one of the path.
+     *  @param  tail    The relative path commands for the marker, starting
+     *      at its start point.
+     */
+    private final void appendSubpath( final StringBuilder buffer, final double [] coordinates, final int index, final int previous, final String tail )
+    {
+        final var x = startX( coordinates, index );
+        final var y = startY( coordinates, index );
+        if( previous == -1 )
+        {
+            appendNumber( buffer.append( 'M' ), x ).append( ',' );
+            appendNumber( buffer, y );
+        }
+        else
+        {
+            appendNumber( buffer.append( 'm' ), x - startX( coordinates, previous ) ).append( ',' );
+            appendNumber( buffer, y - startY( coordinates, previous ) );
+        }
+        buffer.append( tail );
+    }   //  appendSubpath()
+
+    /**
+     *  Creates the element for the marker at the point with the given index
+     *  for the {@code ELEMENTS} encoding.
+     *
+     *  @param  coordinates The coordinates.
+     *  @param  index   The index of the point.
+     *  @return The new element.
+     */
+    private final SVGElement createElement( final double [] coordinates, final int index )
+    {
+        final var x = coordinates [index * 2];
+        final var y = coordinates [index * 2 + 1];
+        final var half = m_Size / 2;
+        final SVGElement retValue = switch( m_Marker )
+        {
+            case CIRCLE ->
+            {
+                final var circle = createGenericElement( SVGELEMENT_Circle );
+                setAttribute( circle, SVGATTRIBUTE_cx, x );
+                setAttribute( circle, SVGATTRIBUTE_cy, y );
+                setAttribute( circle, SVGATTRIBUTE_r, half );
+                yield circle;
+            }
+            case SQUARE ->
+            {
+                final var rectangle = createRectangle();
+                setAttribute( rectangle, SVGATTRIBUTE_x, x - half );
+                setAttribute( rectangle, SVGATTRIBUTE_y, y - half );
+                setAttribute( rectangle, SVGATTRIBUTE_Width, m_Size );
+                setAttribute( rectangle, SVGATTRIBUTE_Height, m_Size );
+                yield rectangle;
+            }
+            case DIAMOND -> createPolygon( x, y - half, x + half, y, x, y + half, x - half, y );
+            case TRIANGLE -> createPolygon( x, y - half, x + half, y + half, x - half, y + half );
+        };
+        if( retValue instanceof final SVGPolyShape polygon ) polygon.setPrecision( m_Precision );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createElement()
+
+    /**
+     *  Creates the symbol for the {@code USE} encoding.
+     *
+     *  @return The new symbol.
+     */
+    private final SVGElement createMarkerSymbol()
+    {
+        final var retValue = createSymbol( m_SymbolId );
+        ((XMLElement) retValue).setAttribute( SVGATTRIBUTE_Overflow, "visible" );
+        final var buffer = new StringBuilder( "M" );
+        appendNumber( buffer, toUnits( startOffsetX() ) ).append( ',' );
+        appendNumber( buffer, toUnits( startOffsetY() ) ).append( tail() );
+        createPath( retValue ).setPathData( buffer );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createMarkerSymbol()
+
+    /**
+     *  Creates the reference to the symbol for the point with the given
+     *  index, for the {@code USE} encoding.
+     *
+     *  @param  coordinates The coordinates.
+     *  @param  index   The index of the point.
+     *  @return The new {@code <use>} element.
+     */
+    private final SVGElement createReference( final double [] coordinates, final int index )
+    {
+        final var retValue = createUse( URI.create( "#" + m_SymbolId ) );
+        setAttribute( retValue, SVGATTRIBUTE_x, coordinates [index * 2] );
+        setAttribute( retValue, SVGATTRIBUTE_y, coordinates [index * 2 + 1] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createReference()
+
+    /**
+     *  Emits the given points to the given parent, with the most compact
+     *  encoding. The markers get no fill, so they inherit it from the
+     *  parent.
+     *
+     *  @param  parent  The parent.
+     *  @param  coordinates The coordinates of the points, as pairs of x
+     *      and y coordinates.
+     *  @return The result.
+     *  @throws IllegalArgumentException    The number of coordinates is odd.
+     */
+    public final Emission emit( final SVGElementWithChildren parent, final double [] coordinates ) throws IllegalArgumentException
+    {
+        return emit( parent, coordinates, null, null, null );
+    }   //  emit()
+
+    /**
+     *  Emits the given points to the given parent, with the most compact
+     *  encoding; the points are grouped by their styles.
+     *
+     *  @param  parent  The parent.
+     *  @param  coordinates The coordinates of the points, as pairs of x
+     *      and y coordinates.
+     *  @param  styles  The style index for each point; points with a
+     *      negative index are skipped.
+     *  @param  palette The function that returns the fill for a style
+     *      index.
+     *  @return The result.
+     *  @throws IllegalArgumentException    The number of coordinates is odd,
+     *      or it does not match the number of styles.
+     */
+    public final Emission emit( final SVGElementWithChildren parent, final double [] coordinates, final int [] styles, final IntFunction<? extends SVGPaint> palette ) throws IllegalArgumentException
+    {
+        return emit( parent, coordinates, requireNonNullArgument( styles, "styles" ), requireNonNullArgument( palette, "palette" ), null );
+    }   //  emit()
+
+    /**
+     *  Emits the given points to the given parent, with the given encoding.
+     *  For the {@code PATH} encoding, there is one path per style, with the
+     *  fill for the style; for the other encodings, there is one group per
+     *  style that holds the fill. For the {@code USE} encoding, the symbol
+     *  is added to the definitions when the parent is the {@code <svg>}
+     *  element, otherwise to the parent itself.
+     *
+     *  @param  parent  The parent.
+     *  @param  coordinates The coordinates of the points, as pairs of x
+     *      and y coordinates.
+     *  @param  styles  The style index for each point; points with a
+     *      negative index are skipped. If {@code null}, all points belong
+     *      to the same group, and no fill will be set.
+     *  @param  palette The function that returns the fill for a style
+     *      index; may be {@code null} if {@code styles} is {@code null}.
+     *  @param  encoding    The encoding; {@code null} to use the one with
+     *      the smallest estimated output.
+     *  @return The result.
+     *  @throws IllegalArgumentException    The number of coordinates is odd,
+     *      or it does not match the number of styles.
+     */
+    public final Emission emit( final SVGElementWithChildren parent, final double [] coordinates, final int [] styles, final IntFunction<? extends SVGPaint> palette, final Encoding encoding ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( parent, "parent" );
+        final var groups = group( coordinates, styles );
+        if( (styles != null) && (palette == null) ) throw new IllegalArgumentException( "The palette is missing" );
+
+        final var estimate = estimate( coordinates, groups );
+        final var retValue = encoding == null ? estimate : new Emission( encoding, estimate.m_EstimatedSizes, estimate.m_PointCount );
+
+        if( (retValue.getEncoding() == Encoding.USE) && (groups.length > 0) )
+        {
+            final var symbol = createMarkerSymbol();
+            if( parent instanceof final SVG svg )
+            {
+                svg.addDefinition( symbol );
+            }
+            else
+            {
+                parent.addChild( symbol );
+            }
+        }
+
+        final var tail = tail();
+        for( final var group : groups )
+        {
+            final var points = group.length - 1;
+            final var style = group [0];
+            if( retValue.getEncoding() == Encoding.PATH )
+            {
+                final var buffer = new StringBuilder( points * (tail.length() + 12) );
+                for( var i = 1; i <= points; ++i ) appendSubpath( buffer, coordinates, group [i], i == 1 ? -1 : group [i - 1], tail );
+                final var path = createPath( parent );
+                if( styles != null ) path.setFill( palette.apply( style ) );
+                path.setPathData( buffer );
+            }
+            else
+            {
+                final SVGElementWithChildren container;
+                if( styles == null )
+                {
+                    container = parent;
+                }
+                else
+                {
+                    final var svgGroup = createGroup( parent );
+                    svgGroup.setFill( palette.apply( style ) );
+                    container = svgGroup;
+                }
+                for( var i = 1; i <= points; ++i )
+                {
+                    container.addChild( retValue.getEncoding() == Encoding.USE ? createReference( coordinates, group [i] ) : createElement( coordinates, group [i] ) );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  emit()
+
+    /**
+     *  Estimates the size of the output for the given points, for all
+     *  encodings.
+     *
+     *  @param  coordinates The coordinates of the points, as pairs of x
+     *      and y coordinates.
+     *  @param  styles  The style index for each point; points with a
+     *      negative index are skipped. If {@code null}, all points belong
+     *      to the same group.
+     *  @return The estimation; the encoding is the one with the smallest
+     *      output.
+     *  @throws IllegalArgumentException    The number of coordinates is odd,
+     *      or it does not match the number of styles.
+     */
+    public final Emission estimate( final double [] coordinates, final int [] styles ) throws IllegalArgumentException
+    {
+        return estimate( coordinates, group( coordinates, styles ) );
+    }   //  estimate()
+
+    /**
+     *  Estimates the size of the output for the given groups of points, for
+     *  all encodings. The sizes of the elements are measured for a sample
+     *  of the points, and extrapolated.
+     *
+     *  @param  coordinates The coordinates of the points.
+     *  @param  groups  The groups of points.
+     *  @return The estimation.
+     */
+    private final Emission estimate( final double [] coordinates, final int [][] groups )
+    {
+        var count = 0;
+        for( final var group : groups ) count += group.length - 1;
+        final var step = Math.max( 1, count / SAMPLE_SIZE );
+
+        //---* Measure the sampled points *------------------------------------
+        final var tail = tail();
+        final var buffer = new StringBuilder();
+        long pathLength = 0, elementsLength = 0, useLength = 0;
+        var samples = 0;
+        var position = 0;
+        for( final var group : groups )
+        {
+            for( var i = 1; i < group.length; ++i, ++position )
+            {
+                if( position % step != 0 ) continue;
+                buffer.setLength( 0 );
+                appendSubpath( buffer, coordinates, group [i], i == 1 ? -1 : group [i - 1], tail );
+                pathLength += buffer.length();
+                elementsLength += length( createElement( coordinates, group [i] ) );
+                useLength += length( createReference( coordinates, group [i] ) );
+                ++samples;
+            }
+        }
+
+        //---* Extrapolate, and add the fixed parts *--------------------------
+        final var estimates = new long [Encoding.values().length];
+        if( samples > 0 )
+        {
+            final var factor = (double) count / samples;
+            final var groupLength = length( createGroup() ) + 3;
+            final var emptyPath = createPath();
+            emptyPath.setPathData( "" );
+            final var pathOverhead = length( emptyPath );
+            estimates [Encoding.PATH.ordinal()] = Math.round( pathLength * factor ) + (long) groups.length * pathOverhead;
+            estimates [Encoding.ELEMENTS.ordinal()] = Math.round( elementsLength * factor ) + (long) groups.length * groupLength;
+            estimates [Encoding.USE.ordinal()] = Math.round( useLength * factor ) + (long) groups.length * groupLength + length( createMarkerSymbol() );
+        }
+
+        var encoding = Encoding.PATH;
+        for( final var candidate : Encoding.values() )
+        {
+            if( estimates [candidate.ordinal()] < estimates [encoding.ordinal()] ) encoding = candidate;
+        }
+        final var retValue = new Emission( encoding, estimates, count );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  estimate()
+
+    /**
+     *  Returns the shape of the markers.
+     *
+     *  @return The shape.
+     */
+    public final Marker getMarker() { return m_Marker; }
+
+    /**
+     *  Returns the size of the markers.
+     *
+     *  @return The size.
+     */
+    public final double getSize() { return m_Size; }
+
+    /**
+     *  Groups the points by their styles.
+     *
+     *  @param  coordinates The coordinates of the points.
+     *  @param  styles  The styles of the points; may be {@code null}.
+     *  @return The groups; the first entry of each group is the style, the
+     *      others are the indexes of the points.
+     *  @throws IllegalArgumentException    The number of coordinates is odd,
+     *      or it does not match the number of styles.
+     */
+    private static final int [][] group( final double [] coordinates, final int [] styles ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( coordinates, "coordinates" );
+        if( coordinates.length % 2 != 0 ) throw new IllegalArgumentException( "Odd number of coordinates: %d".formatted( coordinates.length ) );
+        final var count = coordinates.length / 2;
+
+        final int [][] retValue;
+        if( styles == null )
+        {
+            final var group = new int [count + 1];
+            for( var i = 0; i < count; ++i ) group [i + 1] = i;
+            retValue = count == 0 ? new int [0] [] : new int [][] {group};
+        }
+        else
+        {
+            if( styles.length != count ) throw new IllegalArgumentException( "%d styles for %d points".formatted( styles.length, count ) );
+
+            //---* Sort the points by style, keeping their order *-------------
+            final var keys = new long [count];
+            var size = 0;
+            var groupCount = 0;
+            for( var i = 0; i < count; ++i )
+            {
+                if( styles [i] >= 0 ) keys [size++] = ((long) styles [i] << 32) | i;
+            }
+            sort( keys, 0, size );
+            for( var i = 0; i < size; ++i )
+            {
+                if( (i == 0) || ((keys [i] >>> 32) != (keys [i - 1] >>> 32)) ) ++groupCount;
+            }
+
+            retValue = new int [groupCount] [];
+            var from = 0;
+            for( var g = 0; g < groupCount; ++g )
+            {
+                var to = from + 1;
+                while( (to < size) && ((keys [to] >>> 32) == (keys [from] >>> 32)) ) ++to;
+                final var group = new int [to - from + 1];
+                group [0] = (int) (keys [from] >>> 32);
+                for( var i = from; i < to; ++i ) group [i - from + 1] = (int) keys [i];
+                retValue [g] = group;
+                from = to;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  group()
+
+    /**
+     *  Returns the length of the output for the given element, without
+     *  pretty printing.
+     *
+     *  @param  element The element.
+     *  @return The length.
+     */
+    private static final long length( final SVGElement element ) { return element.toString( 0, false ).length(); }
+
+    /**
+     *  Sets the given numerical attribute, formatted with the precision.
+     *
+     *  @param  element The element.
+     *  @param  name    The name of the attribute.
+     *  @param  value   The value.
+     */
+    private final void setAttribute( final SVGElement element, final String name, final double value )
+    {
+        ((XMLElement) element).setAttribute( name, appendNumber( new StringBuilder(), toUnits( value ) ) );
+    }   //  setAttribute()
+
+    /**
+     *  Sets the number of decimal places for the coordinates.
+     *
+     *  @param  precision   The precision, between 0 and
+     *      {@value PathWriter#MAX_PRECISION}; the default is
+     *      {@value #DEFAULT_PRECISION}.
+     *  @throws IllegalArgumentException    The precision is out of range.
+     */
+    public final void setPrecision( final int precision ) throws IllegalArgumentException
+    {
+        if( (precision < 0) || (precision > PathWriter.MAX_PRECISION) ) throw new IllegalArgumentException( "Invalid precision: %d".formatted( precision ) );
+        m_Precision = precision;
+        m_Factor = pow( 10, precision );
+    }   //  setPrecision()
+
+    /**
+     *  Sets the id for the symbol of the {@code USE} encoding; this is
+     *  required when more than one emitter with the same marker shape
+     *  writes to the same document. The default is
+     *  &quot;{@code scatter-}&quot; followed by the name of the marker
+     *  shape.
+     *
+     *  @param  id  The id.
+     */
+    public final void setSymbolId( final String id ) { m_SymbolId = requireNotEmptyArgument( id, "id" ); }
+
+    /**
+     *  Returns the x offset from the centre of a marker to the start point
+     *  of its outline.
+     *
+     *  @return The offset.
+     */
+    private final double startOffsetX() { return (m_Marker == Marker.CIRCLE) || (m_Marker == Marker.SQUARE) ? -m_Size / 2 : 0.0; }
+
+    /**
+     *  Returns the y offset from the centre of a marker to the start point
+     *  of its outline.
+     *
+     *  @return The offset.
+     */
+    private final double startOffsetY() { return m_Marker == Marker.CIRCLE ? 0.0 : -m_Size / 2; }
+
+    /**
+     *  Returns the x coordinate of the start point of the outline for the
+     *  marker at the point with the given index, in units of the
+     *  precision.
+     *
+     *  @param  coordinates The coordinates.
+     *  @param  index   The index of the point.
+     *  @return The x coordinate.
+     */
+    private final long startX( final double [] coordinates, final int index ) { return toUnits( coordinates [index * 2] + startOffsetX() ); }
+
+    /**
+     *  Returns the y coordinate of the start point of the outline for the
+     *  marker at the point with the given index, in units of the
+     *  precision.
+     *
+     *  @param  coordinates The coordinates.
+     *  @param  index   The index of the point.
+     *  @return The y coordinate.
+     */
+    private final long startY( final double [] coordinates, final int index ) { return toUnits( coordinates [index * 2 + 1] + startOffsetY() ); }
+
+    /**
+     *  Returns the relative path commands that draw the outline of a marker
+     *  from its start point.
+     *
+     *  @return The path commands.
+     */
+    private final String tail()
+    {
+        final var size = toUnits( m_Size );
+        final var half = toUnits( m_Size / 2 );
+        final var buffer = new StringBuilder();
+        switch( m_Marker )
+        {
+            case CIRCLE ->
+            {
+                //---* Two half circles; they end at the start point *---------
+                appendNumber( buffer.append( 'a' ), half ).append( ',' );
+                appendNumber( buffer, half ).append( " 0 1 0 " );
+                appendNumber( buffer, size ).append( ",0a" );
+                appendNumber( buffer, half ).append( ',' );
+                appendNumber( buffer, half ).append( " 0 1 0 " );
+                appendNumber( buffer, -size ).append( ",0" );
+            }
+            case DIAMOND ->
+            {
+                appendNumber( buffer.append( 'l' ), half ).append( ',' );
+                appendNumber( buffer, half ).append( ' ' );
+                appendNumber( buffer, -half ).append( ',' );
+                appendNumber( buffer, half ).append( ' ' );
+                appendNumber( buffer, -half ).append( ',' );
+                appendNumber( buffer, -half ).append( 'z' );
+            }
+            case SQUARE ->
+            {
+                appendNumber( buffer.append( 'h' ), size );
+                appendNumber( buffer.append( 'v' ), size );
+                appendNumber( buffer.append( 'h' ), -size ).append( 'z' );
+            }
+            case TRIANGLE ->
+            {
+                appendNumber( buffer.append( 'l' ), half ).append( ',' );
+                appendNumber( buffer, size ).append( ' ' );
+                appendNumber( buffer, -size ).append( ",0z" );
+            }
+        }
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  tail()
+
+    /**
+     *  Converts the given value into units of the precision.
+     *
+     *  @param  value   The value.
+     *  @return The value in units of the precision.
+     */
+    private final long toUnits( final double value ) { return (long) rint( value * m_Factor ); }
+}
+//  class ScatterEmitter
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,171 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ *  <p>{@summary The implementation of the bulk operations of
+ *  {@link AffineMatrix}
+ *  with the Vector API} from the module {@code jdk.incubator.vector}.</p>
+ *  <p>This class will be loaded only when that module is present; the
+ *  methods process as many points as fit into full vectors and return the
+ *  index of the first point that the caller has to process with scalar
+ *  code. The operations are the same as for the scalar code, in the same
+ *  order, so the results are identical.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: VectorAffineKernel.java 1176 2026-10-18 21:04:12Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: VectorAffineKernel.java 1176 2026-10-18 21:04:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+@UtilityClass
+final class VectorAffineKernel
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The preferred vector species for the platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     *  The shuffle that swaps the x and y coordinates of interleaved points.
+     */
+    private static final VectorShuffle<Double> SWAP = VectorShuffle.fromOp( SPECIES, i -> i ^ 1 );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private VectorAffineKernel() { throw new PrivateConstructorForStaticClassCalledError( VectorAffineKernel.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Transforms points with their coordinates in separate arrays.
+     *
+     *  @param  matrix  The transformation.
+     *  @param  xs  The x coordinates.
+     *  @param  ys  The y coordinates.
+     *  @param  offset  The index of the first point.
+     *  @param  count   The number of points.
+     *  @return The index of the first point that was not processed.
+     */
+    static final int apply( final AffineMatrix matrix, final double [] xs, final double [] ys, final int offset, final int count )
+    {
+        final var a = matrix.getA();
+        final var b = matrix.getB();
+        final var c = matrix.getC();
+        final var d = matrix.getD();
+        final var e = matrix.getE();
+        final var f = matrix.getF();
+        final var bound = offset + SPECIES.loopBound( count );
+        var retValue = offset;
+        for( ; retValue < bound; retValue += SPECIES.length() )
+        {
+            final var x = DoubleVector.fromArray( SPECIES, xs, retValue );
+            final var y = DoubleVector.fromArray( SPECIES, ys, retValue );
+            x.mul( a ).add( y.mul( c ) ).add( e ).intoArray( xs, retValue );
+            x.mul( b ).add( y.mul( d ) ).add( f ).intoArray( ys, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  apply()
+
+    /**
+     *  Transforms points with interleaved coordinates.
+     *
+     *  @param  matrix  The transformation.
+     *  @param  coordinates The coordinates, x and y alternating.
+     *  @param  offset  The index of the x coordinate of the first point.
+     *  @param  count   The number of points.
+     *  @return The index of the x coordinate of the first point that was not
+     *      processed.
+     */
+    static final int applyInterleaved( final AffineMatrix matrix, final double [] coordinates, final int offset, final int count )
+    {
+        /*
+         * For the x coordinates (the even lanes), the result is
+         * a * x + c * y + e, for the y coordinates (the odd lanes) it is
+         * d * y + b * x + f; as the addition of two values is commutative,
+         * this is the same as for the scalar code.
+         */
+        final var length = SPECIES.length();
+        final var own = new double [length];
+        final var other = new double [length];
+        final var translation = new double [length];
+        for( var i = 0; i < length; i += 2 )
+        {
+            own [i] = matrix.getA();
+            own [i + 1] = matrix.getD();
+            other [i] = matrix.getC();
+            other [i + 1] = matrix.getB();
+            translation [i] = matrix.getE();
+            translation [i + 1] = matrix.getF();
+        }
+        final var ownFactors = DoubleVector.fromArray( SPECIES, own, 0 );
+        final var otherFactors = DoubleVector.fromArray( SPECIES, other, 0 );
+        final var translations = DoubleVector.fromArray( SPECIES, translation, 0 );
+
+        final var bound = offset + SPECIES.loopBound( count * 2 );
+        var retValue = offset;
+        for( ; retValue < bound; retValue += length )
+        {
+            final var values = DoubleVector.fromArray( SPECIES, coordinates, retValue );
+            values.mul( ownFactors )
+                .add( values.rearrange( SWAP ).mul( otherFactors ) )
+                .add( translations )
+                .intoArray( coordinates, retValue );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  applyInterleaved()
+
+    /**
+     *  Checks whether the vectors of the platform are wide enough to hold
+     *  at least one point.
+     *
+     *  @return {@code true} if the vector operations can be used,
+     *      {@code false} otherwise.
+     */
+    static final boolean isSupported() { return SPECIES.length() >= 2; }
+}
+//  class VectorAffineKernel
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,305 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ViewBox;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Removes the elements from an SVG document that are outside
+ *  of a given window}, so that a large document can be written cheaply
+ *  into many cropped views.</p>
+ *  <p>An element is removed when its bounding box, transformed into the
+ *  coordinate system of the root element, does not intersect with the
+ *  window; the window is either the
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+ *  of the root element, or given by the caller, in the user units of the
+ *  root element. Groups ({@code <g>} and {@code <a>}) are culled
+ *  recursively; a group is removed when none of its children is left.</p>
+ *  <p>The culling is conservative: elements without a bounding box (text,
+ *  definitions, styles, nested {@code <svg>} elements and the like) are
+ *  always kept, and so are the children of {@code <switch>} elements,
+ *  because removing one of these could make another one visible. Elements
+ *  with an id are kept unchanged, too, including their children, as a
+ *  {@code <use>}, {@code <textPath>} or {@code <mpath>} element inside the
+ *  window may refer to them. As the
+ *  bounding boxes as determined by
+ *  {@link ElementBounds}
+ *  do not include the stroke, the window should be
+ *  {@linkplain BoundingBox#expand(double) expanded}
+ *  by half the widest stroke when shapes that touch the border from the
+ *  outside should be kept.</p>
+ *  <p>The given document is not modified; instead, the culled groups and
+ *  the root element are replaced by plain copies that hold the remaining
+ *  children. Groups that contain text or comments directly cannot be
+ *  copied, so their children are not culled.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ViewportCuller.java 1204 2026-10-20 10:18:06Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ViewportCuller.java 1204 2026-10-20 10:18:06Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@UtilityClass
+public final class ViewportCuller
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private ViewportCuller() { throw new PrivateConstructorForStaticClassCalledError( ViewportCuller.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  <p>{@summary Returns a copy of the given document that shows only the
+     *  given window}: all elements outside of the window are
+     *  {@linkplain #cull(SVGElementWithChildren, BoundingBox) removed}, and
+     *  the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+     *  of the copy is set to the window.</p>
+     *  <p>The attributes {@code width} and {@code height} of the root element
+     *  are copied unchanged; the aspect ratio of the window should match
+     *  them.</p>
+     *
+     *  @param  root    The root element of the document.
+     *  @param  window  The window, in the user units of the root element.
+     *  @return The root element of the cropped document.
+     *  @throws IllegalArgumentException    The root element contains text
+     *      or comments directly.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final XMLElement crop( final SVG root, final BoundingBox window ) throws IllegalArgumentException
+    {
+        var retValue = cull( root, window );
+        if( retValue == root )
+        {
+            final var children = root.getChildren();
+            if( !canCopy( children ) ) throw new IllegalArgumentException( "The root element contains text" );
+            retValue = copy( root, children );
+        }
+        retValue.setAttribute( SVGATTRIBUTE_ViewBox, window.toString() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  crop()
+
+    /**
+     *  Removes the elements that are outside of the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+     *  of the given root element.
+     *
+     *  @param  root    The root element.
+     *  @return The root element of the culled document; this is the given
+     *      root element itself if nothing was removed, or if it does not
+     *      have a valid
+     *      {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final XMLElement cull( final SVGElementWithChildren root )
+    {
+        final var retValue = getViewBox( root )
+            .map( window -> cull( root, window ) )
+            .orElse( (XMLElement) root );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  cull()
+
+    /**
+     *  Removes the elements that are outside of the given window.
+     *
+     *  @param  root    The root element.
+     *  @param  window  The window, in the user units of the root element.
+     *  @return The root element of the culled document; this is the given
+     *      root element itself if nothing was removed.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final XMLElement cull( final SVGElementWithChildren root, final BoundingBox window )
+    {
+        requireNonNullArgument( root, "root" );
+        requireNonNullArgument( window, "window" );
+
+        final var retValue = cullChildren( root, AffineMatrix.IDENTITY, window ).orElseGet( () -> copy( root, List.of() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  cull()
+
+    /**
+     *  Culls the given element.
+     *
+     *  @param  element The element.
+     *  @param  parentTransformation    The transformation from the parent's
+     *      coordinate system to that of the root element.
+     *  @param  window  The window.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the given element, or a culled copy of it; empty if
+     *      the element is outside of the window.
+     */
+    private static Optional<Element> cullElement( final Element element, final AffineMatrix parentTransformation, final BoundingBox window )
+    {
+        Optional<Element> retValue = Optional.of( element );
+        try
+        {
+            if( element.getAttribute( SVGATTRIBUTE_Id ).isPresent() )
+            {
+                /*
+                 * The element may be referenced from inside the window; we
+                 * keep it as it is.
+                 */
+            }
+            else if( ElementBounds.isShape( element ) )
+            {
+                final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                final var isOutside = ElementBounds.getGeometryBounds( element )
+                    .map( transformation::transform )
+                    .map( box -> !box.intersects( window ) )
+                    .orElse( false );
+                if( isOutside ) retValue = Optional.empty();
+            }
+            else if( SVGELEMENT_Group.equals( element.getElementName() ) || SVGELEMENT_Anchor.equals( element.getElementName() ) )
+            {
+                final var transformation = parentTransformation.multiply( ElementBounds.getTransformation( element ) );
+                retValue = cullChildren( element, transformation, window ).map( Element.class::cast );
+            }
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            /*
+             * The transformation of the element is invalid; we keep it as
+             * it is.
+             */
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  cullElement()
+
+    /**
+     *  Culls the children of the given element.
+     *
+     *  @param  parent  The parent element.
+     *  @param  transformation  The transformation from the parent's
+     *      coordinate system to that of the root element, including the
+     *      transformation of the parent itself.
+     *  @param  window  The window.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the given element if no child was removed, or a copy
+     *      of the given element with the remaining children; empty if no
+     *      child is left.
+     */
+    private static Optional<XMLElement> cullChildren( final Element parent, final AffineMatrix transformation, final BoundingBox window )
+    {
+        final var children = parent.getChildren();
+        Optional<XMLElement> retValue = Optional.of( (XMLElement) parent );
+        if( canCopy( children ) )
+        {
+            final List<Element> remaining = new ArrayList<>( children.size() );
+            var isChanged = false;
+            for( final var child : children )
+            {
+                final var culled = cullElement( child, transformation, window );
+                culled.ifPresent( remaining::add );
+                isChanged |= culled.isEmpty() || culled.get() != child;
+            }
+            if( remaining.isEmpty() )
+            {
+                retValue = Optional.empty();
+            }
+            else if( isChanged )
+            {
+                retValue = Optional.of( copy( parent, remaining ) );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  cullChildren()
+
+    /**
+     *  Returns the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_ViewBox}
+     *  of the given element.
+     *
+     *  @param  element The element.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the view box; empty if the element does not have one,
+     *      or if it is invalid.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final Optional<BoundingBox> getViewBox( final Element element )
+    {
+        Optional<BoundingBox> retValue = Optional.empty();
+        final var viewBox = requireNonNullArgument( element, "element" ).getAttribute( SVGATTRIBUTE_ViewBox );
+        if( viewBox.isPresent() )
+        {
+            try
+            {
+                final var scanner = new DataScanner( viewBox.get() );
+                final var minX = scanner.nextNumber();
+                final var minY = scanner.nextNumber();
+                final var width = scanner.nextNumber();
+                final var height = scanner.nextNumber();
+                if( scanner.atEnd() && width > 0 && height > 0 )
+                {
+                    retValue = Optional.of( new BoundingBox( minX, minY, minX + width, minY + height ) );
+                }
+            }
+            catch( final IllegalArgumentException ignored )
+            {
+                retValue = Optional.empty();
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getViewBox()
+}
+//  class ViewportCuller
+
+/*
+ *  End of File
+ */
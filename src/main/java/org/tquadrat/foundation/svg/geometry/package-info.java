@@ -0,0 +1,30 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ * http://www.gnu.org/licenses/lgpl.html
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ *  Geometrical operations on SVG data, like the parsing and flattening of
+ *  path definitions.
+ */
+
+@API( status = STABLE, since = "0.5.0" )
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,328 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Helpers for the creation of modified copies of SVG
+ *  elements.}</p>
+ *  <p>The operations that change the output for a document, like the
+ *  passes of
+ *  {@link org.tquadrat.foundation.svg.optimizer.SVGOptimizer}
+ *  or the transformations in
+ *  {@link org.tquadrat.foundation.svg.geometry},
+ *  do not modify the document itself; instead, they replace the affected
+ *  elements, and all their ancestors, by plain copies, the same way as
+ *  {@code SVGStyleImpl} does it for its output.</p>
+ *  <p>Adding a child to an element makes that element the parent of the
+ *  child; therefore the unchanged subtrees of the original document are
+ *  copied as well when they are added to a copy, as otherwise they would
+ *  be moved out of the original document, and the invalidation of the
+ *  caches and the structural hashes of their original ancestors would no
+ *  longer work. Only the elements that were created by the operation
+ *  itself, and that do not have a parent yet, are added as they
+ *  are.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: Elements.java 1198 2026-10-19 21:46:12Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: Elements.java 1198 2026-10-19 21:46:12Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+@UtilityClass
+public final class Elements
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The prefix for the output of a CDATA section: {@value}.
+     */
+    private static final String CDATA_PREFIX = "<![CDATA[";
+
+    /**
+     *  The suffix for the output of a CDATA section: {@value}.
+     */
+    private static final String CDATA_SUFFIX = "]]>";
+
+    /**
+     *  The prefix for the output of a comment: {@value}.
+     */
+    private static final String COMMENT_PREFIX = "<!--";
+
+    /**
+     *  The suffix for the output of a comment: {@value}.
+     */
+    private static final String COMMENT_SUFFIX = "-->";
+
+    /**
+     *  The pattern for the entities in the output of a text.
+     */
+    private static final Pattern ENTITY_PATTERN = Pattern.compile( "&(?:#[xX]([0-9A-Fa-f]+)|#(\\d+)|(amp|lt|gt|quot|apos));" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private Elements() { throw new PrivateConstructorForStaticClassCalledError( Elements.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the given children can be added to a copy of their
+     *  parent.
+     *
+     *  @param  children    The children.
+     *  @return {@code true} if all children are XML elements,
+     *      {@code false} if there is text or a comment among them.
+     */
+    public static final boolean canCopy( final Collection<? extends Element> children )
+    {
+        var retValue = true;
+        for( final var child : children )
+        {
+            if( !(child instanceof XMLElement) )
+            {
+                retValue = false;
+                break;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  canCopy()
+
+    /**
+     *  Creates a plain copy of the given element with the given children;
+     *  the children that belong to another element already are copied,
+     *  too.
+     *
+     *  @param  original    The original element.
+     *  @param  children    The children for the copy; all of them must be
+     *      instances of
+     *      {@link XMLElement}.
+     *  @return The copy.
+     */
+    public static final XMLElement copy( final Element original, final Collection<? extends Element> children )
+    {
+        return copy( original, original.getAttributes(), children );
+    }   //  copy()
+
+    /**
+     *  Creates a plain copy of the given element with the given attributes
+     *  and children.
+     *
+     *  @param  original    The original element.
+     *  @param  attributes  The attributes for the copy.
+     *  @param  children    The children for the copy; all of them must be
+     *      instances of
+     *      {@link XMLElement}.
+     *  @return The copy.
+     */
+    public static final XMLElement copy( final Element original, final Map<String,String> attributes, final Collection<? extends Element> children )
+    {
+        return copy( original, original.getElementName(), attributes, children );
+    }   //  copy()
+
+    /**
+     *  Creates a plain copy of the given element with another element name
+     *  and the given attributes and children; this is used when a shape is
+     *  replaced by another one.
+     *
+     *  @param  original    The original element.
+     *  @param  elementName The element name for the copy.
+     *  @param  attributes  The attributes for the copy.
+     *  @param  children    The children for the copy; all of them must be
+     *      instances of
+     *      {@link XMLElement}.
+     *  @return The copy.
+     */
+    public static final XMLElement copy( final Element original, final String elementName, final Map<String,String> attributes, final Collection<? extends Element> children )
+    {
+        final var retValue = createXMLElement( elementName );
+        for( final var namespace : original.getNamespaces() ) retValue.setNamespace( namespace );
+        for( final var attribute : attributes.entrySet() ) retValue.setAttribute( attribute.getKey(), attribute.getValue() );
+        for( final var child : children ) retValue.addChild( isShared( child ) ? deepCopy( child ) : (XMLElement) child );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  copy()
+
+    /**
+     *  Adds a copy of the given text, CDATA section or comment to the given
+     *  element; the copy is restored from the output of the original.
+     *
+     *  @param  target  The element that receives the copy.
+     *  @param  original    The original text, CDATA section or comment.
+     */
+    private static final void copyText( final XMLElement target, final Element original )
+    {
+        final var output = original.toString( 0, false );
+        if( output.startsWith( CDATA_PREFIX ) && output.endsWith( CDATA_SUFFIX ) )
+        {
+            target.addCDATA( output.substring( CDATA_PREFIX.length(), output.length() - CDATA_SUFFIX.length() ) );
+        }
+        else if( output.startsWith( COMMENT_PREFIX ) && output.endsWith( COMMENT_SUFFIX ) )
+        {
+            target.addComment( output.substring( COMMENT_PREFIX.length(), output.length() - COMMENT_SUFFIX.length() ) );
+        }
+        else
+        {
+            target.addText( unescape( output ) );
+        }
+    }   //  copyText()
+
+    /**
+     *  Creates a plain copy of the given element and of all its
+     *  descendants; the copy shares nothing with the original.
+     *
+     *  @param  original    The original element.
+     *  @return The copy.
+     */
+    public static final XMLElement deepCopy( final Element original )
+    {
+        final XMLElement retValue;
+        if( original instanceof final SVGStyleImpl style )
+        {
+            retValue = style.createCopy();
+        }
+        else
+        {
+            retValue = createXMLElement( original.getElementName() );
+            for( final var namespace : original.getNamespaces() ) retValue.setNamespace( namespace );
+            for( final var attribute : original.getAttributes().entrySet() ) retValue.setAttribute( attribute.getKey(), attribute.getValue() );
+            deepCopyChildren( retValue, original.getChildren() );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  deepCopy()
+
+    /**
+     *  Adds copies of the given children, and of all their descendants, to
+     *  the given element.
+     *
+     *  @param  target  The element that receives the copies.
+     *  @param  children    The original children.
+     */
+    static final void deepCopyChildren( final XMLElement target, final Collection<? extends Element> children )
+    {
+        for( final var child : children )
+        {
+            if( child instanceof XMLElement )
+            {
+                target.addChild( deepCopy( child ) );
+            }
+            else
+            {
+                copyText( target, child );
+            }
+        }
+    }   //  deepCopyChildren()
+
+    /**
+     *  Checks whether the given element belongs to a document already,
+     *  either to the original one or to the result of another operation.
+     *  SVG elements are always treated as shared, as not all of them have
+     *  a parent: the
+     *  {@code <defs>}
+     *  element of an
+     *  {@code <svg>}
+     *  element, for example, is just held by it.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element has to be copied before it can
+     *      be added to another element, {@code false} if it can be added
+     *      as it is.
+     */
+    private static final boolean isShared( final Element element )
+    {
+        final var retValue = (element instanceof SVGElement)
+            || !(element instanceof final XMLElement xmlElement)
+            || xmlElement.getParent().isPresent();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isShared()
+
+    /**
+     *  Replaces the entities in the output of a text by the characters
+     *  they stand for.
+     *
+     *  @param  output  The output of the text.
+     *  @return The text.
+     */
+    private static final String unescape( final String output )
+    {
+        final var retValue = ENTITY_PATTERN.matcher( output ).replaceAll( match ->
+        {
+            final String character;
+            if( nonNull( match.group( 1 ) ) )
+            {
+                character = Character.toString( Integer.parseInt( match.group( 1 ), 16 ) );
+            }
+            else if( nonNull( match.group( 2 ) ) )
+            {
+                character = Character.toString( Integer.parseInt( match.group( 2 ) ) );
+            }
+            else
+            {
+                character = switch( match.group( 3 ) )
+                {
+                    case "amp" -> "&";
+                    case "lt" -> "<";
+                    case "gt" -> ">";
+                    case "quot" -> "\"";
+                    default -> "'";
+                };
+            }
+
+            //---* Done *------------------------------------------------------
+            return Matcher.quoteReplacement( character );
+        } );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  unescape()
+}
+//  class Elements
+
+/*
+ *  End of File
+ */
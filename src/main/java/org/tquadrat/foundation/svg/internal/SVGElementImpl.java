@@ -19,6 +19,7 @@ package org.tquadrat.foundation.svg.internal;
 
 import static java.lang.Double.min;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
@@ -26,6 +27,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_String_ARRAY;
 import static org.tquadrat.foundation.lang.CommonConstants.XMLATTRIBUTE_Language;
 import static org.tquadrat.foundation.lang.CommonConstants.XMLATTRIBUTE_Whitespace;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
@@ -185,14 +187,19 @@ import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Description;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Title;
 import static org.tquadrat.foundation.svg.SVGUtils.XMLATTRIBUTE_Base;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
 import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.getNMTokenValidator;
 import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.ALLOWS_TEXT;
+import static org.tquadrat.foundation.xml.builder.spi.SGMLPrinter.repeat;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -206,7 +213,9 @@ import org.tquadrat.foundation.svg.type.SVGNumber.SVGUserUnitValue;
 import org.tquadrat.foundation.svg.type.SVGPaint;
 import org.tquadrat.foundation.svg.type.SVGPreserveAspectRatio;
 import org.tquadrat.foundation.svg.type.SVGTransform;
+import org.tquadrat.foundation.svg.type.SVGUnit;
 import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
 import org.tquadrat.foundation.xml.builder.spi.XMLElementAdapter;
 
 /**
@@ -215,22 +224,116 @@ import org.tquadrat.foundation.xml.builder.spi.XMLElementAdapter;
  *  why it is not abstract).</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGElementImpl.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( {"ClassWithTooManyMethods", "OverlyComplexClass"} )
-@ClassVersion( sourceVersion = "$Id: SVGElementImpl.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.5" )
 public sealed class SVGElementImpl extends XMLElementAdapter implements SVGElement
     permits SVGElementAdapter, SVGClipPathImpl,
         SVGGroupImpl, SVGImpl, SVGLineImpl, SVGMarkerImpl, SVGPathImpl,
-        SVGRectangleImpl, SVGStyleImpl, SVGSymbolImpl, SVGTextBase, SVGUseImpl
+        SVGPolyShapeBase, SVGRectangleImpl, SVGStyleImpl, SVGSymbolImpl, SVGTextBase, SVGUseImpl
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The cached output for an element and its subtree, together with the
+     *  settings it was created with.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class CachedOutput
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The indentation level, or
+         *  {@link #COMPACT_OUTPUT}
+         *  if the output is not pretty printed.
+         */
+        private final int m_Level;
+
+        /**
+         *  The output.
+         */
+        private final String m_Output;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code CachedOutput} instance.
+         *
+         *  @param  level   The indentation level, or
+         *      {@link #COMPACT_OUTPUT}
+         *      if the output is not pretty printed.
+         *  @param  output  The output.
+         */
+        public CachedOutput( final int level, final String output )
+        {
+            m_Level = level;
+            m_Output = output;
+        }   //  CachedOutput()
+    }
+    //  class CachedOutput
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The key for the output without pretty printing in
+     *  {@link #m_FrozenOutput},
+     *  and the level for it in
+     *  {@link #m_CachedOutput}.
+     */
+    private static final int COMPACT_OUTPUT = -1;
+
+    /**
+     *  The flag that indicates whether the output that is created on the
+     *  current thread will be cached; it is cleared by
+     *  {@link #createUncachedOutput(Element, int, boolean)}.
+     */
+    private static final ThreadLocal<Boolean> CACHING_OUTPUT = ThreadLocal.withInitial( () -> Boolean.TRUE );
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The element that holds this element without being its parent, like
+     *  the {@code <svg>} element holds its {@code <defs>} element; it will
+     *  be notified about modifications of this element, too.
+     */
+    private SVGElementImpl m_Container;
+
+    /**
+     *  The output that was created by the last call to
+     *  {@link #toString(int, boolean)};
+     *  {@code null} if there was none since the element, or one of its
+     *  descendants, was modified the last time.
+     */
+    private CachedOutput m_CachedOutput;
+
+    /**
+     *  The serialized output for the subtree of this element, encoded as
+     *  UTF-8, with the indentation level as the key, or
+     *  {@link #COMPACT_OUTPUT}
+     *  for the output without pretty printing; only set if this element was
+     *  the target of a call to
+     *  {@link #freeze()}.
+     */
+    private Map<Integer,byte []> m_FrozenOutput;
+
     /**
      *  Flag that indicates whether a description was already provided for this
      *  element.
@@ -243,6 +346,23 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
      */
     private boolean m_HasTitle;
 
+    /**
+     *  Flag that indicates whether this element is frozen.
+     */
+    private boolean m_IsFrozen;
+
+    /**
+     *  The memoized structural hash for this element and its subtree.
+     */
+    private long m_StructuralHash;
+
+    /**
+     *  Flag that indicates whether
+     *  {@link #m_StructuralHash}
+     *  is valid.
+     */
+    private boolean m_StructuralHashIsValid;
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -258,11 +378,41 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
 
         m_HasDescription = false;
         m_HasTitle = false;
+        m_IsFrozen = false;
+        m_StructuralHashIsValid = false;
     }   //  SVGElementImpl()
 
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public XMLElement addCDATA( final CharSequence text ) throws IllegalArgumentException
+    {
+        ensureNotFrozen();
+        final var retValue = super.addCDATA( text );
+        invalidateCaches();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addCDATA()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public <E extends XMLElement> XMLElement addChild( final E child ) throws IllegalArgumentException, IllegalStateException
+    {
+        ensureNotFrozen();
+        final var retValue = super.addChild( child );
+        invalidateCaches();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addChild()
+
     /**
      *  Adds a child to this element.
      *
@@ -278,6 +428,279 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
         addChild( (XMLElement) child );
     }   //  addChild()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public XMLElement addComment( final CharSequence comment ) throws IllegalArgumentException
+    {
+        ensureNotFrozen();
+        final var retValue = super.addComment( comment );
+        invalidateCaches();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addComment()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public XMLElement addText( final CharSequence text ) throws IllegalArgumentException
+    {
+        ensureNotFrozen();
+        final var retValue = super.addText( text );
+        invalidateCaches();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addText()
+
+    /**
+     *  <p>{@summary Prepares this element for being frozen.} This method is
+     *  called by
+     *  {@link #freeze()}
+     *  for each SVG element in the subtree that is not yet frozen, before the
+     *  subtree is serialized; implementations can use it to move state that
+     *  is kept outside of the attributes and children into the element, as
+     *  that can no longer be done afterwards.</p>
+     *  <p>The default implementation does nothing.</p>
+     */
+    protected void beforeFreeze() { /* Does nothing by default */ }
+
+    /**
+     *  Creates the output for this element and its subtree, regardless of
+     *  whether the element is frozen or not. Subclasses that have to modify
+     *  the output will override this method, instead of
+     *  {@link #toString(int, boolean)}.
+     *
+     *  @param  indentationLevel    The indentation level.
+     *  @param  prettyPrint {@code true} if the output should be pretty
+     *      printed, {@code false} if not.
+     *  @return The output.
+     */
+    protected String createOutput( final int indentationLevel, final boolean prettyPrint )
+    {
+        return super.toString( indentationLevel, prettyPrint );
+    }   //  createOutput()
+
+    /**
+     *  Creates the output for this element and its subtree, but with the
+     *  given attributes instead of those that are stored with the element.
+     *  Subclasses that derive attributes from other state use this method
+     *  from their implementation of
+     *  {@link #createOutput(int, boolean)},
+     *  as the element must not be modified while it is written.
+     *
+     *  @param  attributes  The attributes.
+     *  @param  indentationLevel    The indentation level.
+     *  @param  prettyPrint {@code true} if the output should be pretty
+     *      printed, {@code false} if not.
+     *  @return The output.
+     */
+    protected final String createOutput( final Map<String,String> attributes, final int indentationLevel, final boolean prettyPrint )
+    {
+        //---* Let the element builder create the tag *------------------------
+        final var emptyCopy = createXMLElement( getElementName() );
+        for( final var namespace : getNamespaces() ) emptyCopy.setNamespace( namespace );
+        for( final var attribute : attributes.entrySet() ) emptyCopy.setAttribute( attribute.getKey(), attribute.getValue() );
+        final var emptyTag = emptyCopy.toString( indentationLevel, prettyPrint );
+
+        final String retValue;
+        if( hasChildren() && emptyTag.endsWith( "/>" ) )
+        {
+            final var buffer = new StringBuilder( emptyTag.length() * 2 );
+            buffer.append( emptyTag, 0, emptyTag.length() - 2 ).append( '>' );
+            var isBlock = false;
+            for( final var child : getChildren() )
+            {
+                buffer.append( child.toString( indentationLevel + 1, prettyPrint ) );
+                isBlock |= child.isBlock();
+            }
+            if( prettyPrint && isBlock ) buffer.append( '\n' ).append( repeat( indentationLevel ) );
+            buffer.append( "</" ).append( getElementName() ).append( '>' );
+            retValue = buffer.toString();
+        }
+        else
+        {
+            retValue = emptyTag;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createOutput()
+
+    /**
+     *  <p>{@summary Creates the output for the given element and its
+     *  subtree without adding it to the output caches.}</p>
+     *  <p>The output that is already cached for the element or for one of
+     *  its descendants is used, but the output that is created is not
+     *  kept; writers that send a document to a stream use this method, so
+     *  that the text of the whole document is not left in memory
+     *  afterwards.</p>
+     *
+     *  @param  element The element.
+     *  @param  indentationLevel    The indentation level.
+     *  @param  prettyPrint {@code true} if the output should be pretty
+     *      printed, {@code false} if not.
+     *  @return The output.
+     *
+     *  @see #toString(int, boolean)
+     */
+    public static final String createUncachedOutput( final Element element, final int indentationLevel, final boolean prettyPrint )
+    {
+        requireNonNullArgument( element, "element" );
+
+        final String retValue;
+        final var isCachingOutput = CACHING_OUTPUT.get();
+        CACHING_OUTPUT.set( Boolean.FALSE );
+        try
+        {
+            retValue = element.toString( indentationLevel, prettyPrint );
+        }
+        finally
+        {
+            CACHING_OUTPUT.set( isCachingOutput );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createUncachedOutput()
+
+    /**
+     *  Ensures that this element can be modified; this has to be called by
+     *  all methods that modify the element without calling one of the
+     *  methods that are inherited from
+     *  {@link XMLElementAdapter}.
+     *
+     *  @throws IllegalStateException   The element is frozen.
+     */
+    protected final void ensureNotFrozen() throws IllegalStateException
+    {
+        if( m_IsFrozen ) throw new IllegalStateException( "The element '%s' is frozen".formatted( getElementName() ) );
+    }   //  ensureNotFrozen()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void freeze()
+    {
+        if( !m_IsFrozen )
+        {
+            forEachUnfrozen( this, SVGElementImpl::beforeFreeze );
+            final var compactOutput = createOutput( 0, false ).getBytes( UTF_8 );
+            forEachUnfrozen( this, element -> element.m_IsFrozen = true );
+
+            final Map<Integer,byte []> frozenOutput = new ConcurrentHashMap<>();
+            frozenOutput.put( COMPACT_OUTPUT, compactOutput );
+            m_FrozenOutput = frozenOutput;
+        }
+    }   //  freeze()
+
+    /**
+     *  Calls the given action for all SVG elements in the given subtree that
+     *  are not yet frozen; the subtrees of frozen elements are skipped.
+     *
+     *  @param  element The root of the subtree.
+     *  @param  action  The action.
+     */
+    private static final void forEachUnfrozen( final Element element, final Consumer<? super SVGElementImpl> action )
+    {
+        var isFrozen = false;
+        if( element instanceof final SVGElementImpl svgElement )
+        {
+            isFrozen = svgElement.m_IsFrozen;
+            if( !isFrozen ) action.accept( svgElement );
+        }
+        if( !isFrozen )
+        {
+            for( final var child : element.getChildren() ) forEachUnfrozen( child, action );
+        }
+    }   //  forEachUnfrozen()
+
+    /**
+     *  Returns the serialized output for the subtree of this element, if
+     *  this element was frozen by a call to
+     *  {@link #freeze()}
+     *  for itself. The returned array must not be modified.
+     *
+     *  @param  indentationLevel    The indentation level; ignored if
+     *      {@code prettyPrint} is {@code false}.
+     *  @param  prettyPrint {@code true} for the pretty printed output,
+     *      {@code false} for the compact one.
+     *  @return An instance of
+     *      {@link Optional}
+     *      that holds the output, encoded as UTF-8; empty if the element was
+     *      not frozen, or was frozen only as part of the subtree of one of
+     *      its ancestors.
+     */
+    public final Optional<byte []> getFrozenOutput( final int indentationLevel, final boolean prettyPrint )
+    {
+        final Optional<byte []> retValue = isNull( m_FrozenOutput )
+            ? Optional.empty()
+            : Optional.of( m_FrozenOutput.computeIfAbsent( prettyPrint ? indentationLevel : COMPACT_OUTPUT, level -> createOutput( level, true ).getBytes( UTF_8 ) ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getFrozenOutput()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public long getStructuralHash()
+    {
+        if( !m_StructuralHashIsValid )
+        {
+            m_StructuralHash = StructuralHash.computeHash( this );
+            m_StructuralHashIsValid = true;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return m_StructuralHash;
+    }   //  getStructuralHash()
+
+    /**
+     *  Invalidates the memoized structural hash and the cached output of
+     *  this element and those of its ancestors; this has to be called by all
+     *  methods that modify the element without calling one of the methods
+     *  that are inherited from
+     *  {@link XMLElementAdapter}.
+     */
+    protected final void invalidateCaches()
+    {
+        m_StructuralHashIsValid = false;
+        m_CachedOutput = null;
+        Element current = nonNull( m_Container ) ? m_Container : getParent().orElse( null );
+        while( nonNull( current ) )
+        {
+            if( current instanceof final SVGElementImpl svgElement )
+            {
+                /*
+                 * An ancestor is valid only if all its descendants were
+                 * valid when it was computed, so we can stop at the first
+                 * one where both the hash and the output are already
+                 * invalid.
+                 */
+                if( !svgElement.m_StructuralHashIsValid && isNull( svgElement.m_CachedOutput ) ) break;
+                svgElement.m_StructuralHashIsValid = false;
+                svgElement.m_CachedOutput = null;
+                current = nonNull( svgElement.m_Container ) ? svgElement.m_Container : svgElement.getParent().orElse( null );
+            }
+            else
+            {
+                current = current instanceof final XMLElement xmlElement ? xmlElement.getParent().orElse( null ) : null;
+            }
+        }
+    }   //  invalidateCaches()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean isFrozen() { return m_IsFrozen; }
+
     /**
      *  Sets the abort handler for this SVG element.
      *
@@ -308,6 +731,21 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
         setAttribute( SVGATTRIBUTE_AlignmentBaseline, nonNull( value ) ? value.toString() : null, NO_APPEND );
     }   //  setAlignmentBaseline()
 
+    /**
+     *  {@inheritDoc}
+     */
+    @SuppressWarnings( "OptionalUsedAsFieldOrParameterType" )
+    @Override
+    public XMLElement setAttribute( final String name, final CharSequence value, final Optional<String> append ) throws IllegalArgumentException
+    {
+        ensureNotFrozen();
+        final var retValue = super.setAttribute( name, value, append );
+        invalidateCaches();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  setAttribute()
+
     /**
      *  Sets the attribute with the given name.
      *
@@ -472,6 +910,13 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
      */
     public void setColorRendering( final String value ) { setAttribute( SVGATTRIBUTE_ColorRendering, value ); }
 
+    /**
+     *  Sets the element that holds this element without being its parent.
+     *
+     *  @param  container   The container.
+     */
+    final void setContainer( final SVGElementImpl container ) { m_Container = container; }
+
     /**
      *  Sets the copy handler for this SVG element.
      *
@@ -981,6 +1426,62 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
      */
     public void setLightingColor( final String value ) { setAttribute( SVGATTRIBUTE_LightingColor, value ); }
 
+    /**
+     *  Sets an attribute that takes a list of numbers with the same unit;
+     *  the values are formatted directly into the attribute value, without
+     *  creating
+     *  {@link SVGNumber}
+     *  instances.
+     *
+     *  @param  name    The name of the attribute.
+     *  @param  unit    The unit for the values.
+     *  @param  values  The values; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    protected final void setListAttribute( final String name, final SVGUnit unit, final double [] values )
+    {
+        requireNonNullArgument( unit, "unit" );
+        StringBuilder value = null;
+        if( nonNull( values ) && (values.length != 0) )
+        {
+            value = new StringBuilder( values.length * 10 );
+            for( var i = 0; i < values.length; ++i )
+            {
+                if( i > 0 ) value.append( ',' );
+                unit.appendTo( value, values [i] );
+            }
+        }
+        setAttribute( name, value );
+    }   //  setListAttribute()
+
+    /**
+     *  Sets an attribute that takes a list of numbers with the same unit;
+     *  the values are formatted directly into the attribute value, without
+     *  creating
+     *  {@link SVGNumber}
+     *  instances.
+     *
+     *  @param  name    The name of the attribute.
+     *  @param  unit    The unit for the values.
+     *  @param  values  The values; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    protected final void setListAttribute( final String name, final SVGUnit unit, final long [] values )
+    {
+        requireNonNullArgument( unit, "unit" );
+        StringBuilder value = null;
+        if( nonNull( values ) && (values.length != 0) )
+        {
+            value = new StringBuilder( values.length * 6 );
+            for( var i = 0; i < values.length; ++i )
+            {
+                if( i > 0 ) value.append( ',' );
+                unit.appendTo( value, values [i] );
+            }
+        }
+        setAttribute( name, value );
+    }   //  setListAttribute()
+
     /**
      *  Sets the global event attribute {@code onloadeddata} for this SVG element.
      *
@@ -1467,6 +1968,30 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
      */
     public void setStrokeDashArray( final String value ) { setAttribute( SVGATTRIBUTE_StrokeDashArray, value ); }
 
+    /**
+     *  Sets the presentation attribute {@code stroke-dasharray} for this SVG
+     *  element from the given dash and gap lengths.
+     *
+     *  @param  unit    The unit for the lengths.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     *
+     *  @see SVGUtils#SVGATTRIBUTE_StrokeDashArray
+     */
+    public void setStrokeDashArray( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_StrokeDashArray, unit, values ); }
+
+    /**
+     *  Sets the presentation attribute {@code stroke-dasharray} for this SVG
+     *  element from the given dash and gap lengths.
+     *
+     *  @param  unit    The unit for the lengths.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     *
+     *  @see SVGUtils#SVGATTRIBUTE_StrokeDashArray
+     */
+    public void setStrokeDashArray( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_StrokeDashArray, unit, values ); }
+
     /**
      *  Sets the presentation attribute {@code stroke-dashoffset} for this SVG element.
      *
@@ -1849,6 +2374,41 @@ public sealed class SVGElementImpl extends XMLElementAdapter implements SVGEleme
     @SuppressWarnings( "UseOfConcreteClass" )
     public void setY( final SVGNumber value ) { setAttribute( SVGATTRIBUTE_y, value ); }
 
+    /**
+     *  {@inheritDoc}
+     *  <p>If the element was frozen, the output that was created then will
+     *  be returned. Otherwise the output is cached until the element, or one
+     *  of its descendants, is modified, so that only the modified parts of a
+     *  document have to be formatted again; the cache holds the output for
+     *  the indentation level and the pretty print setting of the last
+     *  call. Output that is created through
+     *  {@link #createUncachedOutput(Element, int, boolean)}
+     *  is not cached.</p>
+     */
+    @Override
+    public String toString( final int indentationLevel, final boolean prettyPrint )
+    {
+        final String retValue;
+        if( isNull( m_FrozenOutput ) )
+        {
+            final var level = prettyPrint ? indentationLevel : COMPACT_OUTPUT;
+            var cachedOutput = m_CachedOutput;
+            if( isNull( cachedOutput ) || (cachedOutput.m_Level != level) )
+            {
+                cachedOutput = new CachedOutput( level, createOutput( indentationLevel, prettyPrint ) );
+                if( CACHING_OUTPUT.get().booleanValue() ) m_CachedOutput = cachedOutput;
+            }
+            retValue = cachedOutput.m_Output;
+        }
+        else
+        {
+            retValue = new String( getFrozenOutput( indentationLevel, prettyPrint ).orElseThrow(), UTF_8 );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+
     /**
      *  Updates the registries with the valid children and attributes for this
      *  element.
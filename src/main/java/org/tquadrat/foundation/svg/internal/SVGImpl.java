@@ -164,12 +164,12 @@ import jakarta.activation.MimeType;
  *  for the {@code <svg>} element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGImpl.java 1151 2025-10-01 21:32:15Z tquadrat $
+ *  @version $Id: SVGImpl.java 1185 2026-10-19 07:48:02Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGImpl.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGImpl.java 1185 2026-10-19 07:48:02Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.5" )
 public final class SVGImpl extends SVGElementImpl implements SVG
 {
@@ -260,13 +260,16 @@ public final class SVGImpl extends SVGElementImpl implements SVG
     @Override
     public final <E extends SVGElement> void addDefinition( final E child ) throws IllegalArgumentException, IllegalStateException
     {
+        requireNonNullArgument( child, "child" );
+        ensureNotFrozen();
+
         /*
          * The class of the instance is only sufficient when it is a native
          * SVG object. But everything that is derived from SVGElementAdapter is
          * everything (including an SVGStyle), therefore we need to check the
          * element name, too.
          */
-        if( requireNonNullArgument( child, "child" ) instanceof final SVGStyle style && child.getElementName().equals( SVGELEMENT_Style ) )
+        if( child instanceof final SVGStyle style && child.getElementName().equals( SVGELEMENT_Style ) )
         {
             addStyle( style );
         }
@@ -284,6 +287,7 @@ public final class SVGImpl extends SVGElementImpl implements SVG
     public final void addStyle( final SVGStyle style ) throws IllegalArgumentException, IllegalStateException
     {
         requireNonNullArgument( style, "style" );
+        ensureNotFrozen();
 
         /*
          * <style> elements will be merged if possible, and they do not need an
@@ -323,6 +327,14 @@ public final class SVGImpl extends SVGElementImpl implements SVG
          */
         retValue.updateRegistries( childElements, emptyList() );
 
+        /*
+         * The <defs> element is not a child of the <svg> element, but it is
+         * part of its output; therefore the <svg> element has to be notified
+         * about modifications of the <defs> element.
+         */
+        retValue.setContainer( this );
+        invalidateCaches();
+
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  createDefinitionsElement()
@@ -48,12 +48,12 @@ import org.tquadrat.foundation.svg.type.SVGPathElement;
  *  for the SVG {@code <path>} element.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGPathImpl.java 1151 2025-10-01 21:32:15Z tquadrat $
+ *  @version $Id: SVGPathImpl.java 1181 2026-10-19 02:44:51Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGPathImpl.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGPathImpl.java 1181 2026-10-19 02:44:51Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.5" )
 public final class SVGPathImpl extends SVGElementImpl implements SVGPath
 {
@@ -89,6 +89,15 @@ public final class SVGPathImpl extends SVGElementImpl implements SVGPath
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setPathData( final CharSequence pathData )
+    {
+        setAttribute( SVGATTRIBUTE_PathDefinition, pathData, Optional.of( " " ) );
+    }   //  setPathData()
+
     /**
      *  {@inheritDoc}
      */
@@ -0,0 +1,298 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static java.lang.Math.max;
+import static java.util.Arrays.copyOf;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Class;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathLength;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Style;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.ANIMATION;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.DESCRIPTIVE;
+import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.ALLOWS_CHILDREN;
+import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.VALIDATES_ATTRIBUTES;
+import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.VALIDATES_CHILDREN;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGPolyShape;
+import org.tquadrat.foundation.svg.geometry.PathWriter;
+
+/**
+ *  <p>{@summary The abstract common base class for the implementations of
+ *  the interfaces
+ *  {@link org.tquadrat.foundation.svg.SVGPolyline}
+ *  and
+ *  {@link org.tquadrat.foundation.svg.SVGPolygon}.}
+ *  Both elements share the same children and attributes.</p>
+ *  <p>The points are kept in an array that grows as required; the
+ *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Points}
+ *  attribute is formatted from it each time it is requested, by
+ *  {@link #getAttributes()},
+ *  {@link #getAttribute(String)},
+ *  or when the element is written.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGPolyShapeBase.java 1193 2026-10-19 19:21:06Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@SuppressWarnings( "AbstractClassExtendsConcreteClass" )
+@ClassVersion( sourceVersion = "$Id: SVGPolyShapeBase.java 1193 2026-10-19 19:21:06Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+public abstract sealed class SVGPolyShapeBase extends SVGElementImpl implements SVGPolyShape
+    permits SVGPolygonImpl, SVGPolylineImpl
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The coordinates of the points, as pairs of x and y coordinates.
+     */
+    private double [] m_Coordinates = new double [16];
+
+    /**
+     *  The number of points.
+     */
+    private int m_PointCount = 0;
+
+    /**
+     *  The number of decimal places for the coordinates.
+     */
+    private int m_Precision = DEFAULT_PRECISION;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGPolyShapeBase} instance.
+     *
+     *  @param  elementName The element name.
+     */
+    protected SVGPolyShapeBase( final String elementName )
+    {
+        super( elementName, ALLOWS_CHILDREN, VALIDATES_ATTRIBUTES, VALIDATES_CHILDREN );
+
+        //---* The children and attributes for the element *-------------------
+        final Collection<String> childElements = new HashSet<>();
+        childElements.addAll( ANIMATION.getElements() );
+        childElements.addAll( DESCRIPTIVE.getElements() );
+
+        final Collection<String> attributes = new ArrayList<>();
+        attributes.addAll( List.of( SVGATTRIBUTE_Id, SVGATTRIBUTE_Points,
+            SVGATTRIBUTE_PathLength, SVGATTRIBUTE_Class, SVGATTRIBUTE_Style ) );
+        attributes.addAll( CORE_ATTRIBUTES );
+        attributes.addAll( STYLE_ATTRIBUTES );
+        attributes.addAll( CONDITIONALPROCESSING_ATTRIBUTES );
+        attributes.addAll( GLOBALEVENT_ATTRIBUTES );
+        attributes.addAll( GRAPHICALEVENT_ATTRIBUTES );
+        attributes.addAll( PRESENTATION_ATTRIBUTES );
+
+        updateRegistries( childElements, attributes );
+    }   //  SVGPolyShapeBase()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void addPoint( final double x, final double y )
+    {
+        ensureNotFrozen();
+        ensureCapacity( 1 );
+        final var offset = m_PointCount * 2;
+        m_Coordinates [offset] = x;
+        m_Coordinates [offset + 1] = y;
+        ++m_PointCount;
+        invalidateCaches();
+    }   //  addPoint()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void addPoints( final double [] coordinates, final int offset, final int count ) throws IndexOutOfBoundsException
+    {
+        requireNonNullArgument( coordinates, "coordinates" );
+        if( (count < 0) || (offset < 0) || (offset > coordinates.length - 2L * count) ) throw new IndexOutOfBoundsException( "Invalid range: offset %d, %d points".formatted( offset, count ) );
+        ensureNotFrozen();
+
+        ensureCapacity( count );
+        System.arraycopy( coordinates, offset, m_Coordinates, m_PointCount * 2, count * 2 );
+        m_PointCount += count;
+        invalidateCaches();
+    }   //  addPoints()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Points}
+     *  attribute is set permanently.</p>
+     */
+    @Override
+    protected final void beforeFreeze()
+    {
+        if( m_PointCount > 0 ) setAttribute( SVGATTRIBUTE_Points, formatPoints() );
+    }   //  beforeFreeze()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void clearPoints()
+    {
+        ensureNotFrozen();
+        m_PointCount = 0;
+        invalidateCaches();
+    }   //  clearPoints()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Points}
+     *  attribute is taken from the points, without modifying the element,
+     *  unless the element is frozen.</p>
+     */
+    @Override
+    protected final String createOutput( final int indentationLevel, final boolean prettyPrint )
+    {
+        final var retValue = (m_PointCount == 0) || isFrozen()
+            ? super.createOutput( indentationLevel, prettyPrint )
+            : createOutput( getAttributes(), indentationLevel, prettyPrint );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createOutput()
+
+    /**
+     *  Makes sure that the given number of points can be added without
+     *  growing the array again.
+     *
+     *  @param  points  The number of additional points.
+     */
+    private final void ensureCapacity( final int points )
+    {
+        final var required = (m_PointCount + points) * 2;
+        if( required > m_Coordinates.length )
+        {
+            m_Coordinates = copyOf( m_Coordinates, max( required, m_Coordinates.length * 2 ) );
+        }
+    }   //  ensureCapacity()
+
+    /**
+     *  Formats the points for the
+     *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_Points}
+     *  attribute.
+     *
+     *  @return The points.
+     */
+    private final String formatPoints()
+    {
+        final var buffer = new StringBuilder( m_PointCount * (m_Precision + 4) * 2 );
+        for( var i = 0; i < m_PointCount * 2; i += 2 )
+        {
+            if( i > 0 ) buffer.append( ' ' );
+            PathWriter.appendNumber( buffer, m_Coordinates [i], m_Precision );
+            buffer.append( ',' );
+            PathWriter.appendNumber( buffer, m_Coordinates [i + 1], m_Precision );
+        }
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  formatPoints()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Optional<String> getAttribute( final String name )
+    {
+        final var retValue = (m_PointCount > 0) && SVGATTRIBUTE_Points.equals( name ) ? Optional.of( formatPoints() ) : super.getAttribute( name );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getAttribute()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Map<String,String> getAttributes()
+    {
+        final Map<String,String> retValue;
+        if( m_PointCount == 0 )
+        {
+            retValue = super.getAttributes();
+        }
+        else
+        {
+            final Map<String,String> attributes = new LinkedHashMap<>( super.getAttributes() );
+            attributes.put( SVGATTRIBUTE_Points, formatPoints() );
+            retValue = Collections.unmodifiableMap( attributes );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getAttributes()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final int getPointCount() { return m_PointCount; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final double [] getPoints() { return copyOf( m_Coordinates, m_PointCount * 2 ); }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void setPrecision( final int precision ) throws IllegalArgumentException
+    {
+        if( precision < 0 || precision > PathWriter.MAX_PRECISION ) throw new IllegalArgumentException( "Invalid precision: %d".formatted( precision ) );
+        ensureNotFrozen();
+        m_Precision = precision;
+        invalidateCaches();
+    }   //  setPrecision()
+}
+//  class SVGPolyShapeBase
+
+/*
+ *  End of File
+ */
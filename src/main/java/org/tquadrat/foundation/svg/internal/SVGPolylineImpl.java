@@ -0,0 +1,57 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_PolyLine;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGPolyline;
+
+/**
+ *  The implementation of the interface
+ *  {@link SVGPolyline}
+ *  for the SVG {@code <polyline>} element.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGPolylineImpl.java 1178 2026-10-18 23:52:06Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGPolylineImpl.java 1178 2026-10-18 23:52:06Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+public final class SVGPolylineImpl extends SVGPolyShapeBase implements SVGPolyline
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGPolylineImpl} instance.
+     */
+    public SVGPolylineImpl()
+    {
+        super( SVGELEMENT_PolyLine );
+    }   //  SVGPolylineImpl()
+}
+//  class SVGPolylineImpl
+
+/*
+ *  End of File
+ */
@@ -22,8 +22,12 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
+import static org.tquadrat.foundation.lang.Objects.isNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Style;
+import static org.tquadrat.foundation.svg.internal.Elements.deepCopyChildren;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.deduplicate;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.minify;
 import static org.tquadrat.foundation.util.StringUtils.isNotEmptyOrBlank;
 import static org.tquadrat.foundation.util.StringUtils.stream;
 import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
@@ -41,23 +45,57 @@ import org.tquadrat.foundation.xml.builder.XMLElement;
 import org.tquadrat.foundation.xml.builder.spi.Element;
 
 /**
- *  The implementation of the interface
+ *  <p>{@summary The implementation of the interface
  *  {@link SVGStyle}
- *  for the SVG {@code <style>} element.
+ *  for the SVG {@code <style>} element.}</p>
+ *  <p>The compiled stylesheet – without the rules that are repeated later
+ *  on, and minified if requested – is cached until the style definitions
+ *  are modified by
+ *  {@link #addStyle(CharSequence...)},
+ *  {@link #merge(SVGStyle)}
+ *  or
+ *  {@link #setMinified(boolean)}.</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGStyleImpl.java 1151 2025-10-01 21:32:15Z tquadrat $
+ *  @version $Id: SVGStyleImpl.java 1198 2026-10-19 21:46:12Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGStyleImpl.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGStyleImpl.java 1198 2026-10-19 21:46:12Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.5" )
 public final class SVGStyleImpl extends SVGElementImpl implements SVGStyle
 {
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
+    /**
+     *  The children of the element that was created by the last call to
+     *  {@link #getChildren()};
+     *  {@code null} if there was none since the style definitions were
+     *  modified the last time.
+     */
+    private Collection<? extends Element> m_CachedChildren;
+
+    /**
+     *  The children of this element, without the stylesheet, that were used
+     *  for
+     *  {@link #m_CachedChildren}.
+     */
+    private List<Element> m_CachedChildrenSource;
+
+    /**
+     *  The lines of the compiled stylesheet; {@code null} if the style
+     *  definitions were modified after the last compilation.
+     */
+    private List<String> m_CompiledStyleSheet;
+
+    /**
+     *  {@code true} if the stylesheet will be minified, {@code false}
+     *  otherwise.
+     */
+    private boolean m_IsMinified = false;
+
     /**
      *  The lines of the CSS style definitions.
      */
@@ -97,7 +135,9 @@ public final class SVGStyleImpl extends SVGElementImpl implements SVGStyle
     @Override
     public final void addStyle( final CharSequence... styles )
     {
-        for( final var style : requireNonNullArgument( styles, "styles" ) )
+        requireNonNullArgument( styles, "styles" );
+        ensureNotFrozen();
+        for( final var style : styles )
         {
             if( isNotEmptyOrBlank( style ) )
             {
@@ -108,41 +148,115 @@ public final class SVGStyleImpl extends SVGElementImpl implements SVGStyle
                 m_StyleDefinitions.add( EMPTY_STRING );
             }
         }
+        invalidateStyleSheet();
     }   //  addStyle()
 
+    /**
+     *  Creates a copy of this element that shares nothing with it; this is
+     *  used by
+     *  {@link Elements#deepCopy(Element)}
+     *  that cannot restore the style definitions from the output.
+     *
+     *  @return The copy.
+     */
+    final SVGStyleImpl createCopy()
+    {
+        final var retValue = new SVGStyleImpl();
+        retValue.m_StyleDefinitions.addAll( m_StyleDefinitions );
+        retValue.m_IsMinified = m_IsMinified;
+        for( final var namespace : getNamespaces() ) retValue.setNamespace( namespace );
+        for( final var attribute : getAttributes().entrySet() ) retValue.setAttribute( attribute.getKey(), attribute.getValue() );
+        deepCopyChildren( retValue, super.getChildren() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createCopy()
+
     /**
      *  {@inheritDoc}
      */
     @Override
-    public final Collection<? extends Element> getChildren()
+    protected final String createOutput( final int indentationLevel, final boolean prettyPrint )
     {
-        final Collection<? extends Element> retValue;
+        final String retValue;
         if( m_StyleDefinitions.isEmpty() )
         {
-            retValue = super.getChildren();
+            retValue = super.createOutput( indentationLevel, prettyPrint );
         }
         else
         {
-            final var styleSheet = join( "\n", m_StyleDefinitions );
+            final var indentation = prettyPrint ? "\n" + repeat( indentationLevel + 1 ) : "\n";
+            final var styleSheet = getCompiledStyleSheet().stream().collect( joining( indentation, indentation, indentation ) );
 
             final var element = createXMLElement( getElementName() );
             for( final var child : super.getChildren() ) element.addChild( (XMLElement) child );
+            for( final var attribute : getAttributes().entrySet() ) element.setAttribute( attribute.getKey(), attribute.getValue() );
             element.addCDATA( styleSheet );
 
-            retValue = element.getChildren();
+            retValue = element.toString( indentationLevel, prettyPrint );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createOutput()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Collection<? extends Element> getChildren()
+    {
+        Collection<? extends Element> retValue;
+        if( m_StyleDefinitions.isEmpty() )
+        {
+            retValue = super.getChildren();
+        }
+        else
+        {
+            final List<Element> source = List.copyOf( super.getChildren() );
+            retValue = m_CachedChildren;
+            if( isNull( retValue ) || !source.equals( m_CachedChildrenSource ) )
+            {
+                final var element = createXMLElement( getElementName() );
+                for( final var child : source ) element.addChild( (XMLElement) child );
+                element.addCDATA( getStyleSheet() );
+
+                retValue = List.copyOf( element.getChildren() );
+                m_CachedChildren = retValue;
+                m_CachedChildrenSource = source;
+            }
         }
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  getChildren()
 
+    /**
+     *  Returns the lines of the compiled stylesheet.
+     *
+     *  @return The lines.
+     */
+    private final List<String> getCompiledStyleSheet()
+    {
+        var retValue = m_CompiledStyleSheet;
+        if( isNull( retValue ) )
+        {
+            retValue = List.copyOf( deduplicate( m_StyleDefinitions ) );
+            if( m_IsMinified ) retValue = List.of( minify( join( "\n", retValue ) ) );
+            m_CompiledStyleSheet = retValue;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getCompiledStyleSheet()
+
     /**
      *  {@inheritDoc}
      */
     @Override
     public final String getStyleSheet()
     {
-        final var retValue = join( "\n", m_StyleDefinitions );
+        final var retValue = join( "\n", getCompiledStyleSheet() );
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -154,15 +268,36 @@ public final class SVGStyleImpl extends SVGElementImpl implements SVGStyle
     @Override
     public final boolean hasChildren() { return !m_StyleDefinitions.isEmpty() || super.hasChildren(); }
 
+    /**
+     *  Invalidates the compiled stylesheet, and the caches of this element
+     *  and its ancestors.
+     */
+    private final void invalidateStyleSheet()
+    {
+        m_CompiledStyleSheet = null;
+        m_CachedChildren = null;
+        m_CachedChildrenSource = null;
+        invalidateCaches();
+    }   //  invalidateStyleSheet()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final boolean isMinified() { return m_IsMinified; }
+
     /**
      *  {@inheritDoc}
      */
     @Override
     public final void merge( final SVGStyle other )
     {
-        if( requireNonNullArgument( other, "other" ) instanceof final SVGStyleImpl styleImpl )
+        requireNonNullArgument( other, "other" );
+        ensureNotFrozen();
+        if( other instanceof final SVGStyleImpl styleImpl )
         {
             m_StyleDefinitions.addAll( styleImpl.m_StyleDefinitions );
+            invalidateStyleSheet();
         }
         else
         {
@@ -174,29 +309,15 @@ public final class SVGStyleImpl extends SVGElementImpl implements SVGStyle
      *  {@inheritDoc}
      */
     @Override
-    public final String toString( final int indentationLevel, final boolean prettyPrint )
+    public final void setMinified( final boolean flag )
     {
-        final String retValue;
-        if( m_StyleDefinitions.isEmpty() )
+        ensureNotFrozen();
+        if( m_IsMinified != flag )
         {
-            retValue = super.toString( indentationLevel, prettyPrint );
-        }
-        else
-        {
-            final var indentation = prettyPrint ? "\n" + repeat( indentationLevel + 1 ) : "\n";
-            final var styleSheet = m_StyleDefinitions.stream().collect( joining( indentation, indentation, indentation ) );
-
-            final var element = createXMLElement( getElementName() );
-            for( final var child : super.getChildren() ) element.addChild( (XMLElement) child );
-            for( final var attribute : getAttributes().entrySet() ) element.setAttribute( attribute.getKey(), attribute.getValue() );
-            element.addCDATA( styleSheet );
-
-            retValue = element.toString( indentationLevel, prettyPrint );
+            m_IsMinified = flag;
+            invalidateStyleSheet();
         }
-
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  toString()
+    }   //  setMinified()
 }
 //  class SVGStyleImpl
 
@@ -28,6 +28,7 @@ import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_dx;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_dy;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x;
 import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
+import static org.tquadrat.foundation.svg.type.SVGUnit.NONE;
 import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.ALLOWS_CHILDREN;
 import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.ALLOWS_TEXT;
 import static org.tquadrat.foundation.xml.builder.XMLElement.Flags.VALIDATES_ATTRIBUTES;
@@ -36,6 +37,7 @@ import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.svg.type.SVGNumber;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGDegree;
+import org.tquadrat.foundation.svg.type.SVGUnit;
 
 /**
  *  The abstract common base class for the implementation of interfaces
@@ -44,13 +46,13 @@ import org.tquadrat.foundation.svg.type.SVGNumber.SVGDegree;
  *  {@link org.tquadrat.foundation.svg.SVGTSpan}.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGTextBase.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGTextBase.java 1182 2026-10-19 03:51:09Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( "AbstractClassExtendsConcreteClass" )
-@ClassVersion( sourceVersion = "$Id: SVGTextBase.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGTextBase.java 1182 2026-10-19 03:51:09Z tquadrat $" )
 @API( status = INTERNAL, since = "0.0.5" )
 public abstract sealed class SVGTextBase extends SVGElementImpl
     permits SVGTSpanImpl, SVGTextImpl
@@ -86,6 +88,36 @@ public abstract sealed class SVGTextBase extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_dx, value );
     }   //  setDx()
 
+    /**
+     *  Sets a list of lengths which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDx(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public final void setDx( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_dx, unit, values ); }
+
+    /**
+     *  Sets a list of lengths which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDx(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The lengths; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public final void setDx( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_dx, unit, values ); }
+
     /**
      *  Sets a list of heights which move the characters relative to the
      *  absolute position of the last glyph drawn. The n<sup>th</sup> height is
@@ -101,6 +133,36 @@ public abstract sealed class SVGTextBase extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_dy, value );
     }   //  setDy()
 
+    /**
+     *  Sets a list of heights which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDy(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The heights; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public final void setDy( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_dy, unit, values ); }
+
+    /**
+     *  Sets a list of heights which move the characters relative to the
+     *  absolute position of the last glyph drawn, all with the same unit;
+     *  this is the same as
+     *  {@link #setDy(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The heights; if {@code null} or empty, the attribute
+     *      will be removed.
+     */
+    public final void setDy( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_dy, unit, values ); }
+
     /**
      *  Sets the way the text length will be adjusted in order to meet the
      *  target length set by
@@ -130,6 +192,32 @@ public abstract sealed class SVGTextBase extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_Rotate, value );
     }   //  setRotate()
 
+    /**
+     *  Sets a list of rotations for the glyphs, in degrees; this is the same
+     *  as
+     *  {@link #setRotate(SVGDegree...)},
+     *  but without the need to create an
+     *  {@link SVGDegree}
+     *  instance for each value.
+     *
+     *  @param  values  The rotations; if {@code null} or empty, the
+     *      attribute will be removed.
+     */
+    public final void setRotate( final double [] values ) { setListAttribute( SVGATTRIBUTE_Rotate, NONE, values ); }
+
+    /**
+     *  Sets a list of rotations for the glyphs, in degrees; this is the same
+     *  as
+     *  {@link #setRotate(SVGDegree...)},
+     *  but without the need to create an
+     *  {@link SVGDegree}
+     *  instance for each value.
+     *
+     *  @param  values  The rotations; if {@code null} or empty, the
+     *      attribute will be removed.
+     */
+    public final void setRotate( final long [] values ) { setListAttribute( SVGATTRIBUTE_Rotate, NONE, values ); }
+
     /**
      *  Sets the target length for the text that an SVG viewer will attempt to
      *  display the text between by adjusting the spacing and/or the glyphs.
@@ -152,6 +240,34 @@ public abstract sealed class SVGTextBase extends SVGElementImpl
         setAttribute( SVGATTRIBUTE_x, value );
     }   //  setX()
 
+    /**
+     *  Sets a list of x-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setX(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The x-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public final void setX( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_x, unit, values ); }
+
+    /**
+     *  Sets a list of x-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setX(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The x-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public final void setX( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_x, unit, values ); }
+
     /**
      *  Sets a list of y-axis position. The n<sup>th</sup> y-axis position is
      *  given to n<sup>th</sup> character in the text. If there are additional
@@ -165,6 +281,34 @@ public abstract sealed class SVGTextBase extends SVGElementImpl
         final var value = nonNull( values ) && (values.length != 0) ? stream( values ).map( SVGNumber::toString ).collect( joining( "," ) ) : null;
         setAttribute( SVGATTRIBUTE_y, value );
     }   //  setY()
+
+    /**
+     *  Sets a list of y-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setY(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The y-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public final void setY( final SVGUnit unit, final double [] values ) { setListAttribute( SVGATTRIBUTE_y, unit, values ); }
+
+    /**
+     *  Sets a list of y-axis positions for the characters, all with the
+     *  same unit; this is the same as
+     *  {@link #setY(SVGNumber...)},
+     *  but without the need to create an
+     *  {@link SVGNumber}
+     *  instance for each value.
+     *
+     *  @param  unit    The unit for the values.
+     *  @param  values  The y-axis positions; if {@code null} or empty,
+     *      the attribute will be removed.
+     */
+    public final void setY( final SVGUnit unit, final long [] values ) { setListAttribute( SVGATTRIBUTE_y, unit, values ); }
 }
 //  class SVGTextBase
 
@@ -0,0 +1,167 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.TreeMap;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary The computation of the structural hash for the elements of
+ *  an SVG document.}</p>
+ *  <p>The hash is a 64-bit FNV-1a hash over the element name, the
+ *  attributes in the order of their names and the hashes of the children;
+ *  the intermediate values are spread with the finaliser of the 64-bit
+ *  MurmurHash3. For SVG elements, the memoized hash as returned by
+ *  {@link SVGElement#getStructuralHash()}
+ *  is used; text, CDATA sections and comments are hashed by their
+ *  output.</p>
+ *  <p>The hash primitives are used also by other content hashes, like
+ *  that of
+ *  {@link org.tquadrat.foundation.svg.optimizer.SymbolInstancer},
+ *  so that there is only one implementation of them.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: StructuralHash.java 1194 2026-10-19 19:58:40Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: StructuralHash.java 1194 2026-10-19 19:58:40Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+@UtilityClass
+public final class StructuralHash
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The offset basis for the FNV-1a hash.
+     */
+    public static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+
+    /**
+     *  The prime for the FNV-1a hash.
+     */
+    public static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     *  The marker that separates the parts of the hashed data.
+     */
+    private static final long SEPARATOR = 0xFFFFL;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private StructuralHash() { throw new PrivateConstructorForStaticClassCalledError( StructuralHash.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Computes the structural hash for the given element; for the children
+     *  that are SVG elements, their memoized hashes are used.
+     *
+     *  @param  element The element.
+     *  @return The hash.
+     */
+    public static final long computeHash( final Element element )
+    {
+        var retValue = hash( FNV_OFFSET_BASIS, element.getElementName() );
+        for( final var attribute : new TreeMap<>( element.getAttributes() ).entrySet() )
+        {
+            retValue = hash( hash( retValue, attribute.getKey() ), attribute.getValue() );
+        }
+        retValue = mix( retValue );
+
+        var count = 0L;
+        for( final var child : element.getChildren() )
+        {
+            final var childHash = switch( child )
+            {
+                case final SVGElement svgElement -> svgElement.getStructuralHash();
+                case final XMLElement xmlElement -> computeHash( xmlElement );
+                default -> mix( hash( FNV_OFFSET_BASIS, child.toString( 0, false ) ) );
+            };
+            retValue = mix( (retValue * FNV_PRIME) ^ childHash );
+            ++count;
+        }
+        retValue = mix( retValue ^ (count * FNV_PRIME) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  computeHash()
+
+    /**
+     *  Adds the given text to an FNV-1a hash, followed by a separator, so
+     *  that &quot;ab&quot; and &quot;c&quot; will give another hash than
+     *  &quot;a&quot; and &quot;bc&quot;.
+     *
+     *  @param  hash    The hash so far.
+     *  @param  text    The text.
+     *  @return The new hash.
+     */
+    public static final long hash( final long hash, final CharSequence text )
+    {
+        var retValue = hash;
+        for( var i = 0; i < text.length(); ++i )
+        {
+            retValue = (retValue ^ text.charAt( i )) * FNV_PRIME;
+        }
+        retValue = (retValue ^ SEPARATOR) * FNV_PRIME;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hash()
+
+    /**
+     *  The finaliser of the 64-bit MurmurHash3; it spreads the bits of the
+     *  given value.
+     *
+     *  @param  value   The value.
+     *  @return The mixed value.
+     */
+    public static final long mix( final long value )
+    {
+        var retValue = value;
+        retValue ^= retValue >>> 33;
+        retValue *= 0xFF51AFD7ED558CCDL;
+        retValue ^= retValue >>> 33;
+        retValue *= 0xC4CEB9FE1A85EC53L;
+        retValue ^= retValue >>> 33;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  mix()
+}
+//  class StructuralHash
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,309 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static java.lang.String.join;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.annotation.UtilityClass;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+
+/**
+ *  <p>{@summary The compilation of the CSS stylesheets for the SVG
+ *  {@code <style>} elements.}</p>
+ *  <p>The stylesheet is split into its top-level rules, taking strings,
+ *  comments and nested blocks like those of {@code @media} rules into
+ *  account. Of rules that are identical, apart from whitespace and
+ *  comments, only the last one is kept: the later rule overrides all the
+ *  declarations of the earlier one, so removing the earlier one does not
+ *  change the cascade. Statements like {@code @import} are never removed.</p>
+ *  <p>The minified form of a stylesheet has no comments and no whitespace
+ *  that is not needed; whitespace in front of a colon is kept, as it
+ *  separates a descendant combinator from a pseudo-class in a selector,
+ *  and so is whitespace around {@code +} and {@code -}, as it is required
+ *  in {@code calc()} expressions.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: StyleSheetCompiler.java 1191 2026-10-19 16:38:51Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: StyleSheetCompiler.java 1191 2026-10-19 16:38:51Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+@UtilityClass
+public final class StyleSheetCompiler
+{
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class!
+     */
+    private StyleSheetCompiler() { throw new PrivateConstructorForStaticClassCalledError( StyleSheetCompiler.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Removes the rules from the given stylesheet that are repeated later
+     *  on.
+     *
+     *  @param  lines   The lines of the stylesheet.
+     *  @return The lines of the stylesheet without the duplicates; the
+     *      given list itself if there are none.
+     */
+    public static final List<String> deduplicate( final List<String> lines )
+    {
+        requireNonNullArgument( lines, "lines" );
+
+        var retValue = lines;
+        final var styleSheet = join( "\n", lines );
+        final var rules = findRules( styleSheet );
+
+        //---* Find the last occurrence for each rule *------------------------
+        final List<String> keys = new ArrayList<>( rules.size() );
+        final var last = new HashMap<String,Integer>();
+        var count = 0;
+        for( var i = 0; i < rules.size(); ++i )
+        {
+            final var rule = rules.get( i );
+            final var key = rule [2] != 0 ? minify( styleSheet.substring( rule [0], rule [1] ) ) : null;
+            keys.add( key );
+            if( key != null )
+            {
+                last.put( key, i );
+                ++count;
+            }
+        }
+
+        //---* Remove all the other occurrences *------------------------------
+        if( last.size() < count )
+        {
+            final var buffer = new StringBuilder();
+            var position = 0;
+            for( var i = 0; i < rules.size(); ++i )
+            {
+                final var rule = rules.get( i );
+                if( (keys.get( i ) != null) && (last.get( keys.get( i ) ) != i) )
+                {
+                    //---* The whitespace around the rule goes with it *---------
+                    var start = rule [0];
+                    while( (start > position) && (styleSheet.charAt( start - 1 ) != '\n') && isBlank( styleSheet.charAt( start - 1 ) ) ) --start;
+                    var end = rule [1];
+                    while( (end < styleSheet.length()) && (styleSheet.charAt( end ) != '\n') && isBlank( styleSheet.charAt( end ) ) ) ++end;
+                    final var isAtLineStart = (start == 0) || (styleSheet.charAt( start - 1 ) == '\n');
+                    final var isAtLineEnd = (end == styleSheet.length()) || (styleSheet.charAt( end ) == '\n');
+                    if( isAtLineStart && isAtLineEnd )
+                    {
+                        //---* Rules that fill whole lines are removed with them *---
+                        if( end < styleSheet.length() ) ++end;
+                        else if( start > position ) --start;
+                    }
+                    else if( !isAtLineEnd )
+                    {
+                        //---* Keep the whitespace in front of the next rule *---
+                        start = rule [0];
+                    }
+                    buffer.append( styleSheet, position, start );
+                    position = end;
+                }
+            }
+            buffer.append( styleSheet, position, styleSheet.length() );
+            retValue = List.of( buffer.toString().split( "\n", -1 ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  deduplicate()
+
+    /**
+     *  Finds the top-level rules in the given stylesheet.
+     *
+     *  @param  styleSheet  The stylesheet.
+     *  @return The rules, as arrays holding the start index, the end index
+     *      and {@code 1} for a rule with a block, {@code 0} for a statement
+     *      like {@code @import}.
+     */
+    private static final List<int []> findRules( final CharSequence styleSheet )
+    {
+        final List<int []> retValue = new ArrayList<>();
+        final var length = styleSheet.length();
+        var start = -1;
+        var depth = 0;
+        var index = 0;
+        while( index < length )
+        {
+            final var c = styleSheet.charAt( index );
+            if( (c == '/') && (index + 1 < length) && (styleSheet.charAt( index + 1 ) == '*') )
+            {
+                index = skipComment( styleSheet, index );
+                continue;
+            }
+            if( (start < 0) && !isBlank( c ) ) start = index;
+            switch( c )
+            {
+                case '"', '\'' -> index = skipString( styleSheet, index ) - 1;
+                case '{' -> ++depth;
+                case '}' ->
+                {
+                    if( (depth > 0) && (--depth == 0) && (start >= 0) )
+                    {
+                        retValue.add( new int [] {start, index + 1, 1} );
+                        start = -1;
+                    }
+                }
+                case ';' ->
+                {
+                    if( (depth == 0) && (start >= 0) )
+                    {
+                        retValue.add( new int [] {start, index + 1, 0} );
+                        start = -1;
+                    }
+                }
+                default -> { /* Nothing to do */ }
+            }
+            ++index;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  findRules()
+
+    /**
+     *  Checks whether the given character is whitespace in the sense of
+     *  CSS.
+     *
+     *  @param  c   The character.
+     *  @return {@code true} if the character is whitespace, {@code false}
+     *      otherwise.
+     */
+    private static final boolean isBlank( final char c )
+    {
+        return (c == ' ') || (c == '\t') || (c == '\n') || (c == '\r') || (c == '\f');
+    }   //  isBlank()
+
+    /**
+     *  Returns the minified form of the given stylesheet.
+     *
+     *  @param  styleSheet  The stylesheet.
+     *  @return The minified stylesheet.
+     */
+    public static final String minify( final CharSequence styleSheet )
+    {
+        requireNonNullArgument( styleSheet, "styleSheet" );
+
+        final var buffer = new StringBuilder( styleSheet.length() );
+        final var length = styleSheet.length();
+        var pendingBlank = false;
+        var index = 0;
+        while( index < length )
+        {
+            final var c = styleSheet.charAt( index );
+            if( (c == '/') && (index + 1 < length) && (styleSheet.charAt( index + 1 ) == '*') )
+            {
+                index = skipComment( styleSheet, index );
+                pendingBlank = true;
+            }
+            else if( isBlank( c ) )
+            {
+                pendingBlank = true;
+                ++index;
+            }
+            else
+            {
+                if( pendingBlank && !buffer.isEmpty() && ("{};,>)".indexOf( c ) < 0) && ("{};,>:(".indexOf( buffer.charAt( buffer.length() - 1 ) ) < 0) )
+                {
+                    buffer.append( ' ' );
+                }
+                pendingBlank = false;
+                if( (c == '"') || (c == '\'') )
+                {
+                    final var end = skipString( styleSheet, index );
+                    buffer.append( styleSheet, index, end );
+                    index = end;
+                }
+                else
+                {
+                    //---* The last declaration needs no semicolon *-----------
+                    if( (c == '}') && !buffer.isEmpty() && (buffer.charAt( buffer.length() - 1 ) == ';') ) buffer.setLength( buffer.length() - 1 );
+                    buffer.append( c );
+                    ++index;
+                }
+            }
+        }
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minify()
+
+    /**
+     *  Skips the comment that starts at the given position.
+     *
+     *  @param  styleSheet  The stylesheet.
+     *  @param  start   The position of the comment.
+     *  @return The position behind the comment.
+     */
+    private static final int skipComment( final CharSequence styleSheet, final int start )
+    {
+        var retValue = start + 2;
+        while( (retValue < styleSheet.length()) && !((styleSheet.charAt( retValue - 1 ) == '*') && (styleSheet.charAt( retValue ) == '/') && (retValue > start + 2)) )
+        {
+            ++retValue;
+        }
+        retValue = Math.min( retValue + 1, styleSheet.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  skipComment()
+
+    /**
+     *  Skips the string that starts at the given position.
+     *
+     *  @param  styleSheet  The stylesheet.
+     *  @param  start   The position of the opening quote.
+     *  @return The position behind the closing quote.
+     */
+    private static final int skipString( final CharSequence styleSheet, final int start )
+    {
+        final var quote = styleSheet.charAt( start );
+        var retValue = start + 1;
+        while( (retValue < styleSheet.length()) && (styleSheet.charAt( retValue ) != quote) )
+        {
+            if( styleSheet.charAt( retValue ) == '\\' ) ++retValue;
+            ++retValue;
+        }
+        retValue = Math.min( retValue + 1, styleSheet.length() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  skipString()
+}
+//  class StyleSheetCompiler
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,651 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.util.Map.entry;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Root;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Style;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Use;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.minify;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Writes SVG documents in the most compact form that still
+ *  renders identically.}</p>
+ *  <p>Compared with the output of
+ *  {@link Element#toString(int, boolean) toString(0,false)},
+ *  the minified output</p>
+ *  <ul>
+ *  <li>has no comments,</li>
+ *  <li>uses the quote for each attribute value that needs the fewest
+ *  escapes,</li>
+ *  <li>writes numbers in their shortest exact form, like {@code .5} for
+ *  {@code 0.500} or {@code 1e3} for {@code 1000}, and removes the
+ *  separators from path data and point lists where they are not
+ *  needed,</li>
+ *  <li>writes colours in their shortest form, like {@code #f80} for
+ *  {@code #ff8800}, {@code red} for {@code #ff0000}, or {@code #fff} for
+ *  {@code white},</li>
+ *  <li>and omits attributes that have their default value, like
+ *  {@code fill-opacity="1"} or {@code stroke-miterlimit="4"}.</li>
+ *  </ul>
+ *  <p>Inherited properties are omitted only when the element would inherit
+ *  the same value, and only if the document has neither stylesheets, nor
+ *  {@code style} or {@code class} attributes, nor {@code <use>} elements,
+ *  and only if the written element is the root of a document, an
+ *  {@code <svg>} element without a parent; the minifier assumes that the
+ *  document is not styled by external stylesheets.</p>
+ *  <p>Stylesheets in CDATA sections are minified, too; the other text of
+ *  the document is written as it is.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGMinifier.java 1208 2026-10-20 12:47:22Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGMinifier.java 1208 2026-10-20 12:47:22Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGMinifier
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The end of a CDATA section: {@value}.
+     */
+    private static final String CDATA_END = "]]>";
+
+    /**
+     *  The start of a CDATA section: {@value}.
+     */
+    private static final String CDATA_START = "<![CDATA[";
+
+    /**
+     *  The attributes that hold a colour.
+     */
+    private static final Set<String> COLOR_ATTRIBUTES = Set.of( "color", "fill", "flood-color", "lighting-color", "stop-color", "stroke" );
+
+    /**
+     *  The colour names that are shorter than their hexadecimal values, with
+     *  these values as the key.
+     */
+    private static final Map<String,String> COLOR_NAMES = Map.ofEntries(
+        entry( "#f0ffff", "azure" ), entry( "#f5f5dc", "beige" ), entry( "#ffe4c4", "bisque" ),
+        entry( "#a52a2a", "brown" ), entry( "#ff7f50", "coral" ), entry( "#ffd700", "gold" ),
+        entry( "#808080", "gray" ), entry( "#008000", "green" ), entry( "#4b0082", "indigo" ),
+        entry( "#fffff0", "ivory" ), entry( "#f0e68c", "khaki" ), entry( "#faf0e6", "linen" ),
+        entry( "#800000", "maroon" ), entry( "#000080", "navy" ), entry( "#808000", "olive" ),
+        entry( "#ffa500", "orange" ), entry( "#da70d6", "orchid" ), entry( "#cd853f", "peru" ),
+        entry( "#ffc0cb", "pink" ), entry( "#dda0dd", "plum" ), entry( "#800080", "purple" ),
+        entry( "#f00", "red" ), entry( "#fa8072", "salmon" ), entry( "#a0522d", "sienna" ),
+        entry( "#c0c0c0", "silver" ), entry( "#fffafa", "snow" ), entry( "#d2b48c", "tan" ),
+        entry( "#008080", "teal" ), entry( "#ff6347", "tomato" ), entry( "#ee82ee", "violet" ),
+        entry( "#f5deb3", "wheat" ) );
+
+    /**
+     *  The elements for which the geometry attributes in
+     *  {@link #GEOMETRY_ATTRIBUTES}
+     *  default to 0.
+     */
+    private static final Set<String> GEOMETRY_ELEMENTS = Set.of( "circle", "ellipse", "image", "line", "rect", "use" );
+
+    /**
+     *  The geometry attributes that default to 0 for the elements in
+     *  {@link #GEOMETRY_ELEMENTS}.
+     */
+    private static final Set<String> GEOMETRY_ATTRIBUTES = Set.of( "cx", "cy", "x", "x1", "x2", "y", "y1", "y2" );
+
+    /**
+     *  The inherited properties with their default values, already
+     *  minified.
+     */
+    private static final Map<String,String> INHERITED_DEFAULTS = Map.ofEntries(
+        entry( "clip-rule", "nonzero" ), entry( "direction", "ltr" ), entry( "fill", "#000" ),
+        entry( "fill-opacity", "1" ), entry( "fill-rule", "nonzero" ), entry( "font-style", "normal" ),
+        entry( "font-variant", "normal" ), entry( "font-weight", "normal" ), entry( "letter-spacing", "normal" ),
+        entry( "stroke", "none" ), entry( "stroke-dasharray", "none" ), entry( "stroke-dashoffset", "0" ),
+        entry( "stroke-linecap", "butt" ), entry( "stroke-linejoin", "miter" ), entry( "stroke-miterlimit", "4" ),
+        entry( "stroke-opacity", "1" ), entry( "stroke-width", "1" ), entry( "text-anchor", "start" ),
+        entry( "visibility", "visible" ), entry( "word-spacing", "normal" ) );
+
+    /**
+     *  The named colours that are longer than their hexadecimal values.
+     */
+    private static final Map<String,String> NAMED_COLORS = Map.of( "black", "#000", "fuchsia", "#f0f", "magenta", "#f0f", "white", "#fff", "yellow", "#ff0" );
+
+    /**
+     *  The non-inherited properties with their default values, already
+     *  minified.
+     */
+    private static final Map<String,String> NON_INHERITED_DEFAULTS = Map.of( "flood-opacity", "1", "opacity", "1", "stop-opacity", "1" );
+
+    /**
+     *  The pattern for a number.
+     */
+    private static final Pattern NUMBER = Pattern.compile( "[-+]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][-+]?\\d+)?" );
+
+    /**
+     *  The attributes that hold numbers, or lists of numbers, with or
+     *  without units.
+     */
+    private static final Set<String> NUMBER_ATTRIBUTES = Set.of(
+        "cx", "cy", "dx", "dy", "fill-opacity", "flood-opacity", "font-size", "fx", "fy", "height",
+        "markerHeight", "markerWidth", "offset", "opacity", "pathLength", "r", "refX", "refY", "rotate",
+        "rx", "ry", "stop-opacity", "stroke-dasharray", "stroke-dashoffset", "stroke-miterlimit",
+        "stroke-opacity", "stroke-width", "viewBox", "width", "x", "x1", "x2", "y", "y1", "y2" );
+
+    /**
+     *  The pattern for the separators in lists of numbers.
+     */
+    private static final Pattern SEPARATORS = Pattern.compile( "[\\s,]+" );
+
+    /**
+     *  The attributes that hold path data or lists of points.
+     */
+    private static final Set<String> PATH_ATTRIBUTES = Set.of( "d", "points" );
+
+    /**
+     *  The pattern for a colour in the {@code rgb()} notation with integer
+     *  values.
+     */
+    private static final Pattern RGB = Pattern.compile( "rgb\\(\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*,\\s*(\\d{1,3})\\s*\\)" );
+
+    /**
+     *  The attributes that hold a transformation.
+     */
+    private static final Set<String> TRANSFORM_ATTRIBUTES = Set.of( "gradientTransform", "patternTransform", "transform" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  No instance allowed for this class.
+     */
+    private SVGMinifier() { throw new PrivateConstructorForStaticClassCalledError( SVGMinifier.class ); }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Appends the given attribute value to the given target, with the
+     *  quote that needs the fewest escapes.
+     *
+     *  @param  target  The target.
+     *  @param  value   The value.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final void appendQuoted( final Appendable target, final CharSequence value ) throws IOException
+    {
+        var doubleQuotes = 0;
+        var singleQuotes = 0;
+        for( var i = 0; i < value.length(); ++i )
+        {
+            switch( value.charAt( i ) )
+            {
+                case '"' -> ++doubleQuotes;
+                case '\'' -> ++singleQuotes;
+                default -> { /* Nothing to count */ }
+            }
+        }
+        final var quote = doubleQuotes > singleQuotes ? '\'' : '"';
+
+        target.append( quote );
+        for( var i = 0; i < value.length(); ++i )
+        {
+            final var c = value.charAt( i );
+            switch( c )
+            {
+                case '&' -> target.append( "&amp;" );
+                case '<' -> target.append( "&lt;" );
+                case '"' -> target.append( quote == c ? "&quot;" : "\"" );
+                case '\'' -> target.append( quote == c ? "&apos;" : "'" );
+                default -> target.append( c );
+            }
+        }
+        target.append( quote );
+    }   //  appendQuoted()
+
+    /**
+     *  Checks whether inherited properties can be omitted from the given
+     *  document; this is not the case if the document has stylesheets,
+     *  {@code style} or {@code class} attributes, or {@code <use>}
+     *  elements.
+     *
+     *  @param  element The root of the document.
+     *  @return {@code true} if inherited properties can be omitted,
+     *      {@code false} otherwise.
+     */
+    private static final boolean canOmitInherited( final Element element )
+    {
+        var retValue = true;
+        if( element instanceof XMLElement )
+        {
+            final var name = element.getElementName();
+            final var attributes = element.getAttributes();
+            retValue = !name.equals( SVGELEMENT_Style ) && !name.equals( SVGELEMENT_Use ) && !attributes.containsKey( "style" ) && !attributes.containsKey( "class" );
+            if( retValue )
+            {
+                for( final var child : element.getChildren() )
+                {
+                    if( !canOmitInherited( child ) )
+                    {
+                        retValue = false;
+                        break;
+                    }
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  canOmitInherited()
+
+    /**
+     *  Checks whether the given, already minified, value is the default
+     *  value for the given attribute, regardless of the context of the
+     *  element.
+     *
+     *  @param  elementName The name of the element.
+     *  @param  attributeName   The name of the attribute.
+     *  @param  value   The minified value.
+     *  @return {@code true} if the value is the default value,
+     *      {@code false} otherwise.
+     */
+    private static final boolean isDefault( final String elementName, final String attributeName, final String value )
+    {
+        final var retValue = value.equals( NON_INHERITED_DEFAULTS.get( attributeName ) )
+            || (GEOMETRY_ATTRIBUTES.contains( attributeName ) && GEOMETRY_ELEMENTS.contains( elementName ) && value.equals( "0" ));
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isDefault()
+
+    /**
+     *  Checks whether the given value is the default value for the given
+     *  attribute, so that the attribute can be omitted regardless of the
+     *  context of the element. This is the case for properties that are not
+     *  inherited, like {@code opacity="1"}, and for coordinates like
+     *  {@code x="0"} on shapes; inherited properties are never reported as
+     *  defaults, as a value from an ancestor would replace them.
+     *
+     *  @param  elementName The name of the element.
+     *  @param  attributeName   The name of the attribute.
+     *  @param  value   The value.
+     *  @return {@code true} if the value is the default value,
+     *      {@code false} otherwise.
+     */
+    public static final boolean isDefaultValue( final String elementName, final String attributeName, final String value )
+    {
+        requireNonNullArgument( elementName, "elementName" );
+        requireNonNullArgument( attributeName, "attributeName" );
+        requireNonNullArgument( value, "value" );
+
+        final var retValue = isDefault( elementName, attributeName, minifyAttribute( attributeName, value ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isDefaultValue()
+
+    /**
+     *  Checks whether the given element is the root of a document: an
+     *  {@code <svg>} element without a parent. Only for such an element,
+     *  the inherited properties have their initial values; a subtree may be
+     *  inserted anywhere, and then it inherits the values from its new
+     *  ancestors.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element is the root of a document,
+     *      {@code false} otherwise.
+     */
+    private static final boolean isDocumentRoot( final Element element )
+    {
+        final var retValue = element.getElementName().equals( SVGELEMENT_Root )
+            && !(element instanceof final XMLElement xmlElement && xmlElement.getParent().isPresent());
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isDocumentRoot()
+
+    /**
+     *  Returns the minified value for the given attribute.
+     *
+     *  @param  name    The name of the attribute.
+     *  @param  value   The value of the attribute.
+     *  @return The minified value.
+     */
+    private static final String minifyAttribute( final String name, final String value )
+    {
+        final String retValue;
+        if( COLOR_ATTRIBUTES.contains( name ) )
+        {
+            retValue = minifyColor( value );
+        }
+        else if( PATH_ATTRIBUTES.contains( name ) )
+        {
+            retValue = minifyPathData( value );
+        }
+        else if( TRANSFORM_ATTRIBUTES.contains( name ) )
+        {
+            retValue = minifyNumbers( value )
+                .replaceAll( "\\s*([(),])\\s*", "$1" )
+                .replaceAll( "\\s+", " " );
+        }
+        else if( NUMBER_ATTRIBUTES.contains( name ) )
+        {
+            retValue = SEPARATORS.matcher( minifyNumbers( value ).strip() ).replaceAll( " " );
+        }
+        else
+        {
+            retValue = value;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minifyAttribute()
+
+    /**
+     *  Returns the shortest form for the given colour: colours in the
+     *  {@code rgb()} notation with integer values and six digit hexadecimal
+     *  values are reduced to three digits, if possible, or replaced by a
+     *  colour name, if that is shorter; some colour names are replaced by
+     *  their hexadecimal values. Other values are returned unchanged.
+     *
+     *  @param  color   The colour.
+     *  @return The shortest form of the colour.
+     */
+    public static final String minifyColor( final String color )
+    {
+        var retValue = requireNonNullArgument( color, "color" ).strip();
+        final var lowerCase = retValue.toLowerCase( Locale.ROOT );
+
+        //---* rgb() to hex *--------------------------------------------------
+        final var matcher = RGB.matcher( lowerCase );
+        var hex = lowerCase;
+        if( matcher.matches() )
+        {
+            final var red = Integer.parseInt( matcher.group( 1 ) );
+            final var green = Integer.parseInt( matcher.group( 2 ) );
+            final var blue = Integer.parseInt( matcher.group( 3 ) );
+            if( (red < 256) && (green < 256) && (blue < 256) ) hex = "#%02x%02x%02x".formatted( red, green, blue );
+        }
+
+        if( hex.matches( "#[0-9a-f]{6}" ) )
+        {
+            if( (hex.charAt( 1 ) == hex.charAt( 2 )) && (hex.charAt( 3 ) == hex.charAt( 4 )) && (hex.charAt( 5 ) == hex.charAt( 6 )) )
+            {
+                hex = new String( new char [] {'#', hex.charAt( 1 ), hex.charAt( 3 ), hex.charAt( 5 )} );
+            }
+            retValue = COLOR_NAMES.getOrDefault( hex, hex );
+        }
+        else if( hex.matches( "#[0-9a-f]{3}" ) )
+        {
+            retValue = COLOR_NAMES.getOrDefault( hex, hex );
+        }
+        else if( NAMED_COLORS.containsKey( lowerCase ) )
+        {
+            retValue = NAMED_COLORS.get( lowerCase );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minifyColor()
+
+    /**
+     *  Returns the shortest exact form for the given number: trailing zeros
+     *  and a leading zero are removed, and the exponential notation is used
+     *  when it is shorter, like {@code 1e3} for {@code 1000} or
+     *  {@code 1e-4} for {@code 0.0001}.
+     *
+     *  @param  number  The number.
+     *  @return The shortest form of the number.
+     *  @throws NumberFormatException   The given value is not a valid
+     *      number.
+     */
+    public static final String minifyNumber( final CharSequence number ) throws NumberFormatException
+    {
+        var value = new BigDecimal( requireNonNullArgument( number, "number" ).toString() ).stripTrailingZeros();
+
+        final String retValue;
+        if( value.signum() == 0 )
+        {
+            retValue = "0";
+        }
+        else
+        {
+            final var sign = value.signum() < 0 ? "-" : "";
+            value = value.abs();
+            var plain = value.toPlainString();
+            if( plain.startsWith( "0." ) ) plain = plain.substring( 1 );
+            final var digits = value.unscaledValue().toString();
+            final var exponential = value.scale() == 0 ? digits : digits + "e" + -value.scale();
+            retValue = sign + (exponential.length() < plain.length() ? exponential : plain);
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minifyNumber()
+
+    /**
+     *  Replaces all numbers in the given text by their shortest form.
+     *
+     *  @param  text    The text.
+     *  @return The text with the minified numbers.
+     */
+    private static final String minifyNumbers( final String text )
+    {
+        final var retValue = NUMBER.matcher( text ).replaceAll( result -> minifyNumber( result.group() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minifyNumbers()
+
+    /**
+     *  Minifies the given path data or list of points: the numbers are
+     *  written in their shortest form, and the separators are omitted
+     *  where the numbers and commands can be told apart without them.
+     *
+     *  @param  data    The path data.
+     *  @return The minified path data.
+     */
+    private static final String minifyPathData( final String data )
+    {
+        final var buffer = new StringBuilder( data.length() );
+        final var matcher = NUMBER.matcher( data );
+        String previousNumber = null;
+        var position = 0;
+        while( position < data.length() )
+        {
+            final var c = data.charAt( position );
+            if( Character.isWhitespace( c ) || (c == ',') )
+            {
+                ++position;
+            }
+            else if( matcher.find( position ) && (matcher.start() == position) )
+            {
+                final var number = minifyNumber( matcher.group() );
+                if( previousNumber != null )
+                {
+                    final var isSeparated = (number.charAt( 0 ) == '-')
+                        || ((number.charAt( 0 ) == '.') && (previousNumber.indexOf( '.' ) >= 0) && (previousNumber.indexOf( 'e' ) < 0));
+                    if( !isSeparated ) buffer.append( ' ' );
+                }
+                buffer.append( number );
+                previousNumber = number;
+                position = matcher.end();
+            }
+            else
+            {
+                buffer.append( c );
+                previousNumber = null;
+                ++position;
+            }
+        }
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  minifyPathData()
+
+    /**
+     *  Writes the given element with all its children in minified form to
+     *  the given target. Inherited properties are kept if the element is
+     *  not the root of a document, as its ancestors are unknown.
+     *
+     *  @param  root    The element.
+     *  @param  target  The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    public static final void write( final Element root, final Appendable target ) throws IOException
+    {
+        requireNonNullArgument( root, "root" );
+        requireNonNullArgument( target, "target" );
+
+        write( root, isDocumentRoot( root ) && canOmitInherited( root ) ? INHERITED_DEFAULTS : null, target );
+    }   //  write()
+
+    /**
+     *  Writes the given element with all its children in minified form to
+     *  the given target.
+     *
+     *  @param  element The element.
+     *  @param  inherited   The values of the inherited properties for the
+     *      element; {@code null} if inherited properties cannot be omitted.
+     *  @param  target  The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final void write( final Element element, final Map<String,String> inherited, final Appendable target ) throws IOException
+    {
+        if( element instanceof XMLElement )
+        {
+            final var name = element.getElementName();
+
+            //---* The start tag, with the namespaces *-------------------------
+            if( element.getNamespaces().isEmpty() )
+            {
+                target.append( '<' ).append( name );
+            }
+            else
+            {
+                final var emptyCopy = createXMLElement( name );
+                for( final var namespace : element.getNamespaces() ) emptyCopy.setNamespace( namespace );
+                final var startTag = emptyCopy.toString( 0, false ).strip();
+                target.append( startTag, 0, startTag.endsWith( "/>" ) ? startTag.length() - 2 : startTag.length() - 1 );
+            }
+
+            //---* The attributes *--------------------------------------------
+            Map<String,String> childInherited = inherited;
+            for( final var attribute : element.getAttributes().entrySet() )
+            {
+                final var attributeName = attribute.getKey();
+                final var value = minifyAttribute( attributeName, attribute.getValue() );
+
+                var omit = isDefault( name, attributeName, value );
+                if( !omit && (inherited != null) && INHERITED_DEFAULTS.containsKey( attributeName ) )
+                {
+                    omit = value.equals( inherited.get( attributeName ) );
+                    if( !omit )
+                    {
+                        if( childInherited == inherited ) childInherited = new HashMap<>( inherited );
+                        childInherited.put( attributeName, value );
+                    }
+                }
+
+                if( !omit )
+                {
+                    target.append( ' ' ).append( attributeName ).append( '=' );
+                    appendQuoted( target, value );
+                }
+            }
+
+            //---* The children *----------------------------------------------
+            if( element.hasChildren() )
+            {
+                target.append( '>' );
+                final var isStyle = name.equals( SVGELEMENT_Style );
+                for( final var child : element.getChildren() )
+                {
+                    if( isStyle && !(child instanceof XMLElement) )
+                    {
+                        writeStyleSheet( child, target );
+                    }
+                    else
+                    {
+                        write( child, childInherited, target );
+                    }
+                }
+                target.append( "</" ).append( name ).append( '>' );
+            }
+            else
+            {
+                target.append( "/>" );
+            }
+        }
+        else
+        {
+            //---* Text, CDATA or comment *------------------------------------
+            final var text = element.toString( 0, false );
+            if( !text.startsWith( "<!--" ) ) target.append( text );
+        }
+    }   //  write()
+
+    /**
+     *  Writes the given text from a {@code <style>} element to the given
+     *  target; a stylesheet in a CDATA section is minified.
+     *
+     *  @param  text    The text.
+     *  @param  target  The target.
+     *  @throws IOException Writing to the target failed.
+     */
+    private static final void writeStyleSheet( final Element text, final Appendable target ) throws IOException
+    {
+        final var output = text.toString( 0, false ).strip();
+        if( output.startsWith( CDATA_START ) && output.endsWith( CDATA_END ) )
+        {
+            target.append( CDATA_START )
+                .append( minify( output.substring( CDATA_START.length(), output.length() - CDATA_END.length() ) ) )
+                .append( CDATA_END );
+        }
+        else if( !output.startsWith( "<!--" ) )
+        {
+            target.append( output );
+        }
+    }   //  writeStyleSheet()
+}
+//  class SVGMinifier
+
+/*
+ *  End of File
+ */
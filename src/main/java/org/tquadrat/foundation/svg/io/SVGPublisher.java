@@ -0,0 +1,522 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.internal.SVGElementImpl.createUncachedOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.internal.SVGElementImpl;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary The
+ *  {@link Flow.Publisher}
+ *  that emits an SVG document, or a part of it, as buffers with the UTF-8
+ *  encoded output.}</p>
+ *  <p>Like
+ *  {@link SVGWriter},
+ *  the publisher creates the output for one element after the other, but
+ *  only when the subscriber requests the next buffer; the elements that
+ *  are still to be written are kept on a stack. So at any time, only the
+ *  output for the current element and the buffer that is filled from it
+ *  are held in memory; the output is not kept in the output caches of
+ *  the elements. The output of
+ *  {@linkplain org.tquadrat.foundation.svg.SVGElement#freeze() frozen}
+ *  subtrees is copied into the buffers as it is.</p>
+ *  <p>The publisher is cold: each subscriber gets its own subscription,
+ *  and that emits the whole document. A subscription emits the buffers
+ *  on the thread that is provided by the configured executor; it does not
+ *  emit more buffers than were requested, and calls from the subscriber
+ *  back into the subscription do not cause recursion.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $" )
+@API( status = INTERNAL, since = "0.5.0" )
+final class SVGPublisher implements Flow.Publisher<ByteBuffer>
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  An element that is still to be written, together with its
+     *  indentation level.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class PendingElement
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The element.
+         */
+        private final Element m_Element;
+
+        /**
+         *  The indentation level.
+         */
+        private final int m_IndentationLevel;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code PendingElement} instance.
+         *
+         *  @param  element The element.
+         *  @param  indentationLevel    The indentation level.
+         */
+        public PendingElement( final Element element, final int indentationLevel )
+        {
+            m_Element = element;
+            m_IndentationLevel = indentationLevel;
+        }   //  PendingElement()
+    }
+    //  class PendingElement
+
+    /**
+     *  The subscription for a single subscriber.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SVGPublisher.java 1196 2026-10-19 20:44:19Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private final class DocumentSubscription implements Flow.Subscription
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The bytes of a frozen subtree that are not yet emitted.
+         */
+        private ByteBuffer m_Bytes = null;
+
+        /**
+         *  The characters that are not yet encoded.
+         */
+        private CharBuffer m_Characters = null;
+
+        /**
+         *  The number of buffers that were requested, but not yet emitted.
+         */
+        private final AtomicLong m_Demand = new AtomicLong();
+
+        /**
+         *  The encoder.
+         */
+        private final CharsetEncoder m_Encoder = UTF_8.newEncoder()
+            .onMalformedInput( REPLACE )
+            .onUnmappableCharacter( REPLACE );
+
+        /**
+         *  The error that terminates the subscription.
+         */
+        private volatile Throwable m_Error = null;
+
+        /**
+         *  The flag that indicates whether the subscription was cancelled.
+         */
+        private volatile boolean m_IsCancelled = false;
+
+        /**
+         *  The flag that indicates whether the output was started.
+         */
+        private boolean m_IsStarted = false;
+
+        /**
+         *  The parts of the output that are still to be written; these are
+         *  either texts or instances of
+         *  {@link PendingElement}.
+         */
+        private final Deque<Object> m_Pending = new ArrayDeque<>();
+
+        /**
+         *  The subscriber; it is {@code null} after the subscription was
+         *  terminated.
+         */
+        private Flow.Subscriber<? super ByteBuffer> m_Subscriber;
+
+        /**
+         *  The number of the calls to
+         *  {@link #drain()}
+         *  that are not yet processed.
+         */
+        private final AtomicInteger m_WorkInProgress = new AtomicInteger();
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code DocumentSubscription} instance.
+         *
+         *  @param  subscriber  The subscriber.
+         */
+        public DocumentSubscription( final Flow.Subscriber<? super ByteBuffer> subscriber )
+        {
+            m_Subscriber = subscriber;
+        }   //  DocumentSubscription()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void cancel()
+        {
+            m_IsCancelled = true;
+            schedule();
+        }   //  cancel()
+
+        /**
+         *  Emits the requested buffers, and terminates the subscription when
+         *  it was cancelled, failed, or when the output is complete. Only
+         *  one thread at a time executes this method, and calls to
+         *  {@link #request(long)}
+         *  and
+         *  {@link #cancel()}
+         *  from the subscriber only cause another round.
+         */
+        private final void drain()
+        {
+            var missed = 1;
+            do
+            {
+                emit();
+                missed = m_WorkInProgress.addAndGet( -missed );
+            }
+            while( missed != 0 );
+        }   //  drain()
+
+        /**
+         *  Emits the requested buffers.
+         */
+        private final void emit()
+        {
+            while( nonNull( m_Subscriber ) )
+            {
+                if( m_IsCancelled )
+                {
+                    terminate();
+                }
+                else if( nonNull( m_Error ) )
+                {
+                    terminate().onError( m_Error );
+                }
+                else if( m_Demand.get() > 0 )
+                {
+                    final ByteBuffer buffer;
+                    try
+                    {
+                        buffer = nextBuffer();
+                    }
+                    catch( final IOException | RuntimeException e )
+                    {
+                        terminate().onError( e );
+                        break;
+                    }
+                    if( isNull( buffer ) )
+                    {
+                        terminate().onComplete();
+                    }
+                    else
+                    {
+                        m_Demand.updateAndGet( demand -> demand == Long.MAX_VALUE ? demand : demand - 1 );
+                        m_Subscriber.onNext( buffer );
+                    }
+                }
+                else
+                {
+                    break;
+                }
+            }
+        }   //  emit()
+
+        /**
+         *  Creates the next buffer.
+         *
+         *  @return The next buffer, or {@code null} if the output is
+         *      complete.
+         *  @throws IOException Writing the minified document failed.
+         */
+        private final ByteBuffer nextBuffer() throws IOException
+        {
+            if( !m_IsStarted )
+            {
+                if( m_Minify )
+                {
+                    final var buffer = new StringBuilder();
+                    SVGMinifier.write( m_Root, buffer );
+                    m_Pending.push( buffer.toString() );
+                }
+                else
+                {
+                    m_Pending.push( new PendingElement( m_Root, 0 ) );
+                }
+                if( nonNull( m_Prolog ) ) m_Pending.push( m_Prolog );
+                m_IsStarted = true;
+            }
+
+            final var buffer = ByteBuffer.allocate( m_BufferSize );
+            var isFilled = false;
+            while( !isFilled && buffer.hasRemaining() )
+            {
+                if( nonNull( m_Bytes ) && m_Bytes.hasRemaining() )
+                {
+                    final var count = Math.min( buffer.remaining(), m_Bytes.remaining() );
+                    buffer.put( m_Bytes.slice( m_Bytes.position(), count ) );
+                    m_Bytes.position( m_Bytes.position() + count );
+                }
+                else if( nonNull( m_Characters ) && m_Characters.hasRemaining() )
+                {
+                    //---* Each part is complete, so it is the end of input *---
+                    isFilled = m_Encoder.encode( m_Characters, buffer, true ).isOverflow();
+                }
+                else
+                {
+                    final var part = nextPart();
+                    if( isNull( part ) )
+                    {
+                        isFilled = true;
+                    }
+                    else if( part instanceof final byte [] bytes )
+                    {
+                        m_Bytes = ByteBuffer.wrap( bytes );
+                    }
+                    else
+                    {
+                        m_Characters = CharBuffer.wrap( (String) part );
+                        m_Encoder.reset();
+                    }
+                }
+            }
+            buffer.flip();
+            final var retValue = buffer.hasRemaining() ? buffer : null;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  nextBuffer()
+
+        /**
+         *  Returns the next part of the output, writing the start tag of the
+         *  next element and putting its children onto the stack when they
+         *  are to be written one after the other.
+         *
+         *  @return The next part, either as a
+         *      {@link String}
+         *      or as a {@code byte} array, or {@code null} if the output is
+         *      complete.
+         */
+        private final Object nextPart()
+        {
+            Object retValue = null;
+            while( isNull( retValue ) && !m_Pending.isEmpty() )
+            {
+                final var next = m_Pending.pop();
+                if( next instanceof final PendingElement pending )
+                {
+                    final var element = pending.m_Element;
+                    final var indentationLevel = pending.m_IndentationLevel;
+                    if( element instanceof final SVGElementImpl svgElement )
+                    {
+                        retValue = svgElement.getFrozenOutput( indentationLevel, m_Writer.isPrettyPrint() ).orElse( null );
+                    }
+                    if( isNull( retValue ) )
+                    {
+                        final var startTag = m_Writer.createStartTag( element, indentationLevel );
+                        if( isNull( startTag ) )
+                        {
+                            retValue = createUncachedOutput( element, indentationLevel, m_Writer.isPrettyPrint() );
+                        }
+                        else
+                        {
+                            m_Pending.push( m_Writer.createEndTag( element, indentationLevel ) );
+                            final List<Element> children = List.copyOf( element.getChildren() );
+                            for( var i = children.size() - 1; i >= 0; --i ) m_Pending.push( new PendingElement( children.get( i ), indentationLevel + 1 ) );
+                            retValue = startTag;
+                        }
+                    }
+                }
+                else
+                {
+                    retValue = next;
+                }
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  nextPart()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void request( final long n )
+        {
+            if( n <= 0 )
+            {
+                m_Error = new IllegalArgumentException( "Invalid number of requested buffers: %d".formatted( n ) );
+            }
+            else
+            {
+                m_Demand.getAndUpdate( demand -> demand + n < 0 ? Long.MAX_VALUE : demand + n );
+            }
+            schedule();
+        }   //  request()
+
+        /**
+         *  Lets the executor call
+         *  {@link #drain()},
+         *  unless it is already running.
+         */
+        private final void schedule()
+        {
+            if( m_WorkInProgress.getAndIncrement() == 0 ) m_Executor.execute( this::drain );
+        }   //  schedule()
+
+        /**
+         *  Terminates the subscription and releases the resources.
+         *
+         *  @return The subscriber.
+         */
+        private final Flow.Subscriber<? super ByteBuffer> terminate()
+        {
+            final var retValue = m_Subscriber;
+            m_Subscriber = null;
+            m_Pending.clear();
+            m_Bytes = null;
+            m_Characters = null;
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  terminate()
+    }
+    //  class DocumentSubscription
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The size of the buffers.
+     */
+    private final int m_BufferSize;
+
+    /**
+     *  The executor that creates the buffers and calls the subscribers.
+     */
+    private final Executor m_Executor;
+
+    /**
+     *  The flag that indicates whether the output is minified.
+     */
+    private final boolean m_Minify;
+
+    /**
+     *  The text that is emitted in front of the document, or {@code null}.
+     */
+    private final String m_Prolog;
+
+    /**
+     *  The root element.
+     */
+    private final Element m_Root;
+
+    /**
+     *  The writer that creates the start and end tags.
+     */
+    private final SVGWriter m_Writer;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGPublisher} instance.
+     *
+     *  @param  writer  The writer that creates the start and end tags.
+     *  @param  root    The root element.
+     *  @param  executor    The executor that creates the buffers and calls
+     *      the subscribers.
+     *  @param  bufferSize  The size of the buffers.
+     *  @param  prolog  The text that is emitted in front of the document,
+     *      or {@code null}.
+     *  @param  minify  {@code true} if the output is minified,
+     *      {@code false} otherwise.
+     */
+    SVGPublisher( final SVGWriter writer, final Element root, final Executor executor, final int bufferSize, final String prolog, final boolean minify )
+    {
+        m_Writer = writer;
+        m_Root = root;
+        m_Executor = executor;
+        m_BufferSize = bufferSize;
+        m_Prolog = prolog;
+        m_Minify = minify;
+    }   //  SVGPublisher()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final void subscribe( final Flow.Subscriber<? super ByteBuffer> subscriber )
+    {
+        requireNonNullArgument( subscriber, "subscriber" ).onSubscribe( new DocumentSubscription( subscriber ) );
+    }   //  subscribe()
+}
+//  class SVGPublisher
+
+/*
+ *  End of File
+ */
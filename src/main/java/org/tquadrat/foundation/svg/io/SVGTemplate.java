@@ -0,0 +1,413 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary A compiled SVG document with named slots for variable
+ *  values.}</p>
+ *  <p>The document is built once, as usual, but with placeholders instead
+ *  of the variable attribute values and texts; the placeholders are
+ *  created by
+ *  {@link #slot(String)}:</p>
+ *  <pre><code>  final var svg = createSVG( EMBED_SVG );
+ *  final var text = createText( svg, slot( "title" ) );
+ *  text.setFill( color( slot( "color" ) ) );
+ *  final var template = SVGTemplate.compile( svg );
+ *  …
+ *  template.render( out, "Hello World", "red" );</code></pre>
+ *  <p>When the template is compiled, the document is written once, and
+ *  the output is split into constant byte segments – already encoded as
+ *  UTF-8 – and the slots between them. Rendering the template just writes
+ *  the segments and the values for the slots, escaped for XML, to the
+ *  target; no element tree is built or traversed, and the values are
+ *  encoded through a buffer that is reused, so no memory is allocated.</p>
+ *  <p>A slot can be used more than once in the document; all its
+ *  occurrences get the same value. Slots are not allowed in CDATA sections
+ *  and comments, as their values cannot be escaped there.</p>
+ *  <p>Instances of this class are immutable and thread-safe.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGTemplate.java 1197 2026-10-19 21:10:53Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGTemplate.java 1197 2026-10-19 21:10:53Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGTemplate
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The size of the buffers for the encoding of the values: {@value}.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     *  The buffers for the encoding of the values, one for each thread, so
+     *  that rendering a template does not allocate memory.
+     */
+    private static final ThreadLocal<byte []> ENCODING_BUFFER = ThreadLocal.withInitial( () -> new byte [BUFFER_SIZE] );
+
+    /**
+     *  The character that ends a slot placeholder.
+     */
+    private static final char SLOT_END = '\uE001';
+
+    /**
+     *  The pattern for valid slot names.
+     */
+    private static final Pattern SLOT_NAME = Pattern.compile( "[A-Za-z_][A-Za-z0-9_.\\-]*" );
+
+    /**
+     *  The character that starts a slot placeholder; it is from the private
+     *  use area of Unicode, so it will not appear in regular content.
+     */
+    private static final char SLOT_START = '\uE000';
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The constant segments, encoded as UTF-8; there is one segment more
+     *  than there are slot occurrences.
+     */
+    private final byte [][] m_Segments;
+
+    /**
+     *  The names of the slots, in the order of their first occurrence.
+     */
+    private final List<String> m_SlotNames;
+
+    /**
+     *  The indexes into
+     *  {@link #m_SlotNames}
+     *  for the slot occurrences.
+     */
+    private final int [] m_Slots;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGTemplate} instance.
+     *
+     *  @param  segments    The constant segments.
+     *  @param  slotNames   The names of the slots.
+     *  @param  slots   The indexes of the slot occurrences.
+     */
+    private SVGTemplate( final byte [][] segments, final List<String> slotNames, final int [] slots )
+    {
+        m_Segments = segments;
+        m_SlotNames = List.copyOf( slotNames );
+        m_Slots = slots;
+    }   //  SVGTemplate()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Compiles the given document, or part of a document, into a template;
+     *  the output is not pretty printed.
+     *
+     *  @param  root    The root element.
+     *  @return The template.
+     *  @throws IllegalArgumentException    A slot is used in a CDATA section
+     *      or a comment.
+     */
+    public static final SVGTemplate compile( final Element root ) throws IllegalArgumentException
+    {
+        return compile( root, new SVGWriter( false ) );
+    }   //  compile()
+
+    /**
+     *  Compiles the given document, or part of a document, into a template,
+     *  using the given writer for the output.
+     *
+     *  @param  root    The root element.
+     *  @param  writer  The writer that determines the output format.
+     *  @return The template.
+     *  @throws IllegalArgumentException    A slot is used in a CDATA section
+     *      or a comment.
+     */
+    public static final SVGTemplate compile( final Element root, final SVGWriter writer ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( root, "root" );
+        requireNonNullArgument( writer, "writer" );
+
+        final var buffer = new ByteArrayOutputStream();
+        try
+        {
+            writer.write( root, buffer );
+        }
+        catch( final IOException e )
+        {
+            //---* Cannot happen with a ByteArrayOutputStream *----------------
+            throw new IllegalStateException( e );
+        }
+        final var text = buffer.toString( UTF_8 );
+
+        //---* Split the output *----------------------------------------------
+        final List<byte []> segments = new ArrayList<>();
+        final List<String> slotNames = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        var position = 0;
+        var start = text.indexOf( SLOT_START );
+        while( start >= 0 )
+        {
+            final var end = text.indexOf( SLOT_END, start );
+            if( end < 0 ) throw new IllegalArgumentException( "Incomplete slot at position %d".formatted( start ) );
+            final var name = text.substring( start + 1, end );
+            if( isInside( text, start, "<![CDATA[", "]]>" ) ) throw new IllegalArgumentException( "Slot '%s' is in a CDATA section".formatted( name ) );
+            if( isInside( text, start, "<!--", "-->" ) ) throw new IllegalArgumentException( "Slot '%s' is in a comment".formatted( name ) );
+
+            segments.add( text.substring( position, start ).getBytes( UTF_8 ) );
+            var index = slotNames.indexOf( name );
+            if( index < 0 )
+            {
+                index = slotNames.size();
+                slotNames.add( name );
+            }
+            slots.add( index );
+
+            position = end + 1;
+            start = text.indexOf( SLOT_START, position );
+        }
+        segments.add( text.substring( position ).getBytes( UTF_8 ) );
+
+        final var retValue = new SVGTemplate( segments.toArray( byte [][]::new ), slotNames, slots.stream().mapToInt( Integer::intValue ).toArray() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compile()
+
+    /**
+     *  Escapes the given value for XML, encodes it as UTF-8 and writes it to
+     *  the given stream, using the given buffer; the characters
+     *  {@code &}, {@code <}, {@code >}, {@code "} and {@code '} are replaced
+     *  by entities, so that the value can be used in attribute values with
+     *  either quote, and in texts.
+     *
+     *  @param  value   The value.
+     *  @param  buffer  The buffer; it must have room for at least six
+     *      bytes.
+     *  @param  out The target stream.
+     *  @throws IOException Writing to the stream failed.
+     */
+    private static final void encode( final CharSequence value, final byte [] buffer, final OutputStream out ) throws IOException
+    {
+        var position = 0;
+        final var length = value.length();
+        for( var i = 0; i < length; ++i )
+        {
+            //---* Make room for the longest entity *--------------------------
+            if( position > buffer.length - 6 )
+            {
+                out.write( buffer, 0, position );
+                position = 0;
+            }
+
+            var codePoint = (int) value.charAt( i );
+            switch( codePoint )
+            {
+                case '&' -> position = put( buffer, position, "&amp;" );
+                case '<' -> position = put( buffer, position, "&lt;" );
+                case '>' -> position = put( buffer, position, "&gt;" );
+                case '"' -> position = put( buffer, position, "&quot;" );
+                case '\'' -> position = put( buffer, position, "&apos;" );
+                default ->
+                {
+                    if( Character.isHighSurrogate( (char) codePoint ) && (i + 1 < length) && Character.isLowSurrogate( value.charAt( i + 1 ) ) )
+                    {
+                        codePoint = Character.toCodePoint( (char) codePoint, value.charAt( ++i ) );
+                    }
+                    else if( Character.isSurrogate( (char) codePoint ) )
+                    {
+                        codePoint = '?';
+                    }
+
+                    if( codePoint < 0x80 )
+                    {
+                        buffer [position++] = (byte) codePoint;
+                    }
+                    else if( codePoint < 0x800 )
+                    {
+                        buffer [position++] = (byte) (0xC0 | (codePoint >> 6));
+                        buffer [position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                    else if( codePoint < 0x10000 )
+                    {
+                        buffer [position++] = (byte) (0xE0 | (codePoint >> 12));
+                        buffer [position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer [position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                    else
+                    {
+                        buffer [position++] = (byte) (0xF0 | (codePoint >> 18));
+                        buffer [position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        buffer [position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        buffer [position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    }
+                }
+            }
+        }
+
+        out.write( buffer, 0, position );
+    }   //  encode()
+
+    /**
+     *  Returns the names of the slots of this template, in the order of their
+     *  first occurrence in the document; this is also the order of the
+     *  values for
+     *  {@link #render(OutputStream, CharSequence...)}.
+     *
+     *  @return The names of the slots.
+     */
+    public final List<String> getSlotNames() { return m_SlotNames; }
+
+    /**
+     *  Checks whether the given position in the text is inside a section
+     *  that is delimited by the given strings.
+     *
+     *  @param  text    The text.
+     *  @param  position    The position.
+     *  @param  open    The start of the section.
+     *  @param  close   The end of the section.
+     *  @return {@code true} if the position is inside such a section,
+     *      {@code false} otherwise.
+     */
+    private static final boolean isInside( final String text, final int position, final String open, final String close )
+    {
+        final var retValue = text.lastIndexOf( open, position ) > text.lastIndexOf( close, position );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isInside()
+
+    /**
+     *  Copies the given ASCII text into the buffer.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  offset  The position in the buffer.
+     *  @param  text    The text.
+     *  @return The new position in the buffer.
+     */
+    private static final int put( final byte [] buffer, final int offset, final String text )
+    {
+        final var length = text.length();
+        for( var i = 0; i < length; ++i ) buffer [offset + i] = (byte) text.charAt( i );
+
+        //---* Done *----------------------------------------------------------
+        return offset + length;
+    }   //  put()
+
+    /**
+     *  Writes the template to the given stream, with the given values for
+     *  the slots.
+     *
+     *  @param  out The target stream; it will be neither flushed nor closed.
+     *  @param  values  The values for the slots, in the order given by
+     *      {@link #getSlotNames()}.
+     *  @throws IOException Writing to the stream failed.
+     *  @throws IllegalArgumentException    The number of the values does not
+     *      match the number of the slots.
+     */
+    public final void render( final OutputStream out, final CharSequence... values ) throws IOException, IllegalArgumentException
+    {
+        requireNonNullArgument( out, "out" );
+        if( requireNonNullArgument( values, "values" ).length != m_SlotNames.size() ) throw new IllegalArgumentException( "Expected %d values, got %d".formatted( m_SlotNames.size(), values.length ) );
+        for( final var value : values ) requireNonNullArgument( value, "value" );
+
+        //---* Write the output *----------------------------------------------
+        final var buffer = ENCODING_BUFFER.get();
+        out.write( m_Segments [0] );
+        for( var i = 0; i < m_Slots.length; ++i )
+        {
+            encode( values [m_Slots [i]], buffer, out );
+            out.write( m_Segments [i + 1] );
+        }
+    }   //  render()
+
+    /**
+     *  Writes the template to the given stream, with the given values for
+     *  the slots.
+     *
+     *  @param  out The target stream; it will be neither flushed nor closed.
+     *  @param  values  The values for the slots, with the names of the slots
+     *      as the keys.
+     *  @throws IOException Writing to the stream failed.
+     *  @throws IllegalArgumentException    There is no value for one of the
+     *      slots.
+     */
+    public final void render( final OutputStream out, final Map<String,? extends CharSequence> values ) throws IOException, IllegalArgumentException
+    {
+        requireNonNullArgument( values, "values" );
+        final var orderedValues = new CharSequence [m_SlotNames.size()];
+        for( var i = 0; i < orderedValues.length; ++i )
+        {
+            final var name = m_SlotNames.get( i );
+            orderedValues [i] = values.get( name );
+            if( isNull( orderedValues [i] ) ) throw new IllegalArgumentException( "No value for slot '%s'".formatted( name ) );
+        }
+        render( out, orderedValues );
+    }   //  render()
+
+    /**
+     *  Returns the placeholder for the slot with the given name; it can be
+     *  used as the value of an attribute, or as a text, in the document that
+     *  will be compiled into a template.
+     *
+     *  @param  name    The name of the slot; it has to start with a letter
+     *      or an underscore, followed by letters, digits, underscores, dots
+     *      or hyphens.
+     *  @return The placeholder.
+     *  @throws IllegalArgumentException    The name is not valid.
+     */
+    public static final String slot( final String name ) throws IllegalArgumentException
+    {
+        if( !SLOT_NAME.matcher( requireNotEmptyArgument( name, "name" ) ).matches() ) throw new IllegalArgumentException( "Invalid slot name: %s".formatted( name ) );
+        final var retValue = SLOT_START + name + SLOT_END;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  slot()
+}
+//  class SVGTemplate
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,540 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+import static java.util.zip.Deflater.NO_COMPRESSION;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.internal.SVGElementImpl.createUncachedOutput;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+import static org.tquadrat.foundation.xml.builder.spi.SGMLPrinter.repeat;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPOutputStream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGStyle;
+import org.tquadrat.foundation.svg.internal.SVGElementImpl;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Writes SVG documents, or parts of them, to streams, either
+ *  plain or compressed as {@code .svgz}.}</p>
+ *  <p>Unlike
+ *  {@link Element#toString(int, boolean)},
+ *  the writer does not build the whole document in memory: elements with
+ *  grandchildren are written as a start tag, followed by their children,
+ *  one after the other, and the end tag. Only elements whose children are
+ *  all leaves, and those that create their output themselves, like
+ *  {@link SVGStyle},
+ *  are written as a whole. The output is the same as that of
+ *  {@code toString()} for the root element, but unlike that, it is not
+ *  kept in the output caches of the elements.</p>
+ *  <p>For compressed output, the text goes straight into a
+ *  {@link GZIPOutputStream}
+ *  with the configured compression level, so at no time the uncompressed
+ *  document exists as a whole.</p>
+ *  <p>The output of
+ *  {@linkplain org.tquadrat.foundation.svg.SVGElement#freeze() frozen}
+ *  subtrees is taken as it was created when they were frozen; when the
+ *  target is a stream, the encoded bytes are written to it directly.</p>
+ *  <p>For reactive consumers,
+ *  {@link #publish(Element, Executor)}
+ *  returns a
+ *  {@link Flow.Publisher}
+ *  that creates the encoded output in buffers of the configured size, but
+ *  only as fast as its subscriber requests them.</p>
+ *  <p>When
+ *  {@linkplain #setMinify(boolean) minified output}
+ *  is requested, the documents are written by
+ *  {@link SVGMinifier}
+ *  instead, and the pretty print flag is ignored.</p>
+ *  <p>Instances of this class can be reused, but they are not
+ *  thread-safe while they are configured.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGWriter.java 1207 2026-10-20 12:06:38Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGWriter.java 1207 2026-10-20 12:06:38Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGWriter
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A
+     *  {@link GZIPOutputStream}
+     *  with a configurable compression level.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGWriter.java 1207 2026-10-20 12:06:38Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SVGWriter.java 1207 2026-10-20 12:06:38Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class CompressingStream extends GZIPOutputStream
+    {
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code CompressingStream} instance.
+         *
+         *  @param  out The target stream.
+         *  @param  bufferSize  The size of the output buffer.
+         *  @param  level   The compression level.
+         *  @throws IOException The header could not be written.
+         */
+        public CompressingStream( final OutputStream out, final int bufferSize, final int level ) throws IOException
+        {
+            super( out, bufferSize );
+            def.setLevel( level );
+        }   //  CompressingStream()
+    }
+    //  class CompressingStream
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The default size for the buffers: {@value}.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     *  The minimum size for the buffers: {@value}; this is the maximum
+     *  number of bytes for a single character in UTF-8, so that each
+     *  buffer that is emitted by a publisher can take at least one
+     *  character.
+     */
+    public static final int MINIMUM_BUFFER_SIZE = 4;
+
+    /**
+     *  The XML declaration.
+     */
+    private static final String XML_DECLARATION = "<?xml version='1.0' encoding='UTF-8'?>";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The size of the buffers.
+     */
+    private int m_BufferSize = DEFAULT_BUFFER_SIZE;
+
+    /**
+     *  The compression level.
+     */
+    private int m_CompressionLevel = DEFAULT_COMPRESSION;
+
+    /**
+     *  The flag that indicates whether the output is minified.
+     */
+    private boolean m_Minify = false;
+
+    /**
+     *  The flag that indicates whether the output is pretty printed.
+     */
+    private final boolean m_PrettyPrint;
+
+    /**
+     *  The flag that indicates whether the output starts with an XML
+     *  declaration.
+     */
+    private boolean m_WriteDeclaration = false;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGWriter} instance that writes pretty printed
+     *  output, like
+     *  {@link Object#toString() toString()}
+     *  does.
+     */
+    public SVGWriter() { this( true ); }
+
+    /**
+     *  Creates a new {@code SVGWriter} instance.
+     *
+     *  @param  prettyPrint {@code true} if the output should be pretty
+     *      printed, {@code false} for the compact output.
+     */
+    public SVGWriter( final boolean prettyPrint )
+    {
+        m_PrettyPrint = prettyPrint;
+    }   //  SVGWriter()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the end tag for the given element, as it is written after
+     *  its children when these are written one after the other.
+     *
+     *  @param  element The element.
+     *  @param  indentationLevel    The indentation level.
+     *  @return The end tag.
+     */
+    final String createEndTag( final Element element, final int indentationLevel )
+    {
+        var isBlock = false;
+        for( final var child : element.getChildren() ) isBlock |= child.isBlock();
+        final var retValue = m_PrettyPrint && isBlock
+            ? "\n%s</%s>".formatted( repeat( indentationLevel ), element.getElementName() )
+            : "</%s>".formatted( element.getElementName() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createEndTag()
+
+    /**
+     *  Returns the start tag for the given element if its children are
+     *  written one after the other; elements whose children are all leaves,
+     *  frozen elements, and those that create their output themselves are
+     *  written as a whole.
+     *
+     *  @param  element The element.
+     *  @param  indentationLevel    The indentation level.
+     *  @return The start tag, or {@code null} if the element is written as
+     *      a whole.
+     */
+    final String createStartTag( final Element element, final int indentationLevel )
+    {
+        String retValue = null;
+        if( (element instanceof XMLElement) && !(element instanceof SVGElementImpl svgElement && svgElement.isFrozen()) && !(element instanceof SVGStyle) && hasGrandChildren( element ) )
+        {
+            //---* Let the element builder create the start tag *--------------
+            final var emptyCopy = createXMLElement( element.getElementName() );
+            for( final var namespace : element.getNamespaces() ) emptyCopy.setNamespace( namespace );
+            for( final var attribute : element.getAttributes().entrySet() ) emptyCopy.setAttribute( attribute.getKey(), attribute.getValue() );
+            final var emptyTag = emptyCopy.toString( indentationLevel, m_PrettyPrint );
+            if( emptyTag.endsWith( "/>" ) ) retValue = emptyTag.substring( 0, emptyTag.length() - 2 ) + '>';
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createStartTag()
+
+    /**
+     *  Returns the size of the buffers.
+     *
+     *  @return The buffer size.
+     */
+    public final int getBufferSize() { return m_BufferSize; }
+
+    /**
+     *  Returns the compression level for the {@code .svgz} output.
+     *
+     *  @return The compression level.
+     */
+    public final int getCompressionLevel() { return m_CompressionLevel; }
+
+    /**
+     *  Checks whether at least one of the children of the given element has
+     *  children itself; the output for an element whose children are all
+     *  leaves is small, so it is written as a whole.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the element has grandchildren, {@code false}
+     *      otherwise.
+     */
+    private static final boolean hasGrandChildren( final Element element )
+    {
+        var retValue = false;
+        if( element.hasChildren() )
+        {
+            for( final var child : element.getChildren() )
+            {
+                if( child.hasChildren() )
+                {
+                    retValue = true;
+                    break;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  hasGrandChildren()
+
+    /**
+     *  Returns whether this writer writes minified output.
+     *
+     *  @return {@code true} if the output is minified, {@code false}
+     *      otherwise.
+     */
+    public final boolean isMinify() { return m_Minify; }
+
+    /**
+     *  Returns whether this writer writes pretty printed output.
+     *
+     *  @return {@code true} if the output is pretty printed, {@code false}
+     *      otherwise.
+     */
+    public final boolean isPrettyPrint() { return m_PrettyPrint; }
+
+    /**
+     *  Returns a
+     *  {@link Flow.Publisher}
+     *  that emits the given element with all its children, encoded as
+     *  UTF-8, in buffers of the configured size. The buffers are created
+     *  on the thread that requests them.
+     *
+     *  @param  root    The element.
+     *  @return The publisher.
+     *
+     *  @see #publish(Element, Executor)
+     */
+    public final Flow.Publisher<ByteBuffer> publish( final Element root ) { return publish( root, Runnable::run ); }
+
+    /**
+     *  <p>{@summary Returns a
+     *  {@link Flow.Publisher}
+     *  that emits the given element with all its children, encoded as
+     *  UTF-8, in buffers of the configured size.}</p>
+     *  <p>The buffers are created only when the subscriber requests them,
+     *  each from the next part of the document, so a slow subscriber does
+     *  not cause the document to be held in memory as a whole. Each
+     *  subscriber gets the complete document; it is serialised anew for
+     *  each subscription, with the configuration that this writer had when
+     *  this method was called.</p>
+     *  <p>When
+     *  {@linkplain #setMinify(boolean) minified output}
+     *  is requested, the minified document is created as a whole on the
+     *  first request, and then emitted in buffers of the configured
+     *  size.</p>
+     *
+     *  @param  root    The element.
+     *  @param  executor    The executor that creates the buffers and calls
+     *      the subscriber.
+     *  @return The publisher.
+     */
+    public final Flow.Publisher<ByteBuffer> publish( final Element root, final Executor executor )
+    {
+        final Flow.Publisher<ByteBuffer> retValue = new SVGPublisher( this, requireNonNullArgument( root, "root" ), requireNonNullArgument( executor, "executor" ), m_BufferSize, m_WriteDeclaration ? XML_DECLARATION : null, m_Minify );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  publish()
+
+    /**
+     *  Sets the size of the buffers for the character encoding and the
+     *  compression; this is also the maximum size of the buffers that are
+     *  emitted by the publishers.
+     *
+     *  @param  bufferSize  The buffer size; the default is
+     *      {@value #DEFAULT_BUFFER_SIZE}.
+     *  @throws IllegalArgumentException    The buffer size is less than
+     *      {@value #MINIMUM_BUFFER_SIZE}.
+     */
+    public final void setBufferSize( final int bufferSize ) throws IllegalArgumentException
+    {
+        if( bufferSize < MINIMUM_BUFFER_SIZE ) throw new IllegalArgumentException( "Invalid buffer size: %d".formatted( bufferSize ) );
+        m_BufferSize = bufferSize;
+    }   //  setBufferSize()
+
+    /**
+     *  Sets the compression level for the {@code .svgz} output.
+     *
+     *  @param  level   The compression level, from
+     *      {@value java.util.zip.Deflater#NO_COMPRESSION}
+     *      to
+     *      {@value java.util.zip.Deflater#BEST_COMPRESSION},
+     *      or
+     *      {@value java.util.zip.Deflater#DEFAULT_COMPRESSION}
+     *      for the default.
+     *  @throws IllegalArgumentException    The level is invalid.
+     */
+    public final void setCompressionLevel( final int level ) throws IllegalArgumentException
+    {
+        if( (level != DEFAULT_COMPRESSION) && ((level < NO_COMPRESSION) || (level > BEST_COMPRESSION)) ) throw new IllegalArgumentException( "Invalid compression level: %d".formatted( level ) );
+        m_CompressionLevel = level;
+    }   //  setCompressionLevel()
+
+    /**
+     *  Determines whether the output is minified by
+     *  {@link SVGMinifier};
+     *  the default is {@code false}.
+     *
+     *  @param  flag    {@code true} if the output should be minified,
+     *      {@code false} otherwise.
+     */
+    public final void setMinify( final boolean flag ) { m_Minify = flag; }
+
+    /**
+     *  Determines whether the output written by
+     *  {@link #write(Element, OutputStream)}
+     *  and
+     *  {@link #writeCompressed(Element, OutputStream)},
+     *  and that emitted by the publishers returned by
+     *  {@link #publish(Element, Executor)},
+     *  starts with an XML declaration; the default is {@code false}.
+     *
+     *  @param  flag    {@code true} if the XML declaration should be
+     *      written, {@code false} otherwise.
+     */
+    public final void setXMLDeclaration( final boolean flag ) { m_WriteDeclaration = flag; }
+
+    /**
+     *  Writes the given element with all its children to the given target.
+     *
+     *  @param  root    The element.
+     *  @param  target  The target; it will not be flushed.
+     *  @throws IOException Writing to the target failed.
+     */
+    public final void write( final Element root, final Appendable target ) throws IOException
+    {
+        requireNonNullArgument( root, "root" );
+        requireNonNullArgument( target, "target" );
+        if( m_Minify )
+        {
+            SVGMinifier.write( root, target );
+        }
+        else
+        {
+            write( root, 0, target, null );
+        }
+    }   //  write()
+
+    /**
+     *  Writes the given element with all its children to the given target,
+     *  with the given indentation level.
+     *
+     *  @param  element The element.
+     *  @param  indentationLevel    The indentation level.
+     *  @param  target  The target.
+     *  @param  stream  The stream that receives the output of the target, or
+     *      {@code null} if there is none; the output of frozen subtrees is
+     *      written directly to this stream, after the target was flushed.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void write( final Element element, final int indentationLevel, final Appendable target, final OutputStream stream ) throws IOException
+    {
+        if( nonNull( stream ) && (element instanceof final SVGElementImpl svgElement) )
+        {
+            final var frozenOutput = svgElement.getFrozenOutput( indentationLevel, m_PrettyPrint );
+            if( frozenOutput.isPresent() )
+            {
+                if( target instanceof final Flushable flushable ) flushable.flush();
+                stream.write( frozenOutput.get() );
+                return;
+            }
+        }
+
+        final var startTag = createStartTag( element, indentationLevel );
+        if( isNull( startTag ) )
+        {
+            target.append( createUncachedOutput( element, indentationLevel, m_PrettyPrint ) );
+        }
+        else
+        {
+            target.append( startTag );
+            for( final var child : element.getChildren() )
+            {
+                write( child, indentationLevel + 1, target, stream );
+            }
+            target.append( createEndTag( element, indentationLevel ) );
+        }
+    }   //  write()
+
+    /**
+     *  Writes the given element with all its children to the given stream,
+     *  encoded as UTF-8.
+     *
+     *  @param  root    The element.
+     *  @param  out The stream; it will be flushed, but not closed.
+     *  @throws IOException Writing to the stream failed.
+     */
+    public final void write( final Element root, final OutputStream out ) throws IOException
+    {
+        requireNonNullArgument( root, "root" );
+        final var writer = new BufferedWriter( new OutputStreamWriter( requireNonNullArgument( out, "out" ), UTF_8 ), m_BufferSize );
+        writeDocument( root, writer, out );
+        writer.flush();
+    }   //  write()
+
+    /**
+     *  Writes the given element with all its children to the given stream,
+     *  encoded as UTF-8 and compressed with gzip, as it is required for
+     *  {@code .svgz} files.
+     *
+     *  @param  root    The element.
+     *  @param  out The stream; the compressed data will be completed and
+     *      flushed, but the stream will not be closed.
+     *  @throws IOException Writing to the stream failed.
+     */
+    public final void writeCompressed( final Element root, final OutputStream out ) throws IOException
+    {
+        requireNonNullArgument( root, "root" );
+        final var compressingStream = new CompressingStream( requireNonNullArgument( out, "out" ), m_BufferSize, m_CompressionLevel );
+        final var writer = new BufferedWriter( new OutputStreamWriter( compressingStream, UTF_8 ), m_BufferSize );
+        writeDocument( root, writer, compressingStream );
+        writer.flush();
+        compressingStream.finish();
+        out.flush();
+    }   //  writeCompressed()
+
+    /**
+     *  Writes the XML declaration, if requested, and the given element.
+     *
+     *  @param  root    The element.
+     *  @param  writer  The target.
+     *  @param  stream  The stream that receives the output of the writer.
+     *  @throws IOException Writing to the target failed.
+     */
+    private final void writeDocument( final Element root, final Writer writer, final OutputStream stream ) throws IOException
+    {
+        if( m_WriteDeclaration ) writer.write( XML_DECLARATION );
+        if( m_Minify )
+        {
+            SVGMinifier.write( root, writer );
+        }
+        else
+        {
+            write( root, 0, writer, stream );
+        }
+    }   //  writeDocument()
+}
+//  class SVGWriter
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,191 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Transform;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Switch;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.ANIMATION;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.DESCRIPTIVE;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.GRAPHICS;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that removes groups that do not change the rendering.}</p>
+ *  <p>A group without any attributes is replaced by its children, unless
+ *  it has animation or descriptive children, like {@code <animate>} or
+ *  {@code <title>}, as these would apply to the parent of the group
+ *  afterwards. A group
+ *  with just one child is replaced by that child when all its attributes
+ *  are inherited properties or a transformation, and the child does not
+ *  set any of these properties itself; the attributes of the group are
+ *  moved to the child then, and the transformations are concatenated.</p>
+ *  <p>The children of a
+ *  {@code <switch>}
+ *  element are never touched, as the switch evaluates its direct children
+ *  only.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: CollapseGroups.java 1203 2026-10-20 09:41:55Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: CollapseGroups.java 1203 2026-10-20 09:41:55Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class CollapseGroups extends ElementPass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The names of the elements that refer to their parent: the animation
+     *  and the descriptive elements. A group with such children is not
+     *  replaced by its children.
+     */
+    private static final Set<String> ATTACHED_ELEMENTS = Stream.concat( ANIMATION.getElements().stream(), DESCRIPTIVE.getElements().stream() )
+        .collect( toUnmodifiableSet() );
+
+    /**
+     *  The attributes that can be moved from a group to its only child:
+     *  the inherited properties, and the transformation.
+     */
+    private static final Set<String> MOVABLE_ATTRIBUTES = Set.of(
+        "clip-rule", "color", "color-interpolation", "color-interpolation-filters", "color-rendering",
+        "cursor", "direction", "fill", "fill-opacity", "fill-rule", "font-family", "font-size",
+        "font-size-adjust", "font-stretch", "font-style", "font-variant", "font-weight", "image-rendering",
+        "letter-spacing", "marker-end", "marker-mid", "marker-start", "paint-order", "pointer-events",
+        "shape-rendering", "stroke", "stroke-dasharray", "stroke-dashoffset", "stroke-linecap",
+        "stroke-linejoin", "stroke-miterlimit", "stroke-opacity", "stroke-width", "text-anchor",
+        "text-rendering", SVGATTRIBUTE_Transform, "visibility", "word-spacing", "writing-mode" );
+
+    /**
+     *  The names of the elements that can take the attributes of their
+     *  parent group.
+     */
+    private static final Set<String> TARGETS = Stream.concat( GRAPHICS.getElements().stream(), Stream.of( SVGELEMENT_Anchor, SVGELEMENT_Group ) )
+        .collect( toUnmodifiableSet() );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code CollapseGroups} instance.
+     */
+    public CollapseGroups() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the replacement for the given child of a container.
+     *
+     *  @param  child   The child.
+     *  @return The replacements for the child.
+     */
+    private static final List<Element> collapse( final Element child )
+    {
+        List<Element> retValue = List.of( child );
+        if( child.getElementName().equals( SVGELEMENT_Group ) && canCopy( child.getChildren() ) )
+        {
+            final var attributes = child.getAttributes();
+            if( attributes.isEmpty() )
+            {
+                if( child.getChildren().stream().noneMatch( grandChild -> ATTACHED_ELEMENTS.contains( grandChild.getElementName() ) ) )
+                {
+                    retValue = List.copyOf( child.getChildren() );
+                }
+            }
+            else if( (child.getChildren().size() == 1) && MOVABLE_ATTRIBUTES.containsAll( attributes.keySet() ) )
+            {
+                final var grandChild = child.getChildren().iterator().next();
+                if( TARGETS.contains( grandChild.getElementName() ) && canCopy( grandChild.getChildren() ) )
+                {
+                    final Map<String,String> merged = new LinkedHashMap<>( attributes );
+                    var canMerge = true;
+                    for( final var attribute : grandChild.getAttributes().entrySet() )
+                    {
+                        final var name = attribute.getKey();
+                        if( name.equals( SVGATTRIBUTE_Transform ) )
+                        {
+                            merged.merge( name, attribute.getValue(), ( outer, inner ) -> outer + " " + inner );
+                        }
+                        else if( merged.containsKey( name ) )
+                        {
+                            canMerge = false;
+                            break;
+                        }
+                        else
+                        {
+                            merged.put( name, attribute.getValue() );
+                        }
+                    }
+                    if( canMerge ) retValue = List.of( copy( grandChild, grandChild.getElementName(), merged, grandChild.getChildren() ) );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  collapse()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final List<Element> rewrite( final Element element )
+    {
+        List<Element> retValue = List.of( element );
+        final var children = element.getChildren();
+        if( !element.getElementName().equals( SVGELEMENT_Switch ) && canCopy( children ) )
+        {
+            final List<Element> newChildren = new ArrayList<>( children.size() );
+            var changed = false;
+            for( final var child : children )
+            {
+                final var replacement = collapse( child );
+                changed |= (replacement.size() != 1) || (replacement.getFirst() != child);
+                newChildren.addAll( replacement );
+            }
+            if( changed ) retValue = List.of( copy( element, newChildren ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rewrite()
+}
+//  class CollapseGroups
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,302 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.internal.Elements;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary The base class for optimizer passes that rewrite each
+ *  element of a document separately.}</p>
+ *  <p>The document is processed bottom-up:
+ *  {@link #rewrite(Element)}
+ *  is called for each element after its children were rewritten already,
+ *  and it returns the elements that replace the given one in its parent.
+ *  The children of elements that have text or comments are left
+ *  unchanged, as these cannot be copied. The unchanged subtrees of the
+ *  original that end up below a copy are copied as well, so that the
+ *  original document is not modified.</p>
+ *  <p>When the pass is called from within a
+ *  {@link java.util.concurrent.ForkJoinPool},
+ *  like
+ *  {@link SVGOptimizer}
+ *  does it, the subtrees below each element are processed in parallel;
+ *  therefore
+ *  {@link #rewrite(Element)}
+ *  must not depend on mutable state. Otherwise the document is processed in
+ *  the current thread.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ElementPass.java 1202 2026-10-20 09:03:17Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ElementPass.java 1202 2026-10-20 09:03:17Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public abstract class ElementPass implements OptimizerPass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The task that processes a subtree.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ElementPass.java 1202 2026-10-20 09:03:17Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ElementPass.java 1202 2026-10-20 09:03:17Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private final class Task extends RecursiveTask<List<Element>>
+    {
+            /*-----------*\
+        ====** Constants **====================================================
+            \*-----------*/
+        /**
+         *  The serial version UID for objects of this class: {@value}.
+         */
+        private static final long serialVersionUID = 1L;
+
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The root of the subtree.
+         */
+        @SuppressWarnings( "serial" )
+        private final Element m_Element;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Task} instance.
+         *
+         *  @param  element The root of the subtree.
+         */
+        public Task( final Element element ) { m_Element = element; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final List<Element> compute() { return process( m_Element ); }
+    }
+    //  class Task
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ElementPass} instance.
+     */
+    protected ElementPass() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     *  <p>When
+     *  {@link #rewrite(Element)}
+     *  does not return exactly one element for the root, the root is kept,
+     *  with its rewritten children.</p>
+     */
+    @Override
+    public final Element apply( final Element root )
+    {
+        requireNonNullArgument( root, "root" );
+
+        Element retValue = root;
+        if( !isExcluded( root ) )
+        {
+            final var rewrittenChildren = processChildren( root );
+            final var current = rewrittenChildren == null ? root : copy( root, rewrittenChildren );
+            final var replacement = root instanceof XMLElement ? rewrite( current ) : List.of( current );
+            retValue = replacement.size() == 1 ? replacement.getFirst() : current;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  apply()
+
+    /**
+     *  Checks whether the given children can be added to a copy of their
+     *  parent.
+     *
+     *  @param  children    The children.
+     *  @return {@code true} if all children are XML elements,
+     *      {@code false} if there is text or a comment among them.
+     */
+    protected static final boolean canCopy( final Collection<? extends Element> children ) { return Elements.canCopy( children ); }
+
+    /**
+     *  Creates a plain copy of the given element with the given children;
+     *  the children that belong to another element already, like the
+     *  unchanged children of the original, are copied, too.
+     *
+     *  @param  original    The original element.
+     *  @param  children    The children for the copy; all of them must be
+     *      instances of
+     *      {@link XMLElement}.
+     *  @return The copy.
+     */
+    protected static final XMLElement copy( final Element original, final Collection<? extends Element> children ) { return Elements.copy( original, children ); }
+
+    /**
+     *  Creates a plain copy of the given element with another element name
+     *  and the given attributes and children; the children that belong to
+     *  another element already are copied, too.
+     *
+     *  @param  original    The original element.
+     *  @param  elementName The element name for the copy.
+     *  @param  attributes  The attributes for the copy.
+     *  @param  children    The children for the copy; all of them must be
+     *      instances of
+     *      {@link XMLElement}.
+     *  @return The copy.
+     */
+    protected static final XMLElement copy( final Element original, final String elementName, final Map<String,String> attributes, final Collection<? extends Element> children )
+    {
+        return Elements.copy( original, elementName, attributes, children );
+    }   //  copy()
+
+    /**
+     *  Checks whether the given element, and its whole subtree, have to be
+     *  left unchanged; this is the case when the element sets a property
+     *  that is inherited by its descendants and that would make the
+     *  rewrite of these unsafe.
+     *
+     *  @param  element The element; it has not been rewritten yet.
+     *  @return {@code true} if the subtree will be kept as it is,
+     *      {@code false} if it will be processed. This implementation
+     *      always returns {@code false}.
+     */
+    protected boolean isExcluded( final Element element ) { return false; }
+
+    /**
+     *  Processes the given subtree.
+     *
+     *  @param  element The root of the subtree.
+     *  @return The replacements for the root.
+     */
+    private final List<Element> process( final Element element )
+    {
+        final List<Element> retValue;
+        if( (element instanceof XMLElement) && !isExcluded( element ) )
+        {
+            final var rewrittenChildren = processChildren( element );
+            retValue = rewrite( rewrittenChildren == null ? element : copy( element, rewrittenChildren ) );
+        }
+        else
+        {
+            retValue = List.of( element );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  process()
+
+    /**
+     *  Processes the children of the given element; the children that have
+     *  children themselves are processed in parallel when the current
+     *  thread belongs to a
+     *  {@link java.util.concurrent.ForkJoinPool}.
+     *
+     *  @param  element The element.
+     *  @return The new children; {@code null} if nothing has changed, or if
+     *      the children cannot be copied.
+     */
+    private final List<Element> processChildren( final Element element )
+    {
+        List<Element> retValue = null;
+        final var children = List.copyOf( element.getChildren() );
+        if( !children.isEmpty() && canCopy( children ) )
+        {
+            final List<Task> tasks = new ArrayList<>();
+            if( ForkJoinTask.inForkJoinPool() && (children.size() > 1) )
+            {
+                for( final var child : children )
+                {
+                    if( child.hasChildren() ) tasks.add( new Task( child ) );
+                }
+                if( tasks.size() > 1 ) ForkJoinTask.invokeAll( tasks );
+                else tasks.clear();
+            }
+
+            final List<Element> result = new ArrayList<>( children.size() );
+            var changed = false;
+            var taskIndex = 0;
+            for( final var child : children )
+            {
+                final List<Element> replacement;
+                if( (taskIndex < tasks.size()) && (tasks.get( taskIndex ).m_Element == child) )
+                {
+                    replacement = tasks.get( taskIndex++ ).join();
+                }
+                else
+                {
+                    replacement = process( child );
+                }
+                changed |= (replacement.size() != 1) || (replacement.getFirst() != child);
+                result.addAll( replacement );
+            }
+            if( changed ) retValue = result;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  processChildren()
+
+    /**
+     *  Rewrites the given element; its children were rewritten already.
+     *
+     *  @param  element The element; it must not be modified.
+     *  @return The elements that replace the given one in its parent: a
+     *      list with just the given element if it remains unchanged, an
+     *      empty list if it should be removed. All of them have to be
+     *      instances of
+     *      {@link XMLElement}.
+     */
+    protected abstract List<Element> rewrite( final Element element );
+}
+//  class ElementPass
+
+/*
+ *  End of File
+ */
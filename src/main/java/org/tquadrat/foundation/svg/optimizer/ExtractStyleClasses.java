@@ -0,0 +1,435 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static java.util.stream.Collectors.joining;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Class;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Defs;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Style;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.SVGStyle;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that replaces repeated bundles of presentation attributes by generated
+ *  CSS classes.}</p>
+ *  <p>The presentation attributes of an element – {@code fill},
+ *  {@code stroke}, {@code stroke-width}, the {@code font-*} attributes and
+ *  the like – form its bundle. For each bundle that occurs often enough, a
+ *  rule with a short generated class name is added to an
+ *  {@link SVGStyle}
+ *  in the {@code <defs>} element of the document, and the attributes of
+ *  the elements are replaced by a {@code class} attribute; this is done
+ *  only where the rule together with the {@code class} attributes is
+ *  shorter than the attributes it replaces.</p>
+ *  <p>Presentation attributes have a lower priority than any CSS rule, while
+ *  a class selector overrides rules for element names, therefore the pass
+ *  leaves documents alone that already have a stylesheet. Elements that
+ *  have a {@code class} attribute already are not touched either.
+ *  Lengths without a unit get {@code px} in the rules, as CSS requires
+ *  units.</p>
+ *  <p>A stylesheet in an SVG document that is embedded into an HTML page
+ *  applies to the whole page; for that case, a prefix for the generated
+ *  class names should be provided.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class ExtractStyleClasses implements OptimizerPass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The pass that replaces the attribute bundles by the classes.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: ExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: ExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Replacer extends ElementPass
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The class names, by bundle.
+         */
+        private final Map<Map<String,String>,String> m_ClassNames;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Replacer} instance.
+         *
+         *  @param  classNames  The class names, by bundle.
+         */
+        public Replacer( final Map<Map<String,String>,String> classNames ) { m_ClassNames = classNames; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        protected final List<Element> rewrite( final Element element )
+        {
+            var retValue = List.of( element );
+            final var bundle = getBundle( element );
+            final var className = bundle == null ? null : m_ClassNames.get( bundle );
+            if( (className != null) && canCopy( element.getChildren() ) )
+            {
+                final Map<String,String> attributes = new LinkedHashMap<>();
+                for( final var attribute : element.getAttributes().entrySet() )
+                {
+                    if( !bundle.containsKey( attribute.getKey() ) ) attributes.put( attribute.getKey(), attribute.getValue() );
+                }
+                attributes.put( SVGATTRIBUTE_Class, className );
+                retValue = List.of( copy( element, element.getElementName(), attributes, element.getChildren() ) );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  rewrite()
+    }
+    //  class Replacer
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The characters that must not appear in a value that is moved to a
+     *  stylesheet.
+     */
+    private static final Pattern INVALID_VALUE = Pattern.compile( "[{};<>\\]\\\\]" );
+
+    /**
+     *  The properties that take lengths.
+     */
+    private static final Set<String> LENGTH_PROPERTIES = Set.of( "font-size", "letter-spacing", "stroke-dasharray", "stroke-dashoffset", "stroke-width", "word-spacing" );
+
+    /**
+     *  The pattern for a number.
+     */
+    private static final Pattern NUMBER = Pattern.compile( "[-+]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][-+]?\\d+)?" );
+
+    /**
+     *  The presentation attributes that can be moved into a stylesheet.
+     */
+    private static final Set<String> PROPERTIES = Set.of(
+        "alignment-baseline", "baseline-shift", "clip-path", "clip-rule", "color", "color-interpolation",
+        "color-interpolation-filters", "color-rendering", "cursor", "direction", "display", "dominant-baseline",
+        "fill", "fill-opacity", "fill-rule", "filter", "flood-color", "flood-opacity", "font-family",
+        "font-size", "font-size-adjust", "font-stretch", "font-style", "font-variant", "font-weight",
+        "image-rendering", "letter-spacing", "lighting-color", "marker-end", "marker-mid", "marker-start",
+        "mask", "opacity", "pointer-events", "shape-rendering", "stop-color", "stop-opacity", "stroke",
+        "stroke-dasharray", "stroke-dashoffset", "stroke-linecap", "stroke-linejoin", "stroke-miterlimit",
+        "stroke-opacity", "stroke-width", "text-anchor", "text-decoration", "text-rendering", "unicode-bidi",
+        "visibility", "word-spacing", "writing-mode" );
+
+    /**
+     *  The pattern for a valid prefix for the class names.
+     */
+    private static final Pattern VALID_PREFIX = Pattern.compile( "(?:-?[_a-zA-Z][_a-zA-Z0-9-]*)?" );
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The prefix for the generated class names.
+     */
+    private final String m_Prefix;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ExtractStyleClasses} instance that generates
+     *  class names without a prefix.
+     */
+    public ExtractStyleClasses() { m_Prefix = ""; }
+
+    /**
+     *  Creates a new {@code ExtractStyleClasses} instance.
+     *
+     *  @param  prefix  The prefix for the generated class names; it has to
+     *      be empty or the start of a valid CSS identifier.
+     *  @throws IllegalArgumentException    The prefix is invalid.
+     */
+    public ExtractStyleClasses( final String prefix ) throws IllegalArgumentException
+    {
+        m_Prefix = requireNonNullArgument( prefix, "prefix" );
+        if( !VALID_PREFIX.matcher( m_Prefix ).matches() ) throw new IllegalArgumentException( "Invalid prefix: %s".formatted( prefix ) );
+    }   //  ExtractStyleClasses()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Element apply( final Element root )
+    {
+        requireNonNullArgument( root, "root" );
+
+        Element retValue = root;
+        final Map<Map<String,String>,Integer> counts = new HashMap<>();
+        if( count( root, counts ) )
+        {
+            //---* The most profitable bundles get the shortest names *--------
+            final List<Map.Entry<Map<String,String>,Integer>> candidates = new ArrayList<>( counts.entrySet() );
+            candidates.sort( Comparator.comparingInt( (Map.Entry<Map<String,String>,Integer> e) -> e.getValue() * lengthOf( e.getKey() ) ).reversed() );
+
+            final Map<Map<String,String>,String> classNames = new HashMap<>();
+            final List<String> rules = new ArrayList<>();
+            var saved = 0;
+            for( final var candidate : candidates )
+            {
+                final var className = m_Prefix + createName( classNames.size() );
+                final var rule = createRule( className, candidate.getKey() );
+                final var classLength = SVGATTRIBUTE_Class.length() + className.length() + 4;
+                final var gain = candidate.getValue() * (lengthOf( candidate.getKey() ) - classLength) - rule.length() - 1;
+                if( gain > 0 )
+                {
+                    classNames.put( candidate.getKey(), className );
+                    rules.add( rule );
+                    saved += gain;
+                }
+            }
+
+            if( !rules.isEmpty() )
+            {
+                final var styleSheet = createStyle( rules.toArray( CharSequence []::new ) );
+                if( saved > styleSheet.toString( 0, false ).length() + SVGELEMENT_Defs.length() * 2 + 5 )
+                {
+                    retValue = addStyleSheet( new Replacer( classNames ).apply( root ), styleSheet );
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  apply()
+
+    /**
+     *  Adds the given stylesheet to the {@code <defs>} element of the given
+     *  root element.
+     *
+     *  @param  root    The root element.
+     *  @param  styleSheet  The stylesheet.
+     *  @return The new root element.
+     */
+    private static final Element addStyleSheet( final Element root, final SVGStyle styleSheet )
+    {
+        Element retValue = root;
+        final List<Element> children = new ArrayList<>( root.getChildren() );
+        if( ElementPass.canCopy( children ) )
+        {
+            if( !children.isEmpty() && children.getFirst().getElementName().equals( SVGELEMENT_Defs ) && ElementPass.canCopy( children.getFirst().getChildren() ) )
+            {
+                final var first = children.getFirst();
+                final List<Element> definitions = new ArrayList<>( first.getChildren() );
+                definitions.add( styleSheet );
+                children.set( 0, ElementPass.copy( first, definitions ) );
+            }
+            else
+            {
+                final var definitions = createXMLElement( SVGELEMENT_Defs );
+                definitions.addChild( (XMLElement) styleSheet );
+                children.addFirst( definitions );
+            }
+            retValue = ElementPass.copy( root, children );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  addStyleSheet()
+
+    /**
+     *  Counts the attribute bundles in the given subtree.
+     *
+     *  @param  element The root of the subtree.
+     *  @param  counts  The number of elements for each bundle.
+     *  @return {@code false} if the subtree contains a stylesheet,
+     *      {@code true} otherwise.
+     */
+    private static final boolean count( final Element element, final Map<Map<String,String>,Integer> counts )
+    {
+        var retValue = !element.getElementName().equals( SVGELEMENT_Style );
+        if( retValue && ElementPass.canCopy( element.getChildren() ) )
+        {
+            final var bundle = getBundle( element );
+            if( bundle != null ) counts.merge( bundle, 1, Integer::sum );
+            for( final var child : element.getChildren() )
+            {
+                if( !count( child, counts ) )
+                {
+                    retValue = false;
+                    break;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  count()
+
+    /**
+     *  Creates the class name with the given index: {@code a} to
+     *  {@code z}, then {@code aa}, {@code ab}, and so on.
+     *
+     *  @param  index   The index.
+     *  @return The class name.
+     */
+    private static final String createName( final int index )
+    {
+        final var buffer = new StringBuilder();
+        var value = index + 1;
+        while( value > 0 )
+        {
+            --value;
+            buffer.append( (char) ('a' + value % 26) );
+            value /= 26;
+        }
+        final var retValue = buffer.reverse().toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createName()
+
+    /**
+     *  Creates the CSS rule for the given class and bundle.
+     *
+     *  @param  className   The class name.
+     *  @param  bundle  The bundle.
+     *  @return The rule.
+     */
+    private static final String createRule( final String className, final Map<String,String> bundle )
+    {
+        final var retValue = bundle.entrySet().stream()
+            .map( e -> e.getKey() + ":" + toCSSValue( e.getKey(), e.getValue() ) )
+            .collect( joining( ";", "." + className + "{", "}" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createRule()
+
+    /**
+     *  Returns the bundle of presentation attributes of the given element.
+     *
+     *  @param  element The element.
+     *  @return The bundle, sorted by attribute name; {@code null} if the
+     *      element has no presentation attributes that could be moved to a
+     *      stylesheet.
+     */
+    private static final Map<String,String> getBundle( final Element element )
+    {
+        Map<String,String> retValue = null;
+        final var attributes = element.getAttributes();
+        if( !attributes.containsKey( SVGATTRIBUTE_Class ) )
+        {
+            final Map<String,String> bundle = new TreeMap<>();
+            for( final var attribute : attributes.entrySet() )
+            {
+                if( PROPERTIES.contains( attribute.getKey() ) && !INVALID_VALUE.matcher( attribute.getValue() ).find() )
+                {
+                    bundle.put( attribute.getKey(), attribute.getValue().trim() );
+                }
+            }
+            if( !bundle.isEmpty() ) retValue = bundle;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getBundle()
+
+    /**
+     *  Returns the length of the given bundle as attributes.
+     *
+     *  @param  bundle  The bundle.
+     *  @return The length.
+     */
+    private static final int lengthOf( final Map<String,String> bundle )
+    {
+        var retValue = 0;
+        for( final var attribute : bundle.entrySet() ) retValue += attribute.getKey().length() + attribute.getValue().length() + 4;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lengthOf()
+
+    /**
+     *  Converts the value of a presentation attribute to the value for the
+     *  respective CSS property.
+     *
+     *  @param  name    The name of the property.
+     *  @param  value   The value of the attribute.
+     *  @return The CSS value.
+     */
+    private static final String toCSSValue( final String name, final String value )
+    {
+        var retValue = value;
+        if( LENGTH_PROPERTIES.contains( name ) )
+        {
+            retValue = Arrays.stream( value.split( "[\\s,]+" ) )
+                .map( token -> NUMBER.matcher( token ).matches() && (Double.parseDouble( token ) != 0.0) ? token + "px" : token )
+                .collect( joining( "," ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toCSSValue()
+}
+//  class ExtractStyleClasses
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,363 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static java.lang.Math.max;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_StrokeWidth;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Switch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.geometry.BoundingBox;
+import org.tquadrat.foundation.svg.geometry.ElementBounds;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that merges adjacent paths with identical attributes into a single
+ *  path.}</p>
+ *  <p>Merging two paths changes the rendering when they overlap: the
+ *  winding numbers of the sub paths are added up, translucent areas are
+ *  painted once instead of twice, and the stroke of the first path is no
+ *  longer painted before the fill of the second one. Therefore, paths are
+ *  merged only when their bounding boxes, extended by the stroke, are
+ *  disjoint. This requires that the {@code stroke} property is set on the
+ *  paths themselves or on their parent; for stroked paths, the
+ *  {@code stroke-width}, and, unless the {@code stroke-linejoin} is
+ *  {@code round} or {@code bevel}, the {@code stroke-miterlimit} must be
+ *  set, too. Stylesheets that change these properties are not taken into
+ *  account.</p>
+ *  <p>Paths with an id, with markers, with a {@code pathLength}, or with a
+ *  reference to a paint server or an effect (which could depend on the
+ *  bounding box) are never merged, nor are paths whose definition does not
+ *  start with an absolute {@code M} command. As markers and paint are
+ *  inherited, the paths below an element that sets markers, or that
+ *  refers to a paint server for the fill or the stroke, are not merged
+ *  either.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: MergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: MergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class MergePaths extends ElementPass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A sequence of paths that will be merged.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: MergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: MergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Run
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The attributes of the paths, without the path definition.
+         */
+        private final Map<String,String> m_Attributes;
+
+        /**
+         *  The union of the extended bounding boxes of the paths.
+         */
+        private BoundingBox m_Bounds;
+
+        /**
+         *  The paths.
+         */
+        private final List<Element> m_Paths = new ArrayList<>();
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Run} instance.
+         *
+         *  @param  path    The first path.
+         *  @param  attributes  The attributes of the path, without the path
+         *      definition.
+         *  @param  bounds  The extended bounding box of the path.
+         */
+        public Run( final Element path, final Map<String,String> attributes, final BoundingBox bounds )
+        {
+            m_Attributes = attributes;
+            m_Bounds = bounds;
+            m_Paths.add( path );
+        }   //  Run()
+    }
+    //  class Run
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The additional distance between the bounding boxes of paths that are
+     *  merged, in user units; it covers the anti-aliasing, and the
+     *  tolerance for the flattening of arcs.
+     */
+    private static final double SAFETY_MARGIN = 1.0;
+
+    /**
+     *  The properties that determine the extent of the stroke.
+     */
+    private static final List<String> STROKE_PROPERTIES = List.of( "stroke", "stroke-linejoin", "stroke-miterlimit", SVGATTRIBUTE_StrokeWidth );
+
+    /**
+     *  The inherited properties that prevent the merge of the paths below
+     *  an element when they refer to a paint server or a marker.
+     */
+    private static final Set<String> INHERITED_REFERENCES = Set.of( "fill", "stroke", "style" );
+
+    /**
+     *  The attributes that prevent the merge of a path.
+     */
+    private static final Set<String> UNMERGEABLE_ATTRIBUTES = Set.of( SVGATTRIBUTE_Id, "marker-end", "marker-mid", "marker-start", "pathLength" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code MergePaths} instance.
+     */
+    public MergePaths() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the bounding box of the given path, extended by the stroke
+     *  and the
+     *  {@linkplain #SAFETY_MARGIN safety margin}.
+     *
+     *  @param  attributes  The attributes of the path.
+     *  @param  parentAttributes    The attributes of the parent of the path;
+     *      the stroke properties are taken from here when the path does not
+     *      set them itself.
+     *  @return The extended bounding box; {@code null} if the path cannot be
+     *      merged.
+     */
+    private static final BoundingBox getExtendedBounds( final Map<String,String> attributes, final Map<String,String> parentAttributes )
+    {
+        final Map<String,String> properties = new HashMap<>( attributes );
+        for( final var name : STROKE_PROPERTIES )
+        {
+            if( !properties.containsKey( name ) && parentAttributes.containsKey( name ) ) properties.put( name, parentAttributes.get( name ) );
+        }
+
+        BoundingBox retValue = null;
+        final var pathDefinition = properties.get( SVGATTRIBUTE_PathDefinition );
+        final var stroke = properties.get( "stroke" );
+        if( (pathDefinition != null) && pathDefinition.strip().startsWith( "M" ) && (stroke != null) )
+        {
+            try
+            {
+                var margin = Double.NaN;
+                if( stroke.strip().equals( "none" ) )
+                {
+                    margin = 0;
+                }
+                else if( properties.containsKey( SVGATTRIBUTE_StrokeWidth ) )
+                {
+                    final var width = ElementBounds.parseLength( properties.get( SVGATTRIBUTE_StrokeWidth ) );
+                    final var lineJoin = properties.getOrDefault( "stroke-linejoin", "miter" ).strip();
+                    if( lineJoin.equals( "round" ) || lineJoin.equals( "bevel" ) )
+                    {
+                        margin = width;
+                    }
+                    else if( properties.containsKey( "stroke-miterlimit" ) )
+                    {
+                        margin = width * max( Double.parseDouble( properties.get( "stroke-miterlimit" ) ), 2.0 ) / 2;
+                    }
+                }
+                if( !Double.isNaN( margin ) )
+                {
+                    final var bounds = ElementBounds.getPathBounds( pathDefinition );
+                    if( bounds.isPresent() ) retValue = bounds.get().expand( margin + SAFETY_MARGIN );
+                }
+            }
+            catch( final IllegalArgumentException ignored )
+            {
+                //---* Invalid path or stroke: the path is not merged *--------
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getExtendedBounds()
+
+    /**
+     *  Checks whether the given element is a path that can be merged at
+     *  all.
+     *
+     *  @param  element The element.
+     *  @return {@code true} if the path can be merged, {@code false}
+     *      otherwise.
+     */
+    private static final boolean isCandidate( final Element element )
+    {
+        var retValue = element.getElementName().equals( SVGELEMENT_Path ) && !element.hasChildren();
+        if( retValue )
+        {
+            for( final var attribute : element.getAttributes().entrySet() )
+            {
+                if( UNMERGEABLE_ATTRIBUTES.contains( attribute.getKey() ) || attribute.getValue().contains( "url(" ) )
+                {
+                    retValue = false;
+                    break;
+                }
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isCandidate()
+
+    /**
+     *  {@inheritDoc}
+     *  <p>The paths below an element that sets markers, or that refers to a
+     *  paint server for the fill or the stroke, are not merged, as the
+     *  paths would inherit these.</p>
+     */
+    @Override
+    protected final boolean isExcluded( final Element element )
+    {
+        var retValue = false;
+        for( final var attribute : element.getAttributes().entrySet() )
+        {
+            final var name = attribute.getKey();
+            final var value = attribute.getValue();
+            if( name.startsWith( "marker" )
+                || (INHERITED_REFERENCES.contains( name ) && value.contains( "url(" ))
+                || (name.equals( "style" ) && value.contains( "marker" )) )
+            {
+                retValue = true;
+                break;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isExcluded()
+
+    /**
+     *  Adds the result for the given run to the given list.
+     *
+     *  @param  run The run; may be {@code null}.
+     *  @param  target  The list.
+     *  @return {@code true} if paths were merged, {@code false} otherwise.
+     */
+    private static final boolean merge( final Run run, final List<Element> target )
+    {
+        var retValue = false;
+        if( run != null )
+        {
+            if( run.m_Paths.size() == 1 )
+            {
+                target.add( run.m_Paths.getFirst() );
+            }
+            else
+            {
+                final var pathDefinition = new StringBuilder();
+                for( final var path : run.m_Paths ) pathDefinition.append( path.getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow().strip() );
+                final Map<String,String> attributes = new LinkedHashMap<>( run.m_Paths.getFirst().getAttributes() );
+                attributes.put( SVGATTRIBUTE_PathDefinition, pathDefinition.toString() );
+                target.add( copy( run.m_Paths.getFirst(), SVGELEMENT_Path, attributes, List.of() ) );
+                retValue = true;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  merge()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final List<Element> rewrite( final Element element )
+    {
+        List<Element> retValue = List.of( element );
+        final var children = element.getChildren();
+        if( !element.getElementName().equals( SVGELEMENT_Switch ) && (children.size() > 1) && canCopy( children ) )
+        {
+            final List<Element> newChildren = new ArrayList<>( children.size() );
+            var changed = false;
+            Run run = null;
+            for( final var child : children )
+            {
+                final var bounds = isCandidate( child ) ? getExtendedBounds( child.getAttributes(), element.getAttributes() ) : null;
+                if( bounds == null )
+                {
+                    changed |= merge( run, newChildren );
+                    run = null;
+                    newChildren.add( child );
+                }
+                else
+                {
+                    final Map<String,String> attributes = new HashMap<>( child.getAttributes() );
+                    attributes.remove( SVGATTRIBUTE_PathDefinition );
+                    if( (run != null) && run.m_Attributes.equals( attributes ) && !run.m_Bounds.intersects( bounds ) )
+                    {
+                        run.m_Paths.add( child );
+                        run.m_Bounds = run.m_Bounds.union( bounds );
+                    }
+                    else
+                    {
+                        changed |= merge( run, newChildren );
+                        run = new Run( child, attributes, bounds );
+                    }
+                }
+            }
+            changed |= merge( run, newChildren );
+            if( changed ) retValue = List.of( copy( element, newChildren ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rewrite()
+}
+//  class MergePaths
+
+/*
+ *  End of File
+ */
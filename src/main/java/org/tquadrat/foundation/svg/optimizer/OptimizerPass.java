@@ -0,0 +1,76 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary A single pass of the
+ *  {@link SVGOptimizer}.}</p>
+ *  <p>A pass must not modify the given document; like
+ *  {@link SymbolInstancer},
+ *  it replaces the affected elements, and all their ancestors, by plain
+ *  copies; the unchanged subtrees that are added to these copies are
+ *  copied, too, as adding them would move them out of the original
+ *  document. This allows to run the passes on documents that are still in
+ *  use elsewhere, and to compare the results of different pipelines.</p>
+ *  <p>Passes that work on each element separately should extend
+ *  {@link ElementPass}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: OptimizerPass.java 1198 2026-10-19 21:46:12Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: OptimizerPass.java 1198 2026-10-19 21:46:12Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+@FunctionalInterface
+public interface OptimizerPass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Applies this pass to the given document.
+     *
+     *  @param  root    The root element of the document or subtree; it will
+     *      not be modified.
+     *  @return The root element of the result; this is the given root
+     *      itself if nothing was changed.
+     */
+    public Element apply( final Element root );
+
+    /**
+     *  Returns the name of this pass, as it is used for the
+     *  {@linkplain PassStatistics statistics}.
+     *
+     *  @return The name; the default is the simple name of the
+     *      implementing class.
+     */
+    public default String getName() { return getClass().getSimpleName(); }
+}
+//  interface OptimizerPass
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,141 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  The result of a run of the
+ *  {@link SVGOptimizer}:
+ *  the optimised document, together with the
+ *  {@linkplain PassStatistics statistics}
+ *  for each pass.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: OptimizerResult.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: OptimizerResult.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class OptimizerResult
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The root element of the optimised document.
+     */
+    private final Element m_Result;
+
+    /**
+     *  The statistics for the passes.
+     */
+    private final List<PassStatistics> m_Statistics;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code OptimizerResult} instance.
+     *
+     *  @param  result  The root element of the optimised document.
+     *  @param  statistics  The statistics for the passes, in the order the
+     *      passes were applied.
+     */
+    public OptimizerResult( final Element result, final List<PassStatistics> statistics )
+    {
+        m_Result = requireNonNullArgument( result, "result" );
+        m_Statistics = List.copyOf( requireNonNullArgument( statistics, "statistics" ) );
+    }   //  OptimizerResult()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the total time that was needed for all passes.
+     *
+     *  @return The duration.
+     */
+    public final Duration getDuration()
+    {
+        var retValue = Duration.ZERO;
+        for( final var statistics : m_Statistics ) retValue = retValue.plus( statistics.getDuration() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getDuration()
+
+    /**
+     *  Returns the root element of the optimised document.
+     *
+     *  @return The root element; this is the original root if no pass has
+     *      changed the document.
+     */
+    public final Element getResult() { return m_Result; }
+
+    /**
+     *  Returns the total number of characters that were saved by all
+     *  passes.
+     *
+     *  @return The saved size.
+     */
+    public final long getSavedSize()
+    {
+        var retValue = 0L;
+        for( final var statistics : m_Statistics ) retValue += statistics.getSavedSize();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getSavedSize()
+
+    /**
+     *  Returns the statistics for the passes.
+     *
+     *  @return The statistics, in the order the passes were applied.
+     */
+    public final List<PassStatistics> getStatistics() { return m_Statistics; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        final var buffer = new StringBuilder( "%d saved in %d ms".formatted( getSavedSize(), getDuration().toMillis() ) );
+        for( final var statistics : m_Statistics ) buffer.append( "\n    " ).append( statistics );
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+}
+//  class OptimizerResult
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,139 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+
+import java.time.Duration;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+
+/**
+ *  The statistics for a single pass of the
+ *  {@link SVGOptimizer}.
+ *  The sizes are the lengths of the output without pretty printing, in
+ *  characters.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: PassStatistics.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: PassStatistics.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class PassStatistics
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The time that was needed for the pass.
+     */
+    private final Duration m_Duration;
+
+    /**
+     *  The name of the pass.
+     */
+    private final String m_Name;
+
+    /**
+     *  The size of the document after the pass.
+     */
+    private final long m_SizeAfter;
+
+    /**
+     *  The size of the document before the pass.
+     */
+    private final long m_SizeBefore;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code PassStatistics} instance.
+     *
+     *  @param  name    The name of the pass.
+     *  @param  duration    The time that was needed for the pass.
+     *  @param  sizeBefore  The size of the document before the pass.
+     *  @param  sizeAfter   The size of the document after the pass.
+     */
+    public PassStatistics( final String name, final Duration duration, final long sizeBefore, final long sizeAfter )
+    {
+        m_Name = requireNotEmptyArgument( name, "name" );
+        m_Duration = requireNonNullArgument( duration, "duration" );
+        m_SizeBefore = sizeBefore;
+        m_SizeAfter = sizeAfter;
+    }   //  PassStatistics()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the time that was needed for the pass.
+     *
+     *  @return The duration.
+     */
+    public final Duration getDuration() { return m_Duration; }
+
+    /**
+     *  Returns the name of the pass.
+     *
+     *  @return The name.
+     */
+    public final String getName() { return m_Name; }
+
+    /**
+     *  Returns the number of characters that were saved by the pass; this
+     *  is negative if the pass made the document larger.
+     *
+     *  @return The saved size.
+     */
+    public final long getSavedSize() { return m_SizeBefore - m_SizeAfter; }
+
+    /**
+     *  Returns the size of the document after the pass.
+     *
+     *  @return The size.
+     */
+    public final long getSizeAfter() { return m_SizeAfter; }
+
+    /**
+     *  Returns the size of the document before the pass.
+     *
+     *  @return The size.
+     */
+    public final long getSizeBefore() { return m_SizeBefore; }
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final String toString()
+    {
+        return "%s: %d -> %d (%d saved) in %d ms".formatted( m_Name, m_SizeBefore, m_SizeAfter, getSavedSize(), m_Duration.toMillis() );
+    }   //  toString()
+}
+//  class PassStatistics
+
+/*
+ *  End of File
+ */
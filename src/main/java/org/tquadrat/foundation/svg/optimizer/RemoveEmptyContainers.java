@@ -0,0 +1,92 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Defs;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Switch;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that removes containers without children.}</p>
+ *  <p>Groups, links, {@code <defs>} and {@code <switch>} elements without
+ *  children do not render anything; they are removed unless they have an
+ *  id, as they could be referenced then. Containers that become empty by
+ *  this are removed, too. The root element of the document is never
+ *  removed.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: RemoveEmptyContainers.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: RemoveEmptyContainers.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class RemoveEmptyContainers extends ElementPass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The names of the containers that will be removed when empty.
+     */
+    private static final Set<String> CONTAINERS = Set.of( SVGELEMENT_Anchor, SVGELEMENT_Defs, SVGELEMENT_Group, SVGELEMENT_Switch );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code RemoveEmptyContainers} instance.
+     */
+    public RemoveEmptyContainers() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final List<Element> rewrite( final Element element )
+    {
+        final var isEmpty = CONTAINERS.contains( element.getElementName() )
+            && !element.hasChildren()
+            && element.getAttribute( SVGATTRIBUTE_Id ).isEmpty();
+        final List<Element> retValue = isEmpty ? List.of() : List.of( element );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rewrite()
+}
+//  class RemoveEmptyContainers
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,126 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Transform;
+import static org.tquadrat.foundation.svg.io.SVGMinifier.isDefaultValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.geometry.AffineMatrix;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that removes attributes that do not change the rendering.}</p>
+ *  <p>These are the attributes that have their
+ *  {@linkplain org.tquadrat.foundation.svg.io.SVGMinifier#isDefaultValue(String, String, String) default value},
+ *  like {@code opacity="1"} or {@code x="0"} on a rectangle, and
+ *  transformations that result in the identity matrix, like
+ *  {@code translate(0,0)}. Inherited properties are kept, even when they have
+ *  their default values, as these override the values from the
+ *  ancestors.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: RemoveRedundantAttributes.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: RemoveRedundantAttributes.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class RemoveRedundantAttributes extends ElementPass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The attributes that hold a transformation.
+     */
+    private static final Set<String> TRANSFORM_ATTRIBUTES = Set.of( "gradientTransform", "patternTransform", SVGATTRIBUTE_Transform );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code RemoveRedundantAttributes} instance.
+     */
+    public RemoveRedundantAttributes() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Checks whether the given transformation is the identity.
+     *
+     *  @param  transformList   The transformation.
+     *  @return {@code true} if the transformation does not change anything,
+     *      {@code false} otherwise, or if it is invalid.
+     */
+    private static final boolean isIdentity( final String transformList )
+    {
+        var retValue = false;
+        try
+        {
+            retValue = AffineMatrix.parse( transformList ).isIdentity();
+        }
+        catch( final IllegalArgumentException ignored )
+        {
+            //---* Invalid transformations are kept as they are *-------------
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isIdentity()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final List<Element> rewrite( final Element element )
+    {
+        final var elementName = element.getElementName();
+        final Map<String,String> attributes = new LinkedHashMap<>();
+        for( final var attribute : element.getAttributes().entrySet() )
+        {
+            final var name = attribute.getKey();
+            final var value = attribute.getValue();
+            final var isRedundant = isDefaultValue( elementName, name, value ) || (TRANSFORM_ATTRIBUTES.contains( name ) && isIdentity( value ));
+            if( !isRedundant ) attributes.put( name, value );
+        }
+
+        final List<Element> retValue = (attributes.size() < element.getAttributes().size()) && canCopy( element.getChildren() )
+            ? List.of( copy( element, elementName, attributes, element.getChildren() ) )
+            : List.of( element );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rewrite()
+}
+//  class RemoveRedundantAttributes
+
+/*
+ *  End of File
+ */
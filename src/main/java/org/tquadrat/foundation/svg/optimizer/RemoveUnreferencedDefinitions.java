@@ -0,0 +1,314 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Defs;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Script;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Style;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that removes definitions that are not referenced.}</p>
+ *  <p>A definition is a child of a {@code <defs>} element, like the
+ *  markers, clip paths, gradients and symbols that are added with
+ *  {@link org.tquadrat.foundation.svg.SVG#addDefinition(org.tquadrat.foundation.svg.SVGElement)}.
+ *  The pass builds the reference graph of the document from the
+ *  {@code url(#id)} values in attributes, style attributes and stylesheets,
+ *  and from the {@code href} and {@code xlink:href} attributes, as used by
+ *  {@code <use>} elements. The content outside of {@code <defs>} is the
+ *  root of that graph; definitions that cannot be reached from it are
+ *  removed, including those that are referenced only by other unreferenced
+ *  definitions. A {@code <defs>} element that becomes empty by this is
+ *  removed, too.</p>
+ *  <p>Definitions without any id, stylesheets and scripts are always kept.
+ *  References from outside of the document – an HTML page that uses a
+ *  symbol from a sprite sheet, for example – cannot be seen, therefore
+ *  this pass is not part of the default pipeline of the
+ *  {@link SVGOptimizer}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: RemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: RemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class RemoveUnreferencedDefinitions implements OptimizerPass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  The reference graph of a document.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: RemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: RemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Graph
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The definitions, by the ids of the elements they contain.
+         */
+        private final Map<String,Element> m_DefinitionOf = new HashMap<>();
+
+        /**
+         *  The ids that are referenced from the definitions.
+         */
+        private final Map<Element,Set<String>> m_References = new IdentityHashMap<>();
+
+        /**
+         *  The ids that are referenced from the rendered content of the
+         *  document.
+         */
+        private final Set<String> m_Roots = new HashSet<>();
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds the given subtree to the graph.
+         *
+         *  @param  element The root of the subtree.
+         *  @param  definition  The definition the subtree belongs to;
+         *      {@code null} if it is part of the rendered content.
+         */
+        private final void collect( final Element element, final Element definition )
+        {
+            final var references = definition == null ? m_Roots : m_References.get( definition );
+            if( element instanceof XMLElement )
+            {
+                if( definition != null )
+                {
+                    element.getAttribute( SVGATTRIBUTE_Id ).ifPresent( id -> m_DefinitionOf.put( id, definition ) );
+                }
+                for( final var attribute : element.getAttributes().entrySet() )
+                {
+                    final var name = attribute.getKey();
+                    final var value = attribute.getValue();
+                    if( (name.equals( HREF ) || name.endsWith( ":" + HREF )) && value.startsWith( "#" ) )
+                    {
+                        references.add( value.substring( 1 ) );
+                    }
+                    else
+                    {
+                        scan( value, references );
+                    }
+                }
+
+                final var isDefinitions = (definition == null) && element.getElementName().equals( SVGELEMENT_Defs );
+                for( final var child : element.getChildren() )
+                {
+                    if( isDefinitions && isRemovable( child ) )
+                    {
+                        m_References.put( child, new HashSet<>() );
+                        collect( child, child );
+                    }
+                    else
+                    {
+                        collect( child, definition );
+                    }
+                }
+            }
+            else
+            {
+                //---* Text, CDATA sections with stylesheets and the like *----
+                scan( element.toString( 0, false ), references );
+            }
+        }   //  collect()
+
+        /**
+         *  Returns the definitions that cannot be reached from the rendered
+         *  content of the document.
+         *
+         *  @return The unreferenced definitions.
+         */
+        private final Set<Element> getUnreferenced()
+        {
+            final Set<Element> referenced = Collections.newSetFromMap( new IdentityHashMap<>() );
+            final var visited = new HashSet<String>();
+            final var pending = new ArrayDeque<>( m_Roots );
+            while( !pending.isEmpty() )
+            {
+                final var id = pending.poll();
+                if( visited.add( id ) )
+                {
+                    final var definition = m_DefinitionOf.get( id );
+                    if( (definition != null) && referenced.add( definition ) ) pending.addAll( m_References.get( definition ) );
+                }
+            }
+
+            //---* Definitions without an id cannot be referenced *------------
+            final Set<Element> retValue = Collections.newSetFromMap( new IdentityHashMap<>() );
+            for( final var definition : m_DefinitionOf.values() )
+            {
+                if( !referenced.contains( definition ) ) retValue.add( definition );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  getUnreferenced()
+
+        /**
+         *  Checks whether the given child of a {@code <defs>} element is a
+         *  definition that may be removed.
+         *
+         *  @param  child   The child.
+         *  @return {@code true} if the child may be removed when it is not
+         *      referenced, {@code false} if it has to be kept anyway.
+         */
+        private static final boolean isRemovable( final Element child )
+        {
+            final var retValue = (child instanceof XMLElement)
+                && !child.getElementName().equals( SVGELEMENT_Style )
+                && !child.getElementName().equals( SVGELEMENT_Script );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isRemovable()
+
+        /**
+         *  Adds the ids from the {@code url(#id)} references in the given
+         *  text to the given set.
+         *
+         *  @param  text    The text.
+         *  @param  references  The set of ids.
+         */
+        private static final void scan( final CharSequence text, final Set<String> references )
+        {
+            final var matcher = URL_REFERENCE.matcher( text );
+            while( matcher.find() ) references.add( matcher.group( 1 ) );
+        }   //  scan()
+    }
+    //  class Graph
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The local name of the attributes that hold a link.
+     */
+    private static final String HREF = "href";
+
+    /**
+     *  The pattern for a local {@code url()} reference.
+     */
+    private static final Pattern URL_REFERENCE = Pattern.compile( "url\\(\\s*['\"]?#([^'\"\\s)]+)" );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code RemoveUnreferencedDefinitions} instance.
+     */
+    public RemoveUnreferencedDefinitions() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    public final Element apply( final Element root )
+    {
+        requireNonNullArgument( root, "root" );
+
+        final var graph = new Graph();
+        graph.collect( root, null );
+        final var unreferenced = graph.getUnreferenced();
+        var retValue = unreferenced.isEmpty() ? root : remove( root, unreferenced );
+        if( retValue == null ) retValue = copy( root, List.of() );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  apply()
+
+    /**
+     *  Removes the given definitions from the given subtree.
+     *
+     *  @param  element The root of the subtree.
+     *  @param  unreferenced    The definitions to remove.
+     *  @return The new root of the subtree; the given element if nothing
+     *      was removed, {@code null} if the element is a {@code <defs>}
+     *      element that became empty.
+     */
+    private static final Element remove( final Element element, final Set<Element> unreferenced )
+    {
+        Element retValue = element;
+        final var children = List.copyOf( element.getChildren() );
+        if( (element instanceof XMLElement) && !children.isEmpty() && canCopy( children ) )
+        {
+            final List<Element> result = new ArrayList<>( children.size() );
+            var changed = false;
+            for( final var child : children )
+            {
+                final var replacement = unreferenced.contains( child ) ? null : remove( child, unreferenced );
+                if( replacement != null ) result.add( replacement );
+                changed |= replacement != child;
+            }
+            if( changed )
+            {
+                retValue = result.isEmpty()
+                    && element.getElementName().equals( SVGELEMENT_Defs )
+                    && element.getAttribute( SVGATTRIBUTE_Id ).isEmpty()
+                    ? null
+                    : copy( element, result );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  remove()
+}
+//  class RemoveUnreferencedDefinitions
+
+/*
+ *  End of File
+ */
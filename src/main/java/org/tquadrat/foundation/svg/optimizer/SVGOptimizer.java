@@ -0,0 +1,183 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Applies a sequence of
+ *  {@linkplain OptimizerPass optimizer passes}
+ *  to an SVG document.}</p>
+ *  <p>The passes are applied one after the other, each one to the result of
+ *  the previous one; the given document itself is never modified. Each
+ *  pass runs in a
+ *  {@link ForkJoinPool},
+ *  so
+ *  {@linkplain ElementPass element passes}
+ *  process independent subtrees in parallel. For each pass, the time it
+ *  took and the size of the document before and after it are recorded in
+ *  the
+ *  {@link OptimizerResult}.</p>
+ *  <p>The default pipeline consists of</p>
+ *  <ol>
+ *  <li>{@link RemoveRedundantAttributes},</li>
+ *  <li>{@link ShapesToPaths},</li>
+ *  <li>{@link RemoveEmptyContainers},</li>
+ *  <li>{@link CollapseGroups},</li>
+ *  <li>and {@link MergePaths}.</li>
+ *  </ol>
+ *  <p>{@link SymbolInstancer}
+ *  is not part of it, as it adds ids to the document, and neither is
+ *  {@link RemoveUnreferencedDefinitions},
+ *  as it cannot see references from outside of the document, nor
+ *  {@link ExtractStyleClasses},
+ *  as its stylesheet could affect an HTML page the document is embedded
+ *  into; all of them can be added to a custom pipeline.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SVGOptimizer.java 1190 2026-10-19 15:12:44Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SVGOptimizer.java 1190 2026-10-19 15:12:44Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SVGOptimizer
+{
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The passes.
+     */
+    private final List<OptimizerPass> m_Passes;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SVGOptimizer} instance with the default
+     *  pipeline.
+     */
+    public SVGOptimizer()
+    {
+        this( new RemoveRedundantAttributes(), new ShapesToPaths(), new RemoveEmptyContainers(), new CollapseGroups(), new MergePaths() );
+    }   //  SVGOptimizer()
+
+    /**
+     *  Creates a new {@code SVGOptimizer} instance.
+     *
+     *  @param  passes  The passes, in the order they should be applied.
+     */
+    public SVGOptimizer( final OptimizerPass... passes )
+    {
+        m_Passes = List.of( requireNonNullArgument( passes, "passes" ) );
+    }   //  SVGOptimizer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Returns the passes of this optimizer.
+     *
+     *  @return The passes, in the order they are applied.
+     */
+    public final List<OptimizerPass> getPasses() { return m_Passes; }
+
+    /**
+     *  Applies the passes to the given document, using the
+     *  {@linkplain ForkJoinPool#commonPool() common pool}.
+     *
+     *  @param  root    The root element of the document; it will not be
+     *      modified.
+     *  @return The result.
+     */
+    public final OptimizerResult optimize( final Element root )
+    {
+        return optimize( root, ForkJoinPool.commonPool() );
+    }   //  optimize()
+
+    /**
+     *  Applies the passes to the given document, using the given pool.
+     *
+     *  @param  root    The root element of the document; it will not be
+     *      modified.
+     *  @param  pool    The pool that runs the passes; a pool with a
+     *      parallelism of 1 processes the document sequentially.
+     *  @return The result.
+     */
+    public final OptimizerResult optimize( final Element root, final ForkJoinPool pool )
+    {
+        requireNonNullArgument( root, "root" );
+        requireNonNullArgument( pool, "pool" );
+
+        final List<PassStatistics> statistics = new ArrayList<>( m_Passes.size() );
+        var current = root;
+        var size = sizeOf( current );
+        for( final var pass : m_Passes )
+        {
+            final var input = current;
+            final var start = System.nanoTime();
+            current = pool.invoke( new RecursiveTask<Element>()
+            {
+                /**
+                 *  The serial version UID for objects of this class: {@value}.
+                 */
+                private static final long serialVersionUID = 1L;
+
+                /**
+                 *  {@inheritDoc}
+                 */
+                @Override
+                protected final Element compute() { return requireNonNullArgument( pass.apply( input ), "result" ); }
+            } );
+            final var duration = Duration.ofNanos( System.nanoTime() - start );
+            final var newSize = current == input ? size : sizeOf( current );
+            statistics.add( new PassStatistics( pass.getName(), duration, size, newSize ) );
+            size = newSize;
+        }
+        final var retValue = new OptimizerResult( current, statistics );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  optimize()
+
+    /**
+     *  Returns the size of the given document.
+     *
+     *  @param  root    The root element of the document.
+     *  @return The length of the output without pretty printing.
+     */
+    private static final long sizeOf( final Element root ) { return root.toString( 0, false ).length(); }
+}
+//  class SVGOptimizer
+
+/*
+ *  End of File
+ */
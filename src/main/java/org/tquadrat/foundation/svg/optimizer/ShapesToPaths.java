@@ -0,0 +1,250 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Height;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Width;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_rx;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ry;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_x2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y1;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_y2;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Line;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_PolyLine;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Polygon;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Rectangle;
+import static org.tquadrat.foundation.svg.io.SVGMinifier.minifyNumber;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary An
+ *  {@linkplain OptimizerPass optimizer pass}
+ *  that replaces basic shapes by paths, where this makes the output
+ *  shorter.}</p>
+ *  <p>Rectangles without rounded corners, lines, polylines and polygons
+ *  are converted when all their coordinates are plain numbers, without
+ *  units or percentages. Rectangles with a width or height of zero are
+ *  kept, as they are not rendered, while the path would be stroked.</p>
+ *  <p>The conversion does not change the rendering, but stylesheets that
+ *  select elements by their name will no longer apply to the converted
+ *  shapes.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: ShapesToPaths.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: ShapesToPaths.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class ShapesToPaths extends ElementPass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The pattern for a plain number.
+     */
+    private static final Pattern NUMBER = Pattern.compile( "[-+]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][-+]?\\d+)?" );
+
+    /**
+     *  The geometry attributes of the shapes; these are removed from the
+     *  path.
+     */
+    private static final Set<String> SHAPE_ATTRIBUTES = Set.of( SVGATTRIBUTE_Height, SVGATTRIBUTE_Points, SVGATTRIBUTE_Width, SVGATTRIBUTE_x, SVGATTRIBUTE_x1, SVGATTRIBUTE_x2, SVGATTRIBUTE_y, SVGATTRIBUTE_y1, SVGATTRIBUTE_y2 );
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code ShapesToPaths} instance.
+     */
+    public ShapesToPaths() { /* Just exists */ }
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Appends the given number to the path definition; a separator is
+     *  added only if the number would be joined with the previous one
+     *  otherwise.
+     *
+     *  @param  buffer  The path definition.
+     *  @param  number  The number, already minified.
+     */
+    private static final void appendNumber( final StringBuilder buffer, final String number )
+    {
+        final var last = buffer.charAt( buffer.length() - 1 );
+        if( (Character.isDigit( last ) || (last == '.')) && (number.charAt( 0 ) != '-') ) buffer.append( ' ' );
+        buffer.append( number );
+    }   //  appendNumber()
+
+    /**
+     *  Returns the path definition for the given shape.
+     *
+     *  @param  element The shape.
+     *  @return The path definition; {@code null} if the shape cannot be
+     *      converted.
+     */
+    private static final String createPathDefinition( final Element element )
+    {
+        String retValue = null;
+        try
+        {
+            final var buffer = new StringBuilder( "M" );
+            switch( element.getElementName() )
+            {
+                case SVGELEMENT_Rectangle ->
+                {
+                    if( element.getAttribute( SVGATTRIBUTE_rx ).isEmpty() && element.getAttribute( SVGATTRIBUTE_ry ).isEmpty() )
+                    {
+                        final var x = getNumber( element, SVGATTRIBUTE_x );
+                        final var width = getNumber( element, SVGATTRIBUTE_Width );
+                        final var height = getNumber( element, SVGATTRIBUTE_Height );
+                        if( (width.signum() > 0) && (height.signum() > 0) )
+                        {
+                            appendNumber( buffer, minifyNumber( x.toString() ) );
+                            appendNumber( buffer, minifyNumber( getNumber( element, SVGATTRIBUTE_y ).toString() ) );
+                            buffer.append( 'h' );
+                            appendNumber( buffer, minifyNumber( width.toString() ) );
+                            buffer.append( 'v' );
+                            appendNumber( buffer, minifyNumber( height.toString() ) );
+                            buffer.append( 'H' );
+                            appendNumber( buffer, minifyNumber( x.toString() ) );
+                            buffer.append( 'z' );
+                            retValue = buffer.toString();
+                        }
+                    }
+                }
+                case SVGELEMENT_Line ->
+                {
+                    for( final var name : List.of( SVGATTRIBUTE_x1, SVGATTRIBUTE_y1, SVGATTRIBUTE_x2, SVGATTRIBUTE_y2 ) )
+                    {
+                        appendNumber( buffer, minifyNumber( getNumber( element, name ).toString() ) );
+                    }
+                    retValue = buffer.toString();
+                }
+                case SVGELEMENT_PolyLine, SVGELEMENT_Polygon ->
+                {
+                    final var points = element.getAttribute( SVGATTRIBUTE_Points ).orElse( "" );
+                    final var matcher = NUMBER.matcher( points );
+                    final List<String> coordinates = new ArrayList<>();
+                    while( matcher.find() ) coordinates.add( minifyNumber( matcher.group() ) );
+                    final var isValid = (coordinates.size() >= 4)
+                        && (coordinates.size() % 2 == 0)
+                        && NUMBER.matcher( points ).replaceAll( "" ).matches( "[\\s,]*" );
+                    if( isValid )
+                    {
+                        for( final var coordinate : coordinates ) appendNumber( buffer, coordinate );
+                        if( element.getElementName().equals( SVGELEMENT_Polygon ) ) buffer.append( 'z' );
+                        retValue = buffer.toString();
+                    }
+                }
+                default -> { /* Nothing to convert */ }
+            }
+        }
+        catch( final NumberFormatException ignored )
+        {
+            //---* A coordinate is not a plain number *-----------------------
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createPathDefinition()
+
+    /**
+     *  Returns the value of the given attribute as a plain number.
+     *
+     *  @param  element The element.
+     *  @param  name    The name of the attribute.
+     *  @return The value; 0 if the attribute is missing.
+     *  @throws NumberFormatException   The value is not a plain number.
+     */
+    private static final BigDecimal getNumber( final Element element, final String name ) throws NumberFormatException
+    {
+        final var retValue = new BigDecimal( element.getAttribute( name ).map( String::strip ).orElse( "0" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  getNumber()
+
+    /**
+     *  Returns the length of the given attributes in the output.
+     *
+     *  @param  attributes  The attributes.
+     *  @return The length.
+     */
+    private static final int lengthOf( final Map<String,String> attributes )
+    {
+        var retValue = 0;
+        for( final var attribute : attributes.entrySet() ) retValue += attribute.getKey().length() + attribute.getValue().length() + 4;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lengthOf()
+
+    /**
+     *  {@inheritDoc}
+     */
+    @Override
+    protected final List<Element> rewrite( final Element element )
+    {
+        List<Element> retValue = List.of( element );
+        final var pathDefinition = createPathDefinition( element );
+        if( (pathDefinition != null) && canCopy( element.getChildren() ) )
+        {
+            final Map<String,String> attributes = new LinkedHashMap<>();
+            attributes.put( SVGATTRIBUTE_PathDefinition, pathDefinition );
+            for( final var attribute : element.getAttributes().entrySet() )
+            {
+                if( !SHAPE_ATTRIBUTES.contains( attribute.getKey() ) ) attributes.put( attribute.getKey(), attribute.getValue() );
+            }
+            final var elementName = element.getElementName();
+            if( SVGELEMENT_Path.length() + lengthOf( attributes ) < elementName.length() + lengthOf( element.getAttributes() ) )
+            {
+                retValue = List.of( copy( element, SVGELEMENT_Path, attributes, element.getChildren() ) );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  rewrite()
+}
+//  class ShapesToPaths
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,661 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.apiguardian.api.API.Status.STABLE;
+import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
+import static org.tquadrat.foundation.lang.Objects.requireNotEmptyArgument;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Id;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Overflow;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Transform;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Anchor;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Defs;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Group;
+import static org.tquadrat.foundation.svg.SVGUtils.createSymbol;
+import static org.tquadrat.foundation.svg.SVGUtils.createUse;
+import static org.tquadrat.foundation.svg.internal.Elements.canCopy;
+import static org.tquadrat.foundation.svg.internal.Elements.copy;
+import static org.tquadrat.foundation.svg.internal.StructuralHash.FNV_OFFSET_BASIS;
+import static org.tquadrat.foundation.svg.internal.StructuralHash.FNV_PRIME;
+import static org.tquadrat.foundation.svg.internal.StructuralHash.hash;
+import static org.tquadrat.foundation.svg.internal.StructuralHash.mix;
+import static org.tquadrat.foundation.svg.type.SVGElementCategory.GRAPHICS;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.internal.Elements;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  <p>{@summary Replaces repeated, structurally identical subtrees of an SVG
+ *  document by
+ *  {@code <use>}
+ *  elements that refer to a shared
+ *  {@code <symbol>}.}</p>
+ *  <p>Two graphics elements or groups are instances of the same symbol when
+ *  they have the same name, the same attributes and the same children; only
+ *  their {@code transform} attributes may differ, as these are moved to the
+ *  {@code <use>} elements. The elements are grouped by a content hash first,
+ *  and the members of a group are compared structurally afterwards, so a
+ *  hash collision will never cause a wrong replacement. Elements that have
+ *  an id, or that contain an element with an id, or text, or comments, are
+ *  never replaced; neither are the contents of {@code <defs>},
+ *  {@code <switch>} or other elements that are not plain groups or
+ *  links.</p>
+ *  <p>A symbol comes with its own overhead, and each reference has a size,
+ *  too; therefore the lengths of the output with and without the symbol are
+ *  compared for each group, and the group is replaced only when that makes
+ *  the output smaller.</p>
+ *  <p>The given document itself is not modified: like the operations in
+ *  {@link org.tquadrat.foundation.svg.geometry},
+ *  the instancer replaces the affected elements, and all their ancestors, by
+ *  plain copies, and the new symbols are added to a copy of the
+ *  {@code <defs>} element of the root (or to a new one) in the same way as
+ *  {@link org.tquadrat.foundation.svg.SVG#addDefinition(org.tquadrat.foundation.svg.SVGElement)}
+ *  would do it. The unchanged subtrees that are added to the copies, and
+ *  the content of the symbols, are copied as well, so that the original
+ *  remains consistent.</p>
+ *  <p>The instancer can be used as a pass of the
+ *  {@link SVGOptimizer}.</p>
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $
+ *  @since 0.5.0
+ *
+ *  @UMLGraph.link
+ */
+@ClassVersion( sourceVersion = "$Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $" )
+@API( status = STABLE, since = "0.5.0" )
+public final class SymbolInstancer implements OptimizerPass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A group of structurally identical elements.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final class Group
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of elements in the document that belong to this group.
+         */
+        private int m_Count = 0;
+
+        /**
+         *  The id of the symbol for this group; {@code null} if the group
+         *  will not be replaced.
+         */
+        private String m_Id;
+
+        /**
+         *  The elements that are candidates for the replacement; elements
+         *  that are nested into other candidates are not part of this list.
+         */
+        private final List<Element> m_Instances = new ArrayList<>();
+
+        /**
+         *  The first element of the group.
+         */
+        private final Element m_Prototype;
+
+        /**
+         *  The symbol for this group; it will be created with the first
+         *  replacement.
+         */
+        private XMLElement m_Symbol;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Group} instance.
+         *
+         *  @param  prototype   The first element of the group.
+         */
+        public Group( final Element prototype ) { m_Prototype = prototype; }
+    }
+    //  class Group
+
+    /**
+     *  The state of a single run of the instancer.
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @ClassVersion( sourceVersion = "$Id: SymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $" )
+    @API( status = INTERNAL, since = "0.5.0" )
+    private final class Run
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The counter for the generation of the ids.
+         */
+        private int m_Counter = 0;
+
+        /**
+         *  The groups, by content hash.
+         */
+        private final Map<Long,List<Group>> m_Groups = new LinkedHashMap<>();
+
+        /**
+         *  The groups of the candidates.
+         */
+        private final Map<Element,Group> m_GroupOf = new IdentityHashMap<>();
+
+        /**
+         *  The content hashes of the elements that were inspected already; a
+         *  value of {@code null} marks an element that cannot be replaced.
+         */
+        private final Map<Element,Long> m_Hashes = new IdentityHashMap<>();
+
+        /**
+         *  The ids that are used in the document.
+         */
+        private final Set<String> m_Ids = new HashSet<>();
+
+        /**
+         *  The symbols that were created.
+         */
+        private final List<XMLElement> m_Symbols = new ArrayList<>();
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Collects the candidates for the replacement in the given container
+         *  and assigns them to their groups.
+         *
+         *  @param  container   The container.
+         */
+        private final void analyse( final Element container )
+        {
+            for( final var child : container.getChildren() )
+            {
+                final var elementName = child.getElementName();
+                if( CANDIDATES.contains( elementName ) ) register( child );
+                if( CONTAINERS.contains( elementName ) ) analyse( child );
+            }
+        }   //  analyse()
+
+        /**
+         *  Collects the ids that are used in the given subtree.
+         *
+         *  @param  element The root of the subtree.
+         */
+        private final void collectIds( final Element element )
+        {
+            element.getAttribute( SVGATTRIBUTE_Id ).ifPresent( m_Ids::add );
+            for( final var child : element.getChildren() ) collectIds( child );
+        }   //  collectIds()
+
+        /**
+         *  Returns the content hash for the given element; the
+         *  {@code transform} attribute of the element itself is not part of
+         *  that hash, while those of its children are.
+         *
+         *  @param  element The element.
+         *  @return The hash; {@code null} if the element cannot be part of a
+         *      symbol.
+         */
+        private final Long contentHash( final Element element )
+        {
+            final Long retValue;
+            if( m_Hashes.containsKey( element ) )
+            {
+                retValue = m_Hashes.get( element );
+            }
+            else
+            {
+                Long hash = null;
+                if( (element instanceof XMLElement) && element.getAttribute( SVGATTRIBUTE_Id ).isEmpty() )
+                {
+                    var value = hash( FNV_OFFSET_BASIS, element.getElementName() );
+                    var attributes = 0L;
+                    for( final var attribute : element.getAttributes().entrySet() )
+                    {
+                        if( !attribute.getKey().equals( SVGATTRIBUTE_Transform ) )
+                        {
+                            //---* The order of the attributes does not matter *---
+                            attributes += mix( hash( hash( FNV_OFFSET_BASIS, attribute.getKey() ), attribute.getValue() ) );
+                        }
+                    }
+                    value = mix( value ^ attributes );
+                    hash = value;
+                    for( final var child : element.getChildren() )
+                    {
+                        final var childHash = contentHash( child );
+                        if( childHash == null )
+                        {
+                            hash = null;
+                            break;
+                        }
+                        final var transform = child.getAttribute( SVGATTRIBUTE_Transform )
+                            .map( t -> hash( FNV_OFFSET_BASIS, t ) )
+                            .orElse( 0L );
+                        value = mix( (value * FNV_PRIME) ^ childHash ^ (transform * FNV_PRIME) );
+                        hash = value;
+                    }
+                }
+                m_Hashes.put( element, hash );
+                retValue = hash;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  contentHash()
+
+        /**
+         *  Decides whether the replacement of the instances of the given
+         *  group by references to a symbol makes the output smaller.
+         *
+         *  @param  group   The group.
+         *  @return {@code true} if the group should be replaced,
+         *      {@code false} otherwise.
+         */
+        private final boolean isBeneficial( final Group group )
+        {
+            final var count = group.m_Instances.size();
+            var retValue = count > 1;
+            if( retValue )
+            {
+                //---* The id is not known yet, so we assume a long one *---
+                final var id = m_IdPrefix + Integer.MAX_VALUE;
+
+                final var prototype = group.m_Prototype;
+                final var instanceLength = lengthOf( List.of( copy( prototype, withoutTransform( prototype ), prototype.getChildren() ) ) );
+                final var symbol = (XMLElement) createSymbol( id );
+                symbol.setAttribute( SVGATTRIBUTE_Overflow, "visible" );
+                final var symbolLength = lengthOf( List.of( symbol ) ) + symbol.getElementName().length() + 2 + lengthOf( symbolContent( prototype ) );
+                final var useLength = lengthOf( List.of( createUse( URI.create( "#" + id ) ) ) );
+
+                retValue = symbolLength + (long) count * useLength < (long) count * instanceLength;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  isBeneficial()
+
+        /**
+         *  Returns the next unused id for a symbol.
+         *
+         *  @return The id.
+         */
+        private final String nextId()
+        {
+            String retValue;
+            do
+            {
+                retValue = m_IdPrefix + ++m_Counter;
+            }
+            while( m_Ids.contains( retValue ) );
+            m_Ids.add( retValue );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  nextId()
+
+        /**
+         *  Assigns the given element to its group, if it can be replaced at
+         *  all.
+         *
+         *  @param  element The element.
+         */
+        private final void register( final Element element )
+        {
+            final var hash = contentHash( element );
+            if( hash != null )
+            {
+                final var groups = m_Groups.computeIfAbsent( hash, ignored -> new ArrayList<>() );
+                Group group = null;
+                for( final var candidate : groups )
+                {
+                    if( isEqual( candidate.m_Prototype, element, true ) )
+                    {
+                        group = candidate;
+                        break;
+                    }
+                }
+                if( group == null )
+                {
+                    group = new Group( element );
+                    groups.add( group );
+                }
+                ++group.m_Count;
+                m_GroupOf.put( element, group );
+            }
+        }   //  register()
+
+        /**
+         *  Returns the replacement for the children of the given container.
+         *
+         *  @param  container   The container.
+         *  @return The new children; {@code null} if nothing has changed.
+         */
+        private final List<Element> replaceChildren( final Element container )
+        {
+            final var children = container.getChildren();
+            List<Element> retValue = null;
+            if( canCopy( children ) )
+            {
+                final List<Element> result = new ArrayList<>( children.size() );
+                var changed = false;
+                for( final var child : children )
+                {
+                    var replacement = child;
+                    final var group = m_GroupOf.get( child );
+                    if( (group != null) && (group.m_Count > 1) )
+                    {
+                        if( group.m_Id != null ) replacement = replace( group, child );
+                    }
+                    else if( CONTAINERS.contains( child.getElementName() ) )
+                    {
+                        final var newChildren = replaceChildren( child );
+                        if( newChildren != null ) replacement = copy( child, child.getAttributes(), newChildren );
+                    }
+                    changed |= replacement != child;
+                    result.add( replacement );
+                }
+                if( changed ) retValue = result;
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  replaceChildren()
+
+        /**
+         *  Replaces an element by a reference to the symbol of its group.
+         *
+         *  @param  group   The group.
+         *  @param  element The element.
+         *  @return The {@code <use>} element.
+         */
+        private final XMLElement replace( final Group group, final Element element )
+        {
+            if( group.m_Symbol == null )
+            {
+                group.m_Symbol = (XMLElement) createSymbol( group.m_Id );
+                group.m_Symbol.setAttribute( SVGATTRIBUTE_Overflow, "visible" );
+                for( final var child : symbolContent( group.m_Prototype ) ) group.m_Symbol.addChild( (XMLElement) child );
+                m_Symbols.add( group.m_Symbol );
+            }
+            final var retValue = (XMLElement) createUse( URI.create( "#" + group.m_Id ) );
+            element.getAttribute( SVGATTRIBUTE_Transform ).ifPresent( transform -> retValue.setAttribute( SVGATTRIBUTE_Transform, transform ) );
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  replace()
+
+        /**
+         *  Performs the instancing for the given document.
+         *
+         *  @param  root    The root element of the document.
+         *  @return The result.
+         */
+        public final Element run( final Element root )
+        {
+            collectIds( root );
+            analyse( root );
+            select( root );
+            for( final var groups : m_Groups.values() )
+            {
+                for( final var group : groups )
+                {
+                    if( isBeneficial( group ) ) group.m_Id = nextId();
+                }
+            }
+
+            Element retValue = root;
+            final var children = replaceChildren( root );
+            if( (children != null) && !m_Symbols.isEmpty() )
+            {
+                final var first = children.getFirst();
+                if( first.getElementName().equals( SVGELEMENT_Defs ) && canCopy( first.getChildren() ) )
+                {
+                    final List<Element> definitions = new ArrayList<>( first.getChildren() );
+                    definitions.addAll( m_Symbols );
+                    children.set( 0, copy( first, first.getAttributes(), definitions ) );
+                }
+                else
+                {
+                    final var definitions = createXMLElement( SVGELEMENT_Defs );
+                    for( final var symbol : m_Symbols ) definitions.addChild( symbol );
+                    children.addFirst( definitions );
+                }
+                retValue = copy( root, root.getAttributes(), children );
+            }
+
+            //---* Done *------------------------------------------------------
+            return retValue;
+        }   //  run()
+
+        /**
+         *  Collects the instances for the groups with more than one member;
+         *  these are the candidates for the replacement that are not part of
+         *  another candidate.
+         *
+         *  @param  container   The container.
+         */
+        private final void select( final Element container )
+        {
+            for( final var child : container.getChildren() )
+            {
+                final var group = m_GroupOf.get( child );
+                if( (group != null) && (group.m_Count > 1) )
+                {
+                    group.m_Instances.add( child );
+                }
+                else if( CONTAINERS.contains( child.getElementName() ) )
+                {
+                    select( child );
+                }
+            }
+        }   //  select()
+    }
+    //  class Run
+
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The names of the elements that can be replaced by a symbol.
+     */
+    private static final Set<String> CANDIDATES = Stream.concat( GRAPHICS.getElements().stream(), Stream.of( SVGELEMENT_Group ) )
+        .collect( toUnmodifiableSet() );
+
+    /**
+     *  The names of the containers whose children are inspected.
+     */
+    private static final Set<String> CONTAINERS = Set.of( SVGELEMENT_Anchor, SVGELEMENT_Group );
+
+    /**
+     *  The default prefix for the ids of the generated symbols: {@value}.
+     */
+    public static final String DEFAULT_ID_PREFIX = "symbol";
+
+        /*------------*\
+    ====** Attributes **=======================================================
+        \*------------*/
+    /**
+     *  The prefix for the ids of the generated symbols.
+     */
+    private final String m_IdPrefix;
+
+        /*--------------*\
+    ====** Constructors **=====================================================
+        \*--------------*/
+    /**
+     *  Creates a new {@code SymbolInstancer} instance that uses the
+     *  {@linkplain #DEFAULT_ID_PREFIX default prefix}
+     *  for the ids of the symbols.
+     */
+    public SymbolInstancer() { this( DEFAULT_ID_PREFIX ); }
+
+    /**
+     *  Creates a new {@code SymbolInstancer} instance.
+     *
+     *  @param  idPrefix    The prefix for the ids of the generated symbols;
+     *      a running number will be appended to it, skipping the ids that
+     *      are already used in the document.
+     */
+    public SymbolInstancer( final String idPrefix )
+    {
+        m_IdPrefix = requireNotEmptyArgument( idPrefix, "idPrefix" );
+    }   //  SymbolInstancer()
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  {@inheritDoc}
+     *  <p>Replaces the repeated subtrees of the given document by references
+     *  to symbols, where this makes the output smaller.</p>
+     */
+    @Override
+    public final Element apply( final Element root )
+    {
+        requireNonNullArgument( root, "root" );
+        final var retValue = new Run().run( root );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  apply()
+
+    /**
+     *  Checks whether the given elements are structurally identical.
+     *
+     *  @param  element1    The first element.
+     *  @param  element2    The second element.
+     *  @param  ignoreTransform {@code true} if the {@code transform}
+     *      attributes of the two elements should not be compared (those of
+     *      their children are compared always), {@code false} otherwise.
+     *  @return {@code true} if the elements are identical, {@code false}
+     *      otherwise.
+     */
+    private static final boolean isEqual( final Element element1, final Element element2, final boolean ignoreTransform )
+    {
+        var retValue = element1.getElementName().equals( element2.getElementName() );
+        if( retValue )
+        {
+            retValue = ignoreTransform
+                ? withoutTransform( element1 ).equals( withoutTransform( element2 ) )
+                : element1.getAttributes().equals( element2.getAttributes() );
+        }
+        if( retValue )
+        {
+            final var children1 = List.copyOf( element1.getChildren() );
+            final var children2 = List.copyOf( element2.getChildren() );
+            retValue = children1.size() == children2.size();
+            for( var i = 0; retValue && (i < children1.size()); ++i )
+            {
+                retValue = isEqual( children1.get( i ), children2.get( i ), false );
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  isEqual()
+
+    /**
+     *  Returns the length of the output for the given elements, without
+     *  pretty printing.
+     *
+     *  @param  elements    The elements.
+     *  @return The length.
+     */
+    private static final long lengthOf( final Collection<? extends Element> elements )
+    {
+        var retValue = 0L;
+        for( final var element : elements ) retValue += element.toString( 0, false ).length();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  lengthOf()
+
+    /**
+     *  Returns the content of the symbol for the given prototype: a bare
+     *  group is replaced by copies of its children, any other element by a
+     *  copy without its {@code transform} attribute. The prototype itself
+     *  remains unchanged.
+     *
+     *  @param  prototype   The prototype of a group.
+     *  @return The content for the symbol.
+     */
+    private static final List<Element> symbolContent( final Element prototype )
+    {
+        final var attributes = withoutTransform( prototype );
+        final List<Element> retValue = prototype.getElementName().equals( SVGELEMENT_Group ) && attributes.isEmpty()
+            ? prototype.getChildren().stream().<Element>map( Elements::deepCopy ).toList()
+            : List.of( copy( prototype, attributes, prototype.getChildren() ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  symbolContent()
+
+    /**
+     *  Returns the attributes of the given element, without the
+     *  {@code transform} attribute.
+     *
+     *  @param  element The element.
+     *  @return The attributes.
+     */
+    private static final Map<String,String> withoutTransform( final Element element )
+    {
+        final Map<String,String> retValue = new HashMap<>( element.getAttributes() );
+        retValue.remove( SVGATTRIBUTE_Transform );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  withoutTransform()
+}
+//  class SymbolInstancer
+
+/*
+ *  End of File
+ */
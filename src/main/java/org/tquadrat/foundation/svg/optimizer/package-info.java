@@ -0,0 +1,34 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ * http://www.gnu.org/licenses/lgpl.html
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+/**
+ *  Optimisations for the output of SVG documents, like the replacement of
+ *  repeated subtrees by references to shared definitions. The single
+ *  optimisations are
+ *  {@linkplain org.tquadrat.foundation.svg.optimizer.OptimizerPass passes}
+ *  that can be combined in an
+ *  {@link org.tquadrat.foundation.svg.optimizer.SVGOptimizer}.
+ */
+
+@API( status = STABLE, since = "0.5.0" )
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.apiguardian.api.API.Status.STABLE;
+
+import org.apiguardian.api.API;
+
+/*
+ *  End of File
+ */
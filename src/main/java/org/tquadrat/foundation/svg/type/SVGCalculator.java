@@ -17,22 +17,18 @@
 
 package org.tquadrat.foundation.svg.type;
 
-import static java.util.Arrays.stream;
+import static java.lang.Double.isNaN;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.Objects.isNull;
+import static org.tquadrat.foundation.lang.Objects.nonNull;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 import org.tquadrat.foundation.annotation.UtilityClass;
 import org.tquadrat.foundation.exception.NullArgumentException;
 import org.tquadrat.foundation.exception.PrivateConstructorForStaticClassCalledError;
-import org.tquadrat.foundation.lang.Objects;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGDegree;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGMillimeter;
 import org.tquadrat.foundation.svg.type.SVGNumber.SVGPercent;
@@ -46,16 +42,210 @@ import org.tquadrat.foundation.svg.type.SVGNumber.SVGUserUnitValue;
  *  and its subclasses.}</p>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGCalculator.java 1151 2025-10-01 21:32:15Z tquadrat $
+ *  @version $Id: SVGCalculator.java 1195 2026-10-19 20:07:12Z tquadrat $
  *  @since 0.4.7
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGCalculator.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGCalculator.java 1195 2026-10-19 20:07:12Z tquadrat $" )
 @API( status = STABLE, since = "0.4.7" )
 @UtilityClass
 public final class SVGCalculator
 {
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  <p>{@summary A mutable accumulator for numbers with the same unit.} It
+     *  keeps the sum, the smallest and the greatest value, and the number of
+     *  values, without creating any objects for the values that are added;
+     *  use it instead of
+     *  {@link SVGCalculator#add(SVGNumber, SVGNumber[])},
+     *  {@link SVGCalculator#min(SVGNumber, SVGNumber[])}
+     *  or
+     *  {@link SVGCalculator#max(SVGNumber, SVGNumber[])}
+     *  in loops over large numbers of values.</p>
+     *  <p>Instances of this class are not thread-safe.</p>
+     *
+     *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+     *  @version $Id: SVGCalculator.java 1195 2026-10-19 20:07:12Z tquadrat $
+     *  @since 0.5.0
+     *
+     *  @UMLGraph.link
+     */
+    @SuppressWarnings( "PublicInnerClass" )
+    @ClassVersion( sourceVersion = "$Id: SVGCalculator.java 1195 2026-10-19 20:07:12Z tquadrat $" )
+    @API( status = STABLE, since = "0.5.0" )
+    public static final class Accumulator
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of values.
+         */
+        private long m_Count;
+
+        /**
+         *  The greatest value.
+         */
+        private double m_Max;
+
+        /**
+         *  The smallest value.
+         */
+        private double m_Min;
+
+        /**
+         *  The sum of the values.
+         */
+        private double m_Sum;
+
+        /**
+         *  The unit.
+         */
+        private final SVGUnit m_Unit;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Accumulator} instance.
+         *
+         *  @param  unit    The unit for the values.
+         */
+        public Accumulator( final SVGUnit unit )
+        {
+            m_Unit = requireNonNullArgument( unit, "unit" );
+            reset();
+        }   //  Accumulator()
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  Adds the given value.
+         *
+         *  @param  value   The value, in the unit of this accumulator.
+         *  @return This instance.
+         */
+        public final Accumulator add( final double value )
+        {
+            m_Sum += value;
+            if( value < m_Min ) m_Min = value;
+            if( value > m_Max ) m_Max = value;
+            ++m_Count;
+
+            //---* Done *------------------------------------------------------
+            return this;
+        }   //  add()
+
+        /**
+         *  Adds the given values.
+         *
+         *  @param  values  The values, in the unit of this accumulator.
+         *  @return This instance.
+         */
+        public final Accumulator add( final double [] values )
+        {
+            for( final var value : requireNonNullArgument( values, "values" ) ) add( value );
+
+            //---* Done *------------------------------------------------------
+            return this;
+        }   //  add()
+
+        /**
+         *  Adds the given value.
+         *
+         *  @param  value   The value.
+         *  @return This instance.
+         *  @throws IllegalArgumentException    The value does not have the
+         *      unit of this accumulator.
+         */
+        public final Accumulator add( final SVGNumber value ) throws IllegalArgumentException
+        {
+            if( requireNonNullArgument( value, "value" ).unit() != m_Unit ) throw new IllegalArgumentException( "Invalid unit: %s".formatted( value.unit().name() ) );
+
+            //---* Done *------------------------------------------------------
+            return add( value.number().doubleValue() );
+        }   //  add()
+
+        /**
+         *  Returns the number of values that were added since the creation
+         *  or the last call to
+         *  {@link #reset()}.
+         *
+         *  @return The number of values.
+         */
+        public final long getCount() { return m_Count; }
+
+        /**
+         *  Returns the greatest value.
+         *
+         *  @return The greatest value;
+         *      {@link Double#NEGATIVE_INFINITY}
+         *      if no value was added yet.
+         */
+        public final double getMax() { return m_Max; }
+
+        /**
+         *  Returns the smallest value.
+         *
+         *  @return The smallest value;
+         *      {@link Double#POSITIVE_INFINITY}
+         *      if no value was added yet.
+         */
+        public final double getMin() { return m_Min; }
+
+        /**
+         *  Returns the sum of the values.
+         *
+         *  @return The sum.
+         */
+        public final double getSum() { return m_Sum; }
+
+        /**
+         *  Returns the unit of this accumulator.
+         *
+         *  @return The unit.
+         */
+        public final SVGUnit getUnit() { return m_Unit; }
+
+        /**
+         *  Resets this accumulator.
+         *
+         *  @return This instance.
+         */
+        public final Accumulator reset()
+        {
+            m_Count = 0;
+            m_Max = Double.NEGATIVE_INFINITY;
+            m_Min = Double.POSITIVE_INFINITY;
+            m_Sum = 0.0;
+
+            //---* Done *------------------------------------------------------
+            return this;
+        }   //  reset()
+
+        /**
+         *  Returns the sum of the values as an instance of
+         *  {@link SVGNumber}.
+         *
+         *  @return The sum.
+         */
+        public final SVGNumber toNumber() { return newNumber( m_Unit, m_Sum ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString()
+        {
+            return "count=%d, sum=%s, min=%s, max=%s".formatted( m_Count, m_Unit.format( m_Sum ), m_Unit.format( m_Min ), m_Unit.format( m_Max ) );
+        }   //  toString()
+    }
+    //  class Accumulator
+
         /*--------------*\
     ====** Constructors **=====================================================
         \*--------------*/
@@ -113,7 +303,11 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.8" )
     public static final SVGDegree add( final SVGDegree v1, final SVGDegree... vOther )
     {
-        final var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue() + stream( vOther ).filter( Objects::nonNull ).mapToDouble( v -> v.number().doubleValue() ).sum();
+        var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue();
+        for( final var v : vOther )
+        {
+            if( nonNull( v ) ) sum += v.number().doubleValue();
+        }
         final var retValue = new SVGDegree( sum );
 
         //---* Done *----------------------------------------------------------
@@ -132,7 +326,11 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.8" )
     public static final SVGMillimeter add( final SVGMillimeter v1, final SVGMillimeter... vOther )
     {
-        final var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue() + stream( vOther ).filter( Objects::nonNull ).mapToDouble( v -> v.number().doubleValue() ).sum();
+        var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue();
+        for( final var v : vOther )
+        {
+            if( nonNull( v ) ) sum += v.number().doubleValue();
+        }
         final var retValue = new SVGMillimeter( sum );
 
         //---* Done *----------------------------------------------------------
@@ -151,7 +349,11 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.8" )
     public static final SVGPixel add( final SVGPixel v1, final SVGPixel... vOther )
     {
-        final var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue() + stream( vOther ).filter( Objects::nonNull ).mapToDouble( v -> v.number().doubleValue() ).sum();
+        var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue();
+        for( final var v : vOther )
+        {
+            if( nonNull( v ) ) sum += v.number().doubleValue();
+        }
         final var retValue = new SVGPixel( sum );
 
         //---* Done *----------------------------------------------------------
@@ -170,13 +372,86 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.8" )
     public static final SVGPercent add( final SVGPercent v1, final SVGPercent... vOther )
     {
-        final var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue() + stream( vOther ).filter( Objects::nonNull ).mapToDouble( v -> v.number().doubleValue() ).sum();
+        var sum = requireNonNullArgument( v1, "v1" ).number().doubleValue();
+        for( final var v : vOther )
+        {
+            if( nonNull( v ) ) sum += v.number().doubleValue();
+        }
         final var retValue = new SVGPercent( sum );
 
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  add
 
+    /**
+     *  Limits the given values to the given range; the values are modified
+     *  in place.
+     *
+     *  @param  values  The values.
+     *  @param  min The lower limit.
+     *  @param  max The upper limit.
+     *  @return The given array.
+     *  @throws IllegalArgumentException    The lower limit is greater than
+     *      the upper limit.
+     *
+     *  @since  0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final double [] clamp( final double [] values, final double min, final double max ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( values, "values" );
+        if( !(min <= max) ) throw new IllegalArgumentException( "Invalid range: %f - %f".formatted( min, max ) );
+        for( var i = 0; i < values.length; ++i )
+        {
+            if( values [i] < min )
+            {
+                values [i] = min;
+            }
+            else if( values [i] > max )
+            {
+                values [i] = max;
+            }
+        }
+
+        //---* Done *----------------------------------------------------------
+        return values;
+    }   //  clamp()
+
+    /**
+     *  Converts the given values from one unit to another; the values are
+     *  modified in place. The conversion uses the ratios of CSS for the
+     *  absolute units: one inch is 2.54 centimeters, 96 pixels, 72 points
+     *  or 6 picas. Values without unit are treated as pixels.
+     *
+     *  @param  values  The values.
+     *  @param  from    The unit of the values.
+     *  @param  to  The target unit.
+     *  @return The given array.
+     *  @throws IllegalArgumentException    One of the units is not an
+     *      absolute unit, and they are not the same.
+     *
+     *  @since  0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final double [] convert( final double [] values, final SVGUnit from, final SVGUnit to ) throws IllegalArgumentException
+    {
+        requireNonNullArgument( values, "values" );
+        requireNonNullArgument( from, "from" );
+        requireNonNullArgument( to, "to" );
+
+        if( from != to )
+        {
+            final var fromFactor = pixelsPerUnit( from );
+            final var toFactor = pixelsPerUnit( to );
+            if( isNaN( fromFactor ) || isNaN( toFactor ) ) throw new IllegalArgumentException( "Cannot convert %s to %s".formatted( from.name(), to.name() ) );
+            final var factor = fromFactor / toFactor;
+            for( var i = 0; i < values.length; ++i ) values [i] *= factor;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return values;
+    }   //  convert()
+
     /**
      *  Increases the given instance of
      *  {@link SVGNumber}
@@ -197,34 +472,6 @@ public final class SVGCalculator
         return retValue;
     }   //  increase()
 
-    /**
-     *  Returns a list built from the given values.
-     *
-     *  @param  <T> The type of the values.
-     *  @param  v1  The first value.
-     *  @param  vOther  The other values.
-     *  @return The list from the given values.
-     *  @throws IllegalArgumentException    Not all values will have the same
-     *      unit.
-     */
-    @API( status = INTERNAL, since = "0.4.10" )
-    @SafeVarargs
-    private static final <T extends SVGNumber> List<T> makeList( final T v1, final T... vOther ) throws IllegalArgumentException
-    {
-        final List<T> retValue = new ArrayList<>();
-        final var unit = requireNonNullArgument( v1, "v1" ).unit();
-        retValue.add( v1 );
-        for( final var v : requireNonNullArgument( vOther, "vOther" ) )
-        {
-            if( isNull( v ) ) throw new NullArgumentException( "An argument is null" );
-            if( unit != v.unit() ) throw new IllegalArgumentException( "Invalid unit: %s".formatted( v.unit().name() ) );
-            retValue.add( v );
-        }
-
-        //---* Done *----------------------------------------------------------
-        return retValue;
-    }   //  makeList()
-
     /**
      *  Returns the greatest one of the given values.
      *
@@ -241,9 +488,16 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.10" )
     public static final <T extends SVGNumber> T max( final T v1, final T... vOther ) throws IllegalArgumentException
     {
-        final var buffer = makeList( v1, vOther );
-        buffer.sort( Comparator.naturalOrder() );
-        final var retValue = buffer.getLast();
+        var retValue = requireNonNullArgument( v1, "v1" );
+        final var unit = v1.unit();
+        for( final var v : requireNonNullArgument( vOther, "vOther" ) )
+        {
+            if( isNull( v ) ) throw new NullArgumentException( "An argument is null" );
+            if( unit != v.unit() ) throw new IllegalArgumentException( "Invalid unit: %s".formatted( v.unit().name() ) );
+
+            //---* The last one of several equal values wins *----------------
+            if( v.compareTo( retValue ) >= 0 ) retValue = v;
+        }
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -265,9 +519,16 @@ public final class SVGCalculator
     @API( status = STABLE, since = "0.4.10" )
     public static final <T extends SVGNumber> T min( final T v1, final T... vOther ) throws IllegalArgumentException
     {
-        final var buffer = makeList( v1, vOther );
-        buffer.sort( Comparator.naturalOrder() );
-        final var retValue = buffer.getFirst();
+        var retValue = requireNonNullArgument( v1, "v1" );
+        final var unit = v1.unit();
+        for( final var v : requireNonNullArgument( vOther, "vOther" ) )
+        {
+            if( isNull( v ) ) throw new NullArgumentException( "An argument is null" );
+            if( unit != v.unit() ) throw new IllegalArgumentException( "Invalid unit: %s".formatted( v.unit().name() ) );
+
+            //---* The first one of several equal values wins *---------------
+            if( v.compareTo( retValue ) < 0 ) retValue = v;
+        }
 
         //---* Done *----------------------------------------------------------
         return retValue;
@@ -321,6 +582,57 @@ public final class SVGCalculator
         return retValue;
     }   //  newNumber()
 
+    /**
+     *  Creates a new instance of
+     *  {@link SVGNumber}
+     *  with the given unit and amount.
+     *
+     *  @param  unit    The unit.
+     *  @param  amount  The amount.
+     *  @return The result.
+     */
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final SVGNumber newNumber( final SVGUnit unit, final double amount )
+    {
+        final var retValue = switch( unit )
+        {
+            case MILLIMETER -> new SVGMillimeter( amount );
+            case NONE -> new SVGUserUnitValue( amount );
+            case PERCENT -> new SVGPercent( amount );
+            case PIXEL -> new SVGPixel( amount );
+            default -> new SVGNumber( amount, unit );
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  newNumber()
+
+    /**
+     *  Returns the number of pixels for one unit of the given unit.
+     *
+     *  @param  unit    The unit.
+     *  @return The number of pixels;
+     *      {@link Double#NaN}
+     *      if the unit is not an absolute unit.
+     */
+    @API( status = INTERNAL, since = "0.5.0" )
+    private static final double pixelsPerUnit( final SVGUnit unit )
+    {
+        final var retValue = switch( unit )
+        {
+            case CENTIMETER -> 96.0 / 2.54;
+            case INCH -> 96.0;
+            case MILLIMETER -> 96.0 / 25.4;
+            case NONE, PIXEL -> 1.0;
+            case PICA -> 16.0;
+            case POINT -> 96.0 / 72.0;
+            default -> Double.NaN;
+        };
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  pixelsPerUnit()
+
     /**
      *  Reduces the given instance of
      *  {@link SVGNumber}
@@ -341,6 +653,47 @@ public final class SVGCalculator
         return retValue;
     }   //  reduce()
 
+    /**
+     *  Multiplies the given values with the given factor; the values are
+     *  modified in place.
+     *
+     *  @param  values  The values.
+     *  @param  factor  The factor.
+     *  @return The given array.
+     *
+     *  @since  0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final double [] scale( final double [] values, final double factor )
+    {
+        requireNonNullArgument( values, "values" );
+        for( var i = 0; i < values.length; ++i ) values [i] *= factor;
+
+        //---* Done *----------------------------------------------------------
+        return values;
+    }   //  scale()
+
+    /**
+     *  Adds the given values, that all have the given unit.
+     *
+     *  @param  unit    The unit of the values.
+     *  @param  values  The values.
+     *  @return The sum.
+     *
+     *  @since  0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final SVGNumber sum( final SVGUnit unit, final double [] values )
+    {
+        requireNonNullArgument( unit, "unit" );
+        var sum = 0.0;
+        for( final var value : requireNonNullArgument( values, "values" ) ) sum += value;
+        final var retValue = newNumber( unit, sum );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  sum()
+
     /**
      *  Returns an instance of
      *  {@link SVGMillimeter}
@@ -17,6 +17,7 @@
 
 package org.tquadrat.foundation.svg.type;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
@@ -24,6 +25,8 @@ import static org.tquadrat.foundation.lang.CommonConstants.NULL_CHAR;
 import static org.tquadrat.foundation.lang.Objects.hash;
 import static org.tquadrat.foundation.lang.Objects.requireNonNullArgument;
 
+import java.util.stream.IntStream;
+
 import org.apiguardian.api.API;
 import org.tquadrat.foundation.annotation.ClassVersion;
 
@@ -146,14 +149,14 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *      (#x20 | #x9 | #xD | #xA)</code></pre>
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+ *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
 @SuppressWarnings( {"AbstractClassWithoutAbstractMethods", "PublicInnerClass"} )
 
-@ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public abstract sealed class SVGPathElement extends ValueBase
     permits SVGPathElement.SVGArcTo, SVGPathElement.SVGClosePath,
@@ -214,12 +217,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  <img src="doc-files/arcs02.svg" alt="Sample Images">
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGArcTo extends SVGPathElement
     {
@@ -278,12 +281,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  The implementation of the SVG path {@code ClosePath} element.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGClosePath extends SVGPathElement
     {
@@ -307,12 +310,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  coincident with the current point.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGCubicCurveTo extends SVGPathElement
     {
@@ -398,12 +401,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  horizontal line.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGHLineTo extends SVGPathElement
     {
@@ -442,12 +445,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  The implementation of the SVG path {@code LineTo} element.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGLineTo extends SVGPathElement
     {
@@ -488,12 +491,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  The implementation of the SVG path {@code MoveTo} element.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGMoveTo extends SVGPathElement
     {
@@ -540,12 +543,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  coincident with the current point.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGQuadraticCurveTo extends SVGPathElement
     {
@@ -621,12 +624,12 @@ public abstract sealed class SVGPathElement extends ValueBase
      *  vertical line.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $
+     *  @version $Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
      *  @since 0.0.5
      *
      *  @UMLGraph.link
      */
-    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1151 2025-10-01 21:32:15Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: SVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
     @API( status = STABLE, since = "0.0.5" )
     public static final class SVGVLineTo extends SVGPathElement
     {
@@ -661,6 +664,22 @@ public abstract sealed class SVGPathElement extends ValueBase
     }
     //  class SVGVLineTo
 
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The number of path elements per chunk when formatting in parallel.
+     */
+    private static final int CHUNK_SIZE = 16_384;
+
+    /**
+     *  The number of path elements above which
+     *  {@link #toString(SVGPathElement...)}
+     *  formats in parallel: {@value}.
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public static final int PARALLEL_THRESHOLD = 65_536;
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -708,6 +727,42 @@ public abstract sealed class SVGPathElement extends ValueBase
         return retValue;
     }   //  equals()
 
+    /**
+     *  Formats the given range of path elements. A command letter is omitted
+     *  when it is the same as that of the previous element, unless it is a
+     *  {@code closepath}; as the previous element determines the command
+     *  letter alone, a range can be formatted independently from the
+     *  others.
+     *
+     *  @param  elements    The path elements.
+     *  @param  from    The index of the first element.
+     *  @param  to  The index after the last element.
+     *  @return The formatted range; it does not start with a separator.
+     */
+    private static final String formatRange( final SVGPathElement [] elements, final int from, final int to )
+    {
+        final var buffer = new StringBuilder( (to - from) * 16 );
+        var lastCommand = from > 0 ? elements [from - 1].m_Name : NULL_CHAR;
+
+        for( var i = from; i < to; ++i )
+        {
+            final var element = elements [i];
+            if( Character.toUpperCase( element.m_Name ) == 'Z' ) lastCommand = NULL_CHAR;
+            if( !buffer.isEmpty() ) buffer.append( ' ' );
+            if( lastCommand != element.m_Name )
+            {
+                lastCommand = element.m_Name;
+                buffer.append( lastCommand );
+            }
+            buffer.append( element.m_Parameters );
+        }
+
+        final var retValue = buffer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  formatRange()
+
     /**
      *  {@inheritDoc}
      */
@@ -721,33 +776,59 @@ public abstract sealed class SVGPathElement extends ValueBase
     public final String toString() { return format( "%c%s", m_Name, m_Parameters ); }
 
     /**
-     *  Converts the given array of {@code SVGPathElement} instances into a
-     *  String that can be used with the SVG
+     *  <p>{@summary Converts the given array of {@code SVGPathElement}
+     *  instances into a String that can be used with the SVG
      *  {@value org.tquadrat.foundation.svg.SVGUtils#SVGATTRIBUTE_PathDefinition}
-     *  attribute.
+     *  attribute.}</p>
+     *  <p>When there are more than
+     *  {@value #PARALLEL_THRESHOLD}
+     *  elements, they are formatted in chunks, in parallel on the
+     *  {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool};
+     *  the result is the same as for the sequential formatting.</p>
      *
      *  @param  elements    The path elements.
      *  @return The resulting String.
      */
     public static final String toString( final SVGPathElement... elements )
     {
-        final var buffer = new StringBuilder();
-        var lastCommand = NULL_CHAR;
+        final var retValue = toString( requireNonNullArgument( elements, "elements" ).length > PARALLEL_THRESHOLD ? CHUNK_SIZE : elements.length, elements );
 
-        for( final var element : requireNonNullArgument( elements, "elements" ) )
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  toString()
+
+    /**
+     *  Converts the given array of {@code SVGPathElement} instances into a
+     *  String, formatting chunks of the given size in parallel.
+     *
+     *  @param  chunkSize   The number of elements per chunk.
+     *  @param  elements    The path elements.
+     *  @return The resulting String.
+     */
+    static final String toString( final int chunkSize, final SVGPathElement... elements )
+    {
+        final String retValue;
+        if( elements.length <= chunkSize )
         {
-            if( Character.toUpperCase( element.m_Name ) == 'Z' ) lastCommand = NULL_CHAR;
-            if( !buffer.isEmpty() ) buffer.append( ' ' );
-            if( lastCommand != element.m_Name )
+            retValue = formatRange( elements, 0, elements.length );
+        }
+        else
+        {
+            final var chunks = IntStream.range( 0, (elements.length + chunkSize - 1) / chunkSize )
+                .parallel()
+                .mapToObj( chunk -> formatRange( elements, chunk * chunkSize, min( elements.length, (chunk + 1) * chunkSize ) ) )
+                .toArray( String []::new );
+            var length = chunks.length - 1;
+            for( final var chunk : chunks ) length += chunk.length();
+            final var buffer = new StringBuilder( length );
+            for( final var chunk : chunks )
             {
-                lastCommand = element.m_Name;
-                buffer.append( lastCommand );
+                if( !buffer.isEmpty() ) buffer.append( ' ' );
+                buffer.append( chunk );
             }
-            buffer.append( element.m_Parameters );
+            retValue = buffer.toString();
         }
 
-        final var retValue = buffer.toString();
-
         //---* Done *----------------------------------------------------------
         return retValue;
     }   //  toString()
@@ -17,6 +17,11 @@
 
 package org.tquadrat.foundation.svg.type;
 
+import static java.lang.Double.isFinite;
+import static java.lang.Math.abs;
+import static java.lang.Math.copySign;
+import static java.lang.Math.floor;
+import static java.lang.Math.round;
 import static java.util.Arrays.stream;
 import static java.util.Locale.ROOT;
 import static org.apiguardian.api.API.Status.STABLE;
@@ -31,12 +36,12 @@ import org.tquadrat.foundation.annotation.ClassVersion;
  *  units and the transformations into Strings for those units.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: SVGUnit.java 1074 2023-10-02 12:05:06Z tquadrat $
+ *  @version $Id: SVGUnit.java 1201 2026-10-20 08:12:44Z tquadrat $
  *  @since 0.0.5
  *
  *  @UMLGraph.link
  */
-@ClassVersion( sourceVersion = "$Id: SVGUnit.java 1074 2023-10-02 12:05:06Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: SVGUnit.java 1201 2026-10-20 08:12:44Z tquadrat $" )
 @API( status = STABLE, since = "0.0.5" )
 public enum SVGUnit
 {
@@ -105,6 +110,28 @@ public enum SVGUnit
     @API( status = STABLE, since = "0.0.5" )
     POINT( "pt" );
 
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The limit for the scaled values that are formatted by
+     *  {@link #appendTo(StringBuilder, double)}
+     *  itself: {@value}. Below it, the distance between two adjacent
+     *  {@code double} values is small enough to detect the values that
+     *  are close to the middle between two results.
+     */
+    private static final double FAST_PATH_LIMIT = 1.0e12;
+
+    /**
+     *  The distance of a scaled value from the middle between two results
+     *  below which
+     *  {@link #appendTo(StringBuilder, double)}
+     *  uses
+     *  {@link #format(double)}:
+     *  {@value}.
+     */
+    private static final double TIE_TOLERANCE = 1.0e-3;
+
         /*------------*\
     ====** Attributes **=======================================================
         \*------------*/
@@ -149,6 +176,68 @@ public enum SVGUnit
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Appends the given value with this unit to the given buffer; the
+     *  result is the same as for
+     *  {@link #format(long)},
+     *  but no intermediate objects are created.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  value   The value.
+     *  @return The buffer.
+     *
+     *  @since 0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public final StringBuilder appendTo( final StringBuilder buffer, final long value )
+    {
+        return requireNonNullArgument( buffer, "buffer" ).append( value ).append( m_Unit );
+    }   //  appendTo()
+
+    /**
+     *  Appends the given value with this unit and three decimal places to
+     *  the given buffer; the result is the same as for
+     *  {@link #format(double)},
+     *  but no intermediate objects are created for finite values of normal
+     *  magnitude.
+     *  {@link java.util.Formatter}
+     *  rounds the decimal representation of the value half up, not the
+     *  binary value itself; both give the same result unless the value is
+     *  close to the middle between two results. These values, and those
+     *  that are too large for the fast path, are formatted by
+     *  {@link #format(double)}
+     *  instead.
+     *
+     *  @param  buffer  The buffer.
+     *  @param  value   The value.
+     *  @return The buffer.
+     *
+     *  @since 0.5.0
+     */
+    @API( status = STABLE, since = "0.5.0" )
+    public final StringBuilder appendTo( final StringBuilder buffer, final double value )
+    {
+        requireNonNullArgument( buffer, "buffer" );
+        final var scaled = abs( value ) * 1000.0;
+        if( isFinite( value ) && (scaled < FAST_PATH_LIMIT) && (abs( scaled - floor( scaled ) - 0.5 ) > TIE_TOLERANCE) )
+        {
+            final var rounded = round( scaled );
+            if( copySign( 1.0, value ) < 0.0 ) buffer.append( '-' );
+            final var fraction = rounded % 1000;
+            buffer.append( rounded / 1000 ).append( '.' );
+            if( fraction < 100 ) buffer.append( '0' );
+            if( fraction < 10 ) buffer.append( '0' );
+            buffer.append( fraction ).append( m_Unit );
+        }
+        else
+        {
+            buffer.append( format( value ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return buffer;
+    }   //  appendTo()
+
     /**
      *  Formats the given type for this unit.
      *
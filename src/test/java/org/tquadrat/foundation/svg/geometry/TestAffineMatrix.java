@@ -0,0 +1,185 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.type.SVGTransform.SVGRotate;
+import org.tquadrat.foundation.svg.type.SVGTransform.SVGTranslate;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the classes
+ *  {@link AffineMatrix}
+ *  and
+ *  {@link BoundingBox}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestAffineMatrix.java 1176 2026-10-18 21:04:12Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestAffineMatrix.java 1176 2026-10-18 21:04:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestAffineMatrix" )
+public class TestAffineMatrix extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the bulk operations of
+     *  {@link AffineMatrix}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApplyTo() throws Exception
+    {
+        skipThreadTest();
+
+        final var matrix = AffineMatrix.of( new SVGTranslate( 10.5, -3 ), new SVGRotate( 30.0 ) );
+        assertEquals( AffineMatrix.parse( "translate(10.5 -3) rotate(30)" ), matrix );
+
+        //---* An odd number of points, to have a tail for the vectors *------
+        final var count = 1001;
+        final var xs = new double [count];
+        final var ys = new double [count];
+        final var interleaved = new double [count * 2];
+        final var expectedXs = new double [count];
+        final var expectedYs = new double [count];
+        for( var i = 0; i < count; ++i )
+        {
+            xs [i] = interleaved [i * 2] = i * 0.37 - 100;
+            ys [i] = interleaved [i * 2 + 1] = 5000.0 / (i + 1);
+            expectedXs [i] = matrix.transformX( xs [i], ys [i] );
+            expectedYs [i] = matrix.transformY( xs [i], ys [i] );
+        }
+
+        matrix.applyTo( xs, ys );
+        assertArrayEquals( expectedXs, xs );
+        assertArrayEquals( expectedYs, ys );
+
+        matrix.applyTo( interleaved );
+        for( var i = 0; i < count; ++i )
+        {
+            assertEquals( expectedXs [i], interleaved [i * 2] );
+            assertEquals( expectedYs [i], interleaved [i * 2 + 1] );
+        }
+
+        //---* Only a part of the array *-------------------------------------
+        final double [] part = { 1, 2, 3, 4, 5, 6 };
+        AffineMatrix.translate( 10, 20 ).applyTo( part, 2, 1 );
+        assertArrayEquals( new double [] { 1, 2, 13, 24, 5, 6 }, part );
+        assertThrows( IndexOutOfBoundsException.class, () -> AffineMatrix.IDENTITY.applyTo( part, 2, 3 ) );
+        assertThrows( IllegalArgumentException.class, () -> AffineMatrix.IDENTITY.applyTo( new double [3] ) );
+        assertThrows( IllegalArgumentException.class, () -> AffineMatrix.IDENTITY.applyTo( new double [3], new double [2] ) );
+    }   //  testApplyTo()
+
+    /**
+     *  Some tests for
+     *  {@link AffineMatrix#parse(CharSequence)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testParse() throws Exception
+    {
+        skipThreadTest();
+
+        assertSame( AffineMatrix.IDENTITY, AffineMatrix.parse( "" ) );
+        assertEquals( AffineMatrix.translate( 10, 0 ), AffineMatrix.parse( "translate(10)" ) );
+        assertEquals( AffineMatrix.scale( 2, 2 ), AffineMatrix.parse( "scale(2)" ) );
+        assertEquals( new AffineMatrix( 1, 2, 3, 4, 5, 6 ), AffineMatrix.parse( "matrix(1,2,3,4,5,6)" ) );
+
+        //---* The transformations are applied from right to left *-----------
+        final var candidate = AffineMatrix.parse( "translate(10,20) scale(2)" );
+        assertEquals( 12.0, candidate.transformX( 1, 1 ), 1.0e-9 );
+        assertEquals( 22.0, candidate.transformY( 1, 1 ), 1.0e-9 );
+
+        final var rotation = AffineMatrix.parse( "rotate(90 10 10)" );
+        assertEquals( 20.0, rotation.transformX( 10, 0 ), 1.0e-9 );
+        assertEquals( 10.0, rotation.transformY( 10, 0 ), 1.0e-9 );
+
+        assertThrows( IllegalArgumentException.class, () -> AffineMatrix.parse( "translate(10" ) );
+        assertThrows( IllegalArgumentException.class, () -> AffineMatrix.parse( "shift(10)" ) );
+        assertThrows( IllegalArgumentException.class, () -> AffineMatrix.parse( "matrix(1,2,3)" ) );
+    }   //  testParse()
+
+    /**
+     *  Some tests for the transformation of
+     *  {@link BoundingBox}
+     *  instances.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTransform() throws Exception
+    {
+        skipThreadTest();
+
+        final var box = new BoundingBox( 0, 0, 10, 20 );
+        assertEquals( box, AffineMatrix.IDENTITY.transform( box ) );
+        assertEquals( new BoundingBox( 5, 5, 25, 45 ), AffineMatrix.translate( 5, 5 ).multiply( AffineMatrix.scale( 2, 2 ) ).transform( box ) );
+
+        final var rotated = AffineMatrix.rotate( 45 ).transform( new BoundingBox( 0, 0, 10, 10 ) );
+        assertEquals( -Math.sqrt( 50 ), rotated.getMinX(), 1.0e-9 );
+        assertEquals( Math.sqrt( 50 ), rotated.getMaxX(), 1.0e-9 );
+        assertEquals( 0.0, rotated.getMinY(), 1.0e-9 );
+        assertEquals( Math.sqrt( 200 ), rotated.getMaxY(), 1.0e-9 );
+
+        assertTrue( AffineMatrix.IDENTITY.isIdentity() );
+        assertFalse( AffineMatrix.skewX( 10 ).isIdentity() );
+    }   //  testTransform()
+
+    /**
+     *  Some tests for the class
+     *  {@link BoundingBox}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testBoundingBox() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( IllegalArgumentException.class, () -> new BoundingBox( 1, 0, 0, 1 ) );
+        assertThrows( IllegalArgumentException.class, () -> new BoundingBox( Double.NaN, 0, 0, 1 ) );
+
+        final var candidate = new BoundingBox( 0, 0, 10, 10 );
+        assertTrue( candidate.contains( 10, 10 ) );
+        assertFalse( candidate.contains( 10.5, 10 ) );
+        assertTrue( candidate.intersects( new BoundingBox( 10, 10, 20, 20 ) ) );
+        assertFalse( candidate.intersects( new BoundingBox( 11, 0, 20, 20 ) ) );
+        assertEquals( new BoundingBox( -5, 0, 10, 15 ), candidate.union( new BoundingBox( -5, 5, 0, 15 ) ) );
+        assertSame( candidate, candidate.union( new BoundingBox( 1, 1, 2, 2 ) ) );
+        assertEquals( new BoundingBox( 5, 5, 5, 5 ), candidate.expand( -10 ) );
+        assertEquals( "0.0 0.0 10.0 10.0", candidate.toString() );
+    }   //  testBoundingBox()
+}
+//  class TestAffineMatrix
+
+/*
+ *  End of File
+ */
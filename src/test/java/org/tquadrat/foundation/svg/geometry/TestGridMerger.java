@@ -0,0 +1,197 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Fill;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link GridMerger}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestGridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestGridMerger.java 1181 2026-10-19 02:44:51Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestGridMerger" )
+public class TestGridMerger extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Calculates the area that is covered by the given path definition,
+     *  as written by
+     *  {@link GridMerger},
+     *  with the fill rule {@code nonzero}; the outlines may not overlap.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @return The area.
+     */
+    private static final double area( final String pathDefinition )
+    {
+        var retValue = 0.0;
+        for( final var outline : pathDefinition.split( "Z" ) )
+        {
+            final var tokens = outline.split( "(?=[hv])" );
+            final var start = tokens [0].substring( 1 ).split( "," );
+            var x = Double.parseDouble( start [0] );
+            var y = Double.parseDouble( start [1] );
+            final var startX = x;
+            final var startY = y;
+            var area = 0.0;
+            for( var i = 1; i < tokens.length; ++i )
+            {
+                final var value = Double.parseDouble( tokens [i].substring( 1 ) );
+                final var nextX = tokens [i].charAt( 0 ) == 'h' ? x + value : x;
+                final var nextY = tokens [i].charAt( 0 ) == 'v' ? y + value : y;
+                area += x * nextY - nextX * y;
+                x = nextX;
+                y = nextY;
+            }
+            area += x * startY - startX * y;
+            retValue += area / 2;
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  area()
+
+    /**
+     *  Some tests for
+     *  {@link GridMerger#createPaths(org.tquadrat.foundation.svg.SVGElementWithChildren, int[][], double, double, double, double, java.util.function.IntFunction)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCreatePaths() throws Exception
+    {
+        skipThreadTest();
+
+        final var group = createGroup();
+        final int [][] cells =
+        {
+            {0, 0, 1},
+            {0, 1, 1}
+        };
+        final String [] colors = {"red", "blue"};
+        final var paths = GridMerger.createPaths( group, cells, 0, 0, 10, 10, index -> color( colors [index] ) );
+        assertEquals( 2, paths.size() );
+        assertEquals( 2, group.getChildren().size() );
+        assertEquals( "red", paths.get( 0 ).getAttribute( SVGATTRIBUTE_Fill ).orElseThrow() );
+        assertEquals( "M0,0h20v10h-10v10h-10Z", paths.get( 0 ).getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+        assertEquals( "blue", paths.get( 1 ).getAttribute( SVGATTRIBUTE_Fill ).orElseThrow() );
+
+        assertThrows( IllegalArgumentException.class, () -> GridMerger.createPaths( group, new int [][] {{0}, {0, 1}}, 0, 0, 10, 10, index -> color( "red" ) ) );
+        assertThrows( IllegalArgumentException.class, () -> GridMerger.createPaths( group, cells, 0, 0, 0, 10, index -> color( "red" ) ) );
+        assertThrows( IllegalArgumentException.class, () -> GridMerger.createPaths( group, cells, 0, 0, 10, Double.NaN, index -> color( "red" ) ) );
+    }   //  testCreatePaths()
+
+    /**
+     *  Some tests for
+     *  {@link GridMerger#outline(int[][], double, double, double, double, int)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOutline() throws Exception
+    {
+        skipThreadTest();
+
+        //---* A single block *------------------------------------------------
+        var result = GridMerger.outline( new int [][] {{0, 0}, {0, 0}}, 5, 5, 10, 10, 3 );
+        assertEquals( 1, result.size() );
+        assertEquals( "M5,5h20v20h-20Z", result.get( 0 ) );
+
+        //---* Diagonally touching cells and empty cells *---------------------
+        result = GridMerger.outline( new int [][] {{0, -1}, {-1, 0}}, 0, 0, 1, 1, 3 );
+        assertEquals( 1, result.size() );
+        assertEquals( 2, result.get( 0 ).chars().filter( c -> c == 'M' ).count() );
+        assertEquals( 2.0, area( result.get( 0 ) ), 1.0e-9 );
+
+        //---* A ring with a hole *--------------------------------------------
+        result = GridMerger.outline( new int [][] {{0, 0, 0}, {0, 1, 0}, {0, 0, 0}}, 0, 0, 1.5, 1.5, 3 );
+        assertEquals( 2, result.size() );
+        assertEquals( 8 * 1.5 * 1.5, area( result.get( 0 ) ), 1.0e-9 );
+        assertEquals( 1.5 * 1.5, area( result.get( 1 ) ), 1.0e-9 );
+
+        //---* No cells at all *-----------------------------------------------
+        assertTrue( GridMerger.outline( new int [0] [0], 0, 0, 1, 1, 3 ).isEmpty() );
+        assertTrue( GridMerger.outline( new int [][] {{-1}}, 0, 0, 1, 1, 3 ).isEmpty() );
+
+        assertThrows( IllegalArgumentException.class, () -> GridMerger.outline( new int [][] {{0}}, 0, 0, 1, 1, -1 ) );
+    }   //  testOutline()
+
+    /**
+     *  Checks the areas for a random, blocky grid.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOutlineRandom() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = new Random( 4711 );
+        final var rows = 200;
+        final var columns = 300;
+        final var cells = new int [rows] [columns];
+        final var counts = new int [4];
+        for( var row = 0; row < rows; ++row )
+        {
+            for( var column = 0; column < columns; ++column )
+            {
+                //---* Blocks of 4x4 cells, with some noise *------------------
+                var color = ((row / 4) * 7 + (column / 4) * 3) % 4;
+                if( random.nextInt( 20 ) == 0 ) color = random.nextInt( 4 );
+                cells [row] [column] = color;
+                ++counts [color];
+            }
+        }
+
+        final var result = GridMerger.outline( cells, 0, 0, 2, 3, 3 );
+        assertEquals( 4, result.size() );
+        var length = 0;
+        for( var color = 0; color < 4; ++color )
+        {
+            assertEquals( counts [color] * 6.0, area( result.get( color ) ), 1.0e-6 );
+            length += result.get( color ).length();
+        }
+
+        //---* Much smaller than one rectangle per cell *----------------------
+        assertTrue( length < rows * columns * 10 );
+    }   //  testOutlineRandom()
+}
+//  class TestGridMerger
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,149 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.cubicCurveTo;
+import static org.tquadrat.foundation.svg.SVGUtils.lineToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.moveTo;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.scale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.type.SVGPathElement;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link LevelOfDetail}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestLevelOfDetail.java 1206 2026-10-20 11:24:09Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestLevelOfDetail.java 1206 2026-10-20 11:24:09Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestLevelOfDetail" )
+public class TestLevelOfDetail extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the levels and scales.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testLevels() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( 0, LevelOfDetail.getLevel( 1.0 ) );
+        assertEquals( 1, LevelOfDetail.getLevel( 1.5 ) );
+        assertEquals( -5, LevelOfDetail.getLevel( 0.02 ) );
+        assertEquals( 0.03125, LevelOfDetail.getScale( -5 ) );
+        assertThrows( IllegalArgumentException.class, () -> LevelOfDetail.getLevel( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> LevelOfDetail.getLevel( Double.NaN ) );
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        assertThrows( IllegalArgumentException.class, () -> LevelOfDetail.getScaleForWidth( svg, 200 ) );
+        svg.setViewBox( number( 0 ), number( 0 ), number( 10000 ), number( 5000 ) );
+        assertEquals( 0.02, LevelOfDetail.getScaleForWidth( svg, 200 ), 1.0e-12 );
+    }   //  testLevels()
+
+    /**
+     *  Some tests for the simplification of a document.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSimplify() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        svg.setViewBox( number( 0 ), number( 0 ), number( 10000 ), number( 10000 ) );
+        final var large = createRectangle( svg, number( 10.123456 ), number( 20.5 ), number( 5000 ), number( 5000 ) );
+        large.setClass( "large" );
+        final var group = createGroup( svg );
+        group.setClass( "group" );
+        createRectangle( group, number( 100 ), number( 100 ), number( 10 ), number( 10 ) ).setClass( "tiny" );
+        final var scaled = createGroup( svg );
+        scaled.setTransform( scale( 100 ) );
+        createRectangle( scaled, number( 1 ), number( 1 ), number( 1 ), number( 1 ) ).setClass( "scaled" );
+        final var path = createPath( svg, moveTo( 0, 0 ), cubicCurveTo( 1000.0, 3000.0, 9000.0, 3000.0, 10000.0, 0.0 ) );
+        path.setClass( "curve" );
+        final var segments = new SVGPathElement [201];
+        segments [0] = moveToAbs( 0, 5000 );
+        for( var i = 1; i < segments.length; ++i ) segments [i] = lineToAbs( i * 50.0, 5000.0 + (i % 2) * 1.5 );
+        createPath( svg, segments ).setClass( "zigzag" );
+        final var referenced = createGroup( svg );
+        referenced.setId( "referenced" );
+        createRectangle( referenced, number( 100 ), number( 100 ), number( 10 ), number( 10 ) ).setClass( "referencedTiny" );
+        final var referencedZigzag = createPath( referenced, segments );
+        referencedZigzag.setClass( "referencedZigzag" );
+        final var before = svg.toString();
+
+        //---* A thumbnail of 200 pixels *-------------------------------------
+        final var candidate = new LevelOfDetail( svg );
+        final var thumbnail = candidate.toString( 0.02, false );
+        assertEquals( before, svg.toString() );
+        assertTrue( thumbnail.contains( "large" ) );
+        assertFalse( thumbnail.contains( "10.123456" ) );
+        assertFalse( thumbnail.contains( "tiny" ) );
+        assertFalse( thumbnail.contains( "group" ) );
+        assertTrue( thumbnail.contains( "scaled" ) );
+        assertTrue( thumbnail.contains( "curve" ) );
+        assertTrue( thumbnail.contains( "M0,0 C1000,3000,9000,3000,10000,0" ) );
+        assertTrue( thumbnail.contains( "M0,5000 L10000,5000" ) );
+
+        //---* Elements with an id are kept unchanged *-----------------------
+        assertTrue( thumbnail.contains( "referencedTiny" ) );
+        assertTrue( thumbnail.contains( "referencedZigzag" ) );
+        assertTrue( thumbnail.contains( referencedZigzag.getAttribute( "d" ).orElseThrow() ) );
+
+        //---* The output is cached per level *-------------------------------
+        assertSame( thumbnail, candidate.toString( 0.03, false ) );
+        candidate.invalidate();
+        final var again = candidate.toString( 0.03, false );
+        assertEquals( thumbnail, again );
+
+        //---* At full scale, everything is kept *-----------------------------
+        final var full = candidate.simplify( 1.0 ).toString();
+        assertTrue( full.contains( "tiny" ) );
+        assertTrue( full.contains( "10.1" ) );
+        assertFalse( full.contains( "10.12" ) );
+    }   //  testSimplify()
+}
+//  class TestLevelOfDetail
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,128 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link PathClipper}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestPathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestPathClipper.java 1209 2026-10-20 13:21:08Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestPathClipper" )
+public class TestPathClipper extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Clips the given path definition.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @param  window  The window.
+     *  @param  isFilled    {@code true} if the path is filled.
+     *  @return The clipped path definition.
+     */
+    private static String clip( final String pathDefinition, final BoundingBox window, final boolean isFilled )
+    {
+        final var writer = new PathWriter( 3 );
+        PathDataParser.parse( pathDefinition, new PathClipper( window, isFilled, writer ) );
+        final var retValue = writer.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  clip()
+
+    /**
+     *  Tests the clipping of curves.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClipCurves() throws Exception
+    {
+        skipThreadTest();
+
+        //---* The curve is split exactly on the border *----------------------
+        final var candidate = clip( "M0,0 C0,100 100,100 100,0", new BoundingBox( 0, -10, 50, 110 ), false );
+        assertEquals( "M0,0 C0,50,25,75,50,75", candidate );
+
+        //---* The right half of a filled circle *-----------------------------
+        final var circle = "M-10,0 A10,10 0 0 0 10,0 A10,10 0 0 0 -10,0 Z";
+        final var half = clip( circle, new BoundingBox( 0, -20, 20, 20 ), true );
+        assertTrue( half.endsWith( "Z" ), half );
+        final var bounds = ElementBounds.getPathBounds( half ).orElseThrow();
+        assertEquals( 0.0, bounds.getMinX(), 1.0e-3 );
+        assertEquals( 10.0, bounds.getMaxX(), 1.0e-2 );
+        assertEquals( -10.0, bounds.getMinY(), 1.0e-2 );
+        assertEquals( 10.0, bounds.getMaxY(), 1.0e-2 );
+
+        //---* Nothing is left *-----------------------------------------------
+        assertEquals( "", clip( circle, new BoundingBox( 20, 20, 30, 30 ), true ) );
+    }   //  testClipCurves()
+
+    /**
+     *  Tests the clipping of sub paths with lines only.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClipLines() throws Exception
+    {
+        skipThreadTest();
+
+        final var square = "M0,0 L10,0 10,10 0,10 Z";
+
+        //---* A filled square is closed along the border *--------------------
+        assertEquals( "M5,0 L10,0 10,10 5,10 Z", clip( square, new BoundingBox( 5, -5, 20, 20 ), true ) );
+
+        //---* An outline is cut *---------------------------------------------
+        assertEquals( "M5,0 L10,0 10,10 5,10", clip( square, new BoundingBox( 5, -5, 20, 20 ), false ) );
+
+        //---* The visible parts at the start and the end are joined *---------
+        assertEquals( "M5,10 L0,10 0,0 5,0", clip( square, new BoundingBox( -5, -5, 5, 20 ), false ) );
+
+        //---* A sub path inside the window is not changed *-------------------
+        assertEquals( square, clip( square, new BoundingBox( -5, -5, 20, 20 ), true ) );
+        assertEquals( square, clip( square, new BoundingBox( -5, -5, 20, 20 ), false ) );
+
+        //---* A line that leaves and re-enters the window *-------------------
+        assertEquals( "M2,5 L2,10 M8,10 L8,5", clip( "M2,5 L2,20 L8,20 L8,5", new BoundingBox( 0, 0, 10, 10 ), false ) );
+
+        //---* A line through two corners has no zero-length segments *-------
+        assertEquals( "M0,0 L100,100", clip( "M-10 -10 L110 110", new BoundingBox( 0, 0, 100, 100 ), false ) );
+
+        //---* An outline that only touches the corners is invisible *---------
+        assertEquals( "", clip( "M50,-50 L150,50 L50,150 L-50,50 Z", new BoundingBox( 0, 0, 100, 100 ), false ) );
+    }   //  testClipLines()
+}
+//  class TestPathClipper
+
+/*
+ *  End of File
+ */
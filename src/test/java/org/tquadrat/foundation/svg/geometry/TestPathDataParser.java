@@ -0,0 +1,217 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.util.Locale.ROOT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.svg.SVGUtils.cubicCurveToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.lineTo;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link PathDataParser}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestPathDataParser.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestPathDataParser.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestPathDataParser" )
+public class TestPathDataParser extends TestBaseClass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A path handler that records the segments it receives.
+     */
+    private static final class Recorder implements PathHandler
+    {
+        /**
+         *  The buffer for the recorded segments.
+         */
+        private final StringBuilder m_Buffer = new StringBuilder();
+
+        /**
+         *  Appends the given command with its values to the buffer.
+         *
+         *  @param  command The command.
+         *  @param  values  The values.
+         */
+        private final void record( final char command, final double... values )
+        {
+            if( !m_Buffer.isEmpty() ) m_Buffer.append( ' ' );
+            m_Buffer.append( command );
+            for( var i = 0; i < values.length; ++i )
+            {
+                if( i > 0 ) m_Buffer.append( ',' );
+                m_Buffer.append( String.format( ROOT, "%.1f", values [i] ) );
+            }
+        }   //  record()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void arcTo( final double rx, final double ry, final double rotation, final boolean largeArc, final boolean sweep, final double x, final double y )
+        {
+            record( 'A', rx, ry, rotation, largeArc ? 1 : 0, sweep ? 1 : 0, x, y );
+        }   //  arcTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void closePath() { record( 'Z' ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void cubicTo( final double x1, final double y1, final double x2, final double y2, final double x, final double y )
+        {
+            record( 'C', x1, y1, x2, y2, x, y );
+        }   //  cubicTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void lineTo( final double x, final double y ) { record( 'L', x, y ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void moveTo( final double x, final double y ) { record( 'M', x, y ); }
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void quadTo( final double x1, final double y1, final double x, final double y )
+        {
+            record( 'Q', x1, y1, x, y );
+        }   //  quadTo()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final String toString() { return m_Buffer.toString(); }
+    }
+    //  class Recorder
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Parses the given path definition.
+     *
+     *  @param  pathDefinition  The path definition.
+     *  @return The recorded segments.
+     */
+    private static String parse( final CharSequence pathDefinition )
+    {
+        final var recorder = new Recorder();
+        PathDataParser.parse( pathDefinition, recorder );
+        final var retValue = recorder.toString();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parse()
+
+    /**
+     *  Tests the method
+     *  {@link PathDataParser#parse(CharSequence, PathHandler)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testParse() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> PathDataParser.parse( null, new Recorder() ) );
+        assertThrows( NullArgumentException.class, () -> PathDataParser.parse( "M0,0", null ) );
+
+        assertEquals( "", parse( "" ) );
+        assertEquals( "", parse( "  \n" ) );
+
+        //---* Absolute and relative commands, implicit lineTo *---------------
+        assertEquals( "M10.0,20.0 L30.0,40.0 L35.0,45.0 Z", parse( "M10,20 30,40 l5,5 z" ) );
+        assertEquals( "M10.0,20.0 L15.0,25.0 L20.0,30.0", parse( "m10 20 5 5 5 5" ) );
+
+        //---* Horizontal and vertical lines *---------------------------------
+        assertEquals( "M1.0,1.0 L5.0,1.0 L5.0,3.0 L4.0,3.0 L4.0,2.0", parse( "M1 1H5V3h-1v-1" ) );
+
+        //---* The current point after closing the path *----------------------
+        assertEquals( "M1.0,1.0 L5.0,1.0 Z M2.0,3.0", parse( "M1 1 L5 1 Z m1 2" ) );
+
+        //---* Compact number notation *---------------------------------------
+        assertEquals( "M0.5,0.5 L-1.0,-2.0 L10.0,-25.0", parse( "M.5.5L-1-2L1e1-2.5E1" ) );
+        assertEquals( "M100.0,0.0", parse( "M1e2,0" ) );
+
+        //---* Curves, including the smooth variants *-------------------------
+        assertEquals( "M0.0,0.0 C0.0,10.0,10.0,10.0,10.0,0.0 C10.0,-10.0,20.0,-10.0,20.0,0.0", parse( "M0 0C0 10 10 10 10 0S20-10 20 0" ) );
+        assertEquals( "M0.0,0.0 C0.0,0.0,10.0,10.0,20.0,0.0", parse( "M0 0S10 10 20 0" ) );
+        assertEquals( "M0.0,0.0 Q5.0,5.0,10.0,0.0 Q15.0,-5.0,20.0,0.0", parse( "M0 0q5 5 10 0t10 0" ) );
+        assertEquals( "M0.0,0.0 Q0.0,0.0,10.0,0.0", parse( "M0 0T10 0" ) );
+
+        //---* Arcs, with compact flags *--------------------------------------
+        assertEquals( "M0.0,0.0 A5.0,5.0,30.0,1.0,0.0,10.0,10.0", parse( "M0 0a5 5 30 1010 10" ) );
+        assertEquals( "M0.0,0.0 A5.0,5.0,30.0,0.0,1.0,10.0,10.0", parse( "M0,0A5,5,30,0,1,10,10" ) );
+
+        //---* Invalid data *--------------------------------------------------
+        assertThrows( IllegalArgumentException.class, () -> parse( "L10 10" ) );
+        assertThrows( IllegalArgumentException.class, () -> parse( "M10" ) );
+        assertThrows( IllegalArgumentException.class, () -> parse( "M10 10 L" ) );
+        assertThrows( IllegalArgumentException.class, () -> parse( "M10 10 X 5 5" ) );
+        assertThrows( IllegalArgumentException.class, () -> parse( "M0 0 A5 5 0 2 0 10 10" ) );
+        assertThrows( IllegalArgumentException.class, () -> parse( "M0 0 L- 5" ) );
+    }   //  testParse()
+
+    /**
+     *  Tests the method
+     *  {@link PathDataParser#parse(PathHandler, org.tquadrat.foundation.svg.type.SVGPathElement...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testParseElements() throws Exception
+    {
+        skipThreadTest();
+
+        final var recorder = new Recorder();
+        PathDataParser.parse( recorder, moveToAbs( 1.0, 2.0 ), lineTo( 3.0, 4.0 ), lineTo( 1.0, 1.0 ), cubicCurveToAbs( 0.0, 0.0, 1.0, 1.0, 2.0, 2.0 ) );
+        assertEquals( "M1.0,2.0 L4.0,6.0 L5.0,7.0 C0.0,0.0,1.0,1.0,2.0,2.0", recorder.toString() );
+    }   //  testParseElements()
+}
+//  class TestPathDataParser
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,195 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static java.lang.Math.hypot;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVGUtils.arcToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link PathFlattener}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestPathFlattener.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestPathFlattener.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestPathFlattener" )
+public class TestPathFlattener extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Calculates the distance of the given point to the polyline in the
+     *  given buffer.
+     *
+     *  @param  buffer  The polyline.
+     *  @param  x   The x coordinate of the point.
+     *  @param  y   The y coordinate of the point.
+     *  @return The distance.
+     */
+    private static double distance( final PolylineBuffer buffer, final double x, final double y )
+    {
+        var retValue = Double.MAX_VALUE;
+        for( var i = 1; i < buffer.getPointCount(); ++i )
+        {
+            final var ax = buffer.getX( i - 1 );
+            final var ay = buffer.getY( i - 1 );
+            final var dx = buffer.getX( i ) - ax;
+            final var dy = buffer.getY( i ) - ay;
+            final var length = dx * dx + dy * dy;
+            final var t = length == 0 ? 0 : Math.clamp( ((x - ax) * dx + (y - ay) * dy) / length, 0.0, 1.0 );
+            retValue = Math.min( retValue, hypot( ax + t * dx - x, ay + t * dy - y ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  distance()
+
+    /**
+     *  Tests the flattening of arcs.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testArc() throws Exception
+    {
+        skipThreadTest();
+
+        final var tolerance = 0.01;
+        final var candidate = PathFlattener.flatten( tolerance, moveToAbs( 100.0, 50.0 ), arcToAbs( 50.0, 50.0, 0.0, false, true, 0.0, 50.0 ) );
+        assertEquals( 1, candidate.getSubpathCount() );
+        assertTrue( candidate.getPointCount() > 10 );
+        assertEquals( 100.0, candidate.getX( 0 ) );
+        assertEquals( 0.0, candidate.getX( candidate.getPointCount() - 1 ) );
+        assertEquals( 50.0, candidate.getY( candidate.getPointCount() - 1 ) );
+
+        //---* All points are on the circle, all chords are close to it *------
+        for( var i = 0; i < candidate.getPointCount(); ++i )
+        {
+            final var x = candidate.getX( i );
+            final var y = candidate.getY( i );
+            assertEquals( 50.0, hypot( x - 50.0, y - 50.0 ), 1.0e-9 );
+            assertTrue( y >= 50.0 - 1.0e-9, "The sweep flag was not honoured" );
+            if( i > 0 )
+            {
+                final var mx = (x + candidate.getX( i - 1 )) / 2;
+                final var my = (y + candidate.getY( i - 1 )) / 2;
+                assertTrue( 50.0 - hypot( mx - 50.0, my - 50.0 ) <= tolerance );
+            }
+        }
+
+        //---* Radii that are too small will be scaled up *--------------------
+        final var scaled = PathFlattener.flatten( "M0,0 A1,1 0 0 1 100,0", 0.1 );
+        for( var i = 0; i < scaled.getPointCount(); ++i )
+        {
+            assertEquals( 50.0, hypot( scaled.getX( i ) - 50.0, scaled.getY( i ) ), 1.0e-9 );
+        }
+
+        //---* A radius of 0 results in a straight line *----------------------
+        final var line = PathFlattener.flatten( "M0,0 A0,5 0 0 1 100,0", 0.1 );
+        assertArrayEquals( new double [] {0.0, 0.0, 100.0, 0.0}, line.toArray() );
+
+        //---* A larger tolerance gives less points *--------------------------
+        assertTrue( PathFlattener.flatten( "M100,50 A50,50 0 0 1 0,50", 1.0 ).getPointCount() < candidate.getPointCount() );
+    }   //  testArc()
+
+    /**
+     *  Tests the flattening of B&eacute;zier curves.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCurves() throws Exception
+    {
+        skipThreadTest();
+
+        final var tolerance = 0.05;
+        final var candidate = PathFlattener.flatten( "M0,0 C0,100 100,100 100,0", tolerance );
+        assertTrue( candidate.getPointCount() > 4 );
+        assertEquals( 100.0, candidate.getX( candidate.getPointCount() - 1 ) );
+        for( var i = 0; i <= 1000; ++i )
+        {
+            final var t = i / 1000.0;
+            final var s = 1 - t;
+            final var x = 3 * s * t * t * 100 + t * t * t * 100;
+            final var y = 3 * s * s * t * 100 + 3 * s * t * t * 100;
+            assertTrue( distance( candidate, x, y ) <= tolerance, "Tolerance exceeded at t = %f".formatted( t ) );
+        }
+
+        //---* A straight curve results in a single segment *------------------
+        final var straight = PathFlattener.flatten( "M0,0 C10,0 20,0 30,0 Q40,0 50,0", tolerance );
+        assertArrayEquals( new double [] {0.0, 0.0, 30.0, 0.0, 50.0, 0.0}, straight.toArray() );
+
+        final var quadratic = PathFlattener.flatten( "M0,0 Q50,100 100,0", tolerance );
+        for( var i = 0; i <= 1000; ++i )
+        {
+            final var t = i / 1000.0;
+            final var s = 1 - t;
+            final var x = 2 * s * t * 50 + t * t * 100;
+            final var y = 2 * s * t * 100;
+            assertTrue( distance( quadratic, x, y ) <= tolerance, "Tolerance exceeded at t = %f".formatted( t ) );
+        }
+    }   //  testCurves()
+
+    /**
+     *  Tests the constructor and the handling of sub paths.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testFlattener() throws Exception
+    {
+        skipThreadTest();
+
+        final var buffer = new PolylineBuffer();
+        assertThrows( NullArgumentException.class, () -> new PathFlattener( 1.0, null ) );
+        assertThrows( IllegalArgumentException.class, () -> new PathFlattener( 0.0, buffer ) );
+        assertThrows( IllegalArgumentException.class, () -> new PathFlattener( -1.0, buffer ) );
+        assertThrows( IllegalArgumentException.class, () -> new PathFlattener( Double.NaN, buffer ) );
+        assertThrows( IllegalArgumentException.class, () -> new PathFlattener( Double.POSITIVE_INFINITY, buffer ) );
+
+        final var candidate = new PathFlattener( 0.5, buffer );
+        assertEquals( 0.5, candidate.getTolerance() );
+        PathDataParser.parse( "M0,0 H10 V10 Z l5,5 M20,20 L30,30", candidate );
+        assertEquals( 3, buffer.getSubpathCount() );
+        assertTrue( buffer.isClosed( 0 ) );
+        assertArrayEquals( new double [] {0.0, 0.0, 10.0, 0.0, 10.0, 10.0}, buffer.toArray( 0 ) );
+
+        //---* After closing, the path continues at the start point *----------
+        assertArrayEquals( new double [] {0.0, 0.0, 5.0, 5.0}, buffer.toArray( 1 ) );
+        assertArrayEquals( new double [] {20.0, 20.0, 30.0, 30.0}, buffer.toArray( 2 ) );
+    }   //  testFlattener()
+}
+//  class TestPathFlattener
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,158 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link PathWriter}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestPathWriter.java 1177 2026-10-18 22:41:37Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestPathWriter.java 1177 2026-10-18 22:41:37Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestPathWriter" )
+public class TestPathWriter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for
+     *  {@link PathWriter#appendNumber(StringBuilder, double, int)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testAppendNumber() throws Exception
+    {
+        skipThreadTest();
+
+        final var buffer = new StringBuilder();
+        final String [][] data =
+        {
+            {"1.23456", "2", "1.23"},
+            {"1.005", "1", "1"},
+            {"-0.001", "2", "0"},
+            {"-0.006", "2", "-0.01"},
+            {"12.5", "0", "13"},
+            {"10.0", "3", "10"},
+            {"0.0405", "3", "0.041"},
+            {"1e20", "2", "1.0E20"}
+        };
+        for( final var entry : data )
+        {
+            buffer.setLength( 0 );
+            PathWriter.appendNumber( buffer, Double.parseDouble( entry [0] ), Integer.parseInt( entry [1] ) );
+            assertEquals( entry [2], buffer.toString(), entry [0] );
+        }
+    }   //  testAppendNumber()
+
+    /**
+     *  Some tests for the class
+     *  {@link PathWriter}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPathWriter() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( IllegalArgumentException.class, () -> new PathWriter( -1 ) );
+        assertThrows( IllegalArgumentException.class, () -> new PathWriter( PathWriter.MAX_PRECISION + 1 ) );
+
+        var candidate = new PathWriter( 1 );
+        PathDataParser.parse( "m1.04,2 l3,0 0,3 z M0,0 c1,1 2,2 3.333,3 s1,1 2,2 q1,1 2,2 a5,5 0 1 0 10,0", candidate );
+        assertEquals( "M1,2 L4,2 4,5 Z M0,0 C1,1,2,2,3.3,3 4.7,4,4.3,4,5.3,5 Q6.3,6,7.3,7 A5,5,0,1,0,17.3,7", candidate.toString() );
+
+        final var polyline = new PolylineBuffer();
+        polyline.moveTo( 0, 0 );
+        polyline.lineTo( 1, 0 );
+        polyline.closeSubpath();
+        candidate = new PathWriter( 0 );
+        candidate.writePolyline( polyline );
+        assertEquals( "M0,0 L1,0 Z", candidate.toString() );
+    }   //  testPathWriter()
+
+    /**
+     *  Tests the parallel formatting of
+     *  {@link PathWriter#writePolyline(PolylineBuffer)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWritePolylineParallel() throws Exception
+    {
+        skipThreadTest();
+
+        final var polyline = new PolylineBuffer();
+        for( var i = 0; i < 1_000; ++i )
+        {
+            switch( i % 9 )
+            {
+                case 0, 4 -> polyline.moveTo( i / 3.0, i );
+                case 3, 8 ->
+                {
+                    polyline.lineTo( i, i / 7.0 );
+                    if( i % 2 == 0 ) polyline.closeSubpath();
+                }
+                default -> polyline.lineTo( i, i / 7.0 );
+            }
+        }
+
+        var candidate = new PathWriter( 2 );
+        candidate.moveTo( 0, 0 );
+        candidate.lineTo( 1, 1 );
+        candidate.writePolyline( polyline );
+        final var expected = candidate.toString();
+        for( final var chunkSize : new int [] {1, 2, 3, 4, 5, 9, 64, 999, 1_000} )
+        {
+            candidate = new PathWriter( 2 );
+            candidate.moveTo( 0, 0 );
+            candidate.lineTo( 1, 1 );
+            candidate.writePolyline( polyline, chunkSize );
+            assertEquals( expected, candidate.toString(), Integer.toString( chunkSize ) );
+        }
+
+        final var small = new PolylineBuffer();
+        small.moveTo( 0, 0 );
+        small.lineTo( 1, 0 );
+        small.lineTo( 1, 1 );
+        small.closeSubpath();
+        small.moveTo( 2, 2 );
+        small.lineTo( 3, 3 );
+        small.lineTo( 4, 3 );
+        candidate = new PathWriter( 0 );
+        candidate.writePolyline( small, 1 );
+        assertEquals( "M0,0 L1,0 1,1 Z M2,2 L3,3 4,3", candidate.toString() );
+    }   //  testWritePolylineParallel()
+}
+//  class TestPathWriter
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,132 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link PolylineBuffer}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestPolylineBuffer.java 1170 2026-10-18 09:12:44Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestPolylineBuffer.java 1170 2026-10-18 09:12:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestPolylineBuffer" )
+public class TestPolylineBuffer extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the class
+     *  {@link PolylineBuffer}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPolylineBuffer() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( IllegalArgumentException.class, () -> new PolylineBuffer( -1 ) );
+
+        final var candidate = new PolylineBuffer( 1 );
+        assertTrue( candidate.isEmpty() );
+        assertEquals( 0, candidate.getSubpathCount() );
+        assertThrows( IndexOutOfBoundsException.class, () -> candidate.getX( 0 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> candidate.getSubpathStart( 0 ) );
+
+        //---* lineTo() without moveTo() starts a sub path *-------------------
+        candidate.lineTo( 1.0, 2.0 );
+        candidate.lineTo( 3.0, 4.0 );
+        candidate.lineTo( 3.0, 4.0 );
+        candidate.closeSubpath();
+        candidate.moveTo( 3.0, 4.0 );
+        for( var i = 0; i < 100; ++i ) candidate.lineTo( i, -i );
+
+        assertFalse( candidate.isEmpty() );
+        assertEquals( 103, candidate.getPointCount() );
+        assertEquals( 2, candidate.getSubpathCount() );
+        assertEquals( 0, candidate.getSubpathStart( 0 ) );
+        assertEquals( 2, candidate.getSubpathEnd( 0 ) );
+        assertEquals( 2, candidate.getSubpathStart( 1 ) );
+        assertEquals( 103, candidate.getSubpathEnd( 1 ) );
+        assertTrue( candidate.isClosed( 0 ) );
+        assertFalse( candidate.isClosed( 1 ) );
+        assertEquals( 3.0, candidate.getX( 1 ) );
+        assertEquals( 4.0, candidate.getY( 1 ) );
+        assertEquals( 99.0, candidate.getX( 102 ) );
+        assertEquals( -99.0, candidate.getY( 102 ) );
+        assertArrayEquals( new double [] {1.0, 2.0, 3.0, 4.0}, candidate.toArray( 0 ) );
+        assertEquals( 206, candidate.toArray().length );
+
+        candidate.clear();
+        assertTrue( candidate.isEmpty() );
+        assertEquals( 0, candidate.getSubpathCount() );
+        assertEquals( 0, candidate.toArray().length );
+    }   //  testPolylineBuffer()
+
+    /**
+     *  Some tests for
+     *  {@link PolylineBuffer#simplify(double)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSimplify() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new PolylineBuffer();
+        assertThrows( IllegalArgumentException.class, () -> candidate.simplify( -1 ) );
+
+        //---* A nearly straight line with one spike *-------------------------
+        candidate.moveTo( 0, 0 );
+        for( var i = 1; i <= 100; ++i ) candidate.lineTo( i, (i % 2) * 0.01 + (i == 50 ? 10 : 0) );
+        candidate.moveTo( 0, 0 );
+        candidate.lineTo( 10, 0 );
+        candidate.lineTo( 10, 10 );
+        candidate.lineTo( 0, 10 );
+        candidate.closeSubpath();
+
+        final var simplified = candidate.simplify( 0.1 );
+        assertEquals( 2, simplified.getSubpathCount() );
+        assertArrayEquals( new double [] {0.0, 0.0, 49.0, 0.01, 50.0, 10.0, 51.0, 0.01, 100.0, 0.0}, simplified.toArray( 0 ) );
+        assertEquals( 4, simplified.getSubpathEnd( 1 ) - simplified.getSubpathStart( 1 ) );
+        assertTrue( simplified.isClosed( 1 ) );
+
+        //---* A tolerance of 0 keeps everything that is not collinear *-------
+        assertEquals( candidate.getPointCount(), candidate.simplify( 0 ).getPointCount() );
+    }   //  testSimplify()
+}
+//  class TestPolylineBuffer
+
+/*
+ *  End of File
+ */
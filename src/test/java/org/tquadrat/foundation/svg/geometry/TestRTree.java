@@ -0,0 +1,152 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link RTree}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestRTree.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestRTree.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestRTree" )
+public class TestRTree extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Determines the expected result of a window query by a linear scan.
+     *
+     *  @param  boxes   The bounding boxes.
+     *  @param  window  The window.
+     *  @return The indexes of the matching bounding boxes.
+     */
+    private static TreeSet<Integer> scan( final double [] boxes, final BoundingBox window )
+    {
+        final var retValue = new TreeSet<Integer>();
+        for( var i = 0; i < boxes.length / 4; ++i )
+        {
+            if( window.intersects( boxes [i * 4], boxes [i * 4 + 1], boxes [i * 4 + 2], boxes [i * 4 + 3] ) ) retValue.add( i );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  scan()
+
+    /**
+     *  Compares the results of window queries on a bulk loaded and an
+     *  incrementally built tree with those of a linear scan.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testQueries() throws Exception
+    {
+        skipThreadTest();
+
+        final var random = new Random( 4711 );
+        final var count = 2_000;
+        final var boxes = new double [count * 4];
+        final List<Integer> values = new ArrayList<>( count );
+        final var incremental = new RTree<Integer>( 4 );
+        for( var i = 0; i < count; ++i )
+        {
+            final var x = random.nextDouble() * 1000;
+            final var y = random.nextDouble() * 1000;
+            boxes [i * 4] = x;
+            boxes [i * 4 + 1] = y;
+            boxes [i * 4 + 2] = x + random.nextDouble() * 20;
+            boxes [i * 4 + 3] = y + random.nextDouble() * 20;
+            values.add( i );
+            incremental.insert( boxes [i * 4], boxes [i * 4 + 1], boxes [i * 4 + 2], boxes [i * 4 + 3], i );
+        }
+        final var bulk = RTree.bulkLoad( boxes, values, 8 );
+
+        assertEquals( count, bulk.size() );
+        assertEquals( count, incremental.size() );
+        assertEquals( bulk.getBounds().orElseThrow(), incremental.getBounds().orElseThrow() );
+        assertTrue( bulk.getHeight() <= incremental.getHeight() );
+
+        for( var i = 0; i < 100; ++i )
+        {
+            final var x = random.nextDouble() * 1000;
+            final var y = random.nextDouble() * 1000;
+            final var window = new BoundingBox( x, y, x + random.nextDouble() * 100, y + random.nextDouble() * 100 );
+            final var expected = scan( boxes, window );
+            assertEquals( expected, new TreeSet<>( bulk.search( window ) ) );
+            assertEquals( expected, new TreeSet<>( incremental.search( window ) ) );
+        }
+
+        //---* Points and the count of the callback variant *------------------
+        final var window = new BoundingBox( boxes [0], boxes [1], boxes [0], boxes [1] );
+        assertTrue( bulk.search( boxes [0], boxes [1] ).contains( 0 ) );
+        assertEquals( scan( boxes, window ).size(), bulk.search( boxes [0], boxes [1], boxes [0], boxes [1], ignored -> {} ) );
+    }   //  testQueries()
+
+    /**
+     *  Some tests for the class
+     *  {@link RTree}
+     *  with invalid arguments and with empty trees.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRTree() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( IllegalArgumentException.class, () -> new RTree<String>( 3 ) );
+        assertThrows( IllegalArgumentException.class, () -> RTree.bulkLoad( new double [3], List.of( "a" ), 8 ) );
+
+        final var candidate = new RTree<String>();
+        assertTrue( candidate.isEmpty() );
+        assertTrue( candidate.getBounds().isEmpty() );
+        assertTrue( candidate.search( 0, 0 ).isEmpty() );
+
+        candidate.insert( new BoundingBox( 0, 0, 1, 1 ), "a" );
+        candidate.insert( new BoundingBox( 5, 5, 6, 6 ), "b" );
+        assertEquals( List.of( "b" ), candidate.search( 5.5, 5.5 ) );
+        assertEquals( new BoundingBox( 0, 0, 6, 6 ), candidate.getBounds().orElseThrow() );
+
+        candidate.clear();
+        assertEquals( 0, candidate.size() );
+        assertTrue( RTree.bulkLoad( new double [0], List.of(), 8 ).isEmpty() );
+    }   //  testRTree()
+}
+//  class TestRTree
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,181 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGELEMENT_Path;
+import static org.tquadrat.foundation.svg.SVGUtils.createLine;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.lineToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.type.SVGPaint.PAINT_NONE;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link RectangleClipper}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestRectangleClipper.java 1174 2026-10-18 17:48:03Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestRectangleClipper.java 1174 2026-10-18 17:48:03Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestRectangleClipper" )
+public class TestRectangleClipper extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the clipping of shapes.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClipShape() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var window = new BoundingBox( 0, 0, 10, 10 );
+
+        //---* A filled path *-------------------------------------------------
+        final var path = createPath( svg, moveToAbs( -10, -10 ), lineToAbs( 5, -10 ), lineToAbs( 5, 5 ), lineToAbs( -10, 5 ) );
+        path.setId( "path" );
+        final var before = path.toString();
+        final var clipped = RectangleClipper.clip( path, window, 3 ).orElseThrow();
+        assertEquals( before, path.toString() );
+        assertEquals( SVGELEMENT_Path, clipped.getElementName() );
+        assertEquals( "M5,0 L5,5 0,5 0,0 Z", clipped.getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+        assertEquals( "path", clipped.getAttribute( "id" ).orElseThrow() );
+
+        //---* The same path, not filled *-------------------------------------
+        path.setFill( PAINT_NONE );
+        assertEquals( "M5,0 L5,5 0,5", RectangleClipper.clip( path, window, 3 ).orElseThrow().getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+
+        //---* A line becomes a path *-----------------------------------------
+        final var line = createLine( svg, number( -5 ), number( 5 ), number( 15 ), number( 5 ) );
+        final var clippedLine = RectangleClipper.clip( line, window, 3 ).orElseThrow();
+        assertEquals( SVGELEMENT_Path, clippedLine.getElementName() );
+        assertEquals( "M0,5 L10,5", clippedLine.getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+        assertTrue( RectangleClipper.clip( line, new BoundingBox( 20, 20, 30, 30 ), 3 ).isEmpty() );
+
+        //---* Other shapes are not clipped *----------------------------------
+        final var rectangle = createRectangle( svg, number( 5 ), number( 5 ), number( 10 ), number( 10 ) );
+        assertSame( rectangle, RectangleClipper.clip( rectangle, window, 3 ).orElseThrow() );
+
+        //---* A path definition *---------------------------------------------
+        assertEquals( "M0,5 L10,5", RectangleClipper.clip( "M-5,5 h20", window, false, 3 ) );
+    }   //  testClipShape()
+
+    /**
+     *  Tests the clipping of closed polygons.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClipPolygon() throws Exception
+    {
+        skipThreadTest();
+
+        final var window = new BoundingBox( 0, 0, 10, 10 );
+        final var polygon = new PolylineBuffer();
+        polygon.moveTo( -5, -5 );
+        polygon.lineTo( 5, -5 );
+        polygon.lineTo( 5, 5 );
+        polygon.lineTo( -5, 5 );
+        polygon.closeSubpath();
+
+        final var candidate = RectangleClipper.clip( polygon, window );
+        assertEquals( 1, candidate.getSubpathCount() );
+        assertTrue( candidate.isClosed( 0 ) );
+        var minX = Double.POSITIVE_INFINITY;
+        var minY = Double.POSITIVE_INFINITY;
+        var maxX = Double.NEGATIVE_INFINITY;
+        var maxY = Double.NEGATIVE_INFINITY;
+        for( var i = 0; i < candidate.getPointCount(); ++i )
+        {
+            minX = Math.min( minX, candidate.getX( i ) );
+            minY = Math.min( minY, candidate.getY( i ) );
+            maxX = Math.max( maxX, candidate.getX( i ) );
+            maxY = Math.max( maxY, candidate.getY( i ) );
+        }
+        assertEquals( new BoundingBox( 0, 0, 5, 5 ), new BoundingBox( minX, minY, maxX, maxY ) );
+
+        //---* A polygon outside the window vanishes *-------------------------
+        final var outside = new PolylineBuffer();
+        outside.moveTo( 20, 20 );
+        outside.lineTo( 30, 20 );
+        outside.lineTo( 30, 30 );
+        outside.closeSubpath();
+        assertTrue( RectangleClipper.clip( outside, window ).isEmpty() );
+    }   //  testClipPolygon()
+
+    /**
+     *  Tests the clipping of open polylines.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClipPolyline() throws Exception
+    {
+        skipThreadTest();
+
+        final var window = new BoundingBox( 0, 0, 10, 10 );
+
+        //---* A line that leaves and re-enters the window is split *----------
+        final var polyline = new PolylineBuffer();
+        polyline.moveTo( 2, 5 );
+        polyline.lineTo( 2, 20 );
+        polyline.lineTo( 8, 20 );
+        polyline.lineTo( 8, 5 );
+
+        final var candidate = RectangleClipper.clip( polyline, window );
+        assertEquals( 2, candidate.getSubpathCount() );
+        assertFalse( candidate.isClosed( 0 ) );
+        assertEquals( 10.0, candidate.getY( candidate.getSubpathEnd( 0 ) - 1 ), 1.0e-9 );
+        assertEquals( 8.0, candidate.getX( candidate.getSubpathStart( 1 ) ), 1.0e-9 );
+        assertEquals( 10.0, candidate.getY( candidate.getSubpathStart( 1 ) ), 1.0e-9 );
+
+        //---* A line that crosses the window *--------------------------------
+        final var crossing = new PolylineBuffer();
+        crossing.moveTo( -10, 5 );
+        crossing.lineTo( 20, 5 );
+        final var clipped = RectangleClipper.clip( crossing, window );
+        assertEquals( 2, clipped.getPointCount() );
+        assertEquals( 0.0, clipped.getX( 0 ), 1.0e-9 );
+        assertEquals( 10.0, clipped.getX( 1 ), 1.0e-9 );
+    }   //  testClipPolyline()
+}
+//  class TestRectangleClipper
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,136 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createLine;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.lineTo;
+import static org.tquadrat.foundation.svg.SVGUtils.moveTo;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.scale;
+import static org.tquadrat.foundation.svg.SVGUtils.translate;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the classes
+ *  {@link SVGSpatialIndex}
+ *  and
+ *  {@link ElementBounds}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGSpatialIndex.java 1171 2026-10-18 11:37:05Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestSVGSpatialIndex" )
+public class TestSVGSpatialIndex extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the class
+     *  {@link ElementBounds}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testElementBounds() throws Exception
+    {
+        skipThreadTest();
+
+        final var rectangle = createRectangle( number( 10 ), number( 20 ), number( 30 ), number( 40 ) );
+        assertEquals( new BoundingBox( 10, 20, 40, 60 ), ElementBounds.getBoundingBox( rectangle ).orElseThrow() );
+        rectangle.setTransform( translate( 5, 5 ) );
+        assertEquals( new BoundingBox( 10, 20, 40, 60 ), ElementBounds.getGeometryBounds( rectangle ).orElseThrow() );
+        assertEquals( new BoundingBox( 15, 25, 45, 65 ), ElementBounds.getBoundingBox( rectangle ).orElseThrow() );
+
+        final var line = createLine( number( 0 ), number( 10 ), number( 20 ), number( 10 ) );
+        assertEquals( new BoundingBox( 0, 10, 20, 10 ), ElementBounds.getBoundingBox( line ).orElseThrow() );
+
+        //---* The curve does not reach its control points *-------------------
+        final var curve = ElementBounds.getPathBounds( "M0,0 Q50,100 100,0" ).orElseThrow();
+        assertEquals( 0.0, curve.getMinX(), 1.0e-9 );
+        assertEquals( 100.0, curve.getMaxX(), 1.0e-9 );
+        assertEquals( 50.0, curve.getMaxY(), 1.0e-9 );
+
+        assertEquals( new BoundingBox( 1, 2, 5, 6 ), ElementBounds.getPointsBounds( "1,2 5,6 3,4" ).orElseThrow() );
+        assertTrue( ElementBounds.getPathBounds( "" ).isEmpty() );
+        assertTrue( ElementBounds.getBoundingBox( createRectangle() ).isEmpty() );
+
+        assertEquals( 96.0, ElementBounds.parseLength( "1in" ), 1.0e-9 );
+        assertEquals( 12.5, ElementBounds.parseLength( "12.5" ), 1.0e-9 );
+        assertThrows( IllegalArgumentException.class, () -> ElementBounds.parseLength( "10%" ) );
+    }   //  testElementBounds()
+
+    /**
+     *  Some tests for the class
+     *  {@link SVGSpatialIndex}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSpatialIndex() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var first = createRectangle( svg, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        final var group = createGroup( svg );
+        group.setTransform( translate( 100, 100 ), scale( 2 ) );
+        final var second = createRectangle( group, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        final var path = createPath( group, moveTo( 50, 50 ), lineTo( 60, 60 ) );
+
+        final var candidate = SVGSpatialIndex.build( svg );
+        assertEquals( 3, candidate.size() );
+        assertEquals( List.of( first ), candidate.findAt( 5, 5 ) );
+        assertEquals( List.of( second ), candidate.findAt( 115, 115 ) );
+        assertTrue( candidate.findAt( 50, 50 ).isEmpty() );
+        assertEquals( List.of( path ), candidate.findAt( 210, 210 ) );
+        assertEquals( Set.of( first, second ), Set.copyOf( candidate.findIntersecting( 5, 5, 105, 105 ) ) );
+        assertEquals( new BoundingBox( 0, 0, 320, 320 ), candidate.getBounds().orElseThrow() );
+
+        //---* Add elements later *--------------------------------------------
+        final var third = createRectangle( group, number( 20 ), number( 0 ), number( 5 ), number( 5 ) );
+        candidate.add( group, third );
+        assertEquals( 4, candidate.size() );
+        assertEquals( List.of( third ), candidate.findAt( 145, 105 ) );
+
+        final var foreignGroup = createGroup();
+        assertThrows( IllegalArgumentException.class, () -> candidate.add( foreignGroup, createRectangle() ) );
+    }   //  testSpatialIndex()
+}
+//  class TestSVGSpatialIndex
+
+/*
+ *  End of File
+ */
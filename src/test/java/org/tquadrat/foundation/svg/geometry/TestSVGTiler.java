@@ -0,0 +1,125 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.lineToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.type.SVGPaint.PAINT_NONE;
+
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGTiler}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGTiler.java 1205 2026-10-20 10:52:31Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestSVGTiler" )
+public class TestSVGTiler extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the class
+     *  {@link SVGTiler}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testTile() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        svg.setViewBox( number( 0 ), number( 0 ), number( 1024 ), number( 512 ) );
+        createRectangle( svg, number( 10 ), number( 10 ), number( 10 ), number( 10 ) ).setClass( "topLeft" );
+        createRectangle( svg, number( 900 ), number( 400 ), number( 10 ), number( 10 ) ).setClass( "bottomRight" );
+        final var line = createPath( svg, moveToAbs( 100, 100 ), lineToAbs( 1000, 100 ) );
+        line.setFill( PAINT_NONE );
+        final var referenced = createPath( svg, moveToAbs( 100, 300 ), lineToAbs( 1000, 300 ) );
+        referenced.setId( "referenced" );
+        referenced.setFill( PAINT_NONE );
+
+        final var tiler = new SVGTiler( svg, 256 );
+        assertEquals( 1, tiler.getColumns( 0 ) );
+        assertEquals( 1, tiler.getRows( 0 ) );
+        assertEquals( 2, tiler.getColumns( 1 ) );
+        assertEquals( 1, tiler.getRows( 1 ) );
+        assertEquals( 4, tiler.getColumns( 2 ) );
+        assertEquals( 2, tiler.getRows( 2 ) );
+        assertEquals( new BoundingBox( 256, 256, 512, 512 ), tiler.getTileBounds( 2, 1, 1 ) );
+        assertThrows( IllegalArgumentException.class, () -> tiler.getTileBounds( 2, 4, 0 ) );
+
+        final Map<String,String> tiles = new ConcurrentHashMap<>();
+        final var before = svg.toString();
+        tiler.tile( 0, 2, ( zoom, x, y, document ) -> tiles.put( "%d/%d/%d".formatted( zoom, x, y ), document ) );
+        assertEquals( before, svg.toString() );
+        assertEquals( 1 + 2 + 8, tiles.size() );
+
+        final var first = tiles.get( "2/0/0" );
+        assertTrue( first.contains( "topLeft" ) );
+        assertFalse( first.contains( "bottomRight" ) );
+        assertTrue( first.contains( "M100,100" ), first );
+        assertTrue( first.contains( "0.0 0.0 256.0 256.0" ) );
+
+        final var last = tiles.get( "2/3/1" );
+        assertTrue( last.contains( "bottomRight" ) );
+        assertFalse( last.contains( "topLeft" ) );
+        assertFalse( last.contains( ",100" ), last );
+
+        //---* Elements with an id are kept unchanged in each tile *----------
+        for( final var tile : tiles.values() ) assertTrue( tile.contains( "referenced" ) );
+        assertTrue( tiler.createTile( 2, 1, 1 ).toString().contains( referenced.getAttribute( "d" ).orElseThrow() ) );
+
+        //---* The line was clipped to the window plus margin *----------------
+        final var middle = tiler.createTile( 2, 1, 0 ).toString();
+        assertTrue( middle.contains( "M248,100 L520,100" ), middle );
+
+        //---* Output to a directory *-----------------------------------------
+        final var directory = Files.createTempDirectory( "tiles" );
+        tiler.tile( 1, 1, directory );
+        assertTrue( Files.isRegularFile( directory.resolve( "1/0/0.svg" ) ) );
+        assertTrue( Files.isRegularFile( directory.resolve( "1/1/0.svg" ) ) );
+        assertFalse( Files.exists( directory.resolve( "1/0/1.svg" ) ) );
+    }   //  testTile()
+}
+//  class TestSVGTiler
+
+/*
+ *  End of File
+ */
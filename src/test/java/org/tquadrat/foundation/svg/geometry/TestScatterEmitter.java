@@ -0,0 +1,152 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_PathDefinition;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.geometry.ScatterEmitter.Encoding;
+import org.tquadrat.foundation.svg.geometry.ScatterEmitter.Marker;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+
+/**
+ *  Some tests for the class
+ *  {@link ScatterEmitter}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestScatterEmitter.java 1182 2026-10-19 03:51:09Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestScatterEmitter" )
+public class TestScatterEmitter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates random coordinates.
+     *
+     *  @param  count   The number of points.
+     *  @return The coordinates.
+     */
+    private static final double [] coordinates( final int count )
+    {
+        final var random = new Random( 4711 );
+        final var retValue = new double [count * 2];
+        for( var i = 0; i < retValue.length; ++i ) retValue [i] = random.nextDouble() * 1000;
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  coordinates()
+
+    /**
+     *  Tests the method
+     *  {@link ScatterEmitter#emit(org.tquadrat.foundation.svg.SVGElementWithChildren, double[], int[], java.util.function.IntFunction, Encoding)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEmit() throws Exception
+    {
+        skipThreadTest();
+
+        final var coordinates = new double [] {10, 20, 30.5, 40, 50, 60};
+        final var styles = new int [] {1, 0, 1};
+        final var candidate = new ScatterEmitter( Marker.SQUARE, 2 );
+
+        var parent = createGroup();
+        var emission = candidate.emit( parent, coordinates, styles, ignored -> color( "red" ), Encoding.PATH );
+        assertEquals( Encoding.PATH, emission.getEncoding() );
+        assertEquals( 3, emission.getPointCount() );
+        assertEquals( 2, parent.getChildren().size() );
+        var path = (XMLElement) List.copyOf( parent.getChildren() ).get( 1 );
+        assertEquals( "M9,19h2v2h-2zm40,40h2v2h-2z", path.getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+        path = (XMLElement) List.copyOf( parent.getChildren() ).get( 0 );
+        assertEquals( "M29.5,39h2v2h-2z", path.getAttribute( SVGATTRIBUTE_PathDefinition ).orElseThrow() );
+
+        parent = createGroup();
+        emission = candidate.emit( parent, coordinates, styles, ignored -> color( "red" ), Encoding.ELEMENTS );
+        assertEquals( Encoding.ELEMENTS, emission.getEncoding() );
+        assertEquals( 2, parent.getChildren().size() );
+        assertEquals( 2, List.copyOf( parent.getChildren() ).get( 1 ).getChildren().size() );
+
+        parent = createGroup();
+        emission = candidate.emit( parent, coordinates, styles, ignored -> color( "red" ), Encoding.USE );
+        assertEquals( Encoding.USE, emission.getEncoding() );
+        assertEquals( 3, parent.getChildren().size() );
+        assertTrue( parent.toString( 0, false ).contains( "scatter-square" ) );
+
+        parent = createGroup();
+        emission = candidate.emit( parent, coordinates, new int [] {-1, -1, -1}, ignored -> color( "red" ), null );
+        assertEquals( 0, emission.getPointCount() );
+        assertTrue( parent.getChildren().isEmpty() );
+
+        assertThrows( IllegalArgumentException.class, () -> candidate.emit( createGroup(), new double [3] ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.emit( createGroup(), coordinates, new int [2], ignored -> color( "red" ) ) );
+        assertThrows( IllegalArgumentException.class, () -> new ScatterEmitter( Marker.CIRCLE, 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.setPrecision( -1 ) );
+    }   //  testEmit()
+
+    /**
+     *  Tests that the emitter chooses the encoding with the smallest
+     *  output, and that the estimation is close to the actual size.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testEstimate() throws Exception
+    {
+        skipThreadTest();
+
+        final var coordinates = coordinates( 2000 );
+        for( final var marker : Marker.values() )
+        {
+            final var candidate = new ScatterEmitter( marker, 3 );
+            final var estimation = candidate.estimate( coordinates, null );
+            for( final var encoding : Encoding.values() )
+            {
+                assertTrue( estimation.getEstimatedSize() <= estimation.getEstimatedSize( encoding ) );
+
+                final var parent = createGroup();
+                candidate.emit( parent, coordinates, null, null, encoding );
+                var actual = 0L;
+                for( final var child : parent.getChildren() ) actual += child.toString( 0, false ).length();
+                final var estimated = estimation.getEstimatedSize( encoding );
+                assertTrue( Math.abs( actual - estimated ) < actual / 20, "%s/%s: %d <-> %d".formatted( marker, encoding, actual, estimated ) );
+            }
+            if( marker == Marker.SQUARE ) assertEquals( Encoding.PATH, estimation.getEncoding() );
+        }
+    }   //  testEstimate()
+}
+//  class TestScatterEmitter
+
+/*
+ *  End of File
+ */
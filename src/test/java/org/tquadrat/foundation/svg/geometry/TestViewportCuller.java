@@ -0,0 +1,147 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.geometry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_ViewBox;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.translate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link ViewportCuller}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestViewportCuller.java 1204 2026-10-20 10:18:06Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestViewportCuller.java 1204 2026-10-20 10:18:06Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.geometry.TestViewportCuller" )
+public class TestViewportCuller extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Some tests for the class
+     *  {@link ViewportCuller}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCull() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        svg.setViewBox( number( 0 ), number( 0 ), number( 100 ), number( 100 ) );
+        assertEquals( new BoundingBox( 0, 0, 100, 100 ), ViewportCuller.getViewBox( svg ).orElseThrow() );
+
+        final var inside = createRectangle( svg, number( 10 ), number( 10 ), number( 10 ), number( 10 ) );
+        inside.setId( "inside" );
+        final var visibleGroup = createGroup( svg );
+        visibleGroup.setClass( "visibleGroup" );
+        createRectangle( visibleGroup, number( 50 ), number( 50 ), number( 10 ), number( 10 ) ).setClass( "shown" );
+        createRectangle( visibleGroup, number( 500 ), number( 50 ), number( 10 ), number( 10 ) ).setClass( "hidden1" );
+        final var movedGroup = createGroup( svg );
+        movedGroup.setClass( "movedGroup" );
+        movedGroup.setTransform( translate( 200, 0 ) );
+        createRectangle( movedGroup, number( 0 ), number( 0 ), number( 10 ), number( 10 ) ).setClass( "hidden2" );
+
+        //---* Elements with an id may be referenced from inside *-------------
+        createRectangle( svg, number( 500 ), number( 500 ), number( 10 ), number( 10 ) ).setId( "far" );
+        final var referencedGroup = createGroup( svg );
+        referencedGroup.setId( "referencedGroup" );
+        createRectangle( referencedGroup, number( 50 ), number( 50 ), number( 10 ), number( 10 ) ).setClass( "referencedShown" );
+        createRectangle( referencedGroup, number( 500 ), number( 50 ), number( 10 ), number( 10 ) ).setClass( "referencedHidden" );
+
+        //---* Nothing is modified in the original *---------------------------
+        final var before = svg.toString();
+        final var candidate = ViewportCuller.cull( svg ).toString();
+        assertEquals( before, svg.toString() );
+
+        assertTrue( candidate.contains( "inside" ) );
+        assertTrue( candidate.contains( "visibleGroup" ) );
+        assertTrue( candidate.contains( "shown" ) );
+        assertFalse( candidate.contains( "hidden1" ) );
+        assertFalse( candidate.contains( "hidden2" ) );
+        assertFalse( candidate.contains( "movedGroup" ) );
+        assertTrue( candidate.contains( "far" ) );
+        assertTrue( candidate.contains( "referencedGroup" ) );
+        assertTrue( candidate.contains( "referencedHidden" ) );
+
+        //---* A caller supplied window *--------------------------------------
+        final var moved = ViewportCuller.cull( svg, new BoundingBox( 200, 0, 300, 100 ) ).toString();
+        assertTrue( moved.contains( "hidden2" ) );
+        assertFalse( moved.contains( "hidden1" ) );
+        assertTrue( moved.contains( "inside" ) );
+        assertFalse( moved.contains( "visibleGroup" ) );
+
+        //---* Nothing to cull *-----------------------------------------------
+        assertSame( svg, ViewportCuller.cull( svg, new BoundingBox( -1000, -1000, 1000, 1000 ) ) );
+        final var noViewBox = createSVG( STANDALONE_DOCUMENT );
+        createRectangle( noViewBox, number( 500 ), number( 500 ), number( 10 ), number( 10 ) );
+        assertSame( noViewBox, ViewportCuller.cull( noViewBox ) );
+    }   //  testCull()
+
+    /**
+     *  Some tests for
+     *  {@link ViewportCuller#crop(org.tquadrat.foundation.svg.SVG, BoundingBox)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCrop() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        svg.setViewBox( number( 0 ), number( 0 ), number( 1000 ), number( 1000 ) );
+        createRectangle( svg, number( 10 ), number( 10 ), number( 10 ), number( 10 ) ).setClass( "first" );
+        createRectangle( svg, number( 510 ), number( 10 ), number( 10 ), number( 10 ) ).setClass( "second" );
+
+        final var window = new BoundingBox( 500, 0, 600, 100 );
+        final var candidate = ViewportCuller.crop( svg, window );
+        assertEquals( window, ViewportCuller.getViewBox( candidate ).orElseThrow() );
+        assertEquals( new BoundingBox( 0, 0, 1000, 1000 ), ViewportCuller.getViewBox( svg ).orElseThrow() );
+        assertTrue( candidate.toString().contains( "second" ) );
+        assertFalse( candidate.toString().contains( "first" ) );
+
+        //---* The root is copied even when nothing was removed *--------------
+        final var all = ViewportCuller.crop( svg, new BoundingBox( 0, 0, 2000, 2000 ) );
+        assertEquals( 2, all.getChildren().size() );
+        assertEquals( new BoundingBox( 0, 0, 1000, 1000 ), ViewportCuller.getViewBox( svg ).orElseThrow() );
+    }   //  testCrop()
+}
+//  class TestViewportCuller
+
+/*
+ *  End of File
+ */
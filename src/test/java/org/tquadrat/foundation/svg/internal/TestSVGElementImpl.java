@@ -18,13 +18,30 @@
 package org.tquadrat.foundation.svg.internal;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
 import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPolyline;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createSymbol;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
 import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.internal.SVGElementImpl.createUncachedOutput;
 
 import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,10 +58,10 @@ import org.tquadrat.foundation.svg.type.SVGColor;
  *  {@link org.tquadrat.foundation.svg.internal.SVGElementImpl}.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: TestSVGElementImpl.java 1076 2023-10-03 18:36:07Z tquadrat $
+ *  @version $Id: TestSVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $
  *  @since 0.0.5
  */
-@ClassVersion( sourceVersion = "$Id: TestSVGElementImpl.java 1076 2023-10-03 18:36:07Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: TestSVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $" )
 @DisplayName( "org.tquadrat.foundation.svg.internal.TestSVGElementImpl" )
 public class TestSVGElementImpl extends SVGTestBase
 {
@@ -55,10 +72,10 @@ public class TestSVGElementImpl extends SVGTestBase
      *  A dummy element just for testing.
      *
      *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
-     *  @version $Id: TestSVGElementImpl.java 1076 2023-10-03 18:36:07Z tquadrat $
+     *  @version $Id: TestSVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $
      *  @since 0.0.5
      */
-    @ClassVersion( sourceVersion = "$Id: TestSVGElementImpl.java 1076 2023-10-03 18:36:07Z tquadrat $" )
+    @ClassVersion( sourceVersion = "$Id: TestSVGElementImpl.java 1196 2026-10-19 20:44:19Z tquadrat $" )
     private static class SVGDummy extends SVGElementAdapter
     {
             /*--------------*\
@@ -88,6 +105,163 @@ public class TestSVGElementImpl extends SVGTestBase
         return retValue;
     }   //  createCandidate()
 
+    /**
+     *  Test for
+     *  {@link org.tquadrat.foundation.svg.SVGElement#freeze()}.
+     *
+     *  @throws Exception Something unexpected went wrong
+     */
+    @Test
+    final void testFreeze() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var group = createGroup( svg );
+        group.setFill( color( "red" ) );
+        final var rectangle = createRectangle( group, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        final var polyline = createPolyline( group, 0, 0, 10, 10 );
+        final var style = createStyle( "rect { stroke: blue; }" );
+        group.addChild( style );
+        final var expected = new String [] {group.toString( 1, true ), group.toString( 1, false ), svg.toString( 0, true )};
+        final var hash = group.getStructuralHash();
+
+        assertFalse( group.isFrozen() );
+        group.freeze();
+        assertTrue( group.isFrozen() );
+        assertTrue( rectangle.isFrozen() );
+        assertTrue( polyline.isFrozen() );
+        assertTrue( style.isFrozen() );
+        assertFalse( svg.isFrozen() );
+
+        //---* The output does not change *-----------------------------------
+        assertEquals( expected [0], group.toString( 1, true ) );
+        assertEquals( expected [1], group.toString( 1, false ) );
+        assertEquals( expected [2], svg.toString( 0, true ) );
+        assertEquals( hash, group.getStructuralHash() );
+        assertArrayEquals( expected [1].getBytes( UTF_8 ), ((SVGElementImpl) group).getFrozenOutput( 0, false ).orElseThrow() );
+        assertTrue( ((SVGElementImpl) rectangle).getFrozenOutput( 0, false ).isEmpty() );
+
+        //---* No modifications *---------------------------------------------
+        assertThrows( IllegalStateException.class, () -> group.setFill( color( "green" ) ) );
+        assertThrows( IllegalStateException.class, () -> rectangle.setFill( color( "green" ) ) );
+        assertThrows( IllegalStateException.class, () -> createRectangle( group ) );
+        assertThrows( IllegalStateException.class, () -> polyline.addPoint( 20, 0 ) );
+        assertThrows( IllegalStateException.class, polyline::clearPoints );
+        assertThrows( IllegalStateException.class, () -> style.addStyle( "circle { fill: none; }" ) );
+        assertEquals( expected [0], group.toString( 1, true ) );
+
+        //---* The frozen subtree can still be added elsewhere *---------------
+        group.freeze();
+        final var other = createGroup();
+        other.addChild( group );
+        assertTrue( other.toString( 0, false ).contains( expected [1] ) );
+        createRectangle( svg );
+        assertTrue( svg.toString( 0, true ).contains( expected [0] ) );
+    }   //  testFreeze()
+
+    /**
+     *  Test for
+     *  {@link org.tquadrat.foundation.svg.SVGElement#getStructuralHash()}.
+     *
+     *  @throws Exception Something unexpected went wrong
+     */
+    @Test
+    final void testGetStructuralHash() throws Exception
+    {
+        skipThreadTest();
+
+        //---* Same structure, attributes set in another order *---------------
+        final var group1 = createGroup();
+        group1.setFill( color( "red" ) );
+        group1.setStroke( color( "blue" ) );
+        final var rectangle1 = createRectangle( group1, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+
+        final var group2 = createGroup();
+        group2.setStroke( color( "blue" ) );
+        group2.setFill( color( "red" ) );
+        createRectangle( group2, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+
+        assertEquals( group1.getStructuralHash(), group2.getStructuralHash() );
+        assertNotEquals( group1.getStructuralHash(), rectangle1.getStructuralHash() );
+
+        //---* A modification of a child changes the hash of the parent *------
+        final var hash = group1.getStructuralHash();
+        rectangle1.setFill( color( "green" ) );
+        assertNotEquals( hash, group1.getStructuralHash() );
+        rectangle1.setFill( null );
+        assertEquals( hash, group1.getStructuralHash() );
+
+        //---* The order of the children matters *-----------------------------
+        final var group3 = createGroup();
+        createRectangle( group3, number( 0 ), number( 0 ), number( 1 ), number( 1 ) );
+        createRectangle( group3, number( 0 ), number( 0 ), number( 2 ), number( 2 ) );
+        final var group4 = createGroup();
+        createRectangle( group4, number( 0 ), number( 0 ), number( 2 ), number( 2 ) );
+        createRectangle( group4, number( 0 ), number( 0 ), number( 1 ), number( 1 ) );
+        assertNotEquals( group3.getStructuralHash(), group4.getStructuralHash() );
+
+        //---* Text is part of the hash *--------------------------------------
+        final var text1 = createText( "Hello" );
+        final var text2 = createText( "World" );
+        assertNotEquals( text1.getStructuralHash(), text2.getStructuralHash() );
+
+        //---* Modifications of deeper descendants and of the definitions *----
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var group5 = createGroup( svg );
+        final var polyline = createPolyline( group5, 0, 0, 10, 10 );
+        var previous = svg.getStructuralHash();
+        polyline.addPoint( 20, 0 );
+        assertNotEquals( previous, svg.getStructuralHash() );
+
+        previous = svg.getStructuralHash();
+        svg.addDefinition( createSymbol( "symbol" ) );
+        assertNotEquals( previous, svg.getStructuralHash() );
+    }   //  testGetStructuralHash()
+
+    /**
+     *  Test for the output of
+     *  {@link SVGPolyShapeBase}:
+     *  writing the element must not modify it.
+     *
+     *  @throws Exception Something unexpected went wrong
+     */
+    @Test
+    final void testPolyShapeOutput() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var group = createGroup( svg );
+        final var polyline = createPolyline( group, 0, 0, 10, 10, 20, 0 );
+
+        //---* The caches of the ancestors are kept *--------------------------
+        final var output = svg.toString( 0, false );
+        final var hash = svg.getStructuralHash();
+        assertTrue( polyline.toString( 5, true ).contains( "points='0,0 10,10 20,0'" ) );
+        assertSame( output, svg.toString( 0, false ) );
+        assertEquals( hash, svg.getStructuralHash() );
+        assertEquals( "<polyline points='0,0 10,10 20,0'/>", ((SVGElementImpl) polyline).createOutput( 0, false ) );
+
+        //---* Concurrent output *---------------------------------------------
+        final var threads = new Thread [8];
+        final var failures = new AtomicInteger();
+        for( var i = 0; i < threads.length; ++i )
+        {
+            final var level = i;
+            threads [i] = new Thread( () ->
+            {
+                for( var j = 0; j < 1_000; ++j )
+                {
+                    if( !((SVGElementImpl) polyline).createOutput( level, j % 2 == 0 ).contains( "points=" ) ) failures.incrementAndGet();
+                }
+            } );
+            threads [i].start();
+        }
+        for( final var thread : threads ) thread.join();
+        assertEquals( 0, failures.get() );
+    }   //  testPolyShapeOutput()
+
     /**
      *  Test for
      *  {@link AllowsPresentationAttributes#setClipPath(java.net.URI)}.
@@ -366,6 +540,69 @@ public class TestSVGElementImpl extends SVGTestBase
         actual = candidate.toString();
         assertEquals( expected, actual );
     }   //  testSetStrokeWidth()
+
+    /**
+     *  Test for
+     *  {@link SVGElementImpl#toString(int, boolean)}
+     *  with cached output, and for
+     *  {@link SVGElementImpl#createUncachedOutput(org.tquadrat.foundation.xml.builder.spi.Element, int, boolean)}.
+     *
+     *  @throws Exception Something unexpected went wrong
+     */
+    @Test
+    final void testToString() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final var group1 = createGroup( svg );
+        final var rectangle = createRectangle( group1, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        final var group2 = createGroup( svg );
+        final var inner = createGroup( group2 );
+        final var polyline = createPolyline( inner, 0, 0, 10, 10 );
+
+        //---* Unmodified elements return the cached output *-----------------
+        var previous = svg.toString( 0, true );
+        assertSame( previous, svg.toString( 0, true ) );
+        final var compact = svg.toString( 0, false );
+        assertNotEquals( previous, compact );
+        assertSame( compact, svg.toString( 0, false ) );
+
+        //---* A modification invalidates the ancestors only *-----------------
+        previous = svg.toString( 0, true );
+        final var sibling = group2.toString( 1, true );
+        rectangle.setFill( color( "green" ) );
+        var actual = svg.toString( 0, true );
+        assertNotEquals( previous, actual );
+        assertTrue( actual.contains( "green" ) );
+        assertSame( sibling, group2.toString( 1, true ) );
+
+        //---* Deeper modifications and the definitions *----------------------
+        previous = actual;
+        polyline.addPoint( 20, 0 );
+        actual = svg.toString( 0, true );
+        assertNotEquals( previous, actual );
+        assertTrue( actual.contains( "20" ) );
+
+        previous = actual;
+        svg.addDefinition( createSymbol( "symbol" ) );
+        actual = svg.toString( 0, true );
+        assertNotEquals( previous, actual );
+        assertTrue( actual.contains( "symbol" ) );
+
+        //---* The uncached output is not kept *------------------------------
+        rectangle.setFill( color( "blue" ) );
+        actual = createUncachedOutput( svg, 0, true );
+        assertNotSame( createUncachedOutput( rectangle, 2, true ), createUncachedOutput( rectangle, 2, true ) );
+        assertEquals( actual, svg.toString( 0, true ) );
+        assertSame( rectangle.toString( 2, true ), createUncachedOutput( rectangle, 2, true ) );
+        assertSame( svg.toString( 0, true ), createUncachedOutput( svg, 0, true ) );
+
+        //---* The cached output is the same as the created one *-------------
+        rectangle.setFill( null );
+        assertEquals( ((SVGElementImpl) svg).createOutput( 0, true ), svg.toString( 0, true ) );
+        assertEquals( ((SVGElementImpl) svg).createOutput( 0, false ), svg.toString( 0, false ) );
+    }   //  testToString()
 }
 //  class TestSVGElementImpl
 /*
@@ -0,0 +1,113 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGStyleImpl}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGStyleImpl.java 1191 2026-10-19 16:38:51Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGStyleImpl.java 1191 2026-10-19 16:38:51Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.internal.TestSVGStyleImpl" )
+public class TestSVGStyleImpl extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the caching of the compiled stylesheet.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCaching() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = createStyle( "circle { fill: red; }" );
+        final var children = candidate.getChildren();
+        assertSame( children, candidate.getChildren() );
+        final var output = candidate.toString( 0, false );
+        assertSame( output, candidate.toString( 0, false ) );
+
+        candidate.addStyle( "rect { fill: blue; }" );
+        assertNotSame( children, candidate.getChildren() );
+        assertTrue( candidate.toString( 0, false ).contains( "rect { fill: blue; }" ) );
+        assertTrue( candidate.getChildren().iterator().next().toString( 0, false ).contains( "rect { fill: blue; }" ) );
+
+        //---* The parent is notified about the modification *---------------
+        final var svg = createSVG( EMBED_SVG );
+        svg.addDefinition( candidate );
+        final var before = svg.toString( 0, false );
+        candidate.setMinified( true );
+        assertFalse( svg.toString( 0, false ).equals( before ) );
+        assertTrue( svg.toString( 0, false ).contains( "circle{fill:red}" ) );
+
+        candidate.freeze();
+        assertThrows( IllegalStateException.class, () -> candidate.setMinified( false ) );
+    }   //  testCaching()
+
+    /**
+     *  Tests the method
+     *  {@link SVGStyleImpl#merge(org.tquadrat.foundation.svg.SVGStyle)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMerge() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = createStyle( "circle { fill: red; }", "rect { fill: blue; }" );
+        candidate.merge( createStyle( "circle { fill: red; }", "text { fill: black; }" ) );
+        candidate.merge( createStyle( "text { fill: black; }" ) );
+        assertEquals( "rect { fill: blue; }\ncircle { fill: red; }\ntext { fill: black; }", candidate.getStyleSheet() );
+
+        assertFalse( candidate.isMinified() );
+        candidate.setMinified( true );
+        assertTrue( candidate.isMinified() );
+        assertEquals( "rect{fill:blue}circle{fill:red}text{fill:black}", candidate.getStyleSheet() );
+        assertEquals( "<style><![CDATA[\nrect{fill:blue}circle{fill:red}text{fill:black}\n]]></style>", candidate.toString( 0, false ).strip() );
+
+        candidate.setMinified( false );
+        assertEquals( "rect { fill: blue; }\ncircle { fill: red; }\ntext { fill: black; }", candidate.getStyleSheet() );
+    }   //  testMerge()
+}
+//  class TestSVGStyleImpl
+
+/*
+ *  End of File
+ */
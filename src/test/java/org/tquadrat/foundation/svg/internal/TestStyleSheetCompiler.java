@@ -0,0 +1,108 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.deduplicate;
+import static org.tquadrat.foundation.svg.internal.StyleSheetCompiler.minify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link StyleSheetCompiler}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestStyleSheetCompiler.java 1191 2026-10-19 16:38:51Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestStyleSheetCompiler.java 1191 2026-10-19 16:38:51Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.internal.TestStyleSheetCompiler" )
+public class TestStyleSheetCompiler extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the method
+     *  {@link StyleSheetCompiler#deduplicate(List)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testDeduplicate() throws Exception
+    {
+        skipThreadTest();
+
+        final var unique = List.of( "circle { fill: red; }", "rect {", "  fill: blue;", "}" );
+        assertSame( unique, deduplicate( unique ) );
+
+        //---* Only the last occurrence is kept *------------------------------
+        var lines = List.of( "circle { fill: red; }", "rect { fill: blue; }", "circle {fill:red}", "text { fill: black; }" );
+        assertEquals( List.of( "rect { fill: blue; }", "circle {fill:red}", "text { fill: black; }" ), deduplicate( lines ) );
+
+        lines = List.of( "rect {", "  fill: blue;", "}", "circle { fill: red; }", "rect { /* again */", "  fill: blue;", "}" );
+        assertEquals( List.of( "circle { fill: red; }", "rect { /* again */", "  fill: blue;", "}" ), deduplicate( lines ) );
+
+        lines = List.of( "a { fill: red; } b { fill: blue; }", "a { fill: red; }" );
+        assertEquals( List.of( "b { fill: blue; }", "a { fill: red; }" ), deduplicate( lines ) );
+
+        lines = List.of( "@media print { a { fill: red; } }", "b { content: '}'; }", "@media print { a { fill: red; } }", "b { content: '}'; }" );
+        assertEquals( List.of( "@media print { a { fill: red; } }", "b { content: '}'; }" ), deduplicate( lines ) );
+
+        //---* Statements are not removed *------------------------------------
+        lines = List.of( "@import url(a.css);", "@import url(a.css);" );
+        assertSame( lines, deduplicate( lines ) );
+
+        assertThrows( NullArgumentException.class, () -> deduplicate( null ) );
+    }   //  testDeduplicate()
+
+    /**
+     *  Tests the method
+     *  {@link StyleSheetCompiler#minify(CharSequence)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMinify() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( "", minify( "" ) );
+        assertEquals( "circle{fill:red;stroke:#000}", minify( "circle {\n  fill: red;\n  stroke: #000;\n}\n" ) );
+        assertEquals( "a,b>c{fill:red}", minify( "/* comment */ a , b > c { fill: red ; }" ) );
+        assertEquals( "a :hover{font-family:'Open  Sans'}", minify( "a :hover { font-family: 'Open  Sans'; }" ) );
+        assertEquals( "a{width:calc(1px + 2px);fill:red !important}", minify( "a { width: calc( 1px + 2px ); fill: red !important; }" ) );
+        assertEquals( "@media (min-width:10px){a{fill:red}}", minify( "@media ( min-width: 10px ) { a { fill: red; } }" ) );
+
+        assertThrows( NullArgumentException.class, () -> minify( null ) );
+    }   //  testMinify()
+}
+//  class TestStyleSheetCompiler
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,407 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPolyline;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.translate;
+import static org.tquadrat.foundation.svg.io.SVGMinifier.minifyColor;
+import static org.tquadrat.foundation.svg.io.SVGMinifier.minifyNumber;
+import static org.tquadrat.foundation.svg.type.SVGPaint.PAINT_NONE;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGMinifier}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGMinifier.java 1208 2026-10-20 12:47:22Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGMinifier.java 1208 2026-10-20 12:47:22Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.io.TestSVGMinifier" )
+public class TestSVGMinifier extends TestBaseClass
+{
+        /*-----------*\
+    ====** Constants **========================================================
+        \*-----------*/
+    /**
+     *  The pattern for an attribute.
+     */
+    private static final Pattern ATTRIBUTE = Pattern.compile( "([\\w:.-]+)=(?:\"([^\"]*)\"|'([^']*)')" );
+
+    /**
+     *  The pattern for a number.
+     */
+    private static final Pattern NUMBER = Pattern.compile( "[-+]?(?:\\d+\\.?\\d*|\\.\\d+)(?:[eE][-+]?\\d+)?" );
+
+    /**
+     *  The pattern for a start tag.
+     */
+    private static final Pattern START_TAG = Pattern.compile( "<([A-Za-z][\\w:.-]*)((?:\\s+[\\w:.-]+=(?:\"[^\"]*\"|'[^']*'))*)\\s*/?>" );
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Compares the minified output for the given document with its
+     *  regular output: the elements have to be the same, and the attribute
+     *  values have to have the same numbers and the same colours; only the
+     *  given attributes may be missing.
+     *
+     *  @param  document    The document.
+     *  @param  omittable   The attributes that may be missing, as
+     *      {@code <element>/<attribute>}.
+     *  @return The minified output.
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    private static final String compare( final SVG document, final Set<String> omittable ) throws Exception
+    {
+        final var expected = parse( document.toString() );
+        final var buffer = new StringBuilder();
+        SVGMinifier.write( document, buffer );
+        final var retValue = buffer.toString();
+        final var actual = parse( retValue );
+
+        assertEquals( expected.size(), actual.size() );
+        for( var i = 0; i < expected.size(); ++i )
+        {
+            final var expectedElement = expected.get( i );
+            final var actualElement = actual.get( i );
+            final var name = expectedElement.get( "" );
+            assertEquals( name, actualElement.get( "" ) );
+            for( final var entry : expectedElement.entrySet() )
+            {
+                final var attribute = entry.getKey();
+                final var actualValue = actualElement.get( attribute );
+                if( actualValue == null )
+                {
+                    assertTrue( omittable.contains( name + "/" + attribute ), "%s/%s".formatted( name, attribute ) );
+                }
+                else if( Set.of( "fill", "stroke" ).contains( attribute ) )
+                {
+                    assertEquals( minifyColor( entry.getValue() ), actualValue );
+                }
+                else
+                {
+                    assertEquals( numbers( entry.getValue() ), numbers( actualValue ) );
+                    assertEquals( NUMBER.matcher( entry.getValue() ).replaceAll( "" ).replaceAll( "[\\s,]", "" ), NUMBER.matcher( actualValue ).replaceAll( "" ).replaceAll( "[\\s,]", "" ) );
+                }
+            }
+            assertTrue( expectedElement.keySet().containsAll( actualElement.keySet() ) );
+        }
+        assertFalse( retValue.contains( "\n" ) );
+        assertFalse( retValue.contains( "> <" ) );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  compare()
+
+    /**
+     *  Creates a document for the tests.
+     *
+     *  @return The document.
+     */
+    private static final SVG createDocument()
+    {
+        final var retValue = createSVG( EMBED_SVG );
+        final var group = createGroup( retValue );
+        group.setFill( color( "#FF0000" ) );
+        group.setStrokeMiterLimit( "4" );
+        group.setTransform( translate( 10.5, 1000 ) );
+
+        final var rectangle = createRectangle( group, number( 0 ), number( 0 ), number( 0.5 ), number( 1000 ) );
+        rectangle.setFill( color( "#ff0000" ) );
+        rectangle.setFillOpacity( "1.0" );
+        rectangle.setOpacity( "1" );
+        rectangle.setStroke( color( "white" ) );
+        rectangle.setStrokeMiterLimit( "4.000" );
+
+        final var inner = createGroup( group );
+        inner.setFillOpacity( "0.5" );
+        final var other = createRectangle( inner, number( 1.25 ), number( -0.5 ), number( 10 ), number( 10 ) );
+        other.setFillOpacity( "1" );
+        other.setFill( color( "rgb(0,0,128)" ) );
+
+        createPolyline( group, 0.5, -0.5, 10, 0.25, 0.125, 100 );
+        createText( retValue, "Fish & Chips" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Returns the numbers in the given text.
+     *
+     *  @param  text    The text.
+     *  @return The numbers.
+     */
+    private static final List<Double> numbers( final String text )
+    {
+        final var retValue = NUMBER.matcher( text ).results().map( result -> Double.valueOf( result.group() ) ).toList();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  numbers()
+
+    /**
+     *  Parses the start tags in the given output; the name of an element is
+     *  stored with the empty string as the key.
+     *
+     *  @param  output  The output.
+     *  @return The elements with their attributes.
+     */
+    private static final List<Map<String,String>> parse( final String output )
+    {
+        final List<Map<String,String>> retValue = new ArrayList<>();
+        final var tags = START_TAG.matcher( output );
+        while( tags.find() )
+        {
+            final Map<String,String> element = new LinkedHashMap<>();
+            element.put( "", tags.group( 1 ) );
+            final var attributes = ATTRIBUTE.matcher( tags.group( 2 ) );
+            while( attributes.find() )
+            {
+                element.put( attributes.group( 1 ), attributes.group( 2 ) == null ? attributes.group( 3 ) : attributes.group( 2 ) );
+            }
+            retValue.add( element );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  parse()
+
+    /**
+     *  Tests the method
+     *  {@link SVGMinifier#isDefaultValue(String, String, String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testIsDefaultValue() throws Exception
+    {
+        skipThreadTest();
+
+        assertTrue( SVGMinifier.isDefaultValue( "g", "opacity", "1.000" ) );
+        assertTrue( SVGMinifier.isDefaultValue( "rect", "x", "0.0" ) );
+        assertFalse( SVGMinifier.isDefaultValue( "text", "x", "0" ) );
+        assertFalse( SVGMinifier.isDefaultValue( "rect", "fill-opacity", "1" ) );
+        assertFalse( SVGMinifier.isDefaultValue( "rect", "opacity", ".5" ) );
+
+        assertThrows( NullArgumentException.class, () -> SVGMinifier.isDefaultValue( null, "x", "0" ) );
+        assertThrows( NullArgumentException.class, () -> SVGMinifier.isDefaultValue( "rect", null, "0" ) );
+        assertThrows( NullArgumentException.class, () -> SVGMinifier.isDefaultValue( "rect", "x", null ) );
+    }   //  testIsDefaultValue()
+
+    /**
+     *  Tests the method
+     *  {@link SVGMinifier#minifyColor(String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMinifyColor() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( "#f80", minifyColor( "#FF8800" ) );
+        assertEquals( "#f81", minifyColor( "#ff8811" ) );
+        assertEquals( "#ff8812", minifyColor( "#ff8812" ) );
+        assertEquals( "red", minifyColor( "#ff0000" ) );
+        assertEquals( "red", minifyColor( "#F00" ) );
+        assertEquals( "navy", minifyColor( "rgb( 0, 0, 128 )" ) );
+        assertEquals( "#0a0b0c", minifyColor( "rgb(10,11,12)" ) );
+        assertEquals( "#fff", minifyColor( "White" ) );
+        assertEquals( "#000", minifyColor( "black" ) );
+        assertEquals( "blue", minifyColor( "blue" ) );
+        assertEquals( "none", minifyColor( "none" ) );
+        assertEquals( "url(#gradient)", minifyColor( "url(#gradient)" ) );
+        assertEquals( "rgb(300,0,0)", minifyColor( "rgb(300,0,0)" ) );
+
+        assertThrows( NullArgumentException.class, () -> minifyColor( null ) );
+    }   //  testMinifyColor()
+
+    /**
+     *  Tests the method
+     *  {@link SVGMinifier#minifyNumber(CharSequence)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testMinifyNumber() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( ".5", minifyNumber( "0.500" ) );
+        assertEquals( "-.5", minifyNumber( "-0.5" ) );
+        assertEquals( "1e3", minifyNumber( "1000.000" ) );
+        assertEquals( "100", minifyNumber( "100" ) );
+        assertEquals( "1e-4", minifyNumber( "0.0001" ) );
+        assertEquals( ".001", minifyNumber( "0.001" ) );
+        assertEquals( "12.5", minifyNumber( "+12.50" ) );
+        assertEquals( "0", minifyNumber( "-0.000" ) );
+        assertEquals( "5", minifyNumber( "5." ) );
+        assertEquals( "15e5", minifyNumber( "1500000" ) );
+        assertEquals( "1e3", minifyNumber( "1E3" ) );
+
+        assertThrows( NumberFormatException.class, () -> minifyNumber( "abc" ) );
+        assertThrows( NullArgumentException.class, () -> minifyNumber( null ) );
+    }   //  testMinifyNumber()
+
+    /**
+     *  Tests the method
+     *  {@link SVGMinifier#write(org.tquadrat.foundation.xml.builder.spi.Element, Appendable)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWrite() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument();
+        final var omittable = Set.of( "g/stroke-miterlimit", "rect/x", "rect/y", "rect/fill", "rect/fill-opacity", "rect/opacity", "rect/stroke-miterlimit" );
+        final var actual = compare( document, omittable );
+        assertTrue( actual.length() < document.toString( 0, false ).length() );
+        assertTrue( actual.contains( "fill=\"red\"" ) );
+        assertTrue( actual.contains( "transform=\"translate(10.5,1e3)\"" ) || actual.contains( "transform=\"translate(10.5 1e3)\"" ) );
+        assertTrue( actual.contains( "stroke=\"#fff\"" ) );
+        assertTrue( actual.contains( "fill=\"navy\"" ) );
+        assertTrue( actual.contains( "points=\".5-.5 10 .25.125 100\"" ) );
+        assertTrue( actual.contains( "Fish &amp; Chips" ) );
+
+        //---* The inner rectangle has to keep its fill opacity *--------------
+        assertTrue( actual.contains( "fill-opacity=\"1\"" ) );
+        assertFalse( actual.contains( "miterlimit" ) );
+
+        //---* No inherited values are omitted if there are classes *----------
+        final var styled = createDocument();
+        styled.setClass( "styled" );
+        final var styledOutput = compare( styled, Set.of( "rect/x", "rect/y", "rect/opacity" ) );
+        assertTrue( styledOutput.contains( "stroke-miterlimit=\"4\"" ) );
+
+        //---* The writer *----------------------------------------------------
+        final var writer = new SVGWriter();
+        writer.setMinify( true );
+        assertTrue( writer.isMinify() );
+        final var out = new ByteArrayOutputStream();
+        writer.write( document, out );
+        assertEquals( actual, out.toString( UTF_8 ) );
+
+        assertThrows( NullArgumentException.class, () -> SVGMinifier.write( null, new StringBuilder() ) );
+        assertThrows( NullArgumentException.class, () -> SVGMinifier.write( document, null ) );
+    }   //  testWrite()
+
+    /**
+     *  Tests the method
+     *  {@link SVGMinifier#write(org.tquadrat.foundation.xml.builder.spi.Element, Appendable)}
+     *  for a subtree: as the element may be inserted anywhere, its
+     *  inherited properties have to be kept, even if they have their
+     *  default values.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWriteSubtree() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createSVG( EMBED_SVG );
+        final var group = createGroup( document );
+        group.setFill( color( "black" ) );
+        group.setStrokeMiterLimit( "4" );
+        group.setOpacity( "1" );
+        final var rectangle = createRectangle( group, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        rectangle.setStroke( PAINT_NONE );
+
+        //---* The document omits the defaults *-------------------------------
+        var buffer = new StringBuilder();
+        SVGMinifier.write( document, buffer );
+        var actual = buffer.toString();
+        assertFalse( actual.contains( "fill=" ) );
+        assertFalse( actual.contains( "miterlimit" ) );
+        assertFalse( actual.contains( "stroke=" ) );
+
+        //---* The subtree keeps the inherited properties *--------------------
+        buffer = new StringBuilder();
+        SVGMinifier.write( group, buffer );
+        actual = buffer.toString();
+        assertTrue( actual.startsWith( "<g" ) );
+        assertTrue( actual.contains( "fill=\"#000\"" ) );
+        assertTrue( actual.contains( "stroke-miterlimit=\"4\"" ) );
+        assertTrue( actual.contains( "stroke=\"none\"" ) );
+        assertFalse( actual.contains( "opacity" ) );
+
+        //---* A nested <svg> element is not the root of a document *---------
+        final var nested = createSVG( EMBED_SVG );
+        final var inner = createSVG( nested );
+        inner.setFill( color( "black" ) );
+        buffer = new StringBuilder();
+        SVGMinifier.write( inner, buffer );
+        assertTrue( buffer.toString().contains( "fill=\"#000\"" ) );
+    }   //  testWriteSubtree()
+
+    /**
+     *  Tests the minification of stylesheets by the method
+     *  {@link SVGMinifier#write(org.tquadrat.foundation.xml.builder.spi.Element, Appendable)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWriteStyleSheet() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createSVG( EMBED_SVG );
+        createStyle( document, "/* The circles */", "circle {", "    fill: red;", "}" );
+        final var buffer = new StringBuilder();
+        SVGMinifier.write( document, buffer );
+        assertEquals( "<svg><defs><style><![CDATA[circle{fill:red}]]></style></defs></svg>", buffer.toString() );
+    }   //  testWriteStyleSheet()
+}
+//  class TestSVGMinifier
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,312 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
+import static org.tquadrat.foundation.svg.io.TestSVGWriter.createDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGPublisher}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGPublisher.java 1207 2026-10-20 12:06:38Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGPublisher.java 1207 2026-10-20 12:06:38Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.io.TestSVGPublisher" )
+public class TestSVGPublisher extends TestBaseClass
+{
+        /*---------------*\
+    ====** Inner Classes **====================================================
+        \*---------------*/
+    /**
+     *  A subscriber that collects the emitted bytes, requesting the given
+     *  number of buffers at a time.
+     */
+    private static final class Collector implements Flow.Subscriber<ByteBuffer>
+    {
+            /*------------*\
+        ====** Attributes **===================================================
+            \*------------*/
+        /**
+         *  The number of buffers to request at a time.
+         */
+        private final long m_Batch;
+
+        /**
+         *  The number of buffers that were emitted.
+         */
+        private int m_BufferCount = 0;
+
+        /**
+         *  The collected bytes.
+         */
+        private final ByteArrayOutputStream m_Bytes = new ByteArrayOutputStream();
+
+        /**
+         *  The latch that is released when the subscription terminates.
+         */
+        private final CountDownLatch m_Done = new CountDownLatch( 1 );
+
+        /**
+         *  The error, if any.
+         */
+        private Throwable m_Error = null;
+
+        /**
+         *  The flag that indicates whether the subscription is complete.
+         */
+        private boolean m_IsComplete = false;
+
+        /**
+         *  The maximum size of a buffer.
+         */
+        private int m_MaxSize = 0;
+
+        /**
+         *  The number of buffers that were requested, but not yet emitted.
+         */
+        private long m_Outstanding = 0;
+
+        /**
+         *  The subscription.
+         */
+        private Flow.Subscription m_Subscription;
+
+            /*--------------*\
+        ====** Constructors **=================================================
+            \*--------------*/
+        /**
+         *  Creates a new {@code Collector} instance.
+         *
+         *  @param  batch   The number of buffers to request at a time; if
+         *      zero, nothing is requested.
+         */
+        public Collector( final long batch ) { m_Batch = batch; }
+
+            /*---------*\
+        ====** Methods **======================================================
+            \*---------*/
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onComplete()
+        {
+            m_IsComplete = true;
+            m_Done.countDown();
+        }   //  onComplete()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onError( final Throwable throwable )
+        {
+            m_Error = throwable;
+            m_Done.countDown();
+        }   //  onError()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onNext( final ByteBuffer item )
+        {
+            assertTrue( m_Outstanding > 0, "More buffers than requested" );
+            ++m_BufferCount;
+            m_MaxSize = Math.max( m_MaxSize, item.remaining() );
+            final var bytes = new byte [item.remaining()];
+            item.get( bytes );
+            m_Bytes.writeBytes( bytes );
+            if( --m_Outstanding == 0 ) request();
+        }   //  onNext()
+
+        /**
+         *  {@inheritDoc}
+         */
+        @Override
+        public final void onSubscribe( final Flow.Subscription subscription )
+        {
+            m_Subscription = subscription;
+            request();
+        }   //  onSubscribe()
+
+        /**
+         *  Requests the next batch of buffers.
+         */
+        private final void request()
+        {
+            if( m_Batch > 0 )
+            {
+                m_Outstanding = m_Batch == Long.MAX_VALUE ? Long.MAX_VALUE : m_Outstanding + m_Batch;
+                m_Subscription.request( m_Batch );
+            }
+        }   //  request()
+    }
+    //  class Collector
+
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the method
+     *  {@link SVGWriter#publish(org.tquadrat.foundation.xml.builder.spi.Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testPublish() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 50 );
+        document.addChild( createText( "Grüße 😀" ) );
+        for( final var prettyPrint : new boolean [] {true, false} )
+        {
+            final var expected = document.toString( 0, prettyPrint );
+            final var candidate = new SVGWriter( prettyPrint );
+            candidate.setBufferSize( 61 );
+            final var publisher = candidate.publish( document );
+
+            for( final var batch : new long [] {1, 3, Long.MAX_VALUE} )
+            {
+                final var subscriber = new Collector( batch );
+                publisher.subscribe( subscriber );
+                assertTrue( subscriber.m_IsComplete );
+                assertNull( subscriber.m_Error );
+                assertEquals( expected, subscriber.m_Bytes.toString( UTF_8 ) );
+                assertTrue( subscriber.m_MaxSize <= 61 );
+                assertTrue( subscriber.m_BufferCount >= expected.getBytes( UTF_8 ).length / 61 );
+            }
+        }
+
+        //---* Buffers that are just large enough for one character *--------
+        final var text = createDocument( 2 );
+        text.addChild( createText( "€😀€" ) );
+        final var small = new SVGWriter( false );
+        for( final var size : new int [] {1, 2, 3} ) assertThrows( IllegalArgumentException.class, () -> small.setBufferSize( size ) );
+        small.setBufferSize( SVGWriter.MINIMUM_BUFFER_SIZE );
+        final var smallSubscriber = new Collector( 1 );
+        small.publish( text ).subscribe( smallSubscriber );
+        assertTrue( smallSubscriber.m_IsComplete );
+        assertEquals( text.toString( 0, false ), smallSubscriber.m_Bytes.toString( UTF_8 ) );
+        assertTrue( smallSubscriber.m_MaxSize <= SVGWriter.MINIMUM_BUFFER_SIZE );
+
+        //---* With declaration and minified *---------------------------------
+        final var candidate = new SVGWriter( false );
+        candidate.setXMLDeclaration( true );
+        candidate.setMinify( true );
+        final var expected = new StringBuilder();
+        candidate.write( document, expected );
+        final var subscriber = new Collector( 2 );
+        candidate.publish( document ).subscribe( subscriber );
+        final var actual = subscriber.m_Bytes.toString( UTF_8 );
+        assertTrue( actual.startsWith( "<?xml" ) );
+        assertTrue( actual.endsWith( expected.toString() ) );
+
+        assertThrows( NullArgumentException.class, () -> candidate.publish( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.publish( document, null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.publish( document ).subscribe( null ) );
+    }   //  testPublish()
+
+    /**
+     *  Tests the backpressure and the cancellation of the subscriptions.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSubscription() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 20 );
+        final var candidate = new SVGWriter( false );
+        candidate.setBufferSize( 100 );
+
+        //---* Nothing is emitted without demand *-----------------------------
+        var subscriber = new Collector( 0 );
+        candidate.publish( document ).subscribe( subscriber );
+        assertEquals( 0, subscriber.m_BufferCount );
+        subscriber.m_Outstanding = 2;
+        subscriber.m_Subscription.request( 2 );
+        assertEquals( 2, subscriber.m_BufferCount );
+        assertEquals( 200, subscriber.m_Bytes.size() );
+        assertFalse( subscriber.m_IsComplete );
+
+        //---* Nothing is emitted after the cancellation *---------------------
+        subscriber.m_Subscription.cancel();
+        subscriber.m_Subscription.request( 1 );
+        assertEquals( 2, subscriber.m_BufferCount );
+        assertFalse( subscriber.m_IsComplete );
+        assertNull( subscriber.m_Error );
+
+        //---* Invalid requests terminate the subscription *-------------------
+        subscriber = new Collector( 0 );
+        candidate.publish( document ).subscribe( subscriber );
+        subscriber.m_Subscription.request( 0 );
+        assertInstanceOf( IllegalArgumentException.class, subscriber.m_Error );
+
+        //---* Frozen subtrees and an executor *------------------------------
+        var index = 0;
+        for( final var child : document.getChildren() )
+        {
+            if( (index++ % 2 == 0) && (child instanceof final SVGElement element) ) element.freeze();
+        }
+        final var executor = Executors.newSingleThreadExecutor();
+        try
+        {
+            subscriber = new Collector( 1 );
+            candidate.publish( document, executor ).subscribe( subscriber );
+            assertTrue( subscriber.m_Done.await( 10, SECONDS ) );
+            assertTrue( subscriber.m_IsComplete );
+            assertEquals( document.toString( 0, false ), subscriber.m_Bytes.toString( UTF_8 ) );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }   //  testSubscription()
+}
+//  class TestSVGPublisher
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,170 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.io.SVGTemplate.slot;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGTemplate}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGTemplate.java 1197 2026-10-19 21:10:53Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGTemplate.java 1197 2026-10-19 21:10:53Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.io.TestSVGTemplate" )
+public class TestSVGTemplate extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a document for the tests.
+     *
+     *  @param  title   The title text.
+     *  @param  fill    The fill colour.
+     *  @param  opacity The fill opacity of the rectangle.
+     *  @return The document.
+     */
+    private static final SVG createDocument( final CharSequence title, final String fill, final String opacity )
+    {
+        final var retValue = createSVG( EMBED_SVG );
+        final var group = createGroup( retValue );
+        group.setFill( color( fill ) );
+        final var rectangle = createRectangle( group, number( 0 ), number( 0 ), number( 10 ), number( 10 ) );
+        rectangle.setFillOpacity( opacity );
+        createText( group, title );
+        createText( retValue, title );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Tests the method
+     *  {@link SVGTemplate#compile(org.tquadrat.foundation.xml.builder.spi.Element, SVGWriter)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testCompile() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( slot( "title" ), slot( "color" ), slot( "opacity" ) );
+        for( final var prettyPrint : new boolean [] {true, false} )
+        {
+            final var writer = new SVGWriter( prettyPrint );
+            writer.setXMLDeclaration( true );
+            final var candidate = SVGTemplate.compile( document, writer );
+            assertEquals( List.of( "color", "opacity", "title" ), candidate.getSlotNames() );
+
+            final var expected = new ByteArrayOutputStream();
+            writer.write( createDocument( "Hello World", "red", "0.5" ), expected );
+            final var actual = new ByteArrayOutputStream();
+            candidate.render( actual, "red", "0.5", "Hello World" );
+            assertEquals( expected.toString( UTF_8 ), actual.toString( UTF_8 ) );
+
+            actual.reset();
+            candidate.render( actual, Map.of( "title", "Hello World", "color", "red", "opacity", "0.5" ) );
+            assertEquals( expected.toString( UTF_8 ), actual.toString( UTF_8 ) );
+        }
+
+        final var comment = createSVG( EMBED_SVG );
+        comment.addComment( slot( "comment" ) );
+        assertThrows( IllegalArgumentException.class, () -> SVGTemplate.compile( comment ) );
+        assertThrows( NullArgumentException.class, () -> SVGTemplate.compile( null ) );
+    }   //  testCompile()
+
+    /**
+     *  Tests the method
+     *  {@link SVGTemplate#render(java.io.OutputStream, CharSequence...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRender() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = SVGTemplate.compile( createDocument( slot( "title" ), slot( "color" ), slot( "opacity" ) ) );
+        final var out = new ByteArrayOutputStream();
+        candidate.render( out, "'blue'", "\"10\"", "Fish & Chips <für> 😀" );
+        final var actual = out.toString( UTF_8 );
+        assertTrue( actual.contains( "&apos;blue&apos;" ) );
+        assertTrue( actual.contains( "&quot;10&quot;" ) );
+        assertTrue( actual.contains( "Fish &amp; Chips &lt;für&gt; 😀" ) );
+
+        //---* Values that are longer than the encoding buffer *---------------
+        final var longValue = "a<ü😀&".repeat( 5_000 );
+        out.reset();
+        candidate.render( out, "red", "0.5", longValue );
+        assertTrue( out.toString( UTF_8 ).contains( "a&lt;ü😀&amp;".repeat( 5_000 ) ) );
+
+        assertThrows( IllegalArgumentException.class, () -> candidate.render( out, "red", "0.5" ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.render( out, Map.of( "title", "Hello World" ) ) );
+        assertThrows( NullArgumentException.class, () -> candidate.render( out, "red", null, "Hello World" ) );
+        assertThrows( NullArgumentException.class, () -> candidate.render( null, "red", "0.5", "Hello World" ) );
+    }   //  testRender()
+
+    /**
+     *  Tests the method
+     *  {@link SVGTemplate#slot(String)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSlot() throws Exception
+    {
+        skipThreadTest();
+
+        assertEquals( slot( "name" ), slot( "name" ) );
+        assertTrue( slot( "a.b-c_1" ).contains( "a.b-c_1" ) );
+        assertThrows( IllegalArgumentException.class, () -> slot( "1x" ) );
+        assertThrows( IllegalArgumentException.class, () -> slot( "a b" ) );
+        assertThrows( NullArgumentException.class, () -> slot( null ) );
+    }   //  testSlot()
+}
+//  class TestSVGTemplate
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,206 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPolygon;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
+import static org.tquadrat.foundation.svg.internal.SVGElementImpl.createUncachedOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.svg.SVGElement;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGWriter}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGWriter.java 1196 2026-10-19 20:44:19Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGWriter.java 1196 2026-10-19 20:44:19Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.io.TestSVGWriter" )
+public class TestSVGWriter extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a document for the tests.
+     *
+     *  @param  count   The number of groups in the document.
+     *  @return The document.
+     */
+    static final SVG createDocument( final int count )
+    {
+        final var retValue = createSVG( EMBED_SVG );
+        final var definition = createRectangle();
+        definition.setId( "definition" );
+        retValue.addDefinition( definition );
+        for( var i = 0; i < count; ++i )
+        {
+            final var group = createGroup( retValue );
+            group.setFill( color( "red" ) );
+            final var inner = createGroup( group );
+            inner.addChild( createPolygon( i, 0, i + 1, 0, i, 1 ) );
+            inner.addChild( createText( "Text <%d> & more".formatted( i ) ) );
+            group.addComment( "Group %d".formatted( i ) );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Tests the method
+     *  {@link SVGWriter#write(org.tquadrat.foundation.xml.builder.spi.Element, Appendable)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWrite() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 20 );
+        for( final var prettyPrint : new boolean [] {true, false} )
+        {
+            final var candidate = new SVGWriter( prettyPrint );
+            final var buffer = new StringBuilder();
+            candidate.write( document, buffer );
+
+            //---* The output is not kept in the caches of the elements *-----
+            final var leaf = document.getChildren().iterator().next();
+            assertNotSame( createUncachedOutput( leaf, 1, prettyPrint ), createUncachedOutput( leaf, 1, prettyPrint ) );
+
+            assertEquals( document.toString( 0, prettyPrint ), buffer.toString() );
+
+            final var out = new ByteArrayOutputStream();
+            candidate.setXMLDeclaration( true );
+            candidate.write( document, out );
+            final var actual = out.toString( UTF_8 );
+            assertTrue( actual.startsWith( "<?xml" ) );
+            assertTrue( actual.endsWith( document.toString( 0, prettyPrint ) ) );
+        }
+
+        final var candidate = new SVGWriter();
+        assertThrows( NullArgumentException.class, () -> candidate.write( null, new StringBuilder() ) );
+        assertThrows( NullArgumentException.class, () -> candidate.write( document, (Appendable) null ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.setBufferSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.setCompressionLevel( 10 ) );
+        assertThrows( IllegalArgumentException.class, () -> candidate.setCompressionLevel( -2 ) );
+    }   //  testWrite()
+
+    /**
+     *  Tests the method
+     *  {@link SVGWriter#writeCompressed(org.tquadrat.foundation.xml.builder.spi.Element, java.io.OutputStream)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWriteCompressed() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 500 );
+        final var expected = document.toString( 0, false );
+        final var candidate = new SVGWriter( false );
+        candidate.setBufferSize( 512 );
+
+        var previousSize = Integer.MAX_VALUE;
+        for( final var level : new int [] {BEST_SPEED, BEST_COMPRESSION} )
+        {
+            candidate.setCompressionLevel( level );
+            final var out = new ByteArrayOutputStream();
+            candidate.writeCompressed( document, out );
+            assertTrue( out.size() < expected.length() / 4 );
+            assertTrue( out.size() <= previousSize );
+            previousSize = out.size();
+
+            try( final var in = new GZIPInputStream( new ByteArrayInputStream( out.toByteArray() ) ) )
+            {
+                assertEquals( expected, new String( in.readAllBytes(), UTF_8 ) );
+            }
+        }
+    }   //  testWriteCompressed()
+
+    /**
+     *  Tests the methods of
+     *  {@link SVGWriter}
+     *  with a document that contains frozen subtrees.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testWriteFrozen() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 50 );
+        final var expected = new String [] {document.toString( 0, true ), document.toString( 0, false )};
+        var index = 0;
+        for( final var child : document.getChildren() )
+        {
+            if( (index++ % 2 == 0) && (child instanceof final SVGElement element) ) element.freeze();
+        }
+
+        for( final var prettyPrint : new boolean [] {true, false} )
+        {
+            final var candidate = new SVGWriter( prettyPrint );
+            final var buffer = new StringBuilder();
+            candidate.write( document, buffer );
+            assertEquals( expected [prettyPrint ? 0 : 1], buffer.toString() );
+
+            final var out = new ByteArrayOutputStream();
+            candidate.write( document, out );
+            assertEquals( expected [prettyPrint ? 0 : 1], out.toString( UTF_8 ) );
+
+            final var compressed = new ByteArrayOutputStream();
+            candidate.writeCompressed( document, compressed );
+            try( final var in = new GZIPInputStream( new ByteArrayInputStream( compressed.toByteArray() ) ) )
+            {
+                assertEquals( expected [prettyPrint ? 0 : 1], new String( in.readAllBytes(), UTF_8 ) );
+            }
+        }
+    }   //  testWriteFrozen()
+}
+//  class TestSVGWriter
+
+/*
+ *  End of File
+ */
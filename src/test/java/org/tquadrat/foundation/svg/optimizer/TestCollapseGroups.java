@@ -0,0 +1,131 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+
+/**
+ *  Some tests for the class
+ *  {@link CollapseGroups}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestCollapseGroups.java 1203 2026-10-20 09:41:55Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestCollapseGroups.java 1203 2026-10-20 09:41:55Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestCollapseGroups" )
+public class TestCollapseGroups extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates an element with the given attributes and children.
+     *
+     *  @param  name    The element name.
+     *  @param  attributes  The attributes, as name-value pairs.
+     *  @param  children    The children.
+     *  @return The element.
+     */
+    private static final XMLElement element( final String name, final String [] attributes, final XMLElement... children )
+    {
+        final var retValue = createXMLElement( name );
+        for( var i = 0; i < attributes.length; i += 2 ) retValue.setAttribute( attributes [i], attributes [i + 1] );
+        for( final var child : children ) retValue.addChild( child );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  element()
+
+    /**
+     *  Tests the method
+     *  {@link CollapseGroups#apply(org.tquadrat.foundation.xml.builder.spi.Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new CollapseGroups();
+        final String [] none = {};
+
+        //---* Groups without attributes are replaced by their children *-----
+        var svg = element( "svg", none,
+            element( "g", none,
+                element( "g", none, element( "rect", new String [] {"width", "1", "height", "1"} ) ),
+                element( "circle", new String [] {"r", "1"} ) ) );
+        var expectedOriginal = svg.toString( 0, false );
+        var result = candidate.apply( svg );
+        assertEquals( "<svg><rect width='1' height='1'/><circle r='1'/></svg>", result.toString( 0, false ) );
+        assertEquals( expectedOriginal, svg.toString( 0, false ) );
+
+        //---* A group with one child is merged into the child *--------------
+        svg = element( "svg", none,
+            element( "g", new String [] {"fill", "red", "transform", "translate(1,2)"},
+                element( "rect", new String [] {"width", "1", "height", "1", "transform", "scale(2)"} ) ) );
+        result = candidate.apply( svg );
+        final var rectangle = result.getChildren().iterator().next();
+        assertEquals( "rect", rectangle.getElementName() );
+        assertEquals( "red", rectangle.getAttribute( "fill" ).orElseThrow() );
+        assertEquals( "translate(1,2) scale(2)", rectangle.getAttribute( "transform" ).orElseThrow() );
+
+        //---* Conflicting properties, ids and other attributes *-------------
+        for( final var attributes : new String [][] {{"fill", "red"}, {"id", "group"}, {"opacity", ".5"}} )
+        {
+            svg = element( "svg", none,
+                element( "g", attributes, element( "rect", new String [] {"fill", "blue"} ) ) );
+            assertSame( svg, candidate.apply( svg ) );
+        }
+
+        //---* Groups with more than one child are kept *---------------------
+        svg = element( "svg", none,
+            element( "g", new String [] {"fill", "red"}, element( "rect", none ), element( "circle", none ) ) );
+        assertSame( svg, candidate.apply( svg ) );
+
+        //---* Animations and descriptions refer to the group *--------------
+        for( final var name : new String [] {"animate", "animateTransform", "set", "title", "desc"} )
+        {
+            svg = element( "svg", none, element( "g", none, element( "rect", none ), element( name, none ) ) );
+            assertSame( svg, candidate.apply( svg ), name );
+        }
+
+        //---* The children of a switch are kept *----------------------------
+        svg = element( "svg", none, element( "switch", none, element( "g", none, element( "rect", none ) ) ) );
+        expectedOriginal = svg.toString( 0, false );
+        assertEquals( expectedOriginal, candidate.apply( svg ).toString( 0, false ) );
+
+        assertThrows( NullArgumentException.class, () -> candidate.apply( null ) );
+    }   //  testApply()
+}
+//  class TestCollapseGroups
+
+/*
+ *  End of File
+ */
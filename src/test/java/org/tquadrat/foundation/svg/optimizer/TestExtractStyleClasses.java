@@ -0,0 +1,131 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link ExtractStyleClasses}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestExtractStyleClasses.java 1190 2026-10-19 15:12:44Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestExtractStyleClasses" )
+public class TestExtractStyleClasses extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Creates a document for the tests.
+     *
+     *  @return The document.
+     */
+    private static final SVG createDocument()
+    {
+        final var retValue = createSVG( EMBED_SVG );
+        for( var i = 0; i < 20; ++i )
+        {
+            final var rectangle = createRectangle( retValue, number( i * 20 ), number( 0 ), number( 10 ), number( 10 ) );
+            rectangle.setFill( color( "red" ) );
+            rectangle.setStroke( color( "#000" ) );
+            rectangle.setStrokeWidth( number( 2 ) );
+        }
+        final var unique = createRectangle( retValue, number( 0 ), number( 20 ), number( 10 ), number( 10 ) );
+        unique.setFill( color( "blue" ) );
+        final var classified = createRectangle( retValue, number( 20 ), number( 20 ), number( 10 ), number( 10 ) );
+        classified.setFill( color( "red" ) );
+        classified.setStroke( color( "#000" ) );
+        classified.setStrokeWidth( number( 2 ) );
+        classified.setClass( "special" );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Tests the method
+     *  {@link ExtractStyleClasses#apply(org.tquadrat.foundation.xml.builder.spi.Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument();
+        final var expectedOriginal = document.toString( 0, false );
+
+        var candidate = new ExtractStyleClasses();
+        var result = candidate.apply( document ).toString( 0, false );
+        assertEquals( expectedOriginal, document.toString( 0, false ) );
+        assertTrue( result.length() < expectedOriginal.length() );
+        assertTrue( result.startsWith( "<svg><defs><style>" ), result );
+        assertTrue( result.contains( ".a{fill:red;stroke:#000;stroke-width:2px}" ), result );
+        assertEquals( 20, result.split( "class='a'", -1 ).length - 1 );
+        assertTrue( result.contains( "fill='blue'" ) );
+        assertFalse( result.contains( "class='b'" ) );
+        assertTrue( result.contains( "class='special'" ) );
+
+        candidate = new ExtractStyleClasses( "svg-" );
+        result = candidate.apply( document ).toString( 0, false );
+        assertEquals( 20, result.split( "class='svg-a'", -1 ).length - 1 );
+        assertTrue( result.contains( ".svg-a{" ) );
+
+        //---* Documents with a stylesheet are not modified *-----------------
+        final var styled = createDocument();
+        createStyle( styled, "rect { fill: green; }" );
+        assertSame( styled, candidate.apply( styled ) );
+
+        //---* Bundles that occur once are not replaced *---------------------
+        final var single = createSVG( EMBED_SVG );
+        createRectangle( single, number( 0 ), number( 0 ), number( 10 ), number( 10 ) ).setFill( color( "red" ) );
+        assertSame( single, candidate.apply( single ) );
+
+        assertThrows( NullArgumentException.class, () -> new ExtractStyleClasses().apply( null ) );
+        assertThrows( NullArgumentException.class, () -> new ExtractStyleClasses( null ) );
+        assertThrows( IllegalArgumentException.class, () -> new ExtractStyleClasses( "1a" ) );
+        assertThrows( IllegalArgumentException.class, () -> new ExtractStyleClasses( "a b" ) );
+    }   //  testApply()
+}
+//  class TestExtractStyleClasses
+
+/*
+ *  End of File
+ */
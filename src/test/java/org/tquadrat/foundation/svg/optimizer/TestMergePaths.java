@@ -0,0 +1,186 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  Some tests for the class
+ *  {@link MergePaths}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestMergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestMergePaths.java 1202 2026-10-20 09:03:17Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestMergePaths" )
+public class TestMergePaths extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Concatenates the given arrays.
+     *
+     *  @param  first   The first array.
+     *  @param  second  The second array.
+     *  @return The concatenation.
+     */
+    private static final String [] concat( final String [] first, final String [] second )
+    {
+        final var retValue = new String [first.length + second.length];
+        System.arraycopy( first, 0, retValue, 0, first.length );
+        System.arraycopy( second, 0, retValue, first.length, second.length );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  concat()
+
+    /**
+     *  Creates a document with the given paths.
+     *
+     *  @param  paths   The attributes for the paths, as name-value pairs.
+     *  @return The document.
+     */
+    private static final XMLElement createDocument( final String []... paths )
+    {
+        final var retValue = createXMLElement( "svg" );
+        for( final var attributes : paths )
+        {
+            final var path = createXMLElement( "path" );
+            for( var i = 0; i < attributes.length; i += 2 ) path.setAttribute( attributes [i], attributes [i + 1] );
+            retValue.addChild( path );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Tests the method
+     *  {@link MergePaths#apply(Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new MergePaths();
+
+        //---* Disjoint paths with the same attributes are merged *-----------
+        var svg = createDocument(
+            new String [] {"d", "M0 0h10v10H0z", "fill", "red", "stroke", "none"},
+            new String [] {"d", "M20 0h10v10H20z", "fill", "red", "stroke", "none"},
+            new String [] {"d", "M40 0h10v10H40z", "fill", "red", "stroke", "none"},
+            new String [] {"d", "M60 0h10v10H60z", "fill", "blue", "stroke", "none"} );
+        final var expectedOriginal = svg.toString( 0, false );
+        final var result = candidate.apply( svg );
+        assertEquals( expectedOriginal, svg.toString( 0, false ) );
+        final List<Element> children = List.copyOf( result.getChildren() );
+        assertEquals( 2, children.size() );
+        assertEquals( "M0 0h10v10H0zM20 0h10v10H20zM40 0h10v10H40z", children.getFirst().getAttribute( "d" ).orElseThrow() );
+        assertEquals( "red", children.getFirst().getAttribute( "fill" ).orElseThrow() );
+        final var unchanged = (XMLElement) List.copyOf( svg.getChildren() ).getLast();
+        assertNotSame( unchanged, children.getLast() );
+        assertEquals( unchanged.toString( 0, false ), children.getLast().toString( 0, false ) );
+        assertSame( svg, unchanged.getParent().orElseThrow() );
+
+        //---* Strokes extend the bounding box *------------------------------
+        final var strokedAttributes = new String [] {"stroke", "black", "stroke-width", "4", "stroke-linejoin", "round"};
+        svg = createDocument(
+            concat( new String [] {"d", "M0 0h10v10H0z"}, strokedAttributes ),
+            concat( new String [] {"d", "M14 0h10v10H14z"}, strokedAttributes ) );
+        assertSame( svg, candidate.apply( svg ) );
+        svg = createDocument(
+            concat( new String [] {"d", "M0 0h10v10H0z"}, strokedAttributes ),
+            concat( new String [] {"d", "M22 0h10v10H22z"}, strokedAttributes ) );
+        assertEquals( 1, candidate.apply( svg ).getChildren().size() );
+
+        //---* The stroke properties can be set on the parent *--------------
+        svg = createDocument( new String [] {"d", "M0 0h10v10H0z"}, new String [] {"d", "M20 0h10v10H20z"} );
+        svg.setAttribute( "stroke", "none" );
+        assertEquals( 1, candidate.apply( svg ).getChildren().size() );
+
+        //---* Paths that cannot be merged *----------------------------------
+        for( final var attributes : new String [][] {
+            {"d", "M5 5h10v10H5z", "stroke", "none"},
+            {"d", "M20 0h10v10H20z"},
+            {"d", "m20 0h10v10H20z", "stroke", "none"},
+            {"d", "M20 0h10v10H20z", "stroke", "none", "id", "path"},
+            {"d", "M20 0h10v10H20z", "stroke", "none", "fill", "url(#gradient)"},
+            {"d", "M20 0h10v10H20z", "stroke", "none", "marker-end", "url(#arrow)"},
+            {"d", "M20 0h10v10H20z", "stroke", "black", "stroke-width", "1"} } )
+        {
+            final var first = new String [attributes.length];
+            System.arraycopy( attributes, 0, first, 0, attributes.length );
+            first [1] = "M0 0h10v10H0z";
+            svg = createDocument( first, attributes );
+            assertSame( svg, candidate.apply( svg ), String.join( " ", attributes ) );
+        }
+
+        //---* Inherited paint servers and markers *--------------------------
+        for( final var inherited : new String [][] {
+            {"fill", "url(#gradient)"},
+            {"stroke", "url(#pattern)"},
+            {"marker-mid", "url(#dot)"},
+            {"style", "marker: url(#dot)"} } )
+        {
+            for( final var depth : new int [] {0, 1, 2} )
+            {
+                final var root = createXMLElement( "svg" );
+                var parent = root;
+                for( var i = 0; i < depth; ++i )
+                {
+                    final var group = createXMLElement( "g" );
+                    parent.addChild( group );
+                    parent = group;
+                }
+                root.setAttribute( inherited [0], inherited [1] );
+                for( final var pathDefinition : new String [] {"M0 0h10v10z", "M50 0h10v10z"} )
+                {
+                    final var path = createXMLElement( "path" );
+                    path.setAttribute( "d", pathDefinition );
+                    path.setAttribute( "stroke-width", "1" );
+                    path.setAttribute( "stroke-linejoin", "round" );
+                    if( !inherited [0].equals( "stroke" ) ) path.setAttribute( "stroke", "none" );
+                    parent.addChild( path );
+                }
+                assertSame( root, candidate.apply( root ), String.join( " ", inherited ) );
+            }
+        }
+    }   //  testApply()
+}
+//  class TestMergePaths
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,139 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.EMBED_SVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createClipPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createGenericElement;
+import static org.tquadrat.foundation.svg.SVGUtils.createMarker;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSymbol;
+import static org.tquadrat.foundation.svg.SVGUtils.createUse;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the class
+ *  {@link RemoveUnreferencedDefinitions}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestRemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestRemoveUnreferencedDefinitions.java 1200 2026-10-19 22:38:50Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestRemoveUnreferencedDefinitions" )
+public class TestRemoveUnreferencedDefinitions extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests the method
+     *  {@link RemoveUnreferencedDefinitions#apply(org.tquadrat.foundation.xml.builder.spi.Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        final var candidate = new RemoveUnreferencedDefinitions();
+
+        final var svg = createSVG( EMBED_SVG );
+        createMarker( "arrow", svg );
+        createMarker( "unused", svg );
+        createClipPath( "outer", svg );
+        createClipPath( "inner", svg );
+        final var orphan = createSymbol( "orphan", svg );
+        createRectangle( orphan ).setClipPath( URI.create( "#outer" ) );
+        final var icon = createSymbol( "icon", svg );
+        createRectangle( icon ).setClipPath( URI.create( "#inner" ) );
+        final var gradient = createGenericElement( "linearGradient" );
+        gradient.setId( "gradient" );
+        svg.addDefinition( gradient );
+        createStyle( svg, ".shaded { fill: url(#gradient); }" );
+
+        createRectangle( svg, number( 0 ), number( 0 ), number( 10 ), number( 10 ) ).setMarkerStart( URI.create( "#arrow" ) );
+        createUse( svg, URI.create( "#icon" ) );
+
+        final var expectedOriginal = svg.toString( 0, false );
+        final var result = candidate.apply( svg ).toString( 0, false );
+        assertEquals( expectedOriginal, svg.toString( 0, false ) );
+        for( final var id : new String [] {"arrow", "icon", "inner", "gradient"} )
+        {
+            assertTrue( result.contains( "id='%s'".formatted( id ) ), id );
+        }
+        for( final var id : new String [] {"unused", "orphan", "outer"} )
+        {
+            assertFalse( result.contains( "id='%s'".formatted( id ) ), id );
+        }
+        assertTrue( result.contains( "url(#gradient)" ) );
+
+        //---* The kept definitions still belong to the original *-----------
+        createRectangle( icon, number( 1 ), number( 2 ), number( 3 ), number( 4 ) );
+        assertNotEquals( expectedOriginal, svg.toString( 0, false ) );
+        assertTrue( candidate.apply( svg ).toString( 0, false ).contains( "width='3'" ) );
+
+        //---* Cycles between unreferenced definitions *----------------------
+        final var root = createXMLElement( "svg" );
+        final var definitions = createXMLElement( "defs" );
+        final var first = createXMLElement( "g" );
+        first.setAttribute( "id", "first" );
+        final var firstUse = createXMLElement( "use" );
+        firstUse.setAttribute( "href", "#second" );
+        first.addChild( firstUse );
+        final var second = createXMLElement( "g" );
+        second.setAttribute( "id", "second" );
+        final var secondUse = createXMLElement( "use" );
+        secondUse.setAttribute( "xlink:href", "#first" );
+        second.addChild( secondUse );
+        definitions.addChild( first );
+        definitions.addChild( second );
+        root.addChild( definitions );
+        root.addChild( createXMLElement( "rect" ) );
+        assertEquals( "<svg><rect/></svg>", candidate.apply( root ).toString( 0, false ) );
+
+        //---* Nothing to remove *--------------------------------------------
+        root.setAttribute( "style", "fill: url( '#second' )" );
+        assertSame( root, candidate.apply( root ) );
+
+        assertThrows( NullArgumentException.class, () -> candidate.apply( null ) );
+    }   //  testApply()
+}
+//  class TestRemoveUnreferencedDefinitions
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,268 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.color;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.createStyle;
+import static org.tquadrat.foundation.svg.SVGUtils.createText;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.translate;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVG;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  Some tests for the class
+ *  {@link SVGOptimizer}
+ *  and the passes
+ *  {@link RemoveEmptyContainers}
+ *  and
+ *  {@link RemoveRedundantAttributes}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSVGOptimizer.java 1198 2026-10-19 21:46:12Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSVGOptimizer.java 1198 2026-10-19 21:46:12Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestSVGOptimizer" )
+public class TestSVGOptimizer extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Asserts that the children of the given element, and of all its
+     *  descendants, have the element as their parent, if they have a parent
+     *  at all.
+     *
+     *  @param  element The element.
+     */
+    private static final void assertParents( final Element element )
+    {
+        for( final var child : element.getChildren() )
+        {
+            if( child instanceof final XMLElement xmlElement )
+            {
+                xmlElement.getParent().ifPresent( parent -> assertSame( element, parent ) );
+            }
+            assertParents( child );
+        }
+    }   //  assertParents()
+
+    /**
+     *  Creates a document for the tests.
+     *
+     *  @param  size    The number of groups in the document.
+     *  @return The document.
+     */
+    private static final SVG createDocument( final int size )
+    {
+        final var retValue = createSVG( STANDALONE_DOCUMENT );
+        for( var i = 0; i < size; ++i )
+        {
+            final var group = createGroup( retValue );
+            group.setTransform( translate( 0, i * 100 ) );
+            final var inner = createGroup( group );
+            inner.setFill( color( "red" ) );
+            inner.setStroke( color( "none" ) );
+            for( var j = 0; j < 10; ++j )
+            {
+                final var rectangle = createRectangle( inner, number( j * 20 ), number( 0 ), number( 10 ), number( 10 ) );
+                rectangle.setOpacity( "1" );
+            }
+            createGroup( group );
+        }
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  createDocument()
+
+    /**
+     *  Tests the method
+     *  {@link SVGOptimizer#optimize(org.tquadrat.foundation.xml.builder.spi.Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testOptimize() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 50 );
+        final var expectedOriginal = document.toString( 0, false );
+
+        final var candidate = new SVGOptimizer();
+        assertEquals( 5, candidate.getPasses().size() );
+        final var result = candidate.optimize( document );
+        assertEquals( expectedOriginal, document.toString( 0, false ) );
+
+        final var output = result.getResult().toString( 0, false );
+        assertTrue( output.length() < expectedOriginal.length() );
+        assertFalse( output.contains( "<rect" ) );
+        assertFalse( output.contains( "opacity" ) );
+        assertFalse( output.contains( "<g/>" ) );
+
+        //---* The statistics *------------------------------------------------
+        final var statistics = result.getStatistics();
+        assertEquals( List.of( "RemoveRedundantAttributes", "ShapesToPaths", "RemoveEmptyContainers", "CollapseGroups", "MergePaths" ),
+            statistics.stream().map( PassStatistics::getName ).toList() );
+        assertEquals( expectedOriginal.length(), statistics.getFirst().getSizeBefore() );
+        assertEquals( output.length(), statistics.getLast().getSizeAfter() );
+        for( var i = 1; i < statistics.size(); ++i )
+        {
+            assertEquals( statistics.get( i - 1 ).getSizeAfter(), statistics.get( i ).getSizeBefore() );
+        }
+        for( final var passStatistics : statistics ) assertTrue( passStatistics.getSavedSize() > 0, passStatistics.toString() );
+        assertEquals( expectedOriginal.length() - output.length(), result.getSavedSize() );
+
+        //---* Sequential and parallel processing have the same result *------
+        final var pool = new ForkJoinPool( 1 );
+        try
+        {
+            assertEquals( output, candidate.optimize( document, pool ).getResult().toString( 0, false ) );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        //---* A custom pipeline *---------------------------------------------
+        final var custom = new SVGOptimizer( new CollapseGroups(), new SymbolInstancer() );
+        final var customResult = custom.optimize( document ).getResult().toString( 0, false );
+        assertTrue( customResult.contains( "<symbol" ) );
+        assertEquals( "SymbolInstancer", custom.getPasses().getLast().getName() );
+
+        final var empty = new SVGOptimizer( new OptimizerPass [0] );
+        assertSame( document, empty.optimize( document ).getResult() );
+
+        assertThrows( NullArgumentException.class, () -> candidate.optimize( null ) );
+        assertThrows( NullArgumentException.class, () -> candidate.optimize( document, null ) );
+        assertThrows( NullArgumentException.class, () -> new SVGOptimizer( (OptimizerPass []) null ) );
+    }   //  testOptimize()
+
+    /**
+     *  Tests the pass
+     *  {@link RemoveEmptyContainers}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveEmptyContainers() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createXMLElement( "svg" );
+        final var outer = createXMLElement( "g" );
+        outer.addChild( createXMLElement( "g" ) );
+        outer.addChild( createXMLElement( "defs" ) );
+        svg.addChild( outer );
+        final var referenced = createXMLElement( "g" );
+        referenced.setAttribute( "id", "target" );
+        svg.addChild( referenced );
+        svg.addChild( createXMLElement( "rect" ) );
+
+        final var candidate = new RemoveEmptyContainers();
+        assertEquals( "<svg><g id='target'/><rect/></svg>", candidate.apply( svg ).toString( 0, false ) );
+
+        final var root = createXMLElement( "g" );
+        assertSame( root, candidate.apply( root ) );
+    }   //  testRemoveEmptyContainers()
+
+    /**
+     *  Tests the pass
+     *  {@link RemoveRedundantAttributes}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testRemoveRedundantAttributes() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createXMLElement( "svg" );
+        final var group = createXMLElement( "g" );
+        group.setAttribute( "transform", "translate(0,0) scale(1)" );
+        group.setAttribute( "fill-opacity", "1" );
+        svg.addChild( group );
+        final var rectangle = createXMLElement( "rect" );
+        rectangle.setAttribute( "x", "0.0" );
+        rectangle.setAttribute( "y", "5" );
+        rectangle.setAttribute( "opacity", "1.00" );
+        rectangle.setAttribute( "transform", "rotate(" );
+        group.addChild( rectangle );
+
+        final var candidate = new RemoveRedundantAttributes();
+        assertEquals( "<svg><g fill-opacity='1'><rect y='5' transform='rotate('/></g></svg>", candidate.apply( svg ).toString( 0, false ) );
+    }   //  testRemoveRedundantAttributes()
+
+    /**
+     *  Tests that the source document remains consistent after it was
+     *  optimized: the unchanged subtrees must not have been moved to the
+     *  result.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSourceConsistency() throws Exception
+    {
+        skipThreadTest();
+
+        final var document = createDocument( 5 );
+        createStyle( document, "rect { stroke: black; }" );
+        final var label = createText( createGroup( document ), "A < B" );
+        final var expectedOriginal = document.toString( 0, false );
+
+        final var result = new SVGOptimizer().optimize( document ).getResult();
+        assertEquals( expectedOriginal, document.toString( 0, false ) );
+        assertParents( document );
+        final var output = result.toString( 0, false );
+        assertTrue( output.contains( "stroke: black" ) );
+        assertTrue( output.contains( "A &lt; B" ) );
+
+        //---* Modifications of the source are still visible *----------------
+        label.setId( "label" );
+        assertNotEquals( expectedOriginal, document.toString( 0, false ) );
+        assertTrue( document.toString( 0, false ).contains( "label" ) );
+        assertEquals( output, result.toString( 0, false ) );
+    }   //  testSourceConsistency()
+}
+//  class TestSVGOptimizer
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,130 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.tquadrat.foundation.xml.builder.XMLBuilderUtils.createXMLElement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.svg.geometry.ElementBounds;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  Some tests for the class
+ *  {@link ShapesToPaths}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestShapesToPaths.java 1188 2026-10-19 12:31:18Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestShapesToPaths.java 1188 2026-10-19 12:31:18Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestShapesToPaths" )
+public class TestShapesToPaths extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Converts the given shape.
+     *
+     *  @param  shape   The shape.
+     *  @return The result.
+     */
+    private static final Element convert( final XMLElement shape )
+    {
+        final var svg = createXMLElement( "svg" );
+        svg.addChild( shape );
+        final var retValue = new ShapesToPaths().apply( svg ).getChildren().iterator().next();
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  convert()
+
+    /**
+     *  Creates a shape with the given attributes.
+     *
+     *  @param  name    The element name.
+     *  @param  attributes  The attributes, as name-value pairs.
+     *  @return The shape.
+     */
+    private static final XMLElement shape( final String name, final String... attributes )
+    {
+        final var retValue = createXMLElement( name );
+        for( var i = 0; i < attributes.length; i += 2 ) retValue.setAttribute( attributes [i], attributes [i + 1] );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  shape()
+
+    /**
+     *  Tests the method
+     *  {@link ShapesToPaths#apply(Element)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        //---* Rectangles *----------------------------------------------------
+        final var rectangle = shape( "rect", "x", "10.000", "y", "-20", "width", "30.5", "height", "40", "fill", "red" );
+        var result = convert( rectangle );
+        assertEquals( "path", result.getElementName() );
+        assertEquals( "M10-20h30.5v40H10z", result.getAttribute( "d" ).orElseThrow() );
+        assertEquals( "red", result.getAttribute( "fill" ).orElseThrow() );
+        assertEquals( ElementBounds.getGeometryBounds( rectangle ), ElementBounds.getGeometryBounds( result ) );
+        for( final var attributes : new String [][] {
+            {"width", "10", "height", "10", "rx", "2"},
+            {"width", "0", "height", "10"},
+            {"width", "10%", "height", "10"} } )
+        {
+            final var candidate = shape( "rect", attributes );
+            assertSame( candidate, convert( candidate ) );
+        }
+
+        //---* Lines *---------------------------------------------------------
+        final var line = shape( "line", "x1", "1", "y1", "-2", "x2", "30", "y2", "0.5", "stroke", "black" );
+        result = convert( line );
+        assertEquals( "M1-2 30 .5", result.getAttribute( "d" ).orElseThrow() );
+        assertEquals( ElementBounds.getGeometryBounds( line ), ElementBounds.getGeometryBounds( result ) );
+
+        //---* Polylines and polygons *----------------------------------------
+        result = convert( shape( "polygon", "points", "0,0 100,0 100,100 0,100" ) );
+        assertEquals( "M0 0 100 0 100 100 0 100z", result.getAttribute( "d" ).orElseThrow() );
+        result = convert( shape( "polyline", "points", "0.5,0 -10,20", "marker-end", "url(#arrow)" ) );
+        assertEquals( "M.5 0-10 20", result.getAttribute( "d" ).orElseThrow() );
+        assertEquals( "url(#arrow)", result.getAttribute( "marker-end" ).orElseThrow() );
+        final var invalid = shape( "polyline", "points", "0,0 10" );
+        assertSame( invalid, convert( invalid ) );
+
+        //---* Other elements *------------------------------------------------
+        final var circle = shape( "circle", "r", "10" );
+        assertSame( circle, convert( circle ) );
+    }   //  testApply()
+}
+//  class TestShapesToPaths
+
+/*
+ *  End of File
+ */
@@ -0,0 +1,183 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.tquadrat.foundation.svg.SVG.Usage.STANDALONE_DOCUMENT;
+import static org.tquadrat.foundation.svg.SVGUtils.createGroup;
+import static org.tquadrat.foundation.svg.SVGUtils.createPath;
+import static org.tquadrat.foundation.svg.SVGUtils.createRectangle;
+import static org.tquadrat.foundation.svg.SVGUtils.createSVG;
+import static org.tquadrat.foundation.svg.SVGUtils.lineTo;
+import static org.tquadrat.foundation.svg.SVGUtils.moveTo;
+import static org.tquadrat.foundation.svg.SVGUtils.number;
+import static org.tquadrat.foundation.svg.SVGUtils.translate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.EmptyArgumentException;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVGPath;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+import org.tquadrat.foundation.xml.builder.XMLElement;
+import org.tquadrat.foundation.xml.builder.spi.Element;
+
+/**
+ *  Some tests for the class
+ *  {@link SymbolInstancer}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestSymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestSymbolInstancer.java 1199 2026-10-19 22:13:27Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.optimizer.TestSymbolInstancer" )
+public class TestSymbolInstancer extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Counts the elements with the given name in the given subtree.
+     *
+     *  @param  element The root of the subtree.
+     *  @param  elementName The element name.
+     *  @return The number of elements.
+     */
+    private static final int count( final Element element, final String elementName )
+    {
+        var retValue = element.getElementName().equals( elementName ) ? 1 : 0;
+        for( final var child : element.getChildren() ) retValue += count( child, elementName );
+
+        //---* Done *----------------------------------------------------------
+        return retValue;
+    }   //  count()
+
+    /**
+     *  Tests the replacement of repeated groups.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApply() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        final List<SVGPath> paths = new ArrayList<>();
+        for( var i = 0; i < 20; ++i )
+        {
+            final var group = createGroup( svg );
+            group.setTransform( translate( i * 10, 5 ) );
+            paths.add( createPath( group, moveTo( 0, 0 ), lineTo( 10, 0 ), lineTo( 10, 10 ), lineTo( 0, 10 ) ) );
+            createRectangle( group, number( 1 ), number( 1 ), number( 8 ), number( 8 ) );
+        }
+        final var unique = createRectangle( svg, number( 100 ), number( 100 ), number( 5 ), number( 5 ) );
+        final var expectedOriginal = svg.toString( 0, false );
+
+        final var candidate = new SymbolInstancer();
+        final var result = candidate.apply( svg );
+        assertNotSame( svg, result );
+        assertEquals( expectedOriginal, svg.toString( 0, false ) );
+
+        final var output = result.toString( 0, false );
+        assertTrue( output.length() < expectedOriginal.length() );
+        assertEquals( 1, count( result, "defs" ) );
+        assertEquals( 1, count( result, "symbol" ) );
+        assertEquals( 20, count( result, "use" ) );
+        assertEquals( 1, count( result, "path" ) );
+        assertEquals( 2, count( result, "rect" ) );
+        assertTrue( output.contains( "symbol1" ) );
+
+        final List<Element> children = List.copyOf( result.getChildren() );
+        assertEquals( "defs", children.getFirst().getElementName() );
+        final var lastGroup = List.copyOf( svg.getChildren() ).get( 19 );
+        assertEquals( lastGroup.getAttribute( "transform" ), children.get( 20 ).getAttribute( "transform" ) );
+        assertNotSame( unique, children.getLast() );
+        assertEquals( unique.toString( 0, false ), children.getLast().toString( 0, false ) );
+        assertSame( svg, ((XMLElement) unique).getParent().orElseThrow() );
+
+        //---* The original children still belong to the original *----------
+        for( final var path : paths )
+        {
+            final var parent = ((XMLElement) path).getParent().orElseThrow();
+            assertSame( svg, ((XMLElement) parent).getParent().orElseThrow() );
+        }
+        paths.getFirst().setId( "changed" );
+        unique.setId( "unique" );
+        final var changedOriginal = svg.toString( 0, false );
+        assertNotEquals( expectedOriginal, changedOriginal );
+        assertTrue( changedOriginal.contains( "changed" ) );
+        assertTrue( changedOriginal.contains( "unique" ) );
+        assertEquals( output, result.toString( 0, false ) );
+    }   //  testApply()
+
+    /**
+     *  Tests that small or unique elements, and elements with an id, are not
+     *  replaced.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testApplyWithoutBenefit() throws Exception
+    {
+        skipThreadTest();
+
+        final var svg = createSVG( STANDALONE_DOCUMENT );
+        createRectangle( svg, number( 0 ), number( 0 ), number( 1 ), number( 1 ) );
+        createRectangle( svg, number( 0 ), number( 0 ), number( 1 ), number( 1 ) );
+        for( var i = 0; i < 3; ++i )
+        {
+            final var group = createGroup( svg );
+            group.setId( "group" + i );
+            createPath( group, moveTo( 0, 0 ), lineTo( 10, 0 ), lineTo( 10, 10 ), lineTo( 0, 10 ) );
+        }
+
+        final var candidate = new SymbolInstancer();
+        assertSame( svg, candidate.apply( svg ) );
+    }   //  testApplyWithoutBenefit()
+
+    /**
+     *  Tests the handling of invalid arguments.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testInvalidArguments() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> new SymbolInstancer( null ) );
+        assertThrows( EmptyArgumentException.class, () -> new SymbolInstancer( "" ) );
+        assertThrows( NullArgumentException.class, () -> new SymbolInstancer().apply( null ) );
+    }   //  testInvalidArguments()
+}
+//  class TestSymbolInstancer
+
+/*
+ *  End of File
+ */
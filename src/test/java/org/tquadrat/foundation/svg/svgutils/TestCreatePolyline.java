@@ -0,0 +1,135 @@
+/*
+ * ============================================================================
+ * Copyright © 2002-2026 by Thomas Thrien.
+ * All Rights Reserved.
+ * ============================================================================
+ * Licensed to the public under the agreements of the GNU Lesser General Public
+ * License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *      http://www.gnu.org/licenses/lgpl.html
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.tquadrat.foundation.svg.svgutils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.svg.SVGUtils.SVGATTRIBUTE_Points;
+import static org.tquadrat.foundation.svg.SVGUtils.createPolyline;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.annotation.ClassVersion;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.SVGElementWithChildren;
+import org.tquadrat.foundation.svg.SVGPolyline;
+import org.tquadrat.foundation.svg.SVGUtils;
+import org.tquadrat.foundation.svg.helper.SVGTestBase;
+
+/**
+ *  Tests for the methods
+ *  {@link SVGUtils#createPolyline()},
+ *  {@link SVGUtils#createPolyline(SVGElementWithChildren)},
+ *  {@link SVGUtils#createPolyline(double...)},
+ *  and
+ *  {@link SVGUtils#createPolyline(SVGElementWithChildren, double...)}
+ *  from the class
+ *  {@link SVGUtils}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ *  @version $Id: TestCreatePolyline.java 1178 2026-10-18 23:52:06Z tquadrat $
+ *  @since 0.5.0
+ */
+@ClassVersion( sourceVersion = "$Id: TestCreatePolyline.java 1178 2026-10-18 23:52:06Z tquadrat $" )
+@DisplayName( "org.tquadrat.foundation.svg.svgutils.TestCreatePolyline" )
+public class TestCreatePolyline extends SVGTestBase
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Test the methods
+     *  {@link SVGUtils#createPolyline()},
+     *  {@link SVGUtils#createPolyline(SVGElementWithChildren)},
+     *  {@link SVGUtils#createPolyline(double...)},
+     *  and
+     *  {@link SVGUtils#createPolyline(SVGElementWithChildren, double...)}.
+     */
+    @Test
+    final void testCreatePolyline()
+    {
+        skipThreadTest();
+
+        final var parent = createParentElement( "parent" );
+
+        String actual, expected;
+        SVGPolyline candidate;
+
+        candidate = createPolyline();
+        expected = "\n<polyline/>";
+        actual = candidate.toString();
+        assertEquals( expected, actual );
+
+        candidate = createPolyline( parent );
+        expected = "\n<polyline/>";
+        actual = candidate.toString();
+        assertEquals( expected, actual );
+
+        candidate = createPolyline( 0, 0, 10, 0.5, 10.25, 10 );
+        assertEquals( 3, candidate.getPointCount() );
+        expected = "\n<polyline points='0,0 10,0.5 10.25,10'/>";
+        actual = candidate.toString();
+        assertEquals( expected, actual );
+
+        candidate = createPolyline( parent, 0, 0, 10, 0.5, 10.25, 10 );
+        expected = "\n<polyline points='0,0 10,0.5 10.25,10'/>";
+        actual = candidate.toString();
+        assertEquals( expected, actual );
+
+        assertThrows( IllegalArgumentException.class, () -> createPolyline( 0, 0, 10 ) );
+        assertThrows( NullArgumentException.class, () -> createPolyline( (double []) null ) );
+        assertThrows( NullArgumentException.class, () -> createPolyline( (SVGElementWithChildren) null, 0, 0 ) );
+    }   //  testCreatePolyline()
+
+    /**
+     *  Tests the points of an SVG {@code <polyline>} element.
+     */
+    @Test
+    final void testPoints()
+    {
+        skipThreadTest();
+
+        final var candidate = createPolyline();
+        candidate.addPoint( 1.23456, -2 );
+        candidate.addPoints( new double [] {99, 99, 3, 4, 5, 6, 99}, 2, 2 );
+        assertArrayEquals( new double [] {1.23456, -2, 3, 4, 5, 6}, candidate.getPoints() );
+        assertEquals( "1.235,-2 3,4 5,6", candidate.getAttribute( SVGATTRIBUTE_Points ).orElseThrow() );
+        assertEquals( "1.235,-2 3,4 5,6", candidate.getAttributes().get( SVGATTRIBUTE_Points ) );
+
+        candidate.setPrecision( 1 );
+        assertEquals( "\n<polyline points='1.2,-2 3,4 5,6'/>", candidate.toString() );
+        assertThrows( IllegalArgumentException.class, () -> candidate.setPrecision( -1 ) );
+        assertThrows( IndexOutOfBoundsException.class, () -> candidate.addPoints( new double [4], 2, 2 ) );
+
+        candidate.clearPoints();
+        assertEquals( 0, candidate.getPointCount() );
+        assertEquals( "\n<polyline/>", candidate.toString() );
+
+        final var coordinates = new double [20_000];
+        for( var i = 0; i < coordinates.length; ++i ) coordinates [i] = i;
+        candidate.addPoints( coordinates );
+        assertEquals( coordinates.length / 2, candidate.getPointCount() );
+        assertArrayEquals( coordinates, candidate.getPoints() );
+    }   //  testPoints()
+}
+//  class TestCreatePolyline
+
+/*
+ *  End of File
+ */
@@ -17,6 +17,7 @@
 
 package org.tquadrat.foundation.svg.type;
 
+import static java.util.Arrays.copyOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -24,6 +25,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tquadrat.foundation.lang.CommonConstants.EMPTY_STRING;
 import static org.tquadrat.foundation.svg.SVGUtils.arcTo;
 import static org.tquadrat.foundation.svg.SVGUtils.arcToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.closePath;
+import static org.tquadrat.foundation.svg.SVGUtils.lineToAbs;
+import static org.tquadrat.foundation.svg.SVGUtils.moveTo;
+import static org.tquadrat.foundation.svg.SVGUtils.moveToAbs;
 
 import org.junit.jupiter.api.Test;
 import org.tquadrat.foundation.annotation.ClassVersion;
@@ -46,10 +51,10 @@ import org.tquadrat.foundation.svg.type.SVGPathElement.SVGMoveTo;
  *  {@link SVGPathElement.SVGVLineTo}.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: TestSVGPathElement.java 820 2020-12-29 20:34:22Z tquadrat $
+ *  @version $Id: TestSVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $
  *  @since 0.0.5
  */
-@ClassVersion( sourceVersion = "$Id: TestSVGPathElement.java 820 2020-12-29 20:34:22Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: TestSVGPathElement.java 1177 2026-10-18 22:41:37Z tquadrat $" )
 public class TestSVGPathElement extends SVGTestBase
 {
         /*---------*\
@@ -182,6 +187,36 @@ public class TestSVGPathElement extends SVGTestBase
         actual = candidate.toString();
         assertEquals( expected, actual );
     }   //  cover()
+
+    /**
+     *  Tests the parallel formatting of
+     *  {@link SVGPathElement#toString(SVGPathElement...)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testToStringParallel() throws Exception
+    {
+        skipThreadTest();
+
+        final var elements = new SVGPathElement [1_000];
+        for( var i = 0; i < elements.length; ++i )
+        {
+            elements [i] = switch( i % 7 )
+            {
+                case 0 -> moveToAbs( i, i );
+                case 3 -> closePath();
+                case 4 -> moveTo( 1, 1 );
+                default -> lineToAbs( i, i + 1 );
+            };
+        }
+        final var expected = SVGPathElement.toString( elements );
+        for( final var chunkSize : new int [] {1, 2, 3, 7, 64, 999, 1_000} )
+        {
+            assertEquals( expected, SVGPathElement.toString( chunkSize, elements ), Integer.toString( chunkSize ) );
+        }
+        assertEquals( "M0,0 L1,2 2,3 Z m1,1 L5,6 6,7", SVGPathElement.toString( 2, copyOf( elements, 7 ) ) );
+    }   //  testToStringParallel()
 }
 //  class TestSVGPathElement
 
@@ -23,6 +23,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Random;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,16 +38,66 @@ import org.tquadrat.foundation.svg.helper.SVGTestBase;
  *  {@link SVGUnit}.
  *
  *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
- *  @version $Id: TestSVGUnit.java 1076 2023-10-03 18:36:07Z tquadrat $
+ *  @version $Id: TestSVGUnit.java 1201 2026-10-20 08:12:44Z tquadrat $
  *  @since 0.0.5
  */
-@ClassVersion( sourceVersion = "$Id: TestSVGUnit.java 1076 2023-10-03 18:36:07Z tquadrat $" )
+@ClassVersion( sourceVersion = "$Id: TestSVGUnit.java 1201 2026-10-20 08:12:44Z tquadrat $" )
 @DisplayName( "org.tquadrat.foundation.svg.type.TestSVGUnit" )
 public class TestSVGUnit extends SVGTestBase
 {
         /*---------*\
     ====** Methods **==========================================================
         \*---------*/
+    /**
+     *  Tests for
+     *  {@link SVGUnit#appendTo(StringBuilder, double)}
+     *  and
+     *  {@link SVGUnit#appendTo(StringBuilder, long)}.
+     *
+     *  @param  unit    The unit to be tested.
+     */
+    @ParameterizedTest
+    @EnumSource( SVGUnit.class )
+    final void testAppendTo( final SVGUnit unit )
+    {
+        skipThreadTest();
+
+        final var buffer = new StringBuilder();
+        final var longArgs = new long [] { -2, 0, 1, 100, 900, Long.MIN_VALUE };
+        for( final var longArg : longArgs )
+        {
+            buffer.setLength( 0 );
+            assertEquals( unit.format( longArg ), unit.appendTo( buffer, longArg ).toString() );
+        }
+
+        final var doubleArgs = new double [] { -2.2, 0.0, 1.34, 100.0, 900.0, 1.2345678, -0.0001, 0.0005, -1.0005, 12345.6789, 1.0e13, Double.NaN, Double.NEGATIVE_INFINITY, 0.5005, 2.0015, -2.0015, -0.0, 1.0e9 + 0.0005 };
+        for( final var doubleArg : doubleArgs )
+        {
+            buffer.setLength( 0 );
+            assertEquals( unit.format( doubleArg ), unit.appendTo( buffer, doubleArg ).toString() );
+        }
+
+        final var random = new Random( 4711 );
+        for( var i = 0; i < 1000; ++i )
+        {
+            final var doubleArg = (random.nextDouble() - 0.5) * 2000.0;
+            buffer.setLength( 0 );
+            assertEquals( unit.format( doubleArg ), unit.appendTo( buffer, doubleArg ).toString() );
+        }
+
+        //---* Values with four decimal places, including all ties *---------
+        for( var i = 0; i < 200_000; ++i )
+        {
+            final var doubleArg = i / 10_000.0;
+            buffer.setLength( 0 );
+            assertEquals( unit.format( doubleArg ), unit.appendTo( buffer, doubleArg ).toString() );
+        }
+
+        buffer.setLength( 0 );
+        unit.appendTo( unit.appendTo( buffer, 1 ).append( ',' ), 2.5 );
+        assertEquals( unit.format( 1 ) + "," + unit.format( 2.5 ), buffer.toString() );
+    }   //  testAppendTo()
+
     /**
      *  Tests for
      *  {@link SVGUnit#format(double)}.
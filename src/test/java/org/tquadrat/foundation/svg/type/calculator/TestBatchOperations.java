@@ -0,0 +1,168 @@
+/*
+ * ============================================================================
+ *  Copyright © 2002-2026 by Thomas Thrien.
+ *  All Rights Reserved.
+ * ============================================================================
+ *  Licensed to the public under the agreements of the GNU Lesser General Public
+ *  License, version 3.0 (the "License"). You may obtain a copy of the License at
+ *
+ *       http://www.gnu.org/licenses/lgpl.html
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.tquadrat.foundation.svg.type.calculator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tquadrat.foundation.svg.SVGUtils.pixel;
+import static org.tquadrat.foundation.svg.type.SVGCalculator.clamp;
+import static org.tquadrat.foundation.svg.type.SVGCalculator.convert;
+import static org.tquadrat.foundation.svg.type.SVGCalculator.scale;
+import static org.tquadrat.foundation.svg.type.SVGCalculator.sum;
+import static org.tquadrat.foundation.svg.type.SVGUnit.EM;
+import static org.tquadrat.foundation.svg.type.SVGUnit.INCH;
+import static org.tquadrat.foundation.svg.type.SVGUnit.MILLIMETER;
+import static org.tquadrat.foundation.svg.type.SVGUnit.PIXEL;
+import static org.tquadrat.foundation.svg.type.SVGUnit.POINT;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.tquadrat.foundation.exception.NullArgumentException;
+import org.tquadrat.foundation.svg.type.SVGCalculator.Accumulator;
+import org.tquadrat.foundation.svg.type.SVGNumber;
+import org.tquadrat.foundation.svg.type.SVGNumber.SVGMillimeter;
+import org.tquadrat.foundation.svg.type.SVGNumber.SVGPixel;
+import org.tquadrat.foundation.testutil.TestBaseClass;
+
+/**
+ *  Some tests for the batch operations of
+ *  {@link org.tquadrat.foundation.svg.type.SVGCalculator}
+ *  and for
+ *  {@link Accumulator}.
+ *
+ *  @extauthor Thomas Thrien - thomas.thrien@tquadrat.org
+ */
+@DisplayName( "org.tquadrat.foundation.svg.type.calculator.TestBatchOperations" )
+public class TestBatchOperations extends TestBaseClass
+{
+        /*---------*\
+    ====** Methods **==========================================================
+        \*---------*/
+    /**
+     *  Tests for
+     *  {@link Accumulator}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testAccumulator() throws Exception
+    {
+        skipThreadTest();
+
+        assertThrows( NullArgumentException.class, () -> new Accumulator( null ) );
+
+        final var candidate = new Accumulator( PIXEL );
+        assertEquals( 0, candidate.getCount() );
+        assertEquals( Double.POSITIVE_INFINITY, candidate.getMin() );
+        assertEquals( Double.NEGATIVE_INFINITY, candidate.getMax() );
+
+        candidate.add( 3.0 ).add( new double [] {-1.5, 7.0} ).add( pixel( 2 ) );
+        assertEquals( 4, candidate.getCount() );
+        assertEquals( 10.5, candidate.getSum() );
+        assertEquals( -1.5, candidate.getMin() );
+        assertEquals( 7.0, candidate.getMax() );
+        final var sum = candidate.toNumber();
+        assertInstanceOf( SVGPixel.class, sum );
+        assertEquals( "10.500px", sum.value() );
+
+        assertThrows( IllegalArgumentException.class, () -> candidate.add( new SVGNumber( 1, MILLIMETER ) ) );
+        assertEquals( 4, candidate.getCount() );
+
+        candidate.reset();
+        assertEquals( 0, candidate.getCount() );
+        assertEquals( 0.0, candidate.getSum() );
+    }   //  testAccumulator()
+
+    /**
+     *  Tests for
+     *  {@link org.tquadrat.foundation.svg.type.SVGCalculator#clamp(double[], double, double)}
+     *  and
+     *  {@link org.tquadrat.foundation.svg.type.SVGCalculator#scale(double[], double)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testClampAndScale() throws Exception
+    {
+        skipThreadTest();
+
+        final var values = new double [] {-5.0, 0.0, 2.5, 10.0, 11.0};
+        assertSame( values, clamp( values, 0.0, 10.0 ) );
+        assertArrayEquals( new double [] {0.0, 0.0, 2.5, 10.0, 10.0}, values );
+        assertSame( values, scale( values, 2.0 ) );
+        assertArrayEquals( new double [] {0.0, 0.0, 5.0, 20.0, 20.0}, values );
+
+        assertThrows( IllegalArgumentException.class, () -> clamp( values, 1.0, 0.0 ) );
+        assertThrows( IllegalArgumentException.class, () -> clamp( values, Double.NaN, 0.0 ) );
+        assertThrows( NullArgumentException.class, () -> clamp( null, 0.0, 1.0 ) );
+        assertThrows( NullArgumentException.class, () -> scale( null, 1.0 ) );
+    }   //  testClampAndScale()
+
+    /**
+     *  Tests for
+     *  {@link org.tquadrat.foundation.svg.type.SVGCalculator#convert(double[], org.tquadrat.foundation.svg.type.SVGUnit, org.tquadrat.foundation.svg.type.SVGUnit)}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testConvert() throws Exception
+    {
+        skipThreadTest();
+
+        final var values = new double [] {1.0, 2.0};
+        convert( values, INCH, PIXEL );
+        assertArrayEquals( new double [] {96.0, 192.0}, values, 1.0e-9 );
+        convert( values, PIXEL, MILLIMETER );
+        assertArrayEquals( new double [] {25.4, 50.8}, values, 1.0e-9 );
+        convert( values, MILLIMETER, POINT );
+        assertArrayEquals( new double [] {72.0, 144.0}, values, 1.0e-9 );
+        convert( values, EM, EM );
+        assertArrayEquals( new double [] {72.0, 144.0}, values, 1.0e-9 );
+
+        assertThrows( IllegalArgumentException.class, () -> convert( values, EM, PIXEL ) );
+        assertThrows( NullArgumentException.class, () -> convert( values, null, PIXEL ) );
+    }   //  testConvert()
+
+    /**
+     *  Tests for
+     *  {@link org.tquadrat.foundation.svg.type.SVGCalculator#sum(org.tquadrat.foundation.svg.type.SVGUnit, double[])}.
+     *
+     *  @throws Exception   Something unexpected went wrong.
+     */
+    @Test
+    final void testSum() throws Exception
+    {
+        skipThreadTest();
+
+        final var actual = sum( MILLIMETER, new double [] {1.0, 2.0, 3.5} );
+        assertInstanceOf( SVGMillimeter.class, actual );
+        assertEquals( "6.500mm", actual.value() );
+        assertEquals( "0.000em", sum( EM, new double [0] ).value() );
+
+        assertThrows( NullArgumentException.class, () -> sum( null, new double [0] ) );
+        assertThrows( NullArgumentException.class, () -> sum( PIXEL, null ) );
+    }   //  testSum()
+}
+//  class TestBatchOperations
+
+/*
+ *  End of File
+ */